@@ -3,12 +3,14 @@ package se.sundsvall.incidentmapper.apptest;
 import static java.time.OffsetDateTime.now;
 import static java.time.ZoneId.systemDefault;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpStatus.ACCEPTED;
-import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.SYNCHRONIZED;
 
+import java.time.Duration;
+import java.time.Instant;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
@@ -16,8 +18,10 @@ import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.incidentmapper.Application;
+import se.sundsvall.incidentmapper.api.model.Job;
 import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
 import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJobService;
 
 @WireMockAppTestSuite(files = "classpath:/IncidentsIT/", classes = Application.class)
 @Sql({
@@ -31,12 +35,16 @@ class IncidentsIT extends AbstractAppTest {
 	private static final String INCIDENTS_PATH = "/%s/incidents".formatted(MUNICIPALITY_ID);
 	private static final String SYNCHRONIZER_PATH = "/%s/jobs/synchronizer".formatted(MUNICIPALITY_ID);
 	private static final String REQUEST_FILE = "request.json";
+	private static final Duration JOB_TIMEOUT = Duration.ofSeconds(30);
 
 	@Autowired
 	private IncidentRepository incidentRepository;
 
+	@Autowired
+	private SyncJobService syncJobService;
+
 	@Test
-	void test01_newIssueFromPob() {
+	void test01_newIssueFromPob() throws InterruptedException {
 		setupCall()
 			.withServicePath(INCIDENTS_PATH)
 			.withHttpMethod(POST)
@@ -44,16 +52,11 @@ class IncidentsIT extends AbstractAppTest {
 			.withExpectedResponseStatus(ACCEPTED)
 			.sendRequest();
 
-		setupCall()
-			.withServicePath(SYNCHRONIZER_PATH)
-			.withHttpMethod(POST)
-			.withRequest(REQUEST_FILE)
-			.withExpectedResponseStatus(NO_CONTENT)
-			.sendRequestAndVerifyResponse();
+		runSynchronizerJob();
 	}
 
 	@Test
-	void test02_updatedIssueFromPob() {
+	void test02_updatedIssueFromPob() throws InterruptedException {
 
 		incidentRepository.saveAndFlush(IncidentEntity.create()
 			.withPobIssueKey(POB_ISSUE_KEY)
@@ -68,16 +71,11 @@ class IncidentsIT extends AbstractAppTest {
 			.withExpectedResponseStatus(ACCEPTED)
 			.sendRequest();
 
-		setupCall()
-			.withServicePath(SYNCHRONIZER_PATH)
-			.withHttpMethod(POST)
-			.withRequest(REQUEST_FILE)
-			.withExpectedResponseStatus(NO_CONTENT)
-			.sendRequestAndVerifyResponse();
+		runSynchronizerJob();
 	}
 
 	@Test
-	void test03_updatedIssueFromJira() {
+	void test03_updatedIssueFromJira() throws InterruptedException {
 
 		incidentRepository.saveAndFlush(IncidentEntity.create()
 			.withPobIssueKey(POB_ISSUE_KEY)
@@ -85,16 +83,11 @@ class IncidentsIT extends AbstractAppTest {
 			.withMunicipalityId(MUNICIPALITY_ID)
 			.withStatus(JIRA_INITIATED_EVENT));
 
-		setupCall()
-			.withServicePath(SYNCHRONIZER_PATH)
-			.withHttpMethod(POST)
-			.withRequest(REQUEST_FILE)
-			.withExpectedResponseStatus(NO_CONTENT)
-			.sendRequestAndVerifyResponse();
+		runSynchronizerJob();
 	}
 
 	@Test
-	void test04_issueDoneInJira() {
+	void test04_issueDoneInJira() throws InterruptedException {
 
 		incidentRepository.saveAndFlush(IncidentEntity.create()
 			.withPobIssueKey(POB_ISSUE_KEY)
@@ -107,14 +100,34 @@ class IncidentsIT extends AbstractAppTest {
 		assertThat(incidentRepository.findByMunicipalityIdAndPobIssueKey(MUNICIPALITY_ID, POB_ISSUE_KEY))
 			.isPresent();
 
-		setupCall()
-			.withServicePath(SYNCHRONIZER_PATH)
-			.withHttpMethod(POST)
-			.withRequest(REQUEST_FILE)
-			.withExpectedResponseStatus(NO_CONTENT)
-			.sendRequestAndVerifyResponse();
+		runSynchronizerJob();
 
 		assertThat(incidentRepository.findByMunicipalityIdAndPobIssueKey(MUNICIPALITY_ID, POB_ISSUE_KEY))
 			.isNotPresent();
 	}
+
+	/**
+	 * Triggers a synchronizer job, waits for it to complete and verifies that all stubs were called.
+	 */
+	private void runSynchronizerJob() throws InterruptedException {
+		final var job = setupCall()
+			.withServicePath(SYNCHRONIZER_PATH)
+			.withHttpMethod(POST)
+			.withExpectedResponseStatus(ACCEPTED)
+			.sendRequest()
+			.andReturnBody(Job.class);
+
+		final var deadline = Instant.now().plus(JOB_TIMEOUT);
+		var status = job.getStatus();
+		while (!"COMPLETED".equals(status) && !"FAILED".equals(status)) {
+			if (Instant.now().isAfter(deadline)) {
+				fail("Synchronizer job '%s' did not finish within %s".formatted(job.getId(), JOB_TIMEOUT));
+			}
+			Thread.sleep(100);
+			status = syncJobService.getJob(MUNICIPALITY_ID, job.getId()).map(Job::getStatus).orElseThrow();
+		}
+
+		assertThat(status).isEqualTo("COMPLETED");
+		verifyAllStubs();
+	}
 }
@@ -0,0 +1,30 @@
+package se.sundsvall.incidentmapper;
+
+/**
+ * Spring profiles for the deployment modes of the service.
+ * <p>
+ * By default (neither profile active) an instance both receives incidents and synchronizes them. With the profiles, the
+ * two workloads can be deployed, sized and scaled separately:
+ * <ul>
+ * <li>{@value #INGEST}: only receives incidents from POB. No scheduler, Jira client or temp folder.</li>
+ * <li>{@value #WORKER}: only synchronizes incidents (scheduled and manually triggered jobs). No incident intake.</li>
+ * </ul>
+ * The instances only share the database, where received incidents are picked up by the workers.
+ */
+public final class DeploymentMode {
+
+	public static final String INGEST = "ingest";
+	public static final String WORKER = "worker";
+
+	/**
+	 * Profile expression for beans that receive incidents (all modes but worker).
+	 */
+	public static final String INTAKE = "!" + WORKER;
+
+	/**
+	 * Profile expression for beans that synchronize incidents (all modes but ingest).
+	 */
+	public static final String SYNCHRONIZATION = "!" + INGEST;
+
+	private DeploymentMode() {}
+}
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,24 +20,26 @@ import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.incidentmapper.api.model.IncidentRequest;
-import se.sundsvall.incidentmapper.service.IncidentService;
+import se.sundsvall.incidentmapper.service.IncidentIntakeService;
 
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.accepted;
+import static se.sundsvall.incidentmapper.DeploymentMode.INTAKE;
 
 @RestController
 @Validated
 @RequestMapping("/{municipalityId}/incidents")
 @Tag(name = "Incidents", description = "incident operations")
+@Profile(INTAKE)
 class IncidentResource {
 
-	private final IncidentService incidentService;
+	private final IncidentIntakeService incidentIntakeService;
 
-	IncidentResource(IncidentService incidentService) {
-		this.incidentService = incidentService;
+	IncidentResource(final IncidentIntakeService incidentIntakeService) {
+		this.incidentIntakeService = incidentIntakeService;
 	}
 
 	@PostMapping(consumes = APPLICATION_JSON_VALUE)
@@ -52,7 +55,7 @@ class IncidentResource {
 		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
 		@Valid @NotNull @RequestBody final IncidentRequest body) {
 
-		incidentService.handleIncidentRequest(municipalityId, body);
+		incidentIntakeService.handleIncidentRequest(municipalityId, body);
 
 		return accepted()
 			.header(CONTENT_TYPE, ALL_VALUE)
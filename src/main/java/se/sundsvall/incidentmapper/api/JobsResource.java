@@ -6,8 +6,10 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,40 +17,62 @@ import org.springframework.web.bind.annotation.RestController;
 import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
-import se.sundsvall.incidentmapper.service.scheduler.SynchronizerSchedulerService;
+import se.sundsvall.incidentmapper.api.model.Job;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJobService;
 
-import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
-import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
-import static org.springframework.http.ResponseEntity.noContent;
+import static org.springframework.http.ResponseEntity.accepted;
+import static org.springframework.http.ResponseEntity.notFound;
+import static org.springframework.web.util.UriComponentsBuilder.fromPath;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
 
 @RestController
 @Validated
 @Tag(name = "Jobs", description = "Jobs resource")
 @RequestMapping("/{municipalityId}/jobs")
+@Profile(SYNCHRONIZATION)
 class JobsResource {
 
-	private final SynchronizerSchedulerService synchronizerSchedulerService;
+	private final SyncJobService syncJobService;
 
-	JobsResource(final SynchronizerSchedulerService synchronizerSchedulerService) {
-		this.synchronizerSchedulerService = synchronizerSchedulerService;
+	JobsResource(final SyncJobService syncJobService) {
+		this.syncJobService = syncJobService;
 	}
 
-	@PostMapping(path = "/synchronizer")
-	@Operation(summary = "Runs synchronizer job.", description = "Runs synchonizer job.", responses = {
-		@ApiResponse(responseCode = "204", description = "Successful operation", useReturnTypeSchema = true),
+	@PostMapping(path = "/synchronizer", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Runs synchronizer job.", description = "Queues a synchronizer job for the municipality and returns it. If a job for the municipality already is queued or running, that job is returned.", responses = {
+		@ApiResponse(responseCode = "202", description = "Successful operation", useReturnTypeSchema = true),
 		@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
 			Problem.class, ConstraintViolationProblem.class
 		}))),
 		@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
-	ResponseEntity<Void> synchronizer(
+	ResponseEntity<Job> synchronizer(
 		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId) {
 
-		synchronizerSchedulerService.execute();
+		final var job = syncJobService.start(municipalityId);
 
-		return noContent()
-			.header(CONTENT_TYPE, ALL_VALUE)
-			.build();
+		return accepted()
+			.location(fromPath("/{municipalityId}/jobs/synchronizer/{jobId}").buildAndExpand(municipalityId, job.getId()).toUri())
+			.body(job);
+	}
+
+	@GetMapping(path = "/synchronizer/{jobId}", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get synchronizer job.", description = "Returns the status, progress and phases of a synchronizer job.", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+			Problem.class, ConstraintViolationProblem.class
+		}))),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	ResponseEntity<Job> getSynchronizerJob(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "jobId", description = "Job id", example = "0b7a7f5e-1c2d-4e5f-8a9b-0c1d2e3f4a5b") @PathVariable final String jobId) {
+
+		return syncJobService.getJob(municipalityId, jobId)
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> notFound().build());
 	}
 }
@@ -0,0 +1,174 @@
+package se.sundsvall.incidentmapper.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "Synchronization job model")
+public class Job {
+
+	@Schema(description = "The job ID", examples = "0b7a7f5e-1c2d-4e5f-8a9b-0c1d2e3f4a5b")
+	private String id;
+
+	@Schema(description = "The municipality that the job synchronizes", examples = "2281")
+	private String municipalityId;
+
+	@Schema(description = "The job status", examples = "RUNNING", allowableValues = {
+		"QUEUED", "RUNNING", "COMPLETED", "FAILED"
+	})
+	private String status;
+
+	@Schema(description = "The progress of the job, in percent of the phases", examples = "50")
+	private Integer progress;
+
+	@Schema(description = "When the job was queued", examples = "2024-01-01T12:00:00+01:00")
+	private OffsetDateTime queued;
+
+	@Schema(description = "When the job was started", examples = "2024-01-01T12:00:01+01:00")
+	private OffsetDateTime started;
+
+	@Schema(description = "When the job was finished", examples = "2024-01-01T12:03:00+01:00")
+	private OffsetDateTime finished;
+
+	@Schema(description = "The synchronization phases of the job, in execution order")
+	private List<JobPhase> phases;
+
+	public static Job create() {
+		return new Job();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Job withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public Job withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Job withStatus(String status) {
+		this.status = status;
+		return this;
+	}
+
+	public Integer getProgress() {
+		return progress;
+	}
+
+	public void setProgress(Integer progress) {
+		this.progress = progress;
+	}
+
+	public Job withProgress(Integer progress) {
+		this.progress = progress;
+		return this;
+	}
+
+	public OffsetDateTime getQueued() {
+		return queued;
+	}
+
+	public void setQueued(OffsetDateTime queued) {
+		this.queued = queued;
+	}
+
+	public Job withQueued(OffsetDateTime queued) {
+		this.queued = queued;
+		return this;
+	}
+
+	public OffsetDateTime getStarted() {
+		return started;
+	}
+
+	public void setStarted(OffsetDateTime started) {
+		this.started = started;
+	}
+
+	public Job withStarted(OffsetDateTime started) {
+		this.started = started;
+		return this;
+	}
+
+	public OffsetDateTime getFinished() {
+		return finished;
+	}
+
+	public void setFinished(OffsetDateTime finished) {
+		this.finished = finished;
+	}
+
+	public Job withFinished(OffsetDateTime finished) {
+		this.finished = finished;
+		return this;
+	}
+
+	public List<JobPhase> getPhases() {
+		return phases;
+	}
+
+	public void setPhases(List<JobPhase> phases) {
+		this.phases = phases;
+	}
+
+	public Job withPhases(List<JobPhase> phases) {
+		this.phases = phases;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, municipalityId, status, progress, queued, started, finished, phases);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof final Job other)) {
+			return false;
+		}
+		return Objects.equals(id, other.id) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(status, other.status) && Objects.equals(progress, other.progress) && Objects.equals(queued, other.queued) && Objects.equals(started, other.started) && Objects.equals(finished, other.finished) && Objects.equals(phases, other.phases);
+	}
+
+	@Override
+	public String toString() {
+		return "Job{" +
+			"id='" + id + '\'' +
+			", municipalityId='" + municipalityId + '\'' +
+			", status='" + status + '\'' +
+			", progress=" + progress +
+			", queued=" + queued +
+			", started=" + started +
+			", finished=" + finished +
+			", phases=" + phases +
+			'}';
+	}
+}
@@ -0,0 +1,139 @@
+package se.sundsvall.incidentmapper.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+@Schema(description = "Synchronization job phase model")
+public class JobPhase {
+
+	@Schema(description = "The phase name", examples = "poll-jira-issues")
+	private String name;
+
+	@Schema(description = "The phase status. A phase is skipped if it's already running (e.g. scheduled) on any instance", examples = "COMPLETED", allowableValues = {
+		"PENDING", "RUNNING", "COMPLETED", "SKIPPED", "FAILED"
+	})
+	private String status;
+
+	@Schema(description = "When the phase was started", examples = "2024-01-01T12:00:01+01:00")
+	private OffsetDateTime started;
+
+	@Schema(description = "When the phase was finished", examples = "2024-01-01T12:00:31+01:00")
+	private OffsetDateTime finished;
+
+	@Schema(description = "The duration of the phase in milliseconds", examples = "30000")
+	private Long durationInMillis;
+
+	@Schema(description = "The number of processed incidents", examples = "42")
+	private Integer processed;
+
+	public static JobPhase create() {
+		return new JobPhase();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public JobPhase withName(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public JobPhase withStatus(String status) {
+		this.status = status;
+		return this;
+	}
+
+	public OffsetDateTime getStarted() {
+		return started;
+	}
+
+	public void setStarted(OffsetDateTime started) {
+		this.started = started;
+	}
+
+	public JobPhase withStarted(OffsetDateTime started) {
+		this.started = started;
+		return this;
+	}
+
+	public OffsetDateTime getFinished() {
+		return finished;
+	}
+
+	public void setFinished(OffsetDateTime finished) {
+		this.finished = finished;
+	}
+
+	public JobPhase withFinished(OffsetDateTime finished) {
+		this.finished = finished;
+		return this;
+	}
+
+	public Long getDurationInMillis() {
+		return durationInMillis;
+	}
+
+	public void setDurationInMillis(Long durationInMillis) {
+		this.durationInMillis = durationInMillis;
+	}
+
+	public JobPhase withDurationInMillis(Long durationInMillis) {
+		this.durationInMillis = durationInMillis;
+		return this;
+	}
+
+	public Integer getProcessed() {
+		return processed;
+	}
+
+	public void setProcessed(Integer processed) {
+		this.processed = processed;
+	}
+
+	public JobPhase withProcessed(Integer processed) {
+		this.processed = processed;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, status, started, finished, durationInMillis, processed);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof final JobPhase other)) {
+			return false;
+		}
+		return Objects.equals(name, other.name) && Objects.equals(status, other.status) && Objects.equals(started, other.started) && Objects.equals(finished, other.finished) && Objects.equals(durationInMillis, other.durationInMillis) && Objects.equals(processed, other.processed);
+	}
+
+	@Override
+	public String toString() {
+		return "JobPhase{" +
+			"name='" + name + '\'' +
+			", status='" + status + '\'' +
+			", started=" + started +
+			", finished=" + finished +
+			", durationInMillis=" + durationInMillis +
+			", processed=" + processed +
+			'}';
+	}
+}
@@ -1,15 +1,35 @@
 package se.sundsvall.incidentmapper.integration.db;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.incidentmapper.integration.db.model.EventSummary;
 import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentSummary;
+import se.sundsvall.incidentmapper.integration.db.model.MunicipalityBacklog;
+import se.sundsvall.incidentmapper.integration.db.model.PollSummary;
 import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @CircuitBreaker(name = "incidentRepository")
 public interface IncidentRepository extends JpaRepository<IncidentEntity, String> {
 
+	String SELECT_SUMMARY = "select i.id as id, i.municipalityId as municipalityId from IncidentEntity i ";
+	String SELECT_POLL_SUMMARY = "select i.id as id, i.municipalityId as municipalityId, i.jiraIssueKey as jiraIssueKey, i.jiraRevision as jiraRevision, i.lastSynchronizedJira as lastSynchronizedJira from IncidentEntity i ";
+	String SELECT_EVENT_SUMMARY = "select i.id as id, i.municipalityId as municipalityId, i.created as created, i.modified as modified, i.syncCost as syncCost from IncidentEntity i ";
+	String SELECT_BACKLOG = "select i.municipalityId as municipalityId, count(i) as incidents from IncidentEntity i ";
+	String FETCH_SIZE = "500";
+
 	/**
 	 * Find by POB issue key.
 	 *
@@ -20,10 +40,158 @@ public interface IncidentRepository extends JpaRepository<IncidentEntity, String
 	Optional<IncidentEntity> findByMunicipalityIdAndPobIssueKey(String municipalityId, String jiraIssueKey);
 
 	/**
-	 * Find all by status.
+	 * Count by status.
+	 *
+	 * @param  status the status to count incidents by
+	 * @return        the number of incidents with the status.
+	 */
+	long countByStatus(Status status);
+
+	/**
+	 * Count by municipality ID and status.
+	 *
+	 * @param  municipalityId the municipality ID.
+	 * @param  status         the status to count incidents by
+	 * @return                the number of incidents with the status.
+	 */
+	long countByMunicipalityIdAndStatus(String municipalityId, Status status);
+
+	/**
+	 * Count by status, per municipality.
+	 *
+	 * @param  status the status to count incidents by
+	 * @return        a List of MunicipalityBacklogs.
+	 */
+	@Query(SELECT_BACKLOG + "where i.status = :status group by i.municipalityId")
+	List<MunicipalityBacklog> countBacklogByStatus(@Param("status") Status status);
+
+	/**
+	 * Count by status, of the incidents that have a Jira issue, per municipality.
+	 *
+	 * @param  status the status to count incidents by
+	 * @return        a List of MunicipalityBacklogs.
+	 */
+	@Query(SELECT_BACKLOG + "where i.status = :status and i.jiraIssueKey is not null and trim(i.jiraIssueKey) <> '' group by i.municipalityId")
+	List<MunicipalityBacklog> countBacklogWithJiraIssueByStatus(@Param("status") Status status);
+
+	/**
+	 * Count by status, of the incidents that are due to be polled (next poll is not set, or has passed), per municipality.
+	 *
+	 * @param  status    the status to count incidents by
+	 * @param  timestamp the current time
+	 * @return           a List of MunicipalityBacklogs.
+	 */
+	@Query(SELECT_BACKLOG + "where i.status = :status and (i.nextPollAt is null or i.nextPollAt <= :timestamp) group by i.municipalityId")
+	List<MunicipalityBacklog> countBacklogDueForPolling(@Param("status") Status status, @Param("timestamp") OffsetDateTime timestamp);
+
+	/**
+	 * Find summaries by status, of the incidents that have a Jira issue, as a page of the keyset ordered by ID.
+	 *
+	 * @param  status  the status to fetch incidents by
+	 * @param  afterId the ID of the last incident of the previous page (an empty string for the first page)
+	 * @param  limit   the page size
+	 * @return         a List of IncidentSummaries.
+	 */
+	@Query(SELECT_SUMMARY + "where i.status = :status and i.jiraIssueKey is not null and trim(i.jiraIssueKey) <> '' and i.id > :afterId order by i.id")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE))
+	List<IncidentSummary> findSummariesWithJiraIssueByStatus(@Param("status") Status status, @Param("afterId") String afterId, Limit limit);
+
+	/**
+	 * Find summaries by municipality ID and status, of the incidents that have a Jira issue, as a page of the keyset
+	 * ordered by ID.
+	 *
+	 * @param  municipalityId the municipality ID.
+	 * @param  status         the status to fetch incidents by
+	 * @param  afterId        the ID of the last incident of the previous page (an empty string for the first page)
+	 * @param  limit          the page size
+	 * @return                a List of IncidentSummaries.
+	 */
+	@Query(SELECT_SUMMARY + "where i.municipalityId = :municipalityId and i.status = :status and i.jiraIssueKey is not null and trim(i.jiraIssueKey) <> '' and i.id > :afterId order by i.id")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE))
+	List<IncidentSummary> findSummariesWithJiraIssueByMunicipalityIdAndStatus(@Param("municipalityId") String municipalityId, @Param("status") Status status, @Param("afterId") String afterId,
+		Limit limit);
+
+	/**
+	 * Find event summaries by status, as a page of the keyset ordered by ID.
+	 *
+	 * @param  status  the status to fetch incidents by
+	 * @param  afterId the ID of the last incident of the previous page (an empty string for the first page)
+	 * @param  limit   the page size
+	 * @return         a List of EventSummaries.
+	 */
+	@Query(SELECT_EVENT_SUMMARY + "where i.status = :status and i.id > :afterId order by i.id")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE))
+	List<EventSummary> findEventSummariesByStatus(@Param("status") Status status, @Param("afterId") String afterId, Limit limit);
+
+	/**
+	 * Find event summaries by municipality ID and status, as a page of the keyset ordered by ID.
+	 *
+	 * @param  municipalityId the municipality ID.
+	 * @param  status         the status to fetch incidents by
+	 * @param  afterId        the ID of the last incident of the previous page (an empty string for the first page)
+	 * @param  limit          the page size
+	 * @return                a List of EventSummaries.
+	 */
+	@Query(SELECT_EVENT_SUMMARY + "where i.municipalityId = :municipalityId and i.status = :status and i.id > :afterId order by i.id")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE))
+	List<EventSummary> findEventSummariesByMunicipalityIdAndStatus(@Param("municipalityId") String municipalityId, @Param("status") Status status, @Param("afterId") String afterId, Limit limit);
+
+	/**
+	 * Find summaries by status that are due to be polled (next poll is not set, or has passed), as a page of the keyset
+	 * ordered by ID.
+	 *
+	 * @param  status    the status to fetch incidents by
+	 * @param  timestamp the current time
+	 * @param  afterId   the ID of the last incident of the previous page (an empty string for the first page)
+	 * @param  limit     the page size
+	 * @return           a List of PollSummaries.
+	 */
+	@Query(SELECT_POLL_SUMMARY + "where i.status = :status and (i.nextPollAt is null or i.nextPollAt <= :timestamp) and i.id > :afterId order by i.id")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE))
+	List<PollSummary> findSummariesDueForPolling(@Param("status") Status status, @Param("timestamp") OffsetDateTime timestamp, @Param("afterId") String afterId, Limit limit);
+
+	/**
+	 * Find summaries by municipality ID and status that are due to be polled (next poll is not set, or has passed), as a
+	 * page of the keyset ordered by ID.
+	 *
+	 * @param  municipalityId the municipality ID.
+	 * @param  status         the status to fetch incidents by
+	 * @param  timestamp      the current time
+	 * @param  afterId        the ID of the last incident of the previous page (an empty string for the first page)
+	 * @param  limit          the page size
+	 * @return                a List of PollSummaries.
+	 */
+	@Query(SELECT_POLL_SUMMARY + "where i.municipalityId = :municipalityId and i.status = :status and (i.nextPollAt is null or i.nextPollAt <= :timestamp) and i.id > :afterId order by i.id")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE))
+	List<PollSummary> findSummariesDueForPollingByMunicipalityId(@Param("municipalityId") String municipalityId, @Param("status") Status status, @Param("timestamp") OffsetDateTime timestamp,
+		@Param("afterId") String afterId, Limit limit);
+
+	/**
+	 * Set the time of the next poll, of the incidents that still have the given status. Nothing else is written, so that a
+	 * status set concurrently (e.g. by the intake of a POB event) is not overwritten. The version is increased, so that the
+	 * incidents aren't overwritten by someone who loaded them before.
+	 *
+	 * @param  ids        the incident IDs.
+	 * @param  status     the status that the incidents must have.
+	 * @param  nextPollAt the time of the next poll.
+	 * @return            the number of updated incidents.
+	 */
+	@Modifying
+	@Query("update IncidentEntity i set i.nextPollAt = :nextPollAt, i.version = i.version + 1 where i.id in :ids and i.status = :status")
+	int updateNextPollAtByIdInAndStatus(@Param("ids") Collection<String> ids, @Param("status") Status status, @Param("nextPollAt") OffsetDateTime nextPollAt);
+
+	/**
+	 * Change the status, of the incidents that still have the given status. Nothing else is written, so that a status set
+	 * concurrently (e.g. by the intake of a POB event) is not overwritten. The version is increased, so that the incidents
+	 * aren't overwritten by someone who loaded them before.
 	 *
-	 * @param  status the status to fetch incidents by
-	 * @return        a List of IncidentEntities.
+	 * @param  ids       the incident IDs.
+	 * @param  status    the status that the incidents must have.
+	 * @param  newStatus the new status.
+	 * @param  modified  the modification time.
+	 * @return           the number of updated incidents.
 	 */
-	List<IncidentEntity> findByStatus(Status status);
+	@Modifying
+	@Query("update IncidentEntity i set i.status = :newStatus, i.modified = :modified, i.version = i.version + 1 where i.id in :ids and i.status = :status")
+	int updateStatusByIdInAndStatus(@Param("ids") Collection<String> ids, @Param("status") Status status, @Param("newStatus") Status newStatus, @Param("modified") OffsetDateTime modified);
 }
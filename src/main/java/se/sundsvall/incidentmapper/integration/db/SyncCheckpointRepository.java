@@ -0,0 +1,9 @@
+package se.sundsvall.incidentmapper.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import se.sundsvall.incidentmapper.integration.db.model.SyncCheckpointEntity;
+
+@CircuitBreaker(name = "syncCheckpointRepository")
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpointEntity, String> {
+}
@@ -0,0 +1,40 @@
+package se.sundsvall.incidentmapper.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobEntity;
+
+@CircuitBreaker(name = "syncJobRepository")
+public interface SyncJobRepository extends JpaRepository<SyncJobEntity, String> {
+
+	/**
+	 * Find a job.
+	 *
+	 * @param  id             the job ID.
+	 * @param  municipalityId the municipality of the job.
+	 * @return                an Optional SyncJobEntity.
+	 */
+	Optional<SyncJobEntity> findByIdAndMunicipalityId(String id, String municipalityId);
+
+	/**
+	 * Find the latest job for a municipality, with one of the given statuses, that has changed after the given time.
+	 *
+	 * @param  municipalityId the municipality of the job.
+	 * @param  statuses       the statuses.
+	 * @param  modified       the time that the job must have changed after.
+	 * @return                an Optional SyncJobEntity.
+	 */
+	Optional<SyncJobEntity> findFirstByMunicipalityIdAndStatusInAndModifiedAfterOrderByQueuedDesc(String municipalityId, Collection<String> statuses, OffsetDateTime modified);
+
+	/**
+	 * Find all jobs with one of the given statuses, latest first.
+	 *
+	 * @param  statuses the statuses.
+	 * @return          a List of SyncJobEntities.
+	 */
+	List<SyncJobEntity> findByStatusInOrderByQueuedDesc(Collection<String> statuses);
+}
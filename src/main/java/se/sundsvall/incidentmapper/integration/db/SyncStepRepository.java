@@ -0,0 +1,40 @@
+package se.sundsvall.incidentmapper.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.incidentmapper.integration.db.model.SyncStepEntity;
+
+@CircuitBreaker(name = "syncStepRepository")
+public interface SyncStepRepository extends JpaRepository<SyncStepEntity, String> {
+
+	/**
+	 * Find all completed steps for an incident.
+	 *
+	 * @param  incidentId the incident ID.
+	 * @return            a List of SyncStepEntities.
+	 */
+	List<SyncStepEntity> findByIncidentId(String incidentId);
+
+	/**
+	 * Find a completed step for an incident.
+	 *
+	 * @param  incidentId the incident ID.
+	 * @param  step       the step.
+	 * @return            an Optional SyncStepEntity.
+	 */
+	Optional<SyncStepEntity> findByIncidentIdAndStep(String incidentId, String step);
+
+	/**
+	 * Delete all steps for an incident.
+	 *
+	 * @param incidentId the incident ID.
+	 */
+	@Modifying
+	@Query("delete from SyncStepEntity s where s.incidentId = :incidentId")
+	void deleteByIncidentId(@Param("incidentId") String incidentId);
+}
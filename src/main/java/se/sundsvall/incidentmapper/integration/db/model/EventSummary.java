@@ -0,0 +1,18 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection of the incidents with a pending event, with the columns that are needed to prioritize the synchronization
+ * of the events.
+ * <p>
+ * {@link IncidentEntity} implements the projection, so that the ordering also can be applied to loaded incidents.
+ */
+public interface EventSummary extends IncidentSummary {
+
+	OffsetDateTime getCreated();
+
+	OffsetDateTime getModified();
+
+	Integer getSyncCost();
+}
@@ -1,15 +1,23 @@
 package se.sundsvall.incidentmapper.integration.db.model;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.UuidGenerator;
 import se.sundsvall.incidentmapper.integration.db.listener.IncidentEntityListener;
@@ -32,10 +40,11 @@ import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
 		@Index(name = "ix_municipality_id", columnList = "municipality_id"),
 		@Index(name = "ix_pob_issue_key", columnList = "pob_issue_key"),
 		@Index(name = "ix_jira_issue_key", columnList = "jira_issue_key"),
-		@Index(name = "ix_status", columnList = "status")
+		@Index(name = "ix_status", columnList = "status"),
+		@Index(name = "ix_status_next_poll_at", columnList = "status, next_poll_at")
 	})
 @EntityListeners(IncidentEntityListener.class)
-public class IncidentEntity implements Serializable {
+public class IncidentEntity implements EventSummary, PollSummary, Serializable {
 
 	private static final long serialVersionUID = 2395569293200765514L;
 
@@ -72,10 +81,59 @@ public class IncidentEntity implements Serializable {
 	@TimeZoneStorage(NORMALIZE)
 	private OffsetDateTime lastSynchronizedPob;
 
+	@Column(name = "jira_revision")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime jiraRevision;
+
+	@Column(name = "fingerprint")
+	private String fingerprint;
+
+	// Received POB mails (id) that have been mirrored to Jira, with the id of the Jira comment holding the mail.
+	@ElementCollection
+	@CollectionTable(name = "incident_mirrored_mail",
+		joinColumns = @JoinColumn(name = "incident_id"),
+		foreignKey = @ForeignKey(name = "fk_incident_mirrored_mail_incident_id"))
+	@MapKeyColumn(name = "mail_id")
+	@Column(name = "jira_comment_id")
+	private Map<String, String> mirroredMails;
+
+	// Jira attachments (id) holding the attachments of mirrored POB mails, with the id of the mail.
+	@ElementCollection
+	@CollectionTable(name = "incident_mirrored_mail_attachment",
+		joinColumns = @JoinColumn(name = "incident_id"),
+		foreignKey = @ForeignKey(name = "fk_incident_mirrored_mail_attachment_incident_id"))
+	@MapKeyColumn(name = "jira_attachment_id")
+	@Column(name = "mail_id")
+	private Map<String, String> mirroredMailAttachments;
+
+	// Jira comments (id) that have been propagated to POB.
+	@ElementCollection
+	@CollectionTable(name = "incident_propagated_comment",
+		joinColumns = @JoinColumn(name = "incident_id"),
+		foreignKey = @ForeignKey(name = "fk_incident_propagated_comment_incident_id"))
+	@Column(name = "jira_comment_id")
+	private Set<String> propagatedComments;
+
+	// Estimated cost (number of mails and attachments) of synchronizing the incident, from the last synchronization.
+	@Column(name = "sync_cost")
+	private Integer syncCost;
+
+	// When the Jira issue is due to be polled for updates next time (null means as soon as possible).
+	@Column(name = "next_poll_at")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime nextPollAt;
+
+	// Optimistic lock, so that an incident changed by someone else (e.g. the intake of a POB event) since it was loaded is
+	// not overwritten.
+	@Version
+	@Column(name = "version")
+	private Long version;
+
 	public static IncidentEntity create() {
 		return new IncidentEntity();
 	}
 
+	@Override
 	public String getId() {
 		return id;
 	}
@@ -89,6 +147,7 @@ public class IncidentEntity implements Serializable {
 		return this;
 	}
 
+	@Override
 	public String getMunicipalityId() {
 		return municipalityId;
 	}
@@ -115,6 +174,7 @@ public class IncidentEntity implements Serializable {
 		return this;
 	}
 
+	@Override
 	public String getJiraIssueKey() {
 		return jiraIssueKey;
 	}
@@ -141,6 +201,7 @@ public class IncidentEntity implements Serializable {
 		return this;
 	}
 
+	@Override
 	public OffsetDateTime getCreated() {
 		return created;
 	}
@@ -154,6 +215,7 @@ public class IncidentEntity implements Serializable {
 		return this;
 	}
 
+	@Override
 	public OffsetDateTime getModified() {
 		return modified;
 	}
@@ -167,6 +229,7 @@ public class IncidentEntity implements Serializable {
 		return this;
 	}
 
+	@Override
 	public OffsetDateTime getLastSynchronizedJira() {
 		return lastSynchronizedJira;
 	}
@@ -193,9 +256,117 @@ public class IncidentEntity implements Serializable {
 		return this;
 	}
 
+	@Override
+	public OffsetDateTime getJiraRevision() {
+		return jiraRevision;
+	}
+
+	public void setJiraRevision(OffsetDateTime jiraRevision) {
+		this.jiraRevision = jiraRevision;
+	}
+
+	public IncidentEntity withJiraRevision(OffsetDateTime jiraRevision) {
+		this.jiraRevision = jiraRevision;
+		return this;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public void setFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	public IncidentEntity withFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+		return this;
+	}
+
+	public Map<String, String> getMirroredMails() {
+		return mirroredMails;
+	}
+
+	public void setMirroredMails(Map<String, String> mirroredMails) {
+		this.mirroredMails = mirroredMails;
+	}
+
+	public IncidentEntity withMirroredMails(Map<String, String> mirroredMails) {
+		this.mirroredMails = mirroredMails;
+		return this;
+	}
+
+	public Map<String, String> getMirroredMailAttachments() {
+		return mirroredMailAttachments;
+	}
+
+	public void setMirroredMailAttachments(Map<String, String> mirroredMailAttachments) {
+		this.mirroredMailAttachments = mirroredMailAttachments;
+	}
+
+	public IncidentEntity withMirroredMailAttachments(Map<String, String> mirroredMailAttachments) {
+		this.mirroredMailAttachments = mirroredMailAttachments;
+		return this;
+	}
+
+	public Set<String> getPropagatedComments() {
+		return propagatedComments;
+	}
+
+	public void setPropagatedComments(Set<String> propagatedComments) {
+		this.propagatedComments = propagatedComments;
+	}
+
+	public IncidentEntity withPropagatedComments(Set<String> propagatedComments) {
+		this.propagatedComments = propagatedComments;
+		return this;
+	}
+
+	@Override
+	public Integer getSyncCost() {
+		return syncCost;
+	}
+
+	public void setSyncCost(Integer syncCost) {
+		this.syncCost = syncCost;
+	}
+
+	public IncidentEntity withSyncCost(Integer syncCost) {
+		this.syncCost = syncCost;
+		return this;
+	}
+
+	public OffsetDateTime getNextPollAt() {
+		return nextPollAt;
+	}
+
+	public void setNextPollAt(OffsetDateTime nextPollAt) {
+		this.nextPollAt = nextPollAt;
+	}
+
+	public IncidentEntity withNextPollAt(OffsetDateTime nextPollAt) {
+		this.nextPollAt = nextPollAt;
+		return this;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public IncidentEntity withVersion(Long version) {
+		this.version = version;
+		return this;
+	}
+
+	// The lazy collections (mirroredMails, mirroredMailAttachments and propagatedComments) are left out of hashCode, equals
+	// and toString, so that these don't trigger lazy loads (or fail on detached entities).
 	@Override
 	public int hashCode() {
-		return Objects.hash(created, id, jiraIssueKey, lastSynchronizedJira, lastSynchronizedPob, modified, municipalityId, pobIssueKey, status);
+		return Objects.hash(created, fingerprint, id, jiraIssueKey, jiraRevision, lastSynchronizedJira, lastSynchronizedPob, modified, municipalityId, nextPollAt, pobIssueKey, status, syncCost, version);
 	}
 
 	@Override
@@ -203,14 +374,18 @@ public class IncidentEntity implements Serializable {
 		if (this == obj) { return true; }
 		if (!(obj instanceof final IncidentEntity other)) { return false; }
 		return Objects.equals(created, other.created) && Objects.equals(id, other.id) && Objects.equals(jiraIssueKey, other.jiraIssueKey) && Objects.equals(lastSynchronizedJira, other.lastSynchronizedJira) && Objects.equals(lastSynchronizedPob,
-			other.lastSynchronizedPob) && Objects.equals(modified, other.modified) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(pobIssueKey, other.pobIssueKey) && (status == other.status);
+			other.lastSynchronizedPob) && Objects.equals(modified, other.modified) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(pobIssueKey, other.pobIssueKey) && (status == other.status) && Objects.equals(jiraRevision, other.jiraRevision)
+			&& Objects.equals(fingerprint, other.fingerprint)
+			&& Objects.equals(syncCost, other.syncCost)
+			&& Objects.equals(nextPollAt, other.nextPollAt)
+			&& Objects.equals(version, other.version);
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
 		builder.append("IncidentEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", pobIssueKey=").append(pobIssueKey).append(", jiraIssueKey=").append(jiraIssueKey).append(", status=").append(status).append(", created=")
-			.append(created).append(", modified=").append(modified).append(", lastSynchronizedJira=").append(lastSynchronizedJira).append(", lastSynchronizedPob=").append(lastSynchronizedPob).append("]");
+			.append(created).append(", modified=").append(modified).append(", lastSynchronizedJira=").append(lastSynchronizedJira).append(", lastSynchronizedPob=").append(lastSynchronizedPob).append(", jiraRevision=").append(jiraRevision).append(", fingerprint=").append(fingerprint).append(", syncCost=").append(syncCost).append(", nextPollAt=").append(nextPollAt).append(", version=").append(version).append("]");
 		return builder.toString();
 	}
 }
@@ -0,0 +1,14 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+/**
+ * Projection of the incident columns that are needed to select and schedule the incidents of a synchronization phase.
+ * <p>
+ * The incidents of a phase are listed as summaries, and each incident is loaded in full only when it's processed. The
+ * phases that need more columns have projections of their own (see {@link EventSummary} and {@link PollSummary}).
+ */
+public interface IncidentSummary {
+
+	String getId();
+
+	String getMunicipalityId();
+}
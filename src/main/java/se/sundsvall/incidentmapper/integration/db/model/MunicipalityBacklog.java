@@ -0,0 +1,11 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+/**
+ * Projection of the number of incidents that are waiting in a synchronization phase, for one municipality.
+ */
+public interface MunicipalityBacklog {
+
+	String getMunicipalityId();
+
+	Long getIncidents();
+}
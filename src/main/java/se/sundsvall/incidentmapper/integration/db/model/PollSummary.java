@@ -0,0 +1,18 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection of the synchronized incidents, with the columns that are needed to poll Jira for updates (without loading
+ * the incidents).
+ * <p>
+ * {@link IncidentEntity} implements the projection.
+ */
+public interface PollSummary extends IncidentSummary {
+
+	String getJiraIssueKey();
+
+	OffsetDateTime getJiraRevision();
+
+	OffsetDateTime getLastSynchronizedJira();
+}
@@ -0,0 +1,75 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The position where a synchronization phase stopped when its time budget was exhausted, i.e. the incident (in ID order)
+ * that the next run of the phase continues after.
+ */
+@Entity
+@Table(name = "sync_checkpoint")
+public class SyncCheckpointEntity implements Serializable {
+
+	private static final long serialVersionUID = 6409587431958163622L;
+
+	@Id
+	@Column(name = "phase")
+	private String phase;
+
+	@Column(name = "incident_id")
+	private String incidentId;
+
+	public static SyncCheckpointEntity create() {
+		return new SyncCheckpointEntity();
+	}
+
+	public String getPhase() {
+		return phase;
+	}
+
+	public void setPhase(String phase) {
+		this.phase = phase;
+	}
+
+	public SyncCheckpointEntity withPhase(String phase) {
+		this.phase = phase;
+		return this;
+	}
+
+	public String getIncidentId() {
+		return incidentId;
+	}
+
+	public void setIncidentId(String incidentId) {
+		this.incidentId = incidentId;
+	}
+
+	public SyncCheckpointEntity withIncidentId(String incidentId) {
+		this.incidentId = incidentId;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(incidentId, phase);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final SyncCheckpointEntity other)) { return false; }
+		return Objects.equals(incidentId, other.incidentId) && Objects.equals(phase, other.phase);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("SyncCheckpointEntity [phase=").append(phase).append(", incidentId=").append(incidentId).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,216 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static jakarta.persistence.FetchType.EAGER;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * The state of a manually triggered synchronization job, stored so that the job can be followed from any instance.
+ * <p>
+ * The job is written by the instance that runs it every time its state changes, and modified is the time of the last
+ * change.
+ */
+@Entity
+@Table(
+	name = "sync_job",
+	indexes = {
+		@Index(name = "ix_sync_job_municipality_id_status", columnList = "municipality_id, status")
+	})
+public class SyncJobEntity implements Serializable {
+
+	private static final long serialVersionUID = 4870139616094577520L;
+
+	@Id
+	@Column(name = "id")
+	private String id;
+
+	@Column(name = "municipality_id")
+	private String municipalityId;
+
+	@Column(name = "status")
+	private String status;
+
+	@Column(name = "progress")
+	private Integer progress;
+
+	@Column(name = "queued")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime queued;
+
+	@Column(name = "started")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime started;
+
+	@Column(name = "finished")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime finished;
+
+	@Column(name = "modified")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime modified;
+
+	// The phases, in execution order. There are only a few phases, so these are always loaded with the job.
+	@ElementCollection(fetch = EAGER)
+	@CollectionTable(name = "sync_job_phase",
+		joinColumns = @JoinColumn(name = "job_id"),
+		foreignKey = @ForeignKey(name = "fk_sync_job_phase_job_id"))
+	@OrderColumn(name = "phase_index")
+	private List<SyncJobPhaseEmbeddable> phases;
+
+	public static SyncJobEntity create() {
+		return new SyncJobEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public SyncJobEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public SyncJobEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public SyncJobEntity withStatus(String status) {
+		this.status = status;
+		return this;
+	}
+
+	public Integer getProgress() {
+		return progress;
+	}
+
+	public void setProgress(Integer progress) {
+		this.progress = progress;
+	}
+
+	public SyncJobEntity withProgress(Integer progress) {
+		this.progress = progress;
+		return this;
+	}
+
+	public OffsetDateTime getQueued() {
+		return queued;
+	}
+
+	public void setQueued(OffsetDateTime queued) {
+		this.queued = queued;
+	}
+
+	public SyncJobEntity withQueued(OffsetDateTime queued) {
+		this.queued = queued;
+		return this;
+	}
+
+	public OffsetDateTime getStarted() {
+		return started;
+	}
+
+	public void setStarted(OffsetDateTime started) {
+		this.started = started;
+	}
+
+	public SyncJobEntity withStarted(OffsetDateTime started) {
+		this.started = started;
+		return this;
+	}
+
+	public OffsetDateTime getFinished() {
+		return finished;
+	}
+
+	public void setFinished(OffsetDateTime finished) {
+		this.finished = finished;
+	}
+
+	public SyncJobEntity withFinished(OffsetDateTime finished) {
+		this.finished = finished;
+		return this;
+	}
+
+	public OffsetDateTime getModified() {
+		return modified;
+	}
+
+	public void setModified(OffsetDateTime modified) {
+		this.modified = modified;
+	}
+
+	public SyncJobEntity withModified(OffsetDateTime modified) {
+		this.modified = modified;
+		return this;
+	}
+
+	public List<SyncJobPhaseEmbeddable> getPhases() {
+		return phases;
+	}
+
+	public void setPhases(List<SyncJobPhaseEmbeddable> phases) {
+		this.phases = phases;
+	}
+
+	public SyncJobEntity withPhases(List<SyncJobPhaseEmbeddable> phases) {
+		this.phases = phases;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(finished, id, modified, municipalityId, phases, progress, queued, started, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final SyncJobEntity other)) { return false; }
+		return Objects.equals(finished, other.finished) && Objects.equals(id, other.id) && Objects.equals(modified, other.modified) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(phases, other.phases) && Objects.equals(progress,
+			other.progress) && Objects.equals(queued, other.queued) && Objects.equals(started, other.started) && Objects.equals(status, other.status);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("SyncJobEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", status=").append(status).append(", progress=").append(progress).append(", queued=").append(queued).append(", started=").append(started)
+			.append(", finished=").append(finished).append(", modified=").append(modified).append(", phases=").append(phases).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,124 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * A phase of a manually triggered synchronization job (see {@link SyncJobEntity}).
+ */
+@Embeddable
+public class SyncJobPhaseEmbeddable implements Serializable {
+
+	private static final long serialVersionUID = -1745393201830474466L;
+
+	@Column(name = "name")
+	private String name;
+
+	@Column(name = "status")
+	private String status;
+
+	@Column(name = "started")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime started;
+
+	@Column(name = "finished")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime finished;
+
+	@Column(name = "processed")
+	private Integer processed;
+
+	public static SyncJobPhaseEmbeddable create() {
+		return new SyncJobPhaseEmbeddable();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public SyncJobPhaseEmbeddable withName(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public SyncJobPhaseEmbeddable withStatus(String status) {
+		this.status = status;
+		return this;
+	}
+
+	public OffsetDateTime getStarted() {
+		return started;
+	}
+
+	public void setStarted(OffsetDateTime started) {
+		this.started = started;
+	}
+
+	public SyncJobPhaseEmbeddable withStarted(OffsetDateTime started) {
+		this.started = started;
+		return this;
+	}
+
+	public OffsetDateTime getFinished() {
+		return finished;
+	}
+
+	public void setFinished(OffsetDateTime finished) {
+		this.finished = finished;
+	}
+
+	public SyncJobPhaseEmbeddable withFinished(OffsetDateTime finished) {
+		this.finished = finished;
+		return this;
+	}
+
+	public Integer getProcessed() {
+		return processed;
+	}
+
+	public void setProcessed(Integer processed) {
+		this.processed = processed;
+	}
+
+	public SyncJobPhaseEmbeddable withProcessed(Integer processed) {
+		this.processed = processed;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(finished, name, processed, started, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final SyncJobPhaseEmbeddable other)) { return false; }
+		return Objects.equals(finished, other.finished) && Objects.equals(name, other.name) && Objects.equals(processed, other.processed) && Objects.equals(started, other.started) && Objects.equals(status, other.status);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("SyncJobPhaseEmbeddable [name=").append(name).append(", status=").append(status).append(", started=").append(started).append(", finished=").append(finished).append(", processed=").append(processed).append("]");
+		return builder.toString();
+	}
+}
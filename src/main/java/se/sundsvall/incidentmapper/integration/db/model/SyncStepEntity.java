@@ -0,0 +1,115 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.io.Serializable;
+import java.util.Objects;
+import org.hibernate.annotations.UuidGenerator;
+
+/**
+ * A completed step in the synchronization of an incident, e.g. a created Jira issue or an uploaded attachment.
+ */
+@Entity
+@Table(
+	name = "sync_step",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uq_sync_step_incident_id_step", columnNames = {
+			"incident_id", "step"
+		})
+	})
+public class SyncStepEntity implements Serializable {
+
+	private static final long serialVersionUID = -3466295436453036207L;
+
+	@Id
+	@UuidGenerator
+	@Column(name = "id")
+	private String id;
+
+	@Column(name = "incident_id")
+	private String incidentId;
+
+	@Column(name = "step")
+	private String step;
+
+	@Column(name = "reference")
+	private String reference;
+
+	public static SyncStepEntity create() {
+		return new SyncStepEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public SyncStepEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getIncidentId() {
+		return incidentId;
+	}
+
+	public void setIncidentId(String incidentId) {
+		this.incidentId = incidentId;
+	}
+
+	public SyncStepEntity withIncidentId(String incidentId) {
+		this.incidentId = incidentId;
+		return this;
+	}
+
+	public String getStep() {
+		return step;
+	}
+
+	public void setStep(String step) {
+		this.step = step;
+	}
+
+	public SyncStepEntity withStep(String step) {
+		this.step = step;
+		return this;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	public void setReference(String reference) {
+		this.reference = reference;
+	}
+
+	public SyncStepEntity withReference(String reference) {
+		this.reference = reference;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, incidentId, reference, step);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final SyncStepEntity other)) { return false; }
+		return Objects.equals(id, other.id) && Objects.equals(incidentId, other.incidentId) && Objects.equals(reference, other.reference) && Objects.equals(step, other.step);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("SyncStepEntity [id=").append(id).append(", incidentId=").append(incidentId).append(", step=").append(step).append(", reference=").append(reference).append("]");
+		return builder.toString();
+	}
+}
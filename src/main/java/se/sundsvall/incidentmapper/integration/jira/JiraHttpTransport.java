@@ -0,0 +1,173 @@
+package se.sundsvall.incidentmapper.integration.jira;
+
+import com.chavaillaz.client.common.exception.ResponseException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import se.sundsvall.incidentmapper.integration.jira.configuration.JiraProperties;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static se.sundsvall.incidentmapper.integration.limiter.AdaptiveConcurrencyLimiter.parseRetryAfter;
+
+/**
+ * HTTP transport towards Jira, built on a tuned java.net.http.HttpClient.
+ * <p>
+ * The transport negotiates HTTP/2 (multiplexing many requests over few connections), applies connect and read timeouts,
+ * runs on a dedicated executor, requests gzip compressed responses and bounds the number of concurrent requests. The
+ * HTTP client is shared with the Jira library client, which gets the HTTP/2, connect timeout and executor settings (but
+ * not the read timeout, compression and request bound, that are applied per request by this transport).
+ * <p>
+ * The number of active, available and waiting requests of the transport is exposed as metrics. These are requests, not
+ * connections: java.net.http.HttpClient doesn't expose the state of its connection pool.
+ */
+public class JiraHttpTransport implements AutoCloseable {
+
+	private static final String METRIC_PREFIX = "jira.transport";
+	private static final String GZIP = "gzip";
+
+	private final HttpClient httpClient;
+	private final ExecutorService executor;
+	private final JiraProperties.Transport settings;
+	private final String authorization;
+	private final Semaphore permits;
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final MeterRegistry meterRegistry;
+	private final Timer requestTimer;
+
+	public JiraHttpTransport(final HttpClient httpClient, final ExecutorService executor, final JiraProperties jiraProperties, final MeterRegistry meterRegistry) {
+		this.httpClient = httpClient;
+		this.executor = executor;
+		this.settings = jiraProperties.transport();
+		this.authorization = "Basic " + Base64.getEncoder().encodeToString((jiraProperties.username() + ":" + jiraProperties.password()).getBytes(UTF_8));
+		this.permits = new Semaphore(settings.maxConnections(), true);
+		this.meterRegistry = meterRegistry;
+		this.requestTimer = Timer.builder(METRIC_PREFIX + ".requests")
+			.description("Time spent on requests towards Jira")
+			.register(meterRegistry);
+
+		Gauge.builder(METRIC_PREFIX + ".requests.active", () -> settings.maxConnections() - permits.availablePermits())
+			.description("Number of requests currently in flight towards Jira")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".requests.available", permits::availablePermits)
+			.description("Number of additional requests that can be sent to Jira without waiting")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".requests.pending", waiting::get)
+			.description("Number of requests waiting for a permit to be sent to Jira")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Returns the HTTP client of the transport.
+	 *
+	 * @return the HTTP client.
+	 */
+	public HttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	/**
+	 * Performs a GET request and returns the (decompressed) response body.
+	 *
+	 * @param  uri the absolute URI to fetch.
+	 * @return     a future with the response body. Non 2xx responses complete the future with a ResponseException, or a
+	 *             JiraThrottledException (with the Retry-After header) for 429/503 responses.
+	 */
+	public CompletableFuture<byte[]> get(final URI uri) {
+		final var requestBuilder = HttpRequest.newBuilder(uri)
+			.GET()
+			.timeout(settings.readTimeout())
+			.header(AUTHORIZATION, authorization)
+			.header(ACCEPT, APPLICATION_JSON_VALUE);
+
+		if (settings.compression()) {
+			requestBuilder.header(ACCEPT_ENCODING, GZIP);
+		}
+
+		return send(requestBuilder.build());
+	}
+
+	private CompletableFuture<byte[]> send(final HttpRequest request) {
+		try {
+			acquire();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return failedFuture(e);
+		}
+
+		final var sample = Timer.start(meterRegistry);
+		try {
+			return httpClient.sendAsync(request, BodyHandlers.ofByteArray())
+				.thenApply(JiraHttpTransport::toBody)
+				.whenComplete((body, throwable) -> {
+					sample.stop(requestTimer);
+					permits.release();
+				});
+		} catch (final RuntimeException e) {
+			permits.release();
+			return failedFuture(e);
+		}
+	}
+
+	private void acquire() throws InterruptedException {
+		waiting.incrementAndGet();
+		try {
+			permits.acquire();
+		} finally {
+			waiting.decrementAndGet();
+		}
+	}
+
+	private static byte[] toBody(final HttpResponse<byte[]> response) {
+		final var body = decompress(response);
+		if ((response.statusCode() == TOO_MANY_REQUESTS.value()) || (response.statusCode() == SERVICE_UNAVAILABLE.value())) {
+			throw new JiraThrottledException(response.statusCode(), new String(body, UTF_8), parseRetryAfter(response.headers().firstValue(RETRY_AFTER).orElse(null)));
+		}
+		if ((response.statusCode() < 200) || (response.statusCode() > 299)) {
+			throw new ResponseException(response.statusCode(), new String(body, UTF_8));
+		}
+		return body;
+	}
+
+	private static byte[] decompress(final HttpResponse<byte[]> response) {
+		final var gzipped = response.headers().firstValue(CONTENT_ENCODING)
+			.filter(GZIP::equalsIgnoreCase)
+			.isPresent();
+
+		if (!gzipped || (response.body().length == 0)) {
+			return response.body();
+		}
+
+		try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+			return inputStream.readAllBytes();
+		} catch (final IOException e) {
+			throw new JiraIntegrationException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+}
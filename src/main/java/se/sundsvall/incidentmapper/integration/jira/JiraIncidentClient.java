@@ -2,34 +2,90 @@ package se.sundsvall.incidentmapper.integration.jira;
 
 import com.chavaillaz.client.common.exception.ResponseException;
 import com.chavaillaz.client.jira.JiraClient;
+import com.chavaillaz.client.jira.domain.Attachments;
 import com.chavaillaz.client.jira.domain.Comment;
 import com.chavaillaz.client.jira.domain.Issue;
 import com.chavaillaz.client.jira.domain.IssueTransition;
 import com.chavaillaz.client.jira.domain.Transition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import se.sundsvall.incidentmapper.integration.jira.configuration.JiraProperties;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueChangelogView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueCommentPage;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueRevisionView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueStatusView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueUpdatedView;
+import se.sundsvall.incidentmapper.integration.limiter.AdaptiveConcurrencyLimiter;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.empty;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.stream.Collectors.toMap;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.util.StringUtils.hasText;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
 
+/**
+ * Client for the Jira integration.
+ * <p>
+ * Every operation is available as a non-blocking variant (suffixed with "Async") that returns a CompletableFuture, and
+ * as a blocking variant that waits for the result. Failures are always propagated as a JiraIntegrationException, either
+ * thrown directly (blocking variants) or as the cause of the exceptionally completed future (async variants).
+ */
 @Component
 @CircuitBreaker(name = "jiraIntegration")
+@Profile(SYNCHRONIZATION)
 public class JiraIncidentClient {
 
+	private static final String FIELD_STATUS = "status";
+	private static final String FIELD_UPDATED = "updated";
+	private static final String FIELD_COMMENT = "comment";
+	private static final String EXPAND_CHANGELOG = "changelog";
+	private static final String ISSUE_URL_TEMPLATE = "%s/rest/api/2/issue/%s?fields=%s";
+	private static final String EXPAND_PARAMETER_TEMPLATE = "&expand=%s";
+	private static final String COMMENT_URL_TEMPLATE = "%s/rest/api/2/issue/%s/comment?startAt=%d&maxResults=%d&orderBy=created";
+	private static final int COMMENT_PAGE_SIZE = 50;
+	private static final String SEARCH_URL_TEMPLATE = "%s/rest/api/2/search?jql=%s&maxResults=1&fields=" + FIELD_STATUS;
+	private static final DateTimeFormatter JIRA_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	private final JiraClient<Issue> jiraClient;
+	private final JiraHttpTransport jiraHttpTransport;
+	private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 	private final JiraProperties jiraProperties;
 
-	public JiraIncidentClient(final JiraClient<Issue> jiraClient, JiraProperties jiraProperties) {
+	public JiraIncidentClient(final JiraClient<Issue> jiraClient, final JiraHttpTransport jiraHttpTransport, final AdaptiveConcurrencyLimiter concurrencyLimiter, JiraProperties jiraProperties) {
 		this.jiraClient = jiraClient;
+		this.jiraHttpTransport = jiraHttpTransport;
+		this.concurrencyLimiter = concurrencyLimiter;
 		this.jiraProperties = jiraProperties;
 	}
 
@@ -44,15 +100,126 @@ public class JiraIncidentClient {
 	 * @return          the issue as an Optional (Optional.empty if it doesn't exist)
 	 */
 	public Optional<Issue> getIssue(final String issueKey) {
-		try {
-			return Optional.of(jiraClient.getIssueApi().getIssue(issueKey).get());
-		} catch (final Exception e) {
-			if ((e.getCause() instanceof final ResponseException responseException) && responseException.getStatusCode().equals(NOT_FOUND.value())) {
-				return empty();
-			}
-			Thread.currentThread().interrupt();
-			throw new JiraIntegrationException(e);
-		}
+		return await(getIssueAsync(issueKey));
+	}
+
+	/**
+	 * Fetch Jira issue, as an Optional (non-blocking).
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          a future with the issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public CompletableFuture<Optional<Issue>> getIssueAsync(final String issueKey) {
+		return call(() -> jiraClient.getIssueApi().getIssue(issueKey))
+			.thenApply(Optional::of)
+			.exceptionallyCompose(throwable -> isNotFound(throwable) ? completedFuture(empty()) : failedFuture(toJiraIntegrationException(throwable)));
+	}
+
+	/**
+	 * Fetch only the last update timestamp of a Jira issue.
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          the projected issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public Optional<IssueUpdatedView> getIssueUpdated(final String issueKey) {
+		return await(getIssueUpdatedAsync(issueKey));
+	}
+
+	/**
+	 * Fetch only the last update timestamp of a Jira issue (non-blocking).
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          a future with the projected issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public CompletableFuture<Optional<IssueUpdatedView>> getIssueUpdatedAsync(final String issueKey) {
+		return getIssueFieldsAsync(issueKey, FIELD_UPDATED, null, issue -> new IssueUpdatedView(issue.path("key").asText(issueKey),
+			toOffsetDateTime(issue.path("fields").path(FIELD_UPDATED).asText(null))));
+	}
+
+	/**
+	 * Fetch only the current status of a Jira issue.
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          the projected issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public Optional<IssueStatusView> getIssueStatus(final String issueKey) {
+		return await(getIssueStatusAsync(issueKey));
+	}
+
+	/**
+	 * Fetch only the current status of a Jira issue (non-blocking).
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          a future with the projected issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public CompletableFuture<Optional<IssueStatusView>> getIssueStatusAsync(final String issueKey) {
+		return getIssueFieldsAsync(issueKey, FIELD_STATUS, null, issue -> toIssueStatusView(issue, issueKey));
+	}
+
+	/**
+	 * Fetch only the changelog of a Jira issue.
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          the changelog as an Optional (Optional.empty if the issue doesn't exist)
+	 */
+	public Optional<IssueChangelogView> getIssueChangelog(final String issueKey) {
+		return await(getIssueChangelogAsync(issueKey));
+	}
+
+	/**
+	 * Fetch only the changelog of a Jira issue (non-blocking).
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          a future with the changelog as an Optional (Optional.empty if the issue doesn't exist)
+	 */
+	public CompletableFuture<Optional<IssueChangelogView>> getIssueChangelogAsync(final String issueKey) {
+		return getIssueFieldsAsync(issueKey, FIELD_UPDATED, EXPAND_CHANGELOG, issue -> toIssueChangelogView(issue, issueKey));
+	}
+
+	/**
+	 * Fetch the last update timestamp of a Jira issue, together with the author of the last update.
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          the projected issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public Optional<IssueRevisionView> getIssueRevision(final String issueKey) {
+		return await(getIssueRevisionAsync(issueKey));
+	}
+
+	/**
+	 * Fetch the last update timestamp of a Jira issue, together with the author of the last update (non-blocking).
+	 * <p>
+	 * The author is taken from the latest entry in the changelog or the latest (added or edited) comment, since comments
+	 * aren't recorded in the changelog.
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @return          a future with the projected issue as an Optional (Optional.empty if it doesn't exist)
+	 */
+	public CompletableFuture<Optional<IssueRevisionView>> getIssueRevisionAsync(final String issueKey) {
+		return getIssueFieldsAsync(issueKey, FIELD_UPDATED + "," + FIELD_COMMENT, EXPAND_CHANGELOG, issue -> toIssueRevisionView(issue, issueKey));
+	}
+
+	/**
+	 * Fetch one page of the comments on a Jira issue, oldest first.
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @param  startAt  the position (zero based) of the first comment to fetch
+	 * @return          the page of comments as an Optional (Optional.empty if the issue doesn't exist)
+	 */
+	public Optional<IssueCommentPage> getComments(final String issueKey, final int startAt) {
+		return await(getCommentsAsync(issueKey, startAt));
+	}
+
+	/**
+	 * Fetch one page of the comments on a Jira issue, oldest first (non-blocking).
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @param  startAt  the position (zero based) of the first comment to fetch
+	 * @return          a future with the page of comments as an Optional (Optional.empty if the issue doesn't exist)
+	 */
+	public CompletableFuture<Optional<IssueCommentPage>> getCommentsAsync(final String issueKey, final int startAt) {
+		final var uri = URI.create(COMMENT_URL_TEMPLATE.formatted(jiraProperties.url(), URLEncoder.encode(issueKey, UTF_8), startAt, COMMENT_PAGE_SIZE));
+		return getAsync(uri, page -> toIssueCommentPage(page, issueKey));
 	}
 
 	/**
@@ -77,17 +244,26 @@ public class JiraIncidentClient {
 	 * @param description the issue description.
 	 */
 	public String createIssue(final String projectKey, final String type, List<String> labels, final String summary, final String description) {
+		return await(createIssueAsync(projectKey, type, labels, summary, description));
+	}
 
+	/**
+	 * Create a Jira issue (non-blocking).
+	 *
+	 * @param  projectKey  the project key.
+	 * @param  type        the issue type (e.g. "Bug")
+	 * @param  labels      the issue labels (e.g. "my-label")
+	 * @param  summary     the issue summary (subject)
+	 * @param  description the issue description.
+	 * @return             a future with the key of the created issue.
+	 */
+	public CompletableFuture<String> createIssueAsync(final String projectKey, final String type, List<String> labels, final String summary, final String description) {
 		final var issue = Issue.from(type, projectKey, summary);
 		issue.getFields().setDescription(description);
 		issue.getFields().setLabels(labels);
 
-		try {
-			return jiraClient.getIssueApi().addIssue(issue).get().getKey();
-		} catch (final Exception e) {
-			Thread.currentThread().interrupt();
-			throw new JiraIntegrationException(e);
-		}
+		return call(() -> jiraClient.getIssueApi().addIssue(issue))
+			.thenApply(identity -> identity.getKey());
 	}
 
 	/**
@@ -97,23 +273,64 @@ public class JiraIncidentClient {
 	 * @return          a map of transitions where the keys are the transition name.
 	 */
 	public Map<String, Transition> getTransitions(String issueKey) {
-		try {
-			return jiraClient.getIssueApi().getTransitions(issueKey).get().stream()
-				.collect(toMap(Transition::getName, Function.identity()));
+		return await(getTransitionsAsync(issueKey));
+	}
 
-		} catch (final Exception e) {
-			Thread.currentThread().interrupt();
-			throw new JiraIntegrationException(e);
-		}
+	/**
+	 * Get available transitions for an issue (non-blocking).
+	 *
+	 * @param  issueKey the issue key.
+	 * @return          a future with a map of transitions where the keys are the transition name.
+	 */
+	public CompletableFuture<Map<String, Transition>> getTransitionsAsync(String issueKey) {
+		return call(() -> jiraClient.getIssueApi().getTransitions(issueKey))
+			.thenApply(transitions -> transitions.stream()
+				.collect(toMap(Transition::getName, Function.identity())));
+	}
+
+	/**
+	 * Find the most recently created issue matching a JQL query.
+	 *
+	 * @param  jql the JQL query (without ordering).
+	 * @return     the key and status of the latest created matching issue, or Optional.empty if no issue matches.
+	 */
+	public Optional<IssueStatusView> findLatestIssue(final String jql) {
+		return await(findLatestIssueAsync(jql));
+	}
+
+	/**
+	 * Find the most recently created issue matching a JQL query (non-blocking).
+	 *
+	 * @param  jql the JQL query (without ordering).
+	 * @return     a future with the key and status of the latest created matching issue, or Optional.empty if no issue
+	 *             matches.
+	 */
+	public CompletableFuture<Optional<IssueStatusView>> findLatestIssueAsync(final String jql) {
+		final var uri = URI.create(SEARCH_URL_TEMPLATE.formatted(jiraProperties.url(), URLEncoder.encode(jql + " ORDER BY created DESC", UTF_8)));
+
+		return call(() -> jiraHttpTransport.get(uri))
+			.thenApply(JiraIncidentClient::toLatestIssueStatusView);
 	}
 
 	/**
 	 * Perform a transition
 	 *
-	 * @param issue The issue containing only the fields to update.
+	 * @param issueKey   the Jira issue key
+	 * @param transition the transition to perform.
 	 */
 	public void performTransition(String issueKey, Transition transition) {
-		jiraClient.getIssueApi().doTransition(issueKey, IssueTransition.from(transition));
+		await(performTransitionAsync(issueKey, transition));
+	}
+
+	/**
+	 * Perform a transition (non-blocking).
+	 *
+	 * @param  issueKey   the Jira issue key
+	 * @param  transition the transition to perform.
+	 * @return            a future that completes when the transition has been performed.
+	 */
+	public CompletableFuture<Void> performTransitionAsync(String issueKey, Transition transition) {
+		return call(() -> jiraClient.getIssueApi().doTransition(issueKey, IssueTransition.from(transition)));
 	}
 
 	/**
@@ -122,19 +339,42 @@ public class JiraIncidentClient {
 	 * @param issue The issue containing only the fields to update.
 	 */
 	public void updateIssue(Issue issue) {
-		jiraClient.getIssueApi().updateIssue(issue);
+		await(updateIssueAsync(issue));
+	}
+
+	/**
+	 * Update a Jira issue (non-blocking).
+	 *
+	 * @param  issue The issue containing only the fields to update.
+	 * @return       a future that completes when the issue has been updated.
+	 */
+	public CompletableFuture<Void> updateIssueAsync(Issue issue) {
+		return call(() -> jiraClient.getIssueApi().updateIssue(issue));
 	}
 
 	/**
 	 * Add a comment by jira issue key and comment body.
 	 *
-	 * @param issueKey    the Jira issue key
-	 * @param commentBody the comment text string.
+	 * @param  issueKey    the Jira issue key
+	 * @param  commentBody the comment text string.
+	 * @return             the created comment (or null if the comment body was empty).
 	 */
-	public void addComment(String issueKey, String commentBody) {
-		if (hasText(commentBody)) {
-			jiraClient.getIssueApi().addComment(issueKey, Comment.from(commentBody));
+	public Comment addComment(String issueKey, String commentBody) {
+		return await(addCommentAsync(issueKey, commentBody));
+	}
+
+	/**
+	 * Add a comment by jira issue key and comment body (non-blocking).
+	 *
+	 * @param  issueKey    the Jira issue key
+	 * @param  commentBody the comment text string.
+	 * @return             a future with the created comment (or null if the comment body was empty).
+	 */
+	public CompletableFuture<Comment> addCommentAsync(String issueKey, String commentBody) {
+		if (!hasText(commentBody)) {
+			return completedFuture(null);
 		}
+		return call(() -> jiraClient.getIssueApi().addComment(issueKey, Comment.from(commentBody)));
 	}
 
 	/**
@@ -144,7 +384,18 @@ public class JiraIncidentClient {
 	 * @param commentId the comment ID.
 	 */
 	public void deleteComment(String issueKey, String commentId) {
-		jiraClient.getIssueApi().deleteComment(issueKey, commentId);
+		await(deleteCommentAsync(issueKey, commentId));
+	}
+
+	/**
+	 * Delete a comment by Jira issue key and a commentId (non-blocking).
+	 *
+	 * @param  issueKey  the Jira issue key
+	 * @param  commentId the comment ID.
+	 * @return           a future that completes when the comment has been deleted.
+	 */
+	public CompletableFuture<Void> deleteCommentAsync(String issueKey, String commentId) {
+		return call(() -> jiraClient.getIssueApi().deleteComment(issueKey, commentId));
 	}
 
 	/**
@@ -154,12 +405,18 @@ public class JiraIncidentClient {
 	 * @param file     the attachment as a File object
 	 */
 	public void addAttachment(String issueKey, File file) {
-		try {
-			jiraClient.getIssueApi().addAttachment(issueKey, file).get();
-		} catch (final Exception e) {
-			Thread.currentThread().interrupt();
-			throw new JiraIntegrationException(e);
-		}
+		await(addAttachmentAsync(issueKey, file));
+	}
+
+	/**
+	 * Add an attachment by jira issue key and File object (non-blocking).
+	 *
+	 * @param  issueKey the Jira issue key
+	 * @param  file     the attachment as a File object
+	 * @return          a future with the created attachments.
+	 */
+	public CompletableFuture<Attachments> addAttachmentAsync(String issueKey, File file) {
+		return call(() -> jiraClient.getIssueApi().addAttachment(issueKey, file));
 	}
 
 	/**
@@ -169,12 +426,18 @@ public class JiraIncidentClient {
 	 * @return            the attachment as a Base64 encoded string.
 	 */
 	public String getAttachment(String contentUrl) {
-		try {
-			return Base64.getEncoder().encodeToString(jiraClient.getIssueApi().getAttachmentContent(contentUrl).get().readAllBytes());
-		} catch (final Exception e) {
-			Thread.currentThread().interrupt();
-			throw new JiraIntegrationException(e);
-		}
+		return await(getAttachmentAsync(contentUrl));
+	}
+
+	/**
+	 * Fetch the Jira issue attachment as a Base64 encoded string (non-blocking).
+	 *
+	 * @param  contentUrl the URL to the attachment content. (Content-URL is available in Attachment.getContent())
+	 * @return            a future with the attachment as a Base64 encoded string.
+	 */
+	public CompletableFuture<String> getAttachmentAsync(String contentUrl) {
+		return call(() -> jiraHttpTransport.get(URI.create(contentUrl)))
+			.thenApply(content -> Base64.getEncoder().encodeToString(content));
 	}
 
 	/**
@@ -183,6 +446,214 @@ public class JiraIncidentClient {
 	 * @param attachmentId the attachment ID.
 	 */
 	public void deleteAttachment(String attachmentId) {
-		jiraClient.getIssueApi().deleteAttachment(attachmentId);
+		await(deleteAttachmentAsync(attachmentId));
+	}
+
+	/**
+	 * Deletes an attachment by attachment ID (non-blocking).
+	 *
+	 * @param  attachmentId the attachment ID.
+	 * @return              a future that completes when the attachment has been deleted.
+	 */
+	public CompletableFuture<Void> deleteAttachmentAsync(String attachmentId) {
+		return call(() -> jiraClient.getIssueApi().deleteAttachment(attachmentId));
+	}
+
+	/**
+	 * Invokes a request towards Jira and makes sure that every failure (synchronously thrown or asynchronously completed)
+	 * ends up as an exceptionally completed future with a JiraIntegrationException.
+	 * <p>
+	 * The request is only sent when the adaptive concurrency limiter allows it, and the outcome is reported back to the
+	 * limiter.
+	 */
+	private <T> CompletableFuture<T> call(final Supplier<CompletableFuture<T>> request) {
+		final AdaptiveConcurrencyLimiter.Permit permit;
+		try {
+			permit = concurrencyLimiter.acquire();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return failedFuture(new JiraIntegrationException(e));
+		}
+
+		try {
+			return request.get()
+				.whenComplete((result, throwable) -> release(permit, throwable))
+				.exceptionallyCompose(throwable -> failedFuture(toJiraIntegrationException(throwable)));
+		} catch (final RuntimeException e) {
+			release(permit, e);
+			return failedFuture(toJiraIntegrationException(e));
+		}
+	}
+
+	private static void release(final AdaptiveConcurrencyLimiter.Permit permit, final Throwable throwable) {
+		if (throwable == null) {
+			permit.onSuccess();
+			return;
+		}
+
+		final var statusCode = statusCode(throwable);
+		if (Objects.equals(statusCode, TOO_MANY_REQUESTS.value()) || Objects.equals(statusCode, SERVICE_UNAVAILABLE.value())) {
+			// The Retry-After header is only available for requests sent by the transport, not by the Jira library client.
+			permit.onThrottled(retryAfter(throwable));
+		} else if (isTimeout(throwable)) {
+			permit.onDropped();
+		} else {
+			permit.onIgnore();
+		}
+	}
+
+	/**
+	 * Waits for the result of the provided future. Failures are rethrown as a JiraIntegrationException.
+	 */
+	private static <T> T await(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException | CancellationException e) {
+			throw toJiraIntegrationException(e);
+		}
+	}
+
+	private static JiraIntegrationException toJiraIntegrationException(final Throwable throwable) {
+		final var cause = unwrap(throwable);
+		return cause instanceof final JiraIntegrationException jiraIntegrationException ? jiraIntegrationException : new JiraIntegrationException(cause);
+	}
+
+	private static Throwable unwrap(final Throwable throwable) {
+		var current = throwable;
+		while (((current instanceof CompletionException) || (current instanceof ExecutionException)) && (current.getCause() != null)) {
+			current = current.getCause();
+		}
+		return current;
+	}
+
+	/**
+	 * Fetches an issue with only the requested fields (and no expansions such as rendered fields or transitions, unless
+	 * explicitly requested), and maps the response to a lightweight view.
+	 */
+	private <T> CompletableFuture<Optional<T>> getIssueFieldsAsync(final String issueKey, final String fields, final String expand, final Function<JsonNode, T> mapper) {
+		final var uri = URI.create(ISSUE_URL_TEMPLATE.formatted(jiraProperties.url(), URLEncoder.encode(issueKey, UTF_8), fields)
+			+ Optional.ofNullable(expand).map(EXPAND_PARAMETER_TEMPLATE::formatted).orElse(""));
+
+		return getAsync(uri, mapper);
+	}
+
+	/**
+	 * Fetches a Jira resource and maps the response. A missing resource (404) results in an empty Optional.
+	 */
+	private <T> CompletableFuture<Optional<T>> getAsync(final URI uri, final Function<JsonNode, T> mapper) {
+		return call(() -> jiraHttpTransport.get(uri))
+			.thenApply(body -> Optional.of(mapper.apply(readTree(body))))
+			.exceptionallyCompose(throwable -> isNotFound(throwable) ? completedFuture(empty()) : failedFuture(toJiraIntegrationException(throwable)));
+	}
+
+	private static Optional<IssueStatusView> toLatestIssueStatusView(final byte[] body) {
+		final var issues = readTree(body).path("issues");
+		if (issues.isEmpty()) {
+			return empty();
+		}
+		return Optional.of(toIssueStatusView(issues.get(0), null));
+	}
+
+	private static IssueChangelogView toIssueChangelogView(final JsonNode issue, final String defaultKey) {
+		final var changes = new ArrayList<IssueChangelogView.Change>();
+		issue.path("changelog").path("histories").forEach(history -> {
+			final var fields = new ArrayList<String>();
+			history.path("items").forEach(item -> Optional.ofNullable(item.path("field").asText(null)).ifPresent(fields::add));
+			changes.add(new IssueChangelogView.Change(toOffsetDateTime(history.path("created").asText(null)), history.path("author").path("name").asText(null), fields));
+		});
+		return new IssueChangelogView(issue.path("key").asText(defaultKey), toOffsetDateTime(issue.path("fields").path(FIELD_UPDATED).asText(null)), changes);
+	}
+
+	private static IssueRevisionView toIssueRevisionView(final JsonNode issue, final String defaultKey) {
+		final var updated = toOffsetDateTime(issue.path("fields").path(FIELD_UPDATED).asText(null));
+		OffsetDateTime latest = null;
+		String author = null;
+		for (final var history : issue.path("changelog").path("histories")) {
+			final var created = toOffsetDateTime(history.path("created").asText(null));
+			if ((created != null) && ((latest == null) || !created.isBefore(latest))) {
+				latest = created;
+				author = history.path("author").path("name").asText(null);
+			}
+		}
+		for (final var comment : issue.path("fields").path(FIELD_COMMENT).path("comments")) {
+			final var commentUpdated = toOffsetDateTime(comment.path("updated").asText(comment.path("created").asText(null)));
+			if ((commentUpdated != null) && ((latest == null) || !commentUpdated.isBefore(latest))) {
+				latest = commentUpdated;
+				author = comment.path("updateAuthor").path("name").asText(comment.path("author").path("name").asText(null));
+			}
+		}
+
+		// The last update is only attributed when it is the latest change or comment (e.g. not a removed comment).
+		final var attributed = (updated != null) && (latest != null) && !updated.isAfter(latest);
+		return new IssueRevisionView(issue.path("key").asText(defaultKey), updated, attributed ? author : null);
+	}
+
+	private static IssueCommentPage toIssueCommentPage(final JsonNode page, final String issueKey) {
+		final var comments = new ArrayList<IssueCommentPage.Comment>();
+		page.path("comments").forEach(comment -> comments.add(new IssueCommentPage.Comment(
+			comment.path("id").asText(null),
+			toOffsetDateTime(comment.path("created").asText(null)),
+			comment.path("author").path("name").asText(null),
+			comment.path("author").path("displayName").asText(null),
+			comment.path("body").asText(null))));
+		return new IssueCommentPage(issueKey, page.path("startAt").asInt(), page.path("total").asInt(comments.size()), comments);
+	}
+
+	private static OffsetDateTime toOffsetDateTime(final String value) {
+		return Optional.ofNullable(value)
+			.map(dateTime -> OffsetDateTime.parse(dateTime, JIRA_DATE_TIME_FORMATTER))
+			.orElse(null);
+	}
+
+	private static IssueStatusView toIssueStatusView(final JsonNode issue, final String defaultKey) {
+		return new IssueStatusView(issue.path("key").asText(defaultKey), issue.path("fields").path(FIELD_STATUS).path("name").asText(null));
+	}
+
+	private static JsonNode readTree(final byte[] body) {
+		try {
+			return OBJECT_MAPPER.readTree(body);
+		} catch (final IOException e) {
+			throw new JiraIntegrationException(e);
+		}
+	}
+
+	private static boolean isNotFound(final Throwable throwable) {
+		return Objects.equals(statusCode(throwable), NOT_FOUND.value());
+	}
+
+	private static Integer statusCode(final Throwable throwable) {
+		var current = throwable;
+		while (current != null) {
+			if (current instanceof final ResponseException responseException) {
+				return responseException.getStatusCode();
+			}
+			if (current instanceof final JiraThrottledException throttledException) {
+				return throttledException.getStatusCode();
+			}
+			current = current.getCause();
+		}
+		return null;
+	}
+
+	private static Duration retryAfter(final Throwable throwable) {
+		var current = throwable;
+		while (current != null) {
+			if (current instanceof final JiraThrottledException throttledException) {
+				return throttledException.getRetryAfter();
+			}
+			current = current.getCause();
+		}
+		return null;
+	}
+
+	private static boolean isTimeout(final Throwable throwable) {
+		var current = throwable;
+		while (current != null) {
+			if ((current instanceof TimeoutException) || (current instanceof HttpTimeoutException) || (current instanceof ConnectException)) {
+				return true;
+			}
+			current = current.getCause();
+		}
+		return false;
 	}
 }
@@ -0,0 +1,33 @@
+package se.sundsvall.incidentmapper.integration.jira;
+
+import java.time.Duration;
+
+/**
+ * Jira signalled overload with a 429/503 response, optionally with a Retry-After header.
+ */
+public class JiraThrottledException extends RuntimeException {
+
+	private static final long serialVersionUID = 4118417062409519523L;
+
+	private final int statusCode;
+	private final transient Duration retryAfter;
+
+	public JiraThrottledException(final int statusCode, final String body, final Duration retryAfter) {
+		super("Jira responded with status %d: %s".formatted(statusCode, body));
+		this.statusCode = statusCode;
+		this.retryAfter = retryAfter;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Returns the value of the Retry-After header.
+	 *
+	 * @return the pause requested by Jira, or null if the header was missing (or not expressed in seconds).
+	 */
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
@@ -0,0 +1,103 @@
+package se.sundsvall.incidentmapper.integration.jira;
+
+import com.chavaillaz.client.jira.domain.Transition;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+
+/**
+ * Cache of Jira workflow transitions.
+ * <p>
+ * The transitions available for an issue only depend on the workflow, i.e. the project, the issue type and the current
+ * status of the issue. Transitions fetched for one issue can therefore be reused for every other issue with the same
+ * project, issue type and status until the time to live has passed, or the entry is invalidated.
+ */
+@Component
+@Profile(SYNCHRONIZATION)
+public class JiraTransitionCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JiraTransitionCache.class);
+
+	private static final String PREWARM_JQL_TEMPLATE = "project = \"%s\" AND issuetype = \"%s\" AND statusCategory = new AND status != \"%s\"";
+
+	private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+	private final JiraIncidentClient jiraIncidentClient;
+
+	public JiraTransitionCache(final JiraIncidentClient jiraIncidentClient) {
+		this.jiraIncidentClient = jiraIncidentClient;
+	}
+
+	/**
+	 * Get the available transitions for an issue, from the cache if present.
+	 *
+	 * @param  issueKey  the issue key (used to fetch the transitions from Jira on a cache miss).
+	 * @param  issueType the issue type of the issue.
+	 * @param  status    the name of the current status of the issue (if null, the cache is bypassed).
+	 * @return           a map of transitions where the keys are the transition name.
+	 */
+	public Map<String, Transition> getTransitions(final String issueKey, final String issueType, final String status) {
+		if (status == null) {
+			return jiraIncidentClient.getTransitions(issueKey);
+		}
+
+		final var key = new Key(projectKey(), issueType, status);
+		final var entry = cache.get(key);
+		if ((entry != null) && Instant.now().isBefore(entry.expires())) {
+			return entry.transitions();
+		}
+
+		final var transitions = Map.copyOf(jiraIncidentClient.getTransitions(issueKey));
+		cache.put(key, new Entry(transitions, Instant.now().plus(jiraIncidentClient.getProperties().transitionCache().timeToLive())));
+		return transitions;
+	}
+
+	/**
+	 * Remove the cached transitions for an issue type and status, e.g. after a failed transition.
+	 *
+	 * @param issueType the issue type.
+	 * @param status    the name of the status.
+	 */
+	public void invalidate(final String issueType, final String status) {
+		cache.remove(new Key(projectKey(), issueType, status));
+	}
+
+	/**
+	 * Populate the cache with the transitions available from the initial status of newly created issues, by looking up
+	 * the latest created issue that has not yet been moved to the target status. Failures are logged and ignored, the
+	 * cache is then populated by the first issue creation instead.
+	 *
+	 * @param issueType    the issue type of the issues that will be created.
+	 * @param targetStatus the name of the status that new issues are transitioned to.
+	 */
+	public void prewarm(final String issueType, final String targetStatus) {
+		if (!jiraIncidentClient.getProperties().transitionCache().prewarm()) {
+			return;
+		}
+
+		try {
+			jiraIncidentClient.findLatestIssue(PREWARM_JQL_TEMPLATE.formatted(projectKey(), issueType, targetStatus))
+				.ifPresent(issue -> {
+					getTransitions(issue.key(), issueType, issue.status());
+					LOGGER.info("Cached transitions for issue type '{}' with status '{}'", issueType, issue.status());
+				});
+		} catch (final RuntimeException e) {
+			LOGGER.warn("Unable to pre-warm the cache of Jira transitions: {}", e.getMessage());
+		}
+	}
+
+	private String projectKey() {
+		return jiraIncidentClient.getProperties().projectKey();
+	}
+
+	private record Key(String projectKey, String issueType, String status) {
+	}
+
+	private record Entry(Map<String, Transition> transitions, Instant expires) {
+	}
+}
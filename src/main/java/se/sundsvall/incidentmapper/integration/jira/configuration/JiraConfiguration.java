@@ -2,21 +2,68 @@ package se.sundsvall.incidentmapper.integration.jira.configuration;
 
 import com.chavaillaz.client.jira.JiraClient;
 import com.chavaillaz.client.jira.domain.Issue;
+import com.chavaillaz.client.jira.java.JavaHttpJiraClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import se.sundsvall.incidentmapper.integration.jira.JiraHttpTransport;
+import se.sundsvall.incidentmapper.integration.limiter.AdaptiveConcurrencyLimiter;
+
+import static java.net.http.HttpClient.Redirect.NORMAL;
+import static java.net.http.HttpClient.Version.HTTP_1_1;
+import static java.net.http.HttpClient.Version.HTTP_2;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
 
 @Configuration
+@Profile(SYNCHRONIZATION)
 public class JiraConfiguration {
 
+	private static final String JIRA_BACKEND = "jira";
+	private static final String TRANSPORT_THREAD_PREFIX = "jira-transport-";
+
 	private final JiraProperties jiraProperties;
 
 	public JiraConfiguration(final JiraProperties jiraProperties) {
 		this.jiraProperties = jiraProperties;
 	}
 
+	/**
+	 * The Jira client used for creates, comments, attachments and transitions. It sends its requests with the HTTP client
+	 * of the transport, instead of the HTTP client with library defaults that it would create on its own.
+	 */
+	@Bean
+	JiraClient<Issue> jiraRestClient(final JiraHttpTransport jiraHttpTransport) {
+		return new JavaHttpJiraClient<>(jiraProperties.url(), Issue.class) {
+			@Override
+			public HttpClient newHttpClient() {
+				return jiraHttpTransport.getHttpClient();
+			}
+		}.withUserAuthentication(jiraProperties.username(), jiraProperties.password());
+	}
+
 	@Bean
-	JiraClient<Issue> jiraRestClient() {
-		return JiraClient.javaClient(jiraProperties.url())
-			.withUserAuthentication(jiraProperties.username(), jiraProperties.password());
+	AdaptiveConcurrencyLimiter jiraConcurrencyLimiter(final MeterRegistry meterRegistry) {
+		return new AdaptiveConcurrencyLimiter(JIRA_BACKEND, jiraProperties.limiter(), meterRegistry);
+	}
+
+	@Bean
+	JiraHttpTransport jiraHttpTransport(final MeterRegistry meterRegistry) {
+		final var transport = jiraProperties.transport();
+		final var executor = ExecutorServiceMetrics.monitor(meterRegistry,
+			Executors.newFixedThreadPool(transport.executorThreads(), new CustomizableThreadFactory(TRANSPORT_THREAD_PREFIX)), "jira-transport");
+
+		final var httpClient = HttpClient.newBuilder()
+			.version(transport.http2() ? HTTP_2 : HTTP_1_1)
+			.connectTimeout(transport.connectTimeout())
+			.followRedirects(NORMAL)
+			.executor(executor)
+			.build();
+
+		return new JiraHttpTransport(httpClient, executor, jiraProperties, meterRegistry);
 	}
 }
@@ -1,8 +1,40 @@
 package se.sundsvall.incidentmapper.integration.jira.configuration;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import se.sundsvall.incidentmapper.integration.limiter.ConcurrencyLimitProperties;
 
 @ConfigurationProperties("integration.jira")
-public record JiraProperties(String username, String password, String url, String projectKey) {
+public record JiraProperties(String username, String password, String url, String projectKey, @DefaultValue Transport transport, @DefaultValue ConcurrencyLimitProperties limiter, @DefaultValue TransitionCache transitionCache) {
 
+	/**
+	 * Settings for the HTTP transport used towards Jira.
+	 *
+	 * @param connectTimeout  timeout for establishing a connection.
+	 * @param readTimeout     timeout for receiving a response.
+	 * @param maxConnections  maximum number of concurrent requests sent by the transport towards Jira.
+	 * @param executorThreads number of threads in the executor dedicated to the Jira transport.
+	 * @param http2           whether HTTP/2 (with multiplexing) should be negotiated.
+	 * @param compression     whether compressed (gzip) responses should be requested.
+	 */
+	public record Transport(
+		@DefaultValue("PT5S") Duration connectTimeout,
+		@DefaultValue("PT30S") Duration readTimeout,
+		@DefaultValue("20") int maxConnections,
+		@DefaultValue("4") int executorThreads,
+		@DefaultValue("true") boolean http2,
+		@DefaultValue("true") boolean compression) {
+	}
+
+	/**
+	 * Settings for the cache of workflow transitions.
+	 *
+	 * @param timeToLive how long cached transitions are used before they are fetched from Jira again.
+	 * @param prewarm    whether the cache should be populated at startup.
+	 */
+	public record TransitionCache(
+		@DefaultValue("PT1H") Duration timeToLive,
+		@DefaultValue("true") boolean prewarm) {
+	}
 }
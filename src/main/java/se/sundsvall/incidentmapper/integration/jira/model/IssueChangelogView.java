@@ -0,0 +1,43 @@
+package se.sundsvall.incidentmapper.integration.jira.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lightweight view of the changelog of a Jira issue.
+ *
+ * @param key     the issue key.
+ * @param updated when the issue was last updated (null if unknown).
+ * @param changes the changes made to the issue, oldest first.
+ */
+public record IssueChangelogView(String key, OffsetDateTime updated, List<Change> changes) {
+
+	/**
+	 * One entry in the changelog.
+	 *
+	 * @param created when the change was made.
+	 * @param author  the (user) name of the author of the change.
+	 * @param fields  the names of the fields that were changed (e.g. "description", "Attachment", "labels").
+	 */
+	public record Change(OffsetDateTime created, String author, List<String> fields) {
+	}
+
+	/**
+	 * Get the fields that have been changed after a point in time by someone else than the provided author.
+	 *
+	 * @param  since          the point in time (exclusive).
+	 * @param  excludedAuthor the (user) name of an author whose changes should be disregarded, e.g. the integration user.
+	 * @return                the names of the changed fields, in lower case.
+	 */
+	public Set<String> changedFieldsSince(final OffsetDateTime since, final String excludedAuthor) {
+		return changes.stream()
+			.filter(change -> (change.created() != null) && change.created().isAfter(since))
+			.filter(change -> (excludedAuthor == null) || !excludedAuthor.equals(change.author()))
+			.flatMap(change -> change.fields().stream())
+			.map(field -> field.toLowerCase(Locale.ROOT))
+			.collect(Collectors.toSet());
+	}
+}
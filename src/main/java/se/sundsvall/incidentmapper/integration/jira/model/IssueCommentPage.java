@@ -0,0 +1,45 @@
+package se.sundsvall.incidentmapper.integration.jira.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * One page of the comments on a Jira issue, ordered by creation time (oldest first).
+ *
+ * @param key      the issue key.
+ * @param startAt  the position (zero based) of the first comment in the page.
+ * @param total    the total number of comments on the issue.
+ * @param comments the comments in the page.
+ */
+public record IssueCommentPage(String key, int startAt, int total, List<Comment> comments) {
+
+	/**
+	 * A comment on a Jira issue.
+	 *
+	 * @param id                the comment ID.
+	 * @param created           when the comment was created.
+	 * @param author            the (user) name of the author.
+	 * @param authorDisplayName the display name of the author.
+	 * @param body              the comment text.
+	 */
+	public record Comment(String id, OffsetDateTime created, String author, String authorDisplayName, String body) {
+	}
+
+	/**
+	 * Get the position of the first comment after this page.
+	 *
+	 * @return the position to fetch the next page from.
+	 */
+	public int nextStartAt() {
+		return startAt + comments.size();
+	}
+
+	/**
+	 * Check if there are no more comments after this page.
+	 *
+	 * @return true if this is the last page.
+	 */
+	public boolean isLast() {
+		return comments.isEmpty() || (nextStartAt() >= total);
+	}
+}
@@ -0,0 +1,14 @@
+package se.sundsvall.incidentmapper.integration.jira.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lightweight view of a Jira issue, containing the key, the timestamp of the last update and the author of that update.
+ *
+ * @param key     the issue key.
+ * @param updated when the issue was last updated (null if unknown).
+ * @param author  the (user) name of the author of the last update, i.e. of the latest change or comment (null if the
+ *                last update can't be attributed, e.g. when it isn't recorded in the changelog or in a comment).
+ */
+public record IssueRevisionView(String key, OffsetDateTime updated, String author) {
+}
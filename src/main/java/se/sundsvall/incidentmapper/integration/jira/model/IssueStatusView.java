@@ -0,0 +1,10 @@
+package se.sundsvall.incidentmapper.integration.jira.model;
+
+/**
+ * Lightweight view of a Jira issue, containing only the key and the name of the current status.
+ *
+ * @param key    the issue key.
+ * @param status the name of the current status.
+ */
+public record IssueStatusView(String key, String status) {
+}
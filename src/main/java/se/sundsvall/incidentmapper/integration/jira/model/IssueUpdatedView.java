@@ -0,0 +1,12 @@
+package se.sundsvall.incidentmapper.integration.jira.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lightweight view of a Jira issue, containing only the key and the timestamp of the last update.
+ *
+ * @param key     the issue key.
+ * @param updated when the issue was last updated (null if unknown).
+ */
+public record IssueUpdatedView(String key, OffsetDateTime updated) {
+}
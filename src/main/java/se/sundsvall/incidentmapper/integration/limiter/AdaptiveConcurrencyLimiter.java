@@ -0,0 +1,209 @@
+package se.sundsvall.incidentmapper.integration.limiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adaptive concurrency limiter using AIMD (additive increase, multiplicative decrease).
+ * <p>
+ * Every request towards a backend must hold a permit. The number of permits (the limit) grows by roughly one for each
+ * limit-worth of fast, successful responses and is cut by the backoff ratio when the backend signals overload, i.e. on
+ * 429/503 responses, timeouts or responses slower than the latency threshold. A 429/503 response also pauses all new
+ * requests for the duration of the Retry-After header (or the configured default).
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+	private static final String METRIC_PREFIX = "concurrency.limiter";
+	private static final String TAG_BACKEND = "backend";
+
+	private final String name;
+	private final ConcurrencyLimitProperties settings;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+
+	private double limit;
+	private int inFlight;
+	private long pausedUntilNanos;
+
+	public AdaptiveConcurrencyLimiter(final String name, final ConcurrencyLimitProperties settings, final MeterRegistry meterRegistry) {
+		this.name = name;
+		this.settings = settings;
+		this.limit = settings.initialLimit();
+
+		Gauge.builder(METRIC_PREFIX + ".limit", this, AdaptiveConcurrencyLimiter::getLimit)
+			.description("Current number of concurrent requests allowed towards the backend")
+			.tag(TAG_BACKEND, name)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+			.description("Current number of requests in flight towards the backend")
+			.tag(TAG_BACKEND, name)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Waits until a request may be sent to the backend.
+	 *
+	 * @return                      a permit that must be completed (exactly once) when the request has finished.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public Permit acquire() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (true) {
+				final var pauseNanos = pausedUntilNanos - System.nanoTime();
+				if (pauseNanos > 0) {
+					changed.awaitNanos(pauseNanos);
+				} else if (inFlight >= (int) limit) {
+					changed.await();
+				} else {
+					inFlight++;
+					return new Permit(System.nanoTime());
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	private void release(final Outcome outcome, final Duration latency, final Duration retryAfter) {
+		lock.lock();
+		try {
+			inFlight--;
+			switch (outcome) {
+				case SUCCESS -> {
+					if (latency.compareTo(settings.latencyThreshold()) > 0) {
+						decrease();
+					} else if (inFlight >= ((int) limit / 2)) {
+						// Only grow when the current limit is actually used, to avoid growing unbounded while idle.
+						limit = Math.min(settings.maxLimit(), limit + (1.0 / limit));
+					}
+				}
+				case DROPPED -> decrease();
+				case THROTTLED -> {
+					decrease();
+					final var pause = Optional.ofNullable(retryAfter).orElse(settings.defaultRetryAfter());
+					final var boundedPause = (pause.compareTo(settings.maxRetryAfter()) > 0) ? settings.maxRetryAfter() : pause;
+					pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + boundedPause.toNanos());
+					LOGGER.info("Backend '{}' is throttling requests. Pausing for {} ms and lowering concurrency limit to {}", name, boundedPause.toMillis(), (int) limit);
+				}
+				case IGNORED -> {
+					// Failure not related to backend load, limit is left as is.
+				}
+			}
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void decrease() {
+		limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+	}
+
+	private enum Outcome {
+		SUCCESS,
+		DROPPED,
+		THROTTLED,
+		IGNORED
+	}
+
+	/**
+	 * A permit to send one request. Exactly one of the completion methods must be called when the request has finished.
+	 */
+	public final class Permit {
+
+		private final long startNanos;
+		private boolean completed;
+
+		private Permit(final long startNanos) {
+			this.startNanos = startNanos;
+		}
+
+		/**
+		 * The backend responded successfully (the latency is used as a load signal).
+		 */
+		public void onSuccess() {
+			complete(Outcome.SUCCESS, null);
+		}
+
+		/**
+		 * The backend signalled overload with a 429/503 response.
+		 *
+		 * @param retryAfter the value of the Retry-After header, or null if missing.
+		 */
+		public void onThrottled(final Duration retryAfter) {
+			complete(Outcome.THROTTLED, retryAfter);
+		}
+
+		/**
+		 * The request timed out or the connection was refused/reset.
+		 */
+		public void onDropped() {
+			complete(Outcome.DROPPED, null);
+		}
+
+		/**
+		 * The request failed for a reason not related to backend load (e.g. 404).
+		 */
+		public void onIgnore() {
+			complete(Outcome.IGNORED, null);
+		}
+
+		private synchronized void complete(final Outcome outcome, final Duration retryAfter) {
+			if (completed) {
+				return;
+			}
+			completed = true;
+			release(outcome, Duration.ofNanos(System.nanoTime() - startNanos), retryAfter);
+		}
+	}
+
+	/**
+	 * Parses a Retry-After header value expressed in seconds.
+	 *
+	 * @param  value the header value.
+	 * @return       the parsed duration, or null if missing or not expressed in seconds.
+	 */
+	public static Duration parseRetryAfter(final String value) {
+		try {
+			return Optional.ofNullable(value)
+				.map(String::trim)
+				.map(Long::parseLong)
+				.map(seconds -> Duration.ofSeconds(Math.max(0, seconds)))
+				.orElse(null);
+		} catch (final NumberFormatException e) {
+			// HTTP-date format is not used by Jira or POB, fall back to the default pause.
+			return null;
+		}
+	}
+}
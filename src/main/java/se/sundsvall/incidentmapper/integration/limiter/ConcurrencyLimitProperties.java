@@ -0,0 +1,25 @@
+package se.sundsvall.incidentmapper.integration.limiter;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for an adaptive (AIMD) concurrency limiter towards a backend.
+ *
+ * @param initialLimit      the number of concurrent requests allowed at startup.
+ * @param minLimit          the lowest number of concurrent requests the limit can be decreased to.
+ * @param maxLimit          the highest number of concurrent requests the limit can be increased to.
+ * @param backoffRatio      the factor the limit is multiplied with when the backend signals overload.
+ * @param latencyThreshold  responses slower than this are treated as an overload signal.
+ * @param defaultRetryAfter the pause applied after a 429/503 response without a (parsable) Retry-After header.
+ * @param maxRetryAfter     the longest pause that is honored from a Retry-After header.
+ */
+public record ConcurrencyLimitProperties(
+	@DefaultValue("4") int initialLimit,
+	@DefaultValue("1") int minLimit,
+	@DefaultValue("20") int maxLimit,
+	@DefaultValue("0.5") double backoffRatio,
+	@DefaultValue("PT5S") Duration latencyThreshold,
+	@DefaultValue("PT2S") Duration defaultRetryAfter,
+	@DefaultValue("PT1M") Duration maxRetryAfter) {
+}
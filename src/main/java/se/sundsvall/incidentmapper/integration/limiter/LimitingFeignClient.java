@@ -0,0 +1,71 @@
+package se.sundsvall.incidentmapper.integration.limiter;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Feign client that sends every request through an adaptive concurrency limiter.
+ */
+public class LimitingFeignClient implements Client {
+
+	private final Client delegate;
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	public LimitingFeignClient(final Client delegate, final AdaptiveConcurrencyLimiter limiter) {
+		this.delegate = delegate;
+		this.limiter = limiter;
+	}
+
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		final AdaptiveConcurrencyLimiter.Permit permit;
+		try {
+			permit = limiter.acquire();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a permit towards '%s'".formatted(limiter.getName()));
+		}
+
+		try {
+			final var response = delegate.execute(request, options);
+			if ((response.status() == TOO_MANY_REQUESTS.value()) || (response.status() == SERVICE_UNAVAILABLE.value())) {
+				permit.onThrottled(retryAfter(response));
+			} else if (response.status() >= 500) {
+				permit.onIgnore();
+			} else {
+				permit.onSuccess();
+			}
+			return response;
+		} catch (final IOException e) {
+			permit.onDropped();
+			throw e;
+		} catch (final RuntimeException e) {
+			permit.onIgnore();
+			throw e;
+		}
+	}
+
+	private static Duration retryAfter(final Response response) {
+		return Optional.ofNullable(response.headers())
+			.map(headers -> headers.entrySet().stream()
+				.filter(entry -> RETRY_AFTER.equalsIgnoreCase(entry.getKey()))
+				.map(Map.Entry::getValue)
+				.flatMap(Collection::stream)
+				.findFirst()
+				.orElse(null))
+			.map(AdaptiveConcurrencyLimiter::parseRetryAfter)
+			.orElse(null);
+	}
+}
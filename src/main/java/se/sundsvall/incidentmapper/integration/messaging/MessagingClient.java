@@ -4,15 +4,18 @@ import generated.se.sundsvall.messaging.MessageResult;
 import generated.se.sundsvall.messaging.SlackRequest;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import se.sundsvall.incidentmapper.integration.messaging.configuration.MessagingConfiguration;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
 import static se.sundsvall.incidentmapper.integration.messaging.configuration.MessagingConfiguration.CLIENT_ID;
 
 @FeignClient(name = CLIENT_ID, url = "${integration.messaging.url}", configuration = MessagingConfiguration.class)
+@Profile(SYNCHRONIZATION)
 @CircuitBreaker(name = CLIENT_ID)
 public interface MessagingClient {
 
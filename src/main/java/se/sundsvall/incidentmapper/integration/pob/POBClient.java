@@ -5,6 +5,7 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,9 +16,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import se.sundsvall.incidentmapper.integration.pob.configuration.POBConfiguration;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
 import static se.sundsvall.incidentmapper.integration.pob.configuration.POBConfiguration.CLIENT_ID;
 
 @FeignClient(name = CLIENT_ID, url = "${integration.pob.url}", configuration = POBConfiguration.class, dismiss404 = true)
+@Profile(SYNCHRONIZATION)
 @CircuitBreaker(name = CLIENT_ID)
 public interface POBClient {
 
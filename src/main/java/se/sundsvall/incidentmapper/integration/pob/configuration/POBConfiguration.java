@@ -1,11 +1,24 @@
 package se.sundsvall.incidentmapper.integration.pob.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
 import feign.RequestInterceptor;
 import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
+import feign.hc5.ApacheHttp5Client;
 import feign.jackson.JacksonEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -13,9 +26,12 @@ import se.sundsvall.dept44.configuration.feign.FeignConfiguration;
 import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
 import se.sundsvall.dept44.configuration.feign.decoder.JsonPathErrorDecoder;
 import se.sundsvall.dept44.configuration.feign.decoder.JsonPathErrorDecoder.JsonPathSetup;
+import se.sundsvall.incidentmapper.integration.limiter.AdaptiveConcurrencyLimiter;
+import se.sundsvall.incidentmapper.integration.limiter.LimitingFeignClient;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.ALWAYS;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Import(FeignConfiguration.class)
@@ -23,14 +39,58 @@ public class POBConfiguration {
 
 	public static final String CLIENT_ID = "pob";
 
+	private static final String GZIP = "gzip";
+
 	@Bean
 	FeignBuilderCustomizer feignBuilderCustomizer(final POBProperties pobProperties) {
-		return FeignMultiCustomizer.create()
+		final var customizer = FeignMultiCustomizer.create()
 			.withRequestInterceptor(requestInterceptor(pobProperties))
 			.withEncoder(encoder())
 			.withErrorDecoder(errorDecoder())
-			.withRequestTimeoutsInSeconds(pobProperties.connectTimeout(), pobProperties.readTimeout())
-			.composeCustomizersToOne();
+			.withRequestTimeoutsInSeconds(pobProperties.connectTimeout(), pobProperties.readTimeout());
+
+		if (pobProperties.compression().requestEnabled()) {
+			customizer.withRequestInterceptor(gzipRequestInterceptor(pobProperties.compression().requestMinSize()));
+		}
+
+		return customizer.composeCustomizersToOne();
+	}
+
+	/**
+	 * Pooled Apache HttpClient5 for the POB client. Connections are reused (keep-alive), idle and expired connections are
+	 * evicted, and gzip compressed responses are requested and transparently decompressed. The number of concurrent
+	 * requests is adapted to the load signals (latency, 429/503 and Retry-After) from POB.
+	 */
+	@Bean
+	Client pobFeignClient(final POBProperties pobProperties, final MeterRegistry meterRegistry) {
+		final var pool = pobProperties.pool();
+
+		final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(pool.maxConnections())
+			.setMaxConnPerRoute(pool.maxConnectionsPerRoute())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofSeconds(pobProperties.connectTimeout()))
+				.setSocketTimeout(Timeout.ofSeconds(pobProperties.readTimeout()))
+				.setTimeToLive(TimeValue.ofMilliseconds(pool.timeToLive().toMillis()))
+				.build())
+			.build();
+
+		final var keepAlive = TimeValue.ofMilliseconds(pool.keepAlive().toMillis());
+		final var httpClientBuilder = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setKeepAliveStrategy((response, context) -> {
+				// Honor the keep-alive requested by the server, but never keep connections longer than configured.
+				final var serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+				return (serverKeepAlive.toMilliseconds() < keepAlive.toMilliseconds()) ? serverKeepAlive : keepAlive;
+			})
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofMilliseconds(pool.idleEviction().toMillis()));
+
+		if (!pobProperties.compression().responseEnabled()) {
+			httpClientBuilder.disableContentCompression();
+		}
+
+		return new LimitingFeignClient(new ApacheHttp5Client(httpClientBuilder.build()), new AdaptiveConcurrencyLimiter(CLIENT_ID, pobProperties.limiter(), meterRegistry));
 	}
 
 	private Encoder encoder() {
@@ -48,4 +108,28 @@ public class POBConfiguration {
 	private RequestInterceptor requestInterceptor(final POBProperties pobProperties) {
 		return requestTemplate -> requestTemplate.header(AUTHORIZATION, pobProperties.apiKey());
 	}
+
+	/**
+	 * Compresses request bodies (memos, mails and attachments are verbose JSON) that are at least minSize bytes.
+	 */
+	static RequestInterceptor gzipRequestInterceptor(final int minSize) {
+		return requestTemplate -> {
+			final var body = requestTemplate.body();
+			if ((body == null) || (body.length < minSize) || requestTemplate.headers().containsKey(CONTENT_ENCODING)) {
+				return;
+			}
+			requestTemplate.header(CONTENT_ENCODING, GZIP);
+			requestTemplate.body(gzip(body), null);
+		};
+	}
+
+	private static byte[] gzip(final byte[] data) {
+		final var outputStream = new ByteArrayOutputStream(data.length / 4);
+		try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(data);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return outputStream.toByteArray();
+	}
 }
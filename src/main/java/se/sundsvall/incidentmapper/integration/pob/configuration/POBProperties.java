@@ -1,6 +1,41 @@
 package se.sundsvall.incidentmapper.integration.pob.configuration;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import se.sundsvall.incidentmapper.integration.limiter.ConcurrencyLimitProperties;
 
 @ConfigurationProperties("integration.pob")
-public record POBProperties(int connectTimeout, int readTimeout, String apiKey) {}
+public record POBProperties(int connectTimeout, int readTimeout, String apiKey, @DefaultValue Pool pool, @DefaultValue Compression compression, @DefaultValue ConcurrencyLimitProperties limiter) {
+
+	/**
+	 * Connection pool settings for the POB HTTP client.
+	 *
+	 * @param maxConnections         maximum number of pooled connections in total.
+	 * @param maxConnectionsPerRoute maximum number of pooled connections per route (host).
+	 * @param keepAlive              maximum time an idle connection is kept alive (if not limited further by the server).
+	 * @param idleEviction           idle time after which connections are evicted from the pool.
+	 * @param timeToLive             maximum lifetime of a pooled connection.
+	 */
+	public record Pool(
+		@DefaultValue("50") int maxConnections,
+		@DefaultValue("20") int maxConnectionsPerRoute,
+		@DefaultValue("PT30S") Duration keepAlive,
+		@DefaultValue("PT1M") Duration idleEviction,
+		@DefaultValue("PT10M") Duration timeToLive) {
+	}
+
+	/**
+	 * Compression settings for the POB HTTP client.
+	 *
+	 * @param requestEnabled  whether request bodies should be gzip compressed (opt-in, since not every server accepts
+	 *                        compressed request bodies).
+	 * @param requestMinSize  minimum request body size (in bytes) for compression to be applied.
+	 * @param responseEnabled whether gzip compressed responses should be requested (and transparently decompressed).
+	 */
+	public record Compression(
+		@DefaultValue("false") boolean requestEnabled,
+		@DefaultValue("1024") int requestMinSize,
+		@DefaultValue("true") boolean responseEnabled) {
+	}
+}
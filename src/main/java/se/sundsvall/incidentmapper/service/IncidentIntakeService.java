@@ -0,0 +1,57 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.incidentmapper.api.model.IncidentRequest;
+import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
+
+import static se.sundsvall.incidentmapper.DeploymentMode.INTAKE;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.SYNCHRONIZED;
+
+/**
+ * Receives incidents from POB.
+ * <p>
+ * The intake only records the event in the database, where it's picked up by the synchronization (see
+ * {@link IncidentService}). It has no dependencies to Jira or POB, so that it can run on its own (see
+ * {@link se.sundsvall.incidentmapper.DeploymentMode}).
+ */
+@Service
+@Transactional
+@Profile(INTAKE)
+public class IncidentIntakeService {
+
+	private static final List<Status> OPEN_FOR_MODIFICATION_STATUS_LIST = List.of(SYNCHRONIZED); // Status is only modifiable if current value is one of these.
+
+	private final IncidentRepository incidentRepository;
+
+	public IncidentIntakeService(final IncidentRepository incidentRepository) {
+		this.incidentRepository = incidentRepository;
+	}
+
+	/**
+	 * Takes an IncidentRequest and map it to an IncidentEntity in the database, with status POB_INITIATED_EVENT.
+	 *
+	 * @param municipalityId  the municipalityId.
+	 * @param incidentRequest the request (from POB).
+	 */
+	public synchronized void handleIncidentRequest(final String municipalityId, final IncidentRequest incidentRequest) {
+		final var issueKey = incidentRequest.getIncidentKey();
+		final var incidentEntity = incidentRepository.findByMunicipalityIdAndPobIssueKey(municipalityId, issueKey)
+			.orElse(IncidentEntity.create()
+				.withMunicipalityId(municipalityId)
+				.withPobIssueKey(issueKey)
+				.withStatus(POB_INITIATED_EVENT));
+
+		// Only set the status to POB_INITIATED_EVENT if status is currently SYNCHRONIZED.
+		if (OPEN_FOR_MODIFICATION_STATUS_LIST.contains(incidentEntity.getStatus())) {
+			incidentEntity.withStatus(POB_INITIATED_EVENT);
+		}
+
+		incidentRepository.saveAndFlush(incidentEntity);
+	}
+}
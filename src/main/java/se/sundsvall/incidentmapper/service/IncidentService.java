@@ -1,42 +1,96 @@
 package se.sundsvall.incidentmapper.service;
 
 import com.chavaillaz.client.jira.domain.Attachment;
+import com.chavaillaz.client.jira.domain.Comment;
 import com.chavaillaz.client.jira.domain.Issue;
+import com.chavaillaz.client.jira.domain.Transition;
 import generated.se.sundsvall.pob.PobPayload;
 import java.io.File;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import se.sundsvall.incidentmapper.api.model.IncidentRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
+import se.sundsvall.incidentmapper.integration.db.SyncCheckpointRepository;
+import se.sundsvall.incidentmapper.integration.db.model.EventSummary;
 import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentSummary;
+import se.sundsvall.incidentmapper.integration.db.model.MunicipalityBacklog;
+import se.sundsvall.incidentmapper.integration.db.model.PollSummary;
+import se.sundsvall.incidentmapper.integration.db.model.SyncCheckpointEntity;
 import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
 import se.sundsvall.incidentmapper.integration.jira.JiraIncidentClient;
+import se.sundsvall.incidentmapper.integration.jira.JiraIntegrationException;
+import se.sundsvall.incidentmapper.integration.jira.JiraTransitionCache;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueChangelogView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueRevisionView;
 import se.sundsvall.incidentmapper.integration.pob.POBClient;
 import se.sundsvall.incidentmapper.integration.pob.model.Mail;
 import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
 import se.sundsvall.incidentmapper.service.mapper.PobMapper;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.OffsetDateTime.MIN;
 import static java.time.OffsetDateTime.now;
 import static java.time.ZoneId.systemDefault;
-import static java.util.Arrays.asList;
+import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.nonNull;
+import static java.util.function.UnaryOperator.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.io.FileUtils.copyInputStreamToFile;
 import static org.apache.commons.lang3.StringUtils.isBlank;
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
 import static org.springframework.util.FileSystemUtils.deleteRecursively;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.SYNCHRONIZED;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_CLEANUP;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_COMMENTS;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_FINGERPRINT;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_INITIAL_STATUS;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_JIRA_ISSUE;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_MAIL_ATTACHMENT_PREFIX;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_MAIL_PREFIX;
+import static se.sundsvall.incidentmapper.service.SyncJournal.STEP_STALE_CONTENT;
+import static se.sundsvall.incidentmapper.service.SyncJournal.attachmentStep;
+import static se.sundsvall.incidentmapper.service.SyncJournal.mailAttachmentStep;
+import static se.sundsvall.incidentmapper.service.SyncJournal.mailIdOf;
 import static se.sundsvall.incidentmapper.service.mapper.PobMapper.toAttachmentPayload;
 import static se.sundsvall.incidentmapper.service.mapper.PobMapper.toCaseInternalNotesCustomMemo;
 import static se.sundsvall.incidentmapper.service.mapper.PobMapper.toCaseInternalNotesCustomMemoPayload;
@@ -47,74 +101,82 @@ import static se.sundsvall.incidentmapper.service.mapper.PobMapper.toProblemPayl
 import static se.sundsvall.incidentmapper.service.mapper.PobMapper.toResponsibleGroupPayload;
 
 @Service
-@Transactional
+@Profile(SYNCHRONIZATION)
 public class IncidentService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(IncidentService.class);
 
-	private static final List<Status> OPEN_FOR_MODIFICATION_STATUS_LIST = asList(SYNCHRONIZED); // Status is only modifiable if current value is one of these.
 	private static final List<String> JIRA_CLOSED_STATUSES = List.of("Closed", "Done", "Review done", "Resolved", "Won't do");
 	private static final List<String> JIRA_ISSUE_LABELS = List.of("support-ticket");
 	static final String JIRA_ISSUE_CREATED = "A new Jira issue has been created\n%s\n%s/browse/%s";
 
 	private static final String JIRA_ISSUE_TYPE = "Bug";
+	private static final String JIRA_FIELD_DESCRIPTION = "description";
+	private static final String JIRA_FIELD_ATTACHMENT = "attachment";
 	private static final String JIRA_TODO_STATUS = "To Do";
 	private static final String JIRA_ISSUE_TITLE_TEMPLATE = "Supportärende %s (%s)";
-	private static final String APPLICATION_TEMP_FOLDER_PATH_TEMPLATE = "%s/%s/%s";
+	private static final String APPLICATION_TEMP_FOLDER_PATH_TEMPLATE = "%s/%s";
+
+	public static final String PHASE_POLL_JIRA_ISSUES = "poll-jira-issues";
+	public static final String PHASE_UPDATE_POB_ISSUES = "update-pob-issues";
+	public static final String PHASE_UPDATE_JIRA_ISSUES = "update-jira-issues";
+	public static final String PHASE_CLOSE_ISSUES = "close-issues";
+	private static final String CHECKPOINT_KEY_TEMPLATE = "%s:%s";
+	static final int PAGE_SIZE = 500;
+	static final int POLL_BATCH_SIZE = 50;
 
 	private final IncidentRepository incidentRepository;
+	private final SyncCheckpointRepository syncCheckpointRepository;
 	private final JiraIncidentClient jiraIncidentClient;
+	private final JiraTransitionCache jiraTransitionCache;
 	private final POBClient pobClient;
 	private final SynchronizationProperties synchronizationProperties;
 	private final SlackService slackService;
+	private final SyncJournal syncJournal;
+	private final TenantScheduler tenantScheduler;
+	private final TransactionTemplate incidentTransactionTemplate;
 
 	public IncidentService(
 		IncidentRepository incidentRepository,
+		SyncCheckpointRepository syncCheckpointRepository,
 		JiraIncidentClient jiraClient,
+		JiraTransitionCache jiraTransitionCache,
 		POBClient pobClient,
 		SynchronizationProperties synchronizationProperties,
-		SlackService slackService) {
+		SlackService slackService,
+		SyncJournal syncJournal,
+		TenantScheduler tenantScheduler,
+		PlatformTransactionManager transactionManager) {
 
 		this.incidentRepository = incidentRepository;
+		this.syncCheckpointRepository = syncCheckpointRepository;
 		this.jiraIncidentClient = jiraClient;
+		this.jiraTransitionCache = jiraTransitionCache;
 		this.pobClient = pobClient;
 		this.synchronizationProperties = synchronizationProperties;
 		this.slackService = slackService;
+		this.syncJournal = syncJournal;
+		this.tenantScheduler = tenantScheduler;
+		this.incidentTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.incidentTransactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
 	}
 
 	/**
-	 * Takes an IncidentRequest and map it to an IncidentEntity in the database, with status POB_INITIATED_EVENT.
-	 *
-	 * @param municipalityId  the municipalityId.
-	 * @param incidentRequest the request (from POB).
-	 */
-	public synchronized void handleIncidentRequest(final String municipalityId, final IncidentRequest incidentRequest) {
-		final var issueKey = incidentRequest.getIncidentKey();
-		final var incidentEntity = incidentRepository.findByMunicipalityIdAndPobIssueKey(municipalityId, issueKey)
-			.orElse(IncidentEntity.create()
-				.withMunicipalityId(municipalityId)
-				.withPobIssueKey(issueKey)
-				.withStatus(POB_INITIATED_EVENT));
-
-		// Only set the status to POB_INITIATED_EVENT if status is currently SYNCHRONIZED.
-		if (OPEN_FOR_MODIFICATION_STATUS_LIST.contains(incidentEntity.getStatus())) {
-			incidentEntity.withStatus(POB_INITIATED_EVENT);
-		}
-
-		incidentRepository.saveAndFlush(incidentEntity);
-	}
-
-	/**
-	 * Search for all issues (mappings) that have a closed Jira-issue (See definition of closed in: JIRA_CLOSED_STATUSES).
+	 * Search for all synchronized issues (mappings) that have a closed Jira-issue (See definition of closed in:
+	 * JIRA_CLOSED_STATUSES). Mappings with pending events are left to the other phases (so that the phases can run
+	 * concurrently), and are closed by a later sweep when synchronized.
 	 *
 	 * All closed Jira-issues will have the corresponding POB-issue assigned back to first line and then the mapping will be
 	 * deleted.
+	 *
+	 * @param  municipalityId the municipality to synchronize, or null for all municipalities.
+	 * @param  budget         the time budget of the synchronization cycle.
+	 * @return                the number of processed incidents.
 	 */
-	public void closeIssues() {
-		incidentRepository.findAll().stream()
-			.filter(incidentEntity -> isNotBlank(incidentEntity.getJiraIssueKey()))
-			.forEach(incidentEntity -> jiraIncidentClient.getIssue(incidentEntity.getJiraIssueKey()).ifPresent(jiraIssue -> {
-				final var statusName = jiraIssue.getFields().getStatus().getName();
+	public int closeIssues(final String municipalityId, final SyncBudget budget) {
+		return forEachWithinBudget(PHASE_CLOSE_ISSUES, municipalityId, withJiraIssueByStatus(municipalityId, SYNCHRONIZED), identity(), budget, loaded(PHASE_CLOSE_ISSUES, SYNCHRONIZED,
+			incidentEntity -> jiraIncidentClient.getIssueStatus(incidentEntity.getJiraIssueKey()).ifPresent(jiraIssue -> {
+				final var statusName = jiraIssue.status();
 				final var doCloseIssue = JIRA_CLOSED_STATUSES.stream().anyMatch(status -> Strings.CI.equals(status, statusName));
 
 				LOGGER.info("Issue: '{}' has status: '{}'. Issue will be closed: '{}'", incidentEntity.getJiraIssueKey(), statusName, doCloseIssue);
@@ -124,58 +186,329 @@ public class IncidentService {
 					updatePobUser(incidentEntity);
 					incidentRepository.delete(incidentEntity);
 				}
-			}));
+			})));
 	}
 
 	/**
 	 * Poll JIRA for updates on mapped issues.
 	 * <p>
-	 * All incidents with status "SYNCHRONIZED" (in DB) will be compared with the last-update-timestamp on the Jira-issue.
+	 * All incidents with status "SYNCHRONIZED" (in DB) that are due to be polled will be compared with the
+	 * last-update-timestamp on the Jira-issue. The time of the next poll is adapted to the activity on the issue (see
+	 * {@link #getNextPollAt(OffsetDateTime)}), so that quiet issues are polled seldom.
 	 * <p>
 	 * If the "last-updated"-timestamp in Jira is greater than the stored synchronization date (lastSynchronizedJira) in DB,
 	 * the status will be changed to "JIRA_INITIATED_EVENT". This status will make the issue a candidate for synchronization
 	 * towards Pob.
+	 * <p>
+	 * The issues are polled from the summaries of the incidents (without loading them), and the results are written in
+	 * batches of {@value #POLL_BATCH_SIZE} incidents (see {@link #writePollBatch(PollBatch)}). Only the polled columns are
+	 * written, and only if the incident is still synchronized, so that an event registered while the issue is polled is not
+	 * overwritten. Only the reset of a mapping whose Jira issue is gone is done in a transaction of its own.
+	 *
+	 * @param  municipalityId the municipality to synchronize, or null for all municipalities.
+	 * @param  budget         the time budget of the synchronization cycle.
+	 * @return                the number of processed incidents.
 	 */
-	public void pollJiraIssues() {
-		incidentRepository.findByStatus(SYNCHRONIZED)
-			.forEach(incidentEntity -> jiraIncidentClient.getIssue(incidentEntity.getJiraIssueKey()).ifPresentOrElse(jiraIssue -> {
-				final var lastModifiedJira = Optional.ofNullable(jiraIssue.getFields().getUpdated()).orElse(MIN);
-				final var lastSynchronizedJira = Optional.ofNullable(incidentEntity.getLastSynchronizedJira()).orElse(MIN);
+	public int pollJiraIssues(final String municipalityId, final SyncBudget budget) {
+		final var pollBatch = new PollBatch();
+		try {
+			return forEachWithinBudget(PHASE_POLL_JIRA_ISSUES, municipalityId, dueForPolling(municipalityId, SYNCHRONIZED), identity(), budget, incident -> {
+				poll(incident, pollBatch);
+				if (pollBatch.size() >= POLL_BATCH_SIZE) {
+					writePollBatch(pollBatch);
+				}
+			});
+		} finally {
+			writePollBatch(pollBatch);
+		}
+	}
 
-				if (lastModifiedJira.isAfter(lastSynchronizedJira.plusSeconds(synchronizationProperties.clockSkewInSeconds()))) {
-					// Issue has been updated in Jira after last synchronization towards Jira.
-					LOGGER.info("Set status to '{}' on mapping with jiraIssueType '{}'.", JIRA_INITIATED_EVENT, incidentEntity.getJiraIssueKey());
-					incidentRepository.saveAndFlush(incidentEntity.withStatus(JIRA_INITIATED_EVENT));
+	private void poll(final PollSummary incident, final PollBatch pollBatch) {
+		jiraIncidentClient.getIssueUpdated(incident.getJiraIssueKey()).ifPresentOrElse(jiraIssue -> {
+			final var lastModifiedJira = Optional.ofNullable(jiraIssue.updated()).orElse(MIN);
+			final var lastSynchronizedJira = Optional.ofNullable(incident.getLastSynchronizedJira()).orElse(MIN);
+
+			if ((incident.getJiraRevision() != null) && !lastModifiedJira.isAfter(incident.getJiraRevision())) {
+				// Latest update in Jira was made by this service.
+				pollBatch.pollAgainAt(incident.getId(), getNextPollAt(lastModifiedJira));
+				return;
+			}
+
+			if (lastModifiedJira.isAfter(lastSynchronizedJira.plusSeconds(synchronizationProperties.clockSkewInSeconds()))) {
+				// Issue has been updated in Jira after last synchronization towards Jira.
+				LOGGER.info("Set status to '{}' on mapping with jiraIssueType '{}'.", JIRA_INITIATED_EVENT, incident.getJiraIssueKey());
+				pollBatch.changed(incident.getId());
+				return;
+			}
+
+			// Nothing to synchronize, poll again when due.
+			pollBatch.pollAgainAt(incident.getId(), getNextPollAt(lastModifiedJira.isAfter(lastSynchronizedJira) ? lastModifiedJira : lastSynchronizedJira));
+		}, () -> {
+			LOGGER.warn("No jira issue with key '{}' found. Creating new Jira-issue and updating incident mapping in DB...", incident.getJiraIssueKey());
+			loaded(PHASE_POLL_JIRA_ISSUES, SYNCHRONIZED, this::resetMapping).accept(incident);
+		});
+	}
+
+	/**
+	 * Writes the gathered poll results in one transaction, with one bulk update per new status and per time of the next
+	 * poll. The updates only touch incidents that are still synchronized, so an event registered since the incidents were
+	 * listed is not overwritten. If the updates fail on a concurrent change, the incidents are polled again in the next
+	 * run.
+	 */
+	private void writePollBatch(final PollBatch pollBatch) {
+		if (pollBatch.isEmpty()) {
+			return;
+		}
+		try {
+			incidentTransactionTemplate.executeWithoutResult(transactionStatus -> {
+				if (!pollBatch.changedIds().isEmpty()) {
+					incidentRepository.updateStatusByIdInAndStatus(pollBatch.changedIds(), SYNCHRONIZED, JIRA_INITIATED_EVENT, now(systemDefault()));
 				}
-			}, () -> {
-				LOGGER.warn("No jira issue with key '{}' found. Creating new Jira-issue and updating incident mapping in DB...", incidentEntity.getJiraIssueKey());
-
-				// Issue does not exist. Save the mapping as POB_INITIATED_EVENT with empty jiraIssueKey (this will trigger a create).
-				incidentRepository.saveAndFlush(incidentEntity
-					.withStatus(POB_INITIATED_EVENT)
-					.withJiraIssueKey(null)
-					.withLastSynchronizedJira(null));
-			}));
+				pollBatch.idsByNextPollAt().forEach((nextPollAt, ids) -> incidentRepository.updateNextPollAtByIdInAndStatus(ids, SYNCHRONIZED, nextPollAt));
+			});
+		} catch (final ConcurrencyFailureException e) {
+			LOGGER.warn("The results of polling {} incident(s) were not written due to a concurrent change, they are polled again in the next run", pollBatch.size(), e);
+		} finally {
+			pollBatch.clear();
+		}
+	}
+
+	/**
+	 * Returns the time of the next poll for an issue, where the interval grows with the time that the issue has been quiet
+	 * (within the configured min and max interval). The time is rounded down to whole min intervals, so that the issues
+	 * polled in a batch mostly share a few times of the next poll (and updates).
+	 *
+	 * @param  lastActivity the time of the last activity on the issue (update in Jira or synchronization).
+	 * @return              the time of the next poll.
+	 */
+	private OffsetDateTime getNextPollAt(final OffsetDateTime lastActivity) {
+		final var polling = synchronizationProperties.polling();
+		final var timestamp = now(systemDefault());
+		final var quietSeconds = lastActivity.isBefore(timestamp) ? Duration.between(lastActivity, timestamp).toSeconds() : 0;
+		final var intervalSeconds = Math.clamp((long) (quietSeconds * polling.activityFactor()), polling.minInterval().toSeconds(), polling.maxInterval().toSeconds());
+		final var nextPollAt = timestamp.plusSeconds(intervalSeconds).truncatedTo(SECONDS);
+		return nextPollAt.minusSeconds(Math.floorMod(nextPollAt.toEpochSecond(), Math.max(1, polling.minInterval().toSeconds())));
 	}
 
-	public void updateJiraIssues() {
-		incidentRepository.findByStatus(POB_INITIATED_EVENT)
-			.forEach(incidentEntity -> {
+	/**
+	 * Synchronize issues that have been updated in POB towards Jira (creates the Jira issue if it doesn't exist).
+	 *
+	 * @param  municipalityId the municipality to synchronize, or null for all municipalities.
+	 * @param  budget         the time budget of the synchronization cycle.
+	 * @return                the number of processed incidents.
+	 */
+	public int updateJiraIssues(final String municipalityId, final SyncBudget budget) {
+		return forEachWithinBudget(PHASE_UPDATE_JIRA_ISSUES, municipalityId, eventsByStatus(municipalityId, POB_INITIATED_EVENT), inPriorityOrder(), budget,
+			loaded(PHASE_UPDATE_JIRA_ISSUES, POB_INITIATED_EVENT, incidentEntity -> {
 				if (isBlank(incidentEntity.getJiraIssueKey())) {
 					createJiraIssue(incidentEntity);
 					return;
 				}
 				updateJiraIssue(incidentEntity);
-			});
+			}));
+	}
+
+	/**
+	 * Runs the action for each incident, in priority order, until the time budget is exhausted.
+	 * <p>
+	 * The incidents are read in pages of ID order, and each page is processed before the next is read, so that a run that
+	 * is stopped by the budget only reads the pages it processes. The run starts after the incident where the previous run
+	 * of the phase stopped, and continues from the start up to that incident, so that incidents at the end of the ID order
+	 * are not starved. Within each page, the order function (e.g. the priority policy) reorders the incidents, and the
+	 * tenant scheduler then interleaves the municipalities according to their shares. If the budget is exhausted, the
+	 * last incident before the first unprocessed incident in ID order is saved as the checkpoint of the phase, so that
+	 * incidents moved back by the reordering are not skipped.
+	 * <p>
+	 * A run limited to one municipality has its own checkpoint, and is not interleaved with (and doesn't update the
+	 * backlog of) the other municipalities.
+	 * <p>
+	 * The action gets the summary of each incident. The phases that change the incidents load them one by one (see
+	 * {@link #loaded(String, Status, Consumer)}).
+	 *
+	 * @param  phase          the name of the synchronization phase.
+	 * @param  municipalityId the municipality that the run is limited to, or null for all municipalities.
+	 * @param  query          the queries of the incidents of the phase.
+	 * @param  order          the ordering of the incidents within a page.
+	 * @param  budget         the time budget of the synchronization cycle.
+	 * @param  action         the work to do for each incident.
+	 * @return                the number of processed incidents.
+	 */
+	private <T extends IncidentSummary> int forEachWithinBudget(final String phase, final String municipalityId, final PhaseQuery<T> query, final UnaryOperator<List<T>> order, final SyncBudget budget,
+		final Consumer<? super T> action) {
+
+		final var checkpointKey = (municipalityId == null) ? phase : CHECKPOINT_KEY_TEMPLATE.formatted(phase, municipalityId);
+		final var checkpoint = syncCheckpointRepository.findById(checkpointKey).map(SyncCheckpointEntity::getIncidentId).orElse(null);
+		if (municipalityId == null) {
+			tenantScheduler.updateBacklog(phase, query.backlog().get());
+		}
+
+		// The incidents after the checkpoint, then the incidents from the start up to the checkpoint.
+		final var ranges = (checkpoint == null) ? List.of(new IdRange("", null)) : List.of(new IdRange(checkpoint, null), new IdRange("", checkpoint));
+		var processed = 0;
+		for (final var range : ranges) {
+			var afterId = range.afterId();
+			while (true) {
+				final var page = readPage(query, afterId, range.untilId());
+				final var orderedIncidents = (municipalityId == null) ? tenantScheduler.schedule(order.apply(page)) : order.apply(page);
+
+				for (var index = 0; index < orderedIncidents.size(); index++) {
+					if (budget.isExhausted()) {
+						LOGGER.info("Time budget exhausted in phase '{}', the rest of the incidents are left for the next run", phase);
+						saveCheckpoint(checkpointKey, checkpoint, lastBefore(orderedIncidents.subList(index, orderedIncidents.size()), page, afterId));
+						return processed + index;
+					}
+					action.accept(orderedIncidents.get(index));
+					tenantScheduler.processed(phase, orderedIncidents.get(index));
+				}
+				processed += orderedIncidents.size();
+
+				if (page.size() < PAGE_SIZE) {
+					break;
+				}
+				afterId = page.getLast().getId();
+			}
+		}
+
+		if (checkpoint != null) {
+			syncCheckpointRepository.deleteById(checkpointKey);
+		}
+		return processed;
+	}
+
+	/**
+	 * Returns an action that loads the incident and runs the given action on it.
+	 * <p>
+	 * Each incident is processed in a transaction of its own, so that the incidents already processed are kept if the
+	 * phase is interrupted (e.g. when the lease of the phase is lost) or fails on a later incident. The changes of the
+	 * incident are written (as JDBC batches) when its transaction commits, and only the incident in progress is kept in
+	 * the persistence context.
+	 * <p>
+	 * An incident that is gone (e.g. closed by a concurrent run), or that has got another status since it was listed (e.g.
+	 * by a concurrent run of another phase), is skipped, and the optimistic lock of the incident keeps a change made after
+	 * it was loaded from being overwritten. An incident that fails on a concurrent change is left for the next run, without
+	 * aborting the phase.
+	 *
+	 * @param  phase  the name of the synchronization phase.
+	 * @param  status the status that the incident must have to be processed.
+	 * @param  action the work to do for the incident.
+	 * @return        the action on the summary of the incident.
+	 */
+	private Consumer<IncidentSummary> loaded(final String phase, final Status status, final Consumer<IncidentEntity> action) {
+		return incident -> {
+			try {
+				incidentTransactionTemplate.executeWithoutResult(transactionStatus -> incidentRepository.findById(incident.getId())
+					.filter(incidentEntity -> incidentEntity.getStatus() == status)
+					.ifPresent(action));
+			} catch (final ConcurrencyFailureException e) {
+				LOGGER.warn("Incident '{}' was changed concurrently in phase '{}', it's left for the next run", incident.getId(), phase, e);
+			}
+		};
+	}
+
+	/**
+	 * Reads a page of incidents after the given ID (and up to the given ID, if any), in ID order. A page that is cut by
+	 * the upper ID is shorter than a full page, and is the last page of the range.
+	 */
+	private static <T extends IncidentSummary> List<T> readPage(final PhaseQuery<T> query, final String afterId, final String untilId) {
+		return query.page().apply(afterId, Limit.of(PAGE_SIZE)).stream()
+			.filter(incident -> (untilId == null) || (incident.getId().compareTo(untilId) <= 0))
+			.sorted(comparing(IncidentSummary::getId))
+			.toList();
 	}
 
+	/**
+	 * Returns the ID of the incident that precedes the first of the remaining incidents in the (ID ordered) page, or the
+	 * ID that the page was read after if the first incident of the page remains.
+	 */
+	static String lastBefore(final List<? extends IncidentSummary> remainingIncidents, final List<? extends IncidentSummary> page, final String afterId) {
+		final var remainingIds = remainingIncidents.stream().map(IncidentSummary::getId).collect(toSet());
+		var lastBefore = afterId;
+		for (final var incident : page) {
+			if (remainingIds.contains(incident.getId())) {
+				return lastBefore;
+			}
+			lastBefore = incident.getId();
+		}
+		return lastBefore;
+	}
+
+	private void saveCheckpoint(final String checkpointKey, final String checkpoint, final String incidentId) {
+		if (isNotEmpty(incidentId)) {
+			syncCheckpointRepository.save(SyncCheckpointEntity.create()
+				.withPhase(checkpointKey)
+				.withIncidentId(incidentId));
+		} else if (checkpoint != null) {
+			// Nothing of the ID order is processed, the next run starts from the beginning.
+			syncCheckpointRepository.deleteById(checkpointKey);
+		}
+	}
+
+	private UnaryOperator<List<EventSummary>> inPriorityOrder() {
+		return new SyncPriorityPolicy(synchronizationProperties.priority())::order;
+	}
+
+	private PhaseQuery<IncidentSummary> withJiraIssueByStatus(final String municipalityId, final Status status) {
+		if (municipalityId == null) {
+			return new PhaseQuery<>((afterId, limit) -> incidentRepository.findSummariesWithJiraIssueByStatus(status, afterId, limit),
+				() -> incidentRepository.countBacklogWithJiraIssueByStatus(status));
+		}
+		return new PhaseQuery<>((afterId, limit) -> incidentRepository.findSummariesWithJiraIssueByMunicipalityIdAndStatus(municipalityId, status, afterId, limit), List::of);
+	}
+
+	private PhaseQuery<EventSummary> eventsByStatus(final String municipalityId, final Status status) {
+		if (municipalityId == null) {
+			return new PhaseQuery<>((afterId, limit) -> incidentRepository.findEventSummariesByStatus(status, afterId, limit),
+				() -> incidentRepository.countBacklogByStatus(status));
+		}
+		return new PhaseQuery<>((afterId, limit) -> incidentRepository.findEventSummariesByMunicipalityIdAndStatus(municipalityId, status, afterId, limit), List::of);
+	}
+
+	private PhaseQuery<PollSummary> dueForPolling(final String municipalityId, final Status status) {
+		final var timestamp = now(systemDefault());
+		if (municipalityId == null) {
+			return new PhaseQuery<>((afterId, limit) -> incidentRepository.findSummariesDueForPolling(status, timestamp, afterId, limit),
+				() -> incidentRepository.countBacklogDueForPolling(status, timestamp));
+		}
+		return new PhaseQuery<>((afterId, limit) -> incidentRepository.findSummariesDueForPollingByMunicipalityId(municipalityId, status, timestamp, afterId, limit), List::of);
+	}
+
+	/**
+	 * The keyset paged query of the incidents of a phase (each page starts after the ID of the last incident of the
+	 * previous page), and the query of the backlog of the phase per municipality.
+	 */
+	private record PhaseQuery<T extends IncidentSummary>(BiFunction<String, Limit, List<T>> page, Supplier<List<MunicipalityBacklog>> backlog) {
+	}
+
+	/**
+	 * A range of the ID order, of the IDs after the first ID and up to the second (or to the end, if null).
+	 */
+	private record IdRange(String afterId, String untilId) {
+	}
+
+	/**
+	 * Rewrites the Jira issue with content from POB.
+	 * <p>
+	 * The Jira issue is left untouched if the fingerprint of the POB content is the same as when it was last mirrored to
+	 * Jira. This is the case for events that don't change anything that is mirrored, including the events POB sends for
+	 * this service's own writes.
+	 * <p>
+	 * Completed steps are recorded in the synchronization journal, and a synchronization that was interrupted (e.g. by a
+	 * restart) is resumed from where it stopped.
+	 *
+	 * @param incidentEntity the incident to synchronize.
+	 */
 	private void updateJiraIssue(final IncidentEntity incidentEntity) {
 
 		// Fetch from POB.
 		final var pobIssueKey = incidentEntity.getPobIssueKey();
-		final var summary = toDescription(pobClient.getCase(pobIssueKey).orElse(null));
-		final var description = toProblemMemo(pobClient.getProblemMemo(pobIssueKey).orElse(null));
-		final var comments = toCaseInternalNotesCustomMemo(pobClient.getCaseInternalNotesCustom(pobIssueKey).orElse(null));
+		final var pobContent = getPobContent(pobIssueKey);
+		final var fingerprint = pobContent.fingerprint();
+
+		if (fingerprint.equals(incidentEntity.getFingerprint())) {
+			LOGGER.info("Content of POB issue '{}' is unchanged since last synchronization, Jira is left untouched", pobIssueKey);
+			incidentRepository.save(incidentEntity.withStatus(SYNCHRONIZED).withNextPollAt(null));
+			return;
+		}
 
 		// Fetch from Jira.
 		final var jiraIssueKey = incidentEntity.getJiraIssueKey();
@@ -183,154 +516,562 @@ public class IncidentService {
 
 		jiraIssue.ifPresentOrElse(issue -> {
 
-			// Update issue in Jira
-			final var updateIssue = Issue.fromKey(jiraIssueKey);
-			updateIssue.getFields().setDescription(description);
-			updateIssue.getFields().setSummary(JIRA_ISSUE_TITLE_TEMPLATE.formatted(pobIssueKey, summary));
-			jiraIncidentClient.updateIssue(updateIssue);
-
-			// Delete all existing comments in Jira.
-			issue.getFields().getComments()
-				.forEach(comment -> jiraIncidentClient.deleteComment(jiraIssueKey, comment.getId()));
-
-			// Delete all attachments in Jira.
-			issue.getFields().getAttachments()
-				.forEach(attachment -> jiraIncidentClient.deleteAttachment(attachment.getId()));
-
-			// Add POB mails to Jira (as comments and attachments).
-			getPobMails(incidentEntity).forEach(mail -> {
-				jiraIncidentClient.addComment(jiraIssueKey, toFormattedMail(mail));
-				Optional.ofNullable(mail.getAttachments()).orElse(emptyList())
-					.forEach(attachment -> jiraIncidentClient.addAttachment(jiraIssueKey, attachment));
-			});
-
-			// Add case attachments.
-			getPobAttachments(incidentEntity).forEach(attachmentFile -> jiraIncidentClient.addAttachment(jiraIssueKey, attachmentFile));
+			final var steps = resumeSync(incidentEntity, fingerprint);
 
-			// Add new comment (with data from POB).
-			jiraIncidentClient.addComment(jiraIssueKey, comments);
+			// Update issue in Jira and remove old content.
+			rewriteJiraIssue(incidentEntity, jiraIssueKey, issue, pobContent, steps);
 
-			// Clean temp-dir.
-			removeFilesInTempFolder();
+			// Add new POB mails, case attachments and new comment (with data from POB) to Jira.
+			try {
+				addPobContent(incidentEntity, jiraIssueKey, pobContent, steps);
+			} finally {
+				removeTempFolder(incidentEntity);
+			}
 
 			LOGGER.info("Issue '{}' synchronized in Jira", jiraIssueKey);
 
-			// Save state in DB
-			incidentRepository.saveAndFlush(incidentEntity
-				.withStatus(SYNCHRONIZED)
-				.withLastSynchronizedJira(now(systemDefault())));
-
-		}, () -> // Issue is not present in Jira.
+			// Save state in DB. A change made in Jira by someone else during the write is synchronized towards POB directly.
+			final var jiraRevision = getJiraRevision(jiraIssueKey);
+			incidentRepository.save(incidentEntity
+				.withStatus(jiraRevision.isPresent() ? SYNCHRONIZED : JIRA_INITIATED_EVENT)
+				.withLastSynchronizedJira(now(systemDefault()))
+				.withJiraRevision(jiraRevision.orElse(incidentEntity.getJiraRevision()))
+				.withFingerprint(fingerprint)
+				.withSyncCost(pobContent.cost())
+				.withNextPollAt(null));
+			syncJournal.clear(incidentEntity.getId());
+
+		}, () -> resetMapping(incidentEntity));
+	}
 
-		// Issue does not exist in Jira. Save the mapping as POB_INITIATED_EVENT with empty jiraIssueKey (this will trigger a
-		// create).
-		incidentRepository.saveAndFlush(incidentEntity
+	/**
+	 * Resets the mapping of an incident whose Jira issue no longer exists. The mapping is saved as POB_INITIATED_EVENT with
+	 * an empty jiraIssueKey (and without the state of the old Jira issue), which will trigger a create.
+	 *
+	 * @param incidentEntity the incident to reset.
+	 */
+	private void resetMapping(final IncidentEntity incidentEntity) {
+		incidentRepository.save(incidentEntity
 			.withStatus(POB_INITIATED_EVENT)
 			.withJiraIssueKey(null)
-			.withLastSynchronizedJira(null)));
+			.withLastSynchronizedJira(null)
+			.withJiraRevision(null)
+			.withFingerprint(null)
+			.withMirroredMails(null)
+			.withMirroredMailAttachments(null)
+			.withPropagatedComments(null));
+		syncJournal.clear(incidentEntity.getId());
 	}
 
+	/**
+	 * Updates the summary and description of the Jira issue, and removes the old content (unless already done by an
+	 * interrupted synchronization).
+	 *
+	 * @param incidentEntity the incident that is synchronized.
+	 * @param jiraIssueKey   the key of the Jira issue.
+	 * @param issue          the Jira issue to rewrite.
+	 * @param pobContent     the POB content to mirror.
+	 * @param steps          the completed steps of the synchronization.
+	 */
+	private void rewriteJiraIssue(final IncidentEntity incidentEntity, final String jiraIssueKey, final Issue issue, final PobContent pobContent, final Map<String, String> steps) {
+		final var updateIssue = Issue.fromKey(jiraIssueKey);
+		updateIssue.getFields().setDescription(pobContent.description());
+		updateIssue.getFields().setSummary(JIRA_ISSUE_TITLE_TEMPLATE.formatted(incidentEntity.getPobIssueKey(), pobContent.summary()));
+		final var pendingUpdate = jiraIncidentClient.updateIssueAsync(updateIssue);
+
+		if (!steps.containsKey(STEP_CLEANUP)) {
+			cleanupJiraIssue(incidentEntity, jiraIssueKey, issue, steps);
+		}
+		awaitAll(List.of(pendingUpdate));
+
+		// Only the comments holding mirrored mails are left, so the propagated comments are gone.
+		getPropagatedComments(incidentEntity).clear();
+	}
+
+	/**
+	 * Deletes the comments and the attachments of the Jira issue (except the ones holding already mirrored mails), and
+	 * records the cleanup in the synchronization journal.
+	 *
+	 * @param incidentEntity the incident that is synchronized.
+	 * @param jiraIssueKey   the key of the Jira issue.
+	 * @param issue          the Jira issue to clean up.
+	 * @param steps          the completed steps of the synchronization.
+	 */
+	private void cleanupJiraIssue(final IncidentEntity incidentEntity, final String jiraIssueKey, final Issue issue, final Map<String, String> steps) {
+		final var pendingRequests = new ArrayList<CompletableFuture<?>>();
+
+		// Forget mirrored mails whose comment or attachments no longer exist in Jira (they will be mirrored again).
+		final var mirroredMails = getMirroredMails(incidentEntity);
+		final var mirroredMailAttachments = getMirroredMailAttachments(incidentEntity);
+		final var existingCommentIds = issue.getFields().getComments().stream()
+			.map(Comment::getId)
+			.collect(toSet());
+		final var existingAttachmentIds = new HashSet<String>();
+		issue.getFields().getAttachments().forEach(attachment -> existingAttachmentIds.add(attachment.getId()));
+		mirroredMailAttachments.forEach((attachmentId, mailId) -> {
+			if (!existingAttachmentIds.contains(attachmentId)) {
+				mirroredMails.remove(mailId);
+			}
+		});
+		mirroredMails.values().retainAll(existingCommentIds);
+		mirroredMailAttachments.values().retainAll(mirroredMails.keySet());
+
+		// Delete all existing comments in Jira, except the ones holding already mirrored mails.
+		final var commentsToDelete = issue.getFields().getComments().stream()
+			.filter(comment -> !mirroredMails.containsValue(comment.getId()))
+			.toList();
+		commentsToDelete.forEach(comment -> pendingRequests.add(jiraIncidentClient.deleteCommentAsync(jiraIssueKey, comment.getId())));
+
+		// Delete all attachments in Jira, except the ones holding attachments of already mirrored mails.
+		issue.getFields().getAttachments().forEach(attachment -> {
+			if (!mirroredMailAttachments.containsKey(attachment.getId())) {
+				pendingRequests.add(jiraIncidentClient.deleteAttachmentAsync(attachment.getId()));
+			}
+		});
+
+		// The cleanup must be finished before new content is added.
+		awaitAll(pendingRequests);
+		recordStep(incidentEntity, steps, STEP_CLEANUP, null);
+	}
+
+	/**
+	 * Creates a Jira issue with content from POB.
+	 * <p>
+	 * Completed steps are recorded in the synchronization journal. A synchronization that was interrupted (e.g. by a
+	 * restart) is resumed from where it stopped, and continues with the Jira issue it already created. If the POB content
+	 * has changed since, the Jira issue is rewritten (the mirrored mails are kept).
+	 *
+	 * @param incidentEntity the incident to synchronize.
+	 */
 	private void createJiraIssue(final IncidentEntity incidentEntity) {
 
 		// Fetch from POB.
 		final var pobIssueKey = incidentEntity.getPobIssueKey();
-		final var summary = toDescription(pobClient.getCase(pobIssueKey).orElse(null));
-		final var description = toProblemMemo(pobClient.getProblemMemo(pobIssueKey).orElse(null));
-		final var comments = toCaseInternalNotesCustomMemo(pobClient.getCaseInternalNotesCustom(pobIssueKey).orElse(null));
+		final var pobContent = getPobContent(pobIssueKey);
+		final var summary = pobContent.summary();
+		final var steps = resumeSync(incidentEntity, pobContent.fingerprint());
 
-		// Create issue in Jira.
-		final var jiraIssueKey = jiraIncidentClient.createIssue(JIRA_ISSUE_TYPE, JIRA_ISSUE_LABELS, JIRA_ISSUE_TITLE_TEMPLATE.formatted(pobIssueKey, summary), description);
-		final var jiraIssue = jiraIncidentClient.getIssue(jiraIssueKey);
+		// Create issue in Jira, unless created by an interrupted synchronization.
+		final var createdIssue = Optional.ofNullable(steps.get(STEP_JIRA_ISSUE)).flatMap(jiraIncidentClient::getIssue);
+		final var jiraIssueKey = createdIssue.isPresent() ? steps.get(STEP_JIRA_ISSUE) : createIssueInJira(incidentEntity, pobContent, steps);
+		final var jiraIssue = createdIssue.isPresent() ? createdIssue : jiraIncidentClient.getIssue(jiraIssueKey);
 
 		jiraIssue.ifPresent(issue -> {
 
 			// Set initial status on issue in Jira.
-			Optional.ofNullable(jiraIncidentClient.getTransitions(jiraIssueKey).get(JIRA_TODO_STATUS)).ifPresent(initialStatus -> {
-				jiraIncidentClient.performTransition(jiraIssueKey, initialStatus);
-				LOGGER.info("Updated initial status on issue '{}' to '{}'", jiraIssueKey, initialStatus.getName());
-			});
-
-			// Add POB mails to Jira (as comments and attachments).
-			getPobMails(incidentEntity).forEach(mail -> {
-				jiraIncidentClient.addComment(jiraIssueKey, toFormattedMail(mail));
-				Optional.ofNullable(mail.getAttachments()).orElse(emptyList())
-					.forEach(attachment -> jiraIncidentClient.addAttachment(jiraIssueKey, attachment));
-			});
-
-			// Add comments in Jira.
-			jiraIncidentClient.addComment(jiraIssueKey, comments);
-
-			// Add case attachments.
-			getPobAttachments(incidentEntity).forEach(attachment -> jiraIncidentClient.addAttachment(jiraIssueKey, attachment));
-
-			// Clean temp-dir.
-			removeFilesInTempFolder();
+			if (!steps.containsKey(STEP_INITIAL_STATUS)) {
+				setInitialStatus(jiraIssueKey, issue);
+				recordStep(incidentEntity, steps, STEP_INITIAL_STATUS, null);
+			}
+
+			// The Jira issue was created for other POB content by an interrupted synchronization.
+			if (steps.containsKey(STEP_STALE_CONTENT)) {
+				rewriteJiraIssue(incidentEntity, jiraIssueKey, issue, pobContent, steps);
+			}
+
+			// Add POB mails, case attachments and comments to Jira.
+			try {
+				addPobContent(incidentEntity, jiraIssueKey, pobContent, steps);
+			} finally {
+				removeTempFolder(incidentEntity);
+			}
 
 			LOGGER.info("Issue '{}' created in Jira", jiraIssueKey);
 
-			// Save state in DB.
-			incidentRepository.saveAndFlush(incidentEntity
-				.withStatus(SYNCHRONIZED)
+			// Save state in DB. A change made in Jira by someone else during the write is synchronized towards POB directly.
+			final var jiraRevision = getJiraRevision(jiraIssueKey);
+			incidentRepository.save(incidentEntity
+				.withStatus(jiraRevision.isPresent() ? SYNCHRONIZED : JIRA_INITIATED_EVENT)
 				.withJiraIssueKey(jiraIssueKey)
-				.withLastSynchronizedJira(now(systemDefault())));
+				.withLastSynchronizedJira(now(systemDefault()))
+				.withJiraRevision(jiraRevision.orElse(incidentEntity.getJiraRevision()))
+				.withFingerprint(pobContent.fingerprint())
+				.withSyncCost(pobContent.cost())
+				.withNextPollAt(null));
+			syncJournal.clear(incidentEntity.getId());
 
 			// Send Slack notification.
 			slackService.sendToSlack(incidentEntity.getMunicipalityId(), JIRA_ISSUE_CREATED.formatted(summary, jiraIncidentClient.getProperties().url(), jiraIssueKey));
 		});
 	}
 
-	public void updatePobIssues() {
-		incidentRepository.findByStatus(JIRA_INITIATED_EVENT)
-			.forEach(incidentEntity -> {
-				final var jiraIssue = jiraIncidentClient.getIssue(incidentEntity.getJiraIssueKey()).orElse(null);
-				final var pobAttachments = pobClient.getAttachments(incidentEntity.getPobIssueKey()).orElse(null);
-				updatePob(incidentEntity, jiraIssue, pobAttachments);
-			});
+	private String createIssueInJira(final IncidentEntity incidentEntity, final PobContent pobContent, final Map<String, String> steps) {
+		if (steps.containsKey(STEP_JIRA_ISSUE)) {
+			// The Jira issue created by the interrupted synchronization no longer exists, start over.
+			syncJournal.discard(incidentEntity.getId());
+			steps.clear();
+			recordStep(incidentEntity, steps, STEP_FINGERPRINT, pobContent.fingerprint());
+		}
+
+		final var jiraIssueKey = jiraIncidentClient.createIssue(JIRA_ISSUE_TYPE, JIRA_ISSUE_LABELS, JIRA_ISSUE_TITLE_TEMPLATE.formatted(incidentEntity.getPobIssueKey(), pobContent.summary()), pobContent.description());
+		recordStep(incidentEntity, steps, STEP_JIRA_ISSUE, jiraIssueKey);
+		return jiraIssueKey;
+	}
+
+	/**
+	 * Returns the (modifiable) steps completed by an earlier, interrupted synchronization. The mails (and mail
+	 * attachments) mirrored by the interrupted synchronization are added to the ledgers of the incident.
+	 */
+	private Map<String, String> resumeSync(final IncidentEntity incidentEntity, final String fingerprint) {
+		final var steps = new HashMap<>(syncJournal.resume(incidentEntity.getId(), fingerprint));
+		if (steps.size() > 1) {
+			LOGGER.info("Resuming interrupted synchronization of issue '{}' (completed steps: {})", incidentEntity.getPobIssueKey(), steps.keySet());
+		}
+
+		steps.forEach((step, reference) -> {
+			if (step.startsWith(STEP_MAIL_PREFIX)) {
+				getMirroredMails(incidentEntity).put(step.substring(STEP_MAIL_PREFIX.length()), reference);
+			} else if (step.startsWith(STEP_MAIL_ATTACHMENT_PREFIX)) {
+				getMirroredMailAttachments(incidentEntity).put(reference, mailIdOf(step));
+			}
+		});
+		return steps;
+	}
+
+	private void recordStep(final IncidentEntity incidentEntity, final Map<String, String> steps, final String step, final String reference) {
+		syncJournal.record(incidentEntity.getId(), step, reference);
+		steps.put(step, reference);
+	}
+
+	/**
+	 * Transitions a newly created Jira issue to the initial status (JIRA_TODO_STATUS), using cached workflow transitions.
+	 * If the transition fails, the cached transitions might be stale (e.g. if the workflow has been changed) and the
+	 * transition is retried once with transitions fetched from Jira.
+	 *
+	 * @param jiraIssueKey the key of the created Jira issue.
+	 * @param issue        the created Jira issue.
+	 */
+	private void setInitialStatus(final String jiraIssueKey, final Issue issue) {
+		final var currentStatus = Optional.ofNullable(issue.getFields())
+			.map(fields -> fields.getStatus())
+			.map(status -> status.getName())
+			.orElse(null);
+
+		Optional.ofNullable(jiraTransitionCache.getTransitions(jiraIssueKey, JIRA_ISSUE_TYPE, currentStatus).get(JIRA_TODO_STATUS)).ifPresent(initialStatus -> {
+			final var performedStatus = performInitialTransition(jiraIssueKey, currentStatus, initialStatus);
+			LOGGER.info("Updated initial status on issue '{}' to '{}'", jiraIssueKey, performedStatus.getName());
+		});
+	}
+
+	/**
+	 * Performs the transition to the initial status, and retries once with the transition fetched from Jira if the cached
+	 * transition fails.
+	 *
+	 * @return the transition that was performed.
+	 */
+	private Transition performInitialTransition(final String jiraIssueKey, final String currentStatus, final Transition initialStatus) {
+		try {
+			jiraIncidentClient.performTransition(jiraIssueKey, initialStatus);
+			return initialStatus;
+		} catch (final JiraIntegrationException e) {
+			LOGGER.warn("Transition '{}' failed on issue '{}'. Retrying with transitions fetched from Jira", initialStatus.getName(), jiraIssueKey);
+			jiraTransitionCache.invalidate(JIRA_ISSUE_TYPE, currentStatus);
+			final var freshStatus = jiraTransitionCache.getTransitions(jiraIssueKey, JIRA_ISSUE_TYPE, currentStatus).get(JIRA_TODO_STATUS);
+			if (freshStatus == null) {
+				throw e;
+			}
+			jiraIncidentClient.performTransition(jiraIssueKey, freshStatus);
+			return freshStatus;
+		}
+	}
+
+	/**
+	 * Populates the cache of Jira workflow transitions at startup, to avoid a round-trip on the first issue creation.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void prewarmTransitionCache() {
+		jiraTransitionCache.prewarm(JIRA_ISSUE_TYPE, JIRA_TODO_STATUS);
+	}
+
+	/**
+	 * Adds POB mails (as comments and attachments), case attachments and the POB comments to the Jira issue.
+	 * <p>
+	 * Received POB mails never change, so only mails that are not already in the ledger of mirrored mails are fetched and
+	 * added. Each added mail is recorded in the ledger together with the id of the Jira comment holding it, and the ids
+	 * of the Jira attachments holding its attachments.
+	 * <p>
+	 * Comments are added one at a time to preserve their order in Jira, while all attachments are uploaded in parallel.
+	 * Every added mail, mail attachment, case attachment and comment is recorded in the synchronization journal, and
+	 * content recorded by an interrupted synchronization is not added again. The uploaded attachments are recorded by this
+	 * thread while awaiting the uploads (not by the threads that complete the uploads).
+	 *
+	 * @param incidentEntity the incident to fetch POB content for.
+	 * @param jiraIssueKey   the key of the Jira issue to add content to.
+	 * @param pobContent     the POB content to add.
+	 * @param steps          the completed steps of the synchronization.
+	 */
+	private void addPobContent(final IncidentEntity incidentEntity, final String jiraIssueKey, final PobContent pobContent, final Map<String, String> steps) {
+		final var pendingUploads = new ArrayList<CompletableFuture<List<JournalStep>>>();
+		final var mirroredMails = getMirroredMails(incidentEntity);
+		final var journaledMailIds = new HashSet<String>();
+		steps.forEach((step, reference) -> {
+			if (step.startsWith(STEP_MAIL_PREFIX)) {
+				journaledMailIds.add(step.substring(STEP_MAIL_PREFIX.length()));
+			}
+		});
+
+		// Add new POB mails to Jira (as comments and attachments). Mails mirrored by an interrupted synchronization are
+		// fetched again, since some of their attachments might not have been uploaded.
+		final var uploadedMailAttachments = new ConcurrentHashMap<String, String>();
+		getPobMails(pobContent.mailIds(), mailId -> mirroredMails.containsKey(mailId) && !journaledMailIds.contains(mailId)).forEach(mail -> {
+			if (!journaledMailIds.contains(mail.getId())) {
+				Optional.ofNullable(jiraIncidentClient.addComment(jiraIssueKey, toFormattedMail(mail))).ifPresent(comment -> {
+					mirroredMails.put(mail.getId(), comment.getId());
+					recordStep(incidentEntity, steps, STEP_MAIL_PREFIX + mail.getId(), comment.getId());
+				});
+			}
+			final var mailAttachments = Optional.ofNullable(mail.getAttachments()).orElse(emptyList());
+			IntStream.range(0, mailAttachments.size())
+				.filter(index -> !steps.containsKey(mailAttachmentStep(mail.getId(), index)))
+				.forEach(index -> pendingUploads.add(jiraIncidentClient.addAttachmentAsync(jiraIssueKey, mailAttachments.get(index))
+					.thenApply(uploaded -> Optional.ofNullable(uploaded).map(attachments -> attachments.stream()
+						.map(jiraAttachment -> {
+							uploadedMailAttachments.put(jiraAttachment.getId(), mail.getId());
+							return new JournalStep(mailAttachmentStep(mail.getId(), index), jiraAttachment.getId());
+						})
+						.toList())
+						.orElse(emptyList()))));
+		});
+
+		// Add case attachments.
+		getPobAttachments(incidentEntity, pobContent.attachments(), href -> steps.containsKey(attachmentStep(href)))
+			.forEach((href, attachment) -> pendingUploads.add(jiraIncidentClient.addAttachmentAsync(jiraIssueKey, attachment)
+				.thenApply(uploaded -> List.of(new JournalStep(attachmentStep(href), null)))));
+
+		// Add comments in Jira.
+		if (!steps.containsKey(STEP_COMMENTS)) {
+			jiraIncidentClient.addComment(jiraIssueKey, pobContent.comments());
+			recordStep(incidentEntity, steps, STEP_COMMENTS, null);
+		}
+
+		recordUploads(incidentEntity, steps, pendingUploads);
+
+		// The Jira attachments holding mail attachments are kept by the next cleanup, since the mails are not added again.
+		getMirroredMailAttachments(incidentEntity).putAll(uploadedMailAttachments);
+	}
+
+	/**
+	 * Awaits the uploads, and records the steps of each completed upload (in the order of the uploads). The steps of all
+	 * completed uploads are recorded, also if an upload fails, before the failure is rethrown.
+	 */
+	private void recordUploads(final IncidentEntity incidentEntity, final Map<String, String> steps, final List<CompletableFuture<List<JournalStep>>> pendingUploads) {
+		RuntimeException failure = null;
+		for (final var pendingUpload : pendingUploads) {
+			try {
+				pendingUpload.join().forEach(journalStep -> recordStep(incidentEntity, steps, journalStep.step(), journalStep.reference()));
+			} catch (final CompletionException e) {
+				if (failure == null) {
+					failure = (e.getCause() instanceof final RuntimeException runtimeException) ? runtimeException : e;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Returns the (modifiable) ledger of mirrored POB mails for the incident, mapping mail id to Jira comment id.
+	 */
+	private static Map<String, String> getMirroredMails(final IncidentEntity incidentEntity) {
+		if (incidentEntity.getMirroredMails() == null) {
+			incidentEntity.setMirroredMails(new HashMap<>());
+		}
+		return incidentEntity.getMirroredMails();
+	}
+
+	/**
+	 * Returns the (modifiable) ledger of Jira attachments holding attachments of mirrored POB mails for the incident,
+	 * mapping Jira attachment id to mail id.
+	 */
+	private static Map<String, String> getMirroredMailAttachments(final IncidentEntity incidentEntity) {
+		if (incidentEntity.getMirroredMailAttachments() == null) {
+			incidentEntity.setMirroredMailAttachments(new HashMap<>());
+		}
+		return incidentEntity.getMirroredMailAttachments();
+	}
+
+	/**
+	 * Fetches the POB content that is mirrored to Jira. Mail and attachment binaries are not fetched here, only their ids.
+	 */
+	private PobContent getPobContent(final String pobIssueKey) {
+		return new PobContent(
+			toDescription(pobClient.getCase(pobIssueKey).orElse(null)),
+			toProblemMemo(pobClient.getProblemMemo(pobIssueKey).orElse(null)),
+			toCaseInternalNotesCustomMemo(pobClient.getCaseInternalNotesCustom(pobIssueKey).orElse(null)),
+			pobClient.getReceivedMailIds(pobIssueKey),
+			pobClient.getAttachments(pobIssueKey).orElse(null));
 	}
 
-	private void updatePob(final IncidentEntity incidentEntity, final Issue jiraIssue, final PobPayload pobAttachments) {
-		updatePobComment(incidentEntity, jiraIssue);
-		updatePobDescription(incidentEntity, jiraIssue);
-		updatePobAttachments(incidentEntity, jiraIssue.getFields().getAttachments().getAttachments(), pobAttachments);
-		updateJiraIssue(incidentEntity);
+	/**
+	 * Returns the "updated" timestamp of the Jira issue after this service has written to it, if the last update of the
+	 * issue was made by this service. An update timestamp that isn't later than this is the echo of this service's own
+	 * write. If someone else has updated the issue after the write (or the last update can't be attributed), the
+	 * timestamp would mask that change, and empty is returned.
+	 */
+	private Optional<OffsetDateTime> getJiraRevision(final String jiraIssueKey) {
+		return jiraIncidentClient.getIssueRevision(jiraIssueKey)
+			.filter(revision -> Objects.equals(revision.author(), jiraIncidentClient.getProperties().username()))
+			.map(IssueRevisionView::updated);
+	}
 
-		incidentRepository.saveAndFlush(incidentEntity
-			.withStatus(SYNCHRONIZED)
-			.withLastSynchronizedPob(now(systemDefault())));
+	/**
+	 * Waits for all provided requests to complete. The first failure is rethrown (unwrapped from the CompletionException).
+	 *
+	 * @param pendingRequests the requests to wait for.
+	 */
+	private static void awaitAll(final List<CompletableFuture<?>> pendingRequests) {
+		try {
+			CompletableFuture.allOf(pendingRequests.toArray(CompletableFuture[]::new)).join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
 
-		LOGGER.info("Issue '{}' synchronized in POB", incidentEntity.getPobIssueKey());
+	/**
+	 * Synchronize issues that have been updated in Jira towards POB.
+	 * <p>
+	 * The Jira changelog since the last synchronization towards POB is used to find out which fields that actually have
+	 * been changed, and only those parts are synchronized (new comments are always synchronized, since comments are not
+	 * part of the changelog). The changelog is read first, and the full Jira issue is only read if a field that is
+	 * mirrored to POB has changed. The Jira issue is only rewritten with POB content if something was written to POB.
+	 *
+	 * @param  municipalityId the municipality to synchronize, or null for all municipalities.
+	 * @param  budget         the time budget of the synchronization cycle.
+	 * @return                the number of processed incidents.
+	 */
+	public int updatePobIssues(final String municipalityId, final SyncBudget budget) {
+		return forEachWithinBudget(PHASE_UPDATE_POB_ISSUES, municipalityId, eventsByStatus(municipalityId, JIRA_INITIATED_EVENT), inPriorityOrder(), budget, loaded(PHASE_UPDATE_POB_ISSUES, JIRA_INITIATED_EVENT,
+			incidentEntity -> jiraIncidentClient.getIssueChangelog(incidentEntity.getJiraIssueKey()).ifPresentOrElse(
+				changelog -> updatePob(incidentEntity, changelog),
+				// Issue does not exist in Jira. Reset the mapping directly, since the unchanged POB content would otherwise leave
+				// the mapping with the key of the missing issue.
+				() -> resetMapping(incidentEntity))));
+	}
+
+	/**
+	 * Returns the names (in lower case) of the Jira fields that have been changed by someone else than this service since
+	 * the last synchronization towards POB, or null if unknown (which means that everything should be synchronized).
+	 */
+	private Set<String> getChangedJiraFields(final IncidentEntity incidentEntity, final IssueChangelogView changelog) {
+		if (incidentEntity.getLastSynchronizedPob() == null) {
+			return null;
+		}
+
+		final var since = incidentEntity.getLastSynchronizedPob().minusSeconds(synchronizationProperties.clockSkewInSeconds());
+		return changelog.changedFieldsSince(since, jiraIncidentClient.getProperties().username());
+	}
+
+	private void updatePob(final IncidentEntity incidentEntity, final IssueChangelogView changelog) {
+		final var changedFields = getChangedJiraFields(incidentEntity, changelog);
+		final var fullSync = changedFields == null;
+		final var descriptionChanged = fullSync || changedFields.contains(JIRA_FIELD_DESCRIPTION);
+		final var attachmentsChanged = fullSync || changedFields.contains(JIRA_FIELD_ATTACHMENT);
+
+		var pobUpdated = updatePobComment(incidentEntity);
+		if (descriptionChanged || attachmentsChanged) {
+			final var jiraIssue = jiraIncidentClient.getIssue(incidentEntity.getJiraIssueKey());
+			if (jiraIssue.isEmpty()) {
+				// Issue was removed in Jira after the changelog was read.
+				resetMapping(incidentEntity);
+				return;
+			}
+			if (descriptionChanged) {
+				pobUpdated |= updatePobDescription(incidentEntity, jiraIssue.get());
+			}
+			if (attachmentsChanged) {
+				pobUpdated |= updatePobAttachments(incidentEntity, jiraIssue.get().getFields().getAttachments().getAttachments(), pobClient.getAttachments(incidentEntity.getPobIssueKey()).orElse(null));
+			}
+		}
+
+		// The Jira issue is now synchronized up to the revision of the changelog, so that the changes aren't polled as a new
+		// event again (also when nothing is written back to Jira). A rewrite of the Jira issue below moves the revision on.
+		Optional.ofNullable(changelog.updated()).ifPresent(incidentEntity::setJiraRevision);
+
+		// Mirror the updated POB content back to Jira, which decides the status (e.g. when Jira was changed during the write).
+		if (pobUpdated) {
+			updateJiraIssue(incidentEntity);
+		}
+
+		incidentRepository.save(incidentEntity
+			.withStatus(pobUpdated ? incidentEntity.getStatus() : SYNCHRONIZED)
+			.withLastSynchronizedPob(now(systemDefault()))
+			.withNextPollAt(null));
+
+		LOGGER.info("Issue '{}' synchronized in POB (changed fields in Jira: {})", incidentEntity.getPobIssueKey(), fullSync ? "unknown" : changedFields);
 	}
 
 	private void updatePobUser(final IncidentEntity incidentEntity) {
 		pobClient.updateCase(toResponsibleGroupPayload(incidentEntity.getPobIssueKey(), synchronizationProperties.responsibleUserGroupInPob()));
 	}
 
-	private void updatePobComment(final IncidentEntity incidentEntity, final Issue jiraIssue) {
-		jiraIssue.getFields().getComments().stream()
-			.filter(comment -> comment.getCreated().isAfter(Optional.ofNullable(incidentEntity.getLastSynchronizedPob()).orElse(MIN).plusSeconds(synchronizationProperties.clockSkewInSeconds())))
-			.filter(comment -> comment.getAuthor() != null)
-			.filter(comment -> !comment.getAuthor().getName().equals(jiraIncidentClient.getProperties().username()))
-			.forEach(comment -> updatePobWithComment(incidentEntity, comment.getAuthor().getDisplayName() + ":\n " + comment.getBody()));
+	/**
+	 * Propagates new Jira comments (not written by this service) to POB.
+	 * <p>
+	 * All comments are read page by page, and the id of every propagated comment is recorded in a ledger so that no
+	 * comment is propagated twice. Comments are always read from the start, since a position within the comments is
+	 * shifted when comments are removed in Jira (and new comments could then be missed).
+	 *
+	 * @param  incidentEntity the incident to propagate comments for.
+	 * @return                true if any comment was propagated to POB.
+	 */
+	private boolean updatePobComment(final IncidentEntity incidentEntity) {
+		final var jiraIssueKey = incidentEntity.getJiraIssueKey();
+		final var username = jiraIncidentClient.getProperties().username();
+		final var propagatedComments = getPropagatedComments(incidentEntity);
+
+		var page = jiraIncidentClient.getComments(jiraIssueKey, 0).orElse(null);
+		var updated = false;
+		while (page != null) {
+			for (final var comment : page.comments()) {
+				if ((comment.author() != null) && !comment.author().equals(username) && !propagatedComments.contains(comment.id())) {
+					updatePobWithComment(incidentEntity, comment.authorDisplayName() + ":\n " + comment.body());
+					propagatedComments.add(comment.id());
+					updated = true;
+				}
+			}
+			page = page.isLast() ? null : jiraIncidentClient.getComments(jiraIssueKey, page.nextStartAt()).orElse(null);
+		}
+		return updated;
+	}
+
+	/**
+	 * Returns the (modifiable) ledger of Jira comments propagated to POB for the incident.
+	 */
+	private static Set<String> getPropagatedComments(final IncidentEntity incidentEntity) {
+		if (incidentEntity.getPropagatedComments() == null) {
+			incidentEntity.setPropagatedComments(new HashSet<>());
+		}
+		return incidentEntity.getPropagatedComments();
 	}
 
 	private void updatePobWithComment(final IncidentEntity incidentEntity, final String comment) {
 		pobClient.updateCase(toCaseInternalNotesCustomMemoPayload(incidentEntity, comment));
 	}
 
-	private void updatePobDescription(final IncidentEntity incidentEntity, final Issue jiraIssue) {
+	private boolean updatePobDescription(final IncidentEntity incidentEntity, final Issue jiraIssue) {
 		final var pobDescription = toProblemMemo(pobClient.getProblemMemo(incidentEntity.getPobIssueKey()).orElse(null));
 		final var jiraDescription = jiraIssue.getFields().getDescription();
 
 		if ((jiraDescription != null) && !jiraDescription.equals(pobDescription)) {
 			pobClient.updateCase(toProblemPayload(incidentEntity, jiraDescription));
+			return true;
 		}
+		return false;
 	}
 
-	private void updatePobAttachments(final IncidentEntity incidentEntity, final List<Attachment> jiraAttachments, final PobPayload pobAttachments) {
-		jiraAttachments.forEach(jiraAttachment -> updatePobAttachment(incidentEntity, pobAttachments, jiraAttachment));
+	private boolean updatePobAttachments(final IncidentEntity incidentEntity, final List<Attachment> jiraAttachments, final PobPayload pobAttachments) {
+		var updated = false;
+		for (final var jiraAttachment : jiraAttachments) {
+			updated |= updatePobAttachment(incidentEntity, pobAttachments, jiraAttachment);
+		}
+		return updated;
 	}
 
-	private void updatePobAttachment(final IncidentEntity incidentEntity, final PobPayload pobAttachments, final Attachment jiraAttachment) {
+	private boolean updatePobAttachment(final IncidentEntity incidentEntity, final PobPayload pobAttachments, final Attachment jiraAttachment) {
 		final boolean attachmentExists = Optional.ofNullable(pobAttachments).orElse(new PobPayload()).getLinks().stream()
 			.anyMatch(pobAttachment -> Objects.equals(pobAttachment.getRelation(), jiraAttachment.getFilename()));
 
@@ -338,14 +1079,25 @@ public class IncidentService {
 			final var base64String = jiraIncidentClient.getAttachment(jiraAttachment.getContent());
 			final var payload = toAttachmentPayload(jiraAttachment, base64String);
 			pobClient.createAttachment(incidentEntity.getPobIssueKey(), payload);
+			return true;
 		}
+		return false;
 	}
 
-	private List<File> getPobAttachments(final IncidentEntity incidentEntity) {
-		return pobClient.getAttachments(incidentEntity.getPobIssueKey())
+	/**
+	 * Downloads the POB case attachments to the temp folder of the incident.
+	 *
+	 * @param  incidentEntity the incident to download attachments for.
+	 * @param  pobAttachments the case attachment links.
+	 * @param  skipped        predicate for attachments (by link href) that should not be downloaded.
+	 * @return                the downloaded files, by link href.
+	 */
+	private Map<String, File> getPobAttachments(final IncidentEntity incidentEntity, final PobPayload pobAttachments, final Predicate<String> skipped) {
+		return Optional.ofNullable(pobAttachments)
 			.map(attachment -> attachment.getLinks().stream()
 				.filter(link -> isNotEmpty(link.getRelation()))
 				.filter(link -> isNotEmpty(link.getHref()))
+				.filter(link -> !skipped.test(link.getHref()))
 				.map(link -> {
 					var attachmentFileName = link.getRelation();
 					final var href = link.getHref();
@@ -361,18 +1113,18 @@ public class IncidentService {
 						// Remove Illegal characters.
 						attachmentFileName = formatFileName(attachmentFileName);
 
-						final var file = new File(APPLICATION_TEMP_FOLDER_PATH_TEMPLATE.formatted(synchronizationProperties.tempFolder(), incidentEntity.getPobIssueKey(), attachmentFileName));
+						final var file = new File(getTempFolder(incidentEntity), attachmentFileName);
 						copyInputStreamToFile(attachmentResponse.getBody().getInputStream(), file);
 
-						return file;
+						return Map.entry(href, file);
 					} catch (final IOException e) {
 						LOGGER.error("Problem fetching attachment binary data from POB", e);
 						return null;
 					}
 				})
 				.filter(Objects::nonNull)
-				.toList())
-			.orElse(emptyList());
+				.collect(toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first, LinkedHashMap::new)))
+			.orElse(new LinkedHashMap<>());
 	}
 
 	private String formatFileName(String originalFileName) {
@@ -387,20 +1139,90 @@ public class IncidentService {
 			.orElse("FILE");
 	}
 
-	private List<Mail> getPobMails(final IncidentEntity incidentEntity) {
-		return pobClient.getReceivedMailIds(incidentEntity.getPobIssueKey()).stream()
-			.map(payLoad -> pobClient.getMail((String) payLoad.getData().get("Id")).orElse(null))
+	private List<Mail> getPobMails(final List<PobPayload> pobMailIds, final Predicate<String> skipped) {
+		return Optional.ofNullable(pobMailIds).orElse(emptyList()).stream()
+			.map(payLoad -> (String) payLoad.getData().get("Id"))
+			.filter(mailId -> !skipped.test(mailId))
+			.map(mailId -> pobClient.getMail(mailId).orElse(null))
 			.filter(Objects::nonNull)
 			.map(PobMapper::toMail)
 			.filter(Objects::nonNull)
 			.toList();
 	}
 
-	private void removeFilesInTempFolder() {
-		asList(new File(synchronizationProperties.tempFolder()).listFiles())
-			.forEach(file -> {
-				LOGGER.info("Delete file: {}", file.getAbsolutePath());
-				deleteRecursively(file);
-			});
+	/**
+	 * Returns the temp folder of the incident. The phases run concurrently, so each incident has a folder of its own in
+	 * the shared temp folder.
+	 */
+	private File getTempFolder(final IncidentEntity incidentEntity) {
+		return new File(APPLICATION_TEMP_FOLDER_PATH_TEMPLATE.formatted(synchronizationProperties.tempFolder(), incidentEntity.getPobIssueKey()));
+	}
+
+	private void removeTempFolder(final IncidentEntity incidentEntity) {
+		final var tempFolder = getTempFolder(incidentEntity);
+		LOGGER.info("Delete folder: {}", tempFolder.getAbsolutePath());
+		deleteRecursively(tempFolder);
+	}
+
+	/**
+	 * A completed step of the synchronization, to record in the journal.
+	 *
+	 * @param step      the step.
+	 * @param reference a reference to the result of the step, may be null.
+	 */
+	private record JournalStep(String step, String reference) {
+	}
+
+	/**
+	 * The POB content that is mirrored to Jira.
+	 *
+	 * @param summary     the case description (used in the Jira summary).
+	 * @param description the problem memo.
+	 * @param comments    the internal notes.
+	 * @param mailIds     the ids of the received mails.
+	 * @param attachments the case attachment links.
+	 */
+	record PobContent(String summary, String description, String comments, List<PobPayload> mailIds, PobPayload attachments) {
+
+		/**
+		 * Returns a stable fingerprint (SHA-256 hash) of the content. Mails and attachments are represented by their ids
+		 * (and attachment names), since sizes are not part of the POB attachment listing.
+		 */
+		String fingerprint() {
+			final var mailIdValues = Optional.ofNullable(mailIds).orElse(emptyList()).stream()
+				.map(PobPayload::getData)
+				.filter(Objects::nonNull)
+				.map(data -> String.valueOf(data.get("Id")))
+				.sorted()
+				.toList();
+
+			final var attachmentValues = Optional.ofNullable(attachments).map(PobPayload::getLinks).orElse(emptyList()).stream()
+				.map(link -> link.getHref() + "|" + link.getRelation())
+				.sorted()
+				.toList();
+
+			try {
+				final var digest = MessageDigest.getInstance("SHA-256");
+				for (final var value : List.of(nullToEmpty(summary), nullToEmpty(description), nullToEmpty(comments), String.join(",", mailIdValues), String.join(",", attachmentValues))) {
+					digest.update(value.getBytes(UTF_8));
+					digest.update((byte) 0);
+				}
+				return HexFormat.of().formatHex(digest.digest());
+			} catch (final NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * Returns the estimated cost of mirroring the content, i.e. the number of mails and attachments.
+		 */
+		int cost() {
+			return Optional.ofNullable(mailIds).orElse(emptyList()).size()
+				+ Optional.ofNullable(attachments).map(PobPayload::getLinks).orElse(emptyList()).size();
+		}
+
+		private static String nullToEmpty(final String value) {
+			return Optional.ofNullable(value).orElse("");
+		}
 	}
 }
@@ -0,0 +1,69 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The results of polling Jira for a number of incidents, gathered so that they can be written with one bulk update per
+ * new status and per time of the next poll, instead of one update per incident.
+ */
+final class PollBatch {
+
+	private final List<String> changedIds = new ArrayList<>();
+	private final Map<OffsetDateTime, List<String>> idsByNextPollAt = new TreeMap<>();
+	private int size;
+
+	/**
+	 * Adds an incident that has been changed in Jira since the last synchronization.
+	 *
+	 * @param id the incident ID.
+	 */
+	void changed(final String id) {
+		changedIds.add(id);
+		size++;
+	}
+
+	/**
+	 * Adds an incident that has nothing to synchronize, and should be polled again at the given time.
+	 *
+	 * @param id         the incident ID.
+	 * @param nextPollAt the time of the next poll.
+	 */
+	void pollAgainAt(final String id, final OffsetDateTime nextPollAt) {
+		idsByNextPollAt.computeIfAbsent(nextPollAt, key -> new ArrayList<>()).add(id);
+		size++;
+	}
+
+	/**
+	 * @return the IDs of the changed incidents.
+	 */
+	List<String> changedIds() {
+		return List.copyOf(changedIds);
+	}
+
+	/**
+	 * @return the IDs of the incidents to poll again, per time of the next poll.
+	 */
+	Map<OffsetDateTime, List<String>> idsByNextPollAt() {
+		final var copy = new TreeMap<OffsetDateTime, List<String>>();
+		idsByNextPollAt.forEach((nextPollAt, ids) -> copy.put(nextPollAt, List.copyOf(ids)));
+		return copy;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	void clear() {
+		changedIds.clear();
+		idsByNextPollAt.clear();
+		size = 0;
+	}
+}
@@ -1,11 +1,15 @@
 package se.sundsvall.incidentmapper.service;
 
 import generated.se.sundsvall.messaging.SlackRequest;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import se.sundsvall.incidentmapper.integration.messaging.MessagingClient;
 import se.sundsvall.incidentmapper.integration.messaging.configuration.MessagingProperties;
 
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+
 @Service
+@Profile(SYNCHRONIZATION)
 public class SlackService {
 
 	private final MessagingClient messagingClient;
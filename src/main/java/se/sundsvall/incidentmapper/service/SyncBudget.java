@@ -0,0 +1,70 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The time budget of a synchronization cycle.
+ * <p>
+ * The budget is passed down through the phases of the cycle, and work stops cleanly (between incidents) when the
+ * deadline has passed, instead of being cut off by the maximum execution time of the scheduler. The budget can also be
+ * cancelled, e.g. when the lock of the phase is lost.
+ *
+ * @param deadline  the point in time when the budget is exhausted, or null for an unlimited budget.
+ * @param cancelled tells if the budget has been cancelled (and is exhausted regardless of the deadline).
+ */
+public record SyncBudget(Instant deadline, BooleanSupplier cancelled) {
+
+	public SyncBudget(final Instant deadline) {
+		this(deadline, () -> false);
+	}
+
+	/**
+	 * Create a budget that starts now.
+	 *
+	 * @param  timeBudget the time budget, or null for an unlimited budget.
+	 * @return            a SyncBudget.
+	 */
+	public static SyncBudget of(final Duration timeBudget) {
+		return new SyncBudget(timeBudget == null ? null : Instant.now().plus(timeBudget));
+	}
+
+	/**
+	 * Create a budget that is never exhausted.
+	 *
+	 * @return a SyncBudget.
+	 */
+	public static SyncBudget unlimited() {
+		return new SyncBudget(null);
+	}
+
+	/**
+	 * Create a budget that is exhausted when this budget is, or when the given time budget (starting now) is, whichever
+	 * comes first.
+	 *
+	 * @param  timeBudget the time budget, or null for no further limit.
+	 * @return            a SyncBudget.
+	 */
+	public SyncBudget limitedTo(final Duration timeBudget) {
+		if (timeBudget == null) {
+			return this;
+		}
+		final var limit = Instant.now().plus(timeBudget);
+		return new SyncBudget(((deadline == null) || limit.isBefore(deadline)) ? limit : deadline, cancelled);
+	}
+
+	/**
+	 * Create a budget that is exhausted when this budget is, or when the condition is met.
+	 *
+	 * @param  condition the cancel condition.
+	 * @return           a SyncBudget.
+	 */
+	public SyncBudget cancelledWhen(final BooleanSupplier condition) {
+		return new SyncBudget(deadline, () -> cancelled.getAsBoolean() || condition.getAsBoolean());
+	}
+
+	public boolean isExhausted() {
+		return cancelled.getAsBoolean() || ((deadline != null) && !Instant.now().isBefore(deadline));
+	}
+}
@@ -0,0 +1,160 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.incidentmapper.integration.db.SyncStepRepository;
+import se.sundsvall.incidentmapper.integration.db.model.SyncStepEntity;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+
+/**
+ * Journal of the completed steps in the synchronization of an incident.
+ * <p>
+ * Steps are recorded in their own transactions, so that they survive if the synchronization is interrupted (e.g. by a
+ * restart), and a restarted synchronization can skip the steps that are already done. The journal is cleared in the
+ * same transaction as the incident is saved when the synchronization has finished.
+ * <p>
+ * The steps of content that is added repeatedly are keyed by short, fixed length references (see
+ * {@link #mailAttachmentStep(String, int)} and {@link #attachmentStep(String)}), so that the keys fit the step column
+ * and are unique regardless of the names of the content.
+ */
+@Service
+@Profile(SYNCHRONIZATION)
+public class SyncJournal {
+
+	static final String STEP_FINGERPRINT = "fingerprint";
+	static final String STEP_JIRA_ISSUE = "jira-issue";
+	static final String STEP_INITIAL_STATUS = "initial-status";
+	static final String STEP_CLEANUP = "cleanup";
+	static final String STEP_COMMENTS = "comments";
+	static final String STEP_MAIL_PREFIX = "mail:";
+	static final String STEP_MAIL_ATTACHMENT_PREFIX = "mail-attachment:";
+	static final String STEP_ATTACHMENT_PREFIX = "attachment:";
+	static final String STEP_STALE_CONTENT = "stale-content";
+
+	private final SyncStepRepository syncStepRepository;
+
+	public SyncJournal(final SyncStepRepository syncStepRepository) {
+		this.syncStepRepository = syncStepRepository;
+	}
+
+	/**
+	 * Get the steps completed by an earlier, interrupted synchronization of the incident.
+	 * <p>
+	 * Steps recorded for other POB content (fingerprint) are discarded, except the ones that are still valid: the created
+	 * Jira issue (and its initial status) and the mirrored mails (received mails never change). A kept Jira issue holds
+	 * content of the other POB content, which is marked by the step STEP_STALE_CONTENT.
+	 *
+	 * @param  incidentId  the incident ID.
+	 * @param  fingerprint the fingerprint of the POB content that is synchronized.
+	 * @return             a map of completed steps, where the value is the reference recorded with the step.
+	 */
+	@Transactional(propagation = REQUIRES_NEW)
+	public Map<String, String> resume(final String incidentId, final String fingerprint) {
+		final var journaledSteps = syncStepRepository.findByIncidentId(incidentId);
+		final var steps = new HashMap<String, String>();
+		journaledSteps.forEach(step -> steps.put(step.getStep(), step.getReference()));
+
+		if (!Objects.equals(fingerprint, steps.get(STEP_FINGERPRINT))) {
+			syncStepRepository.deleteAll(journaledSteps.stream()
+				.filter(step -> !isReusable(step.getStep()))
+				.toList());
+			steps.keySet().removeIf(step -> !isReusable(step));
+			save(incidentId, STEP_FINGERPRINT, fingerprint);
+			steps.put(STEP_FINGERPRINT, fingerprint);
+
+			if (steps.containsKey(STEP_JIRA_ISSUE)) {
+				save(incidentId, STEP_STALE_CONTENT, null);
+				steps.put(STEP_STALE_CONTENT, null);
+			}
+		}
+		return steps;
+	}
+
+	/**
+	 * Record a completed step.
+	 *
+	 * @param incidentId the incident ID.
+	 * @param step       the step.
+	 * @param reference  a reference to the result of the step (e.g. the ID of a created resource), may be null.
+	 */
+	@Transactional(propagation = REQUIRES_NEW)
+	public void record(final String incidentId, final String step, final String reference) {
+		save(incidentId, step, reference);
+	}
+
+	/**
+	 * Discard all steps of an incident immediately, e.g. when the resources created by earlier steps no longer exist.
+	 *
+	 * @param incidentId the incident ID.
+	 */
+	@Transactional(propagation = REQUIRES_NEW)
+	public void discard(final String incidentId) {
+		syncStepRepository.deleteByIncidentId(incidentId);
+	}
+
+	/**
+	 * Clear all steps of an incident, as part of the current transaction, when the synchronization has finished.
+	 *
+	 * @param incidentId the incident ID.
+	 */
+	@Transactional
+	public void clear(final String incidentId) {
+		syncStepRepository.deleteByIncidentId(incidentId);
+	}
+
+	/**
+	 * Returns the step of a mail attachment. Received mails never change, so the attachment is identified by its index in
+	 * the mail (attachment names might be long, and are not unique within a mail).
+	 *
+	 * @param  mailId the mail ID.
+	 * @param  index  the index of the attachment in the mail.
+	 * @return        the step.
+	 */
+	static String mailAttachmentStep(final String mailId, final int index) {
+		return STEP_MAIL_ATTACHMENT_PREFIX + mailId + "/" + index;
+	}
+
+	/**
+	 * Returns the mail ID of a mail attachment step.
+	 *
+	 * @param  step the step (see {@link #mailAttachmentStep(String, int)}).
+	 * @return      the mail ID.
+	 */
+	static String mailIdOf(final String step) {
+		return step.substring(STEP_MAIL_ATTACHMENT_PREFIX.length(), step.lastIndexOf('/'));
+	}
+
+	/**
+	 * Returns the step of a case attachment, identified by a hash (SHA-256) of the link to the attachment.
+	 *
+	 * @param  href the link to the attachment.
+	 * @return      the step.
+	 */
+	static String attachmentStep(final String href) {
+		try {
+			return STEP_ATTACHMENT_PREFIX + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(href.getBytes(UTF_8)));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean isReusable(final String step) {
+		return STEP_JIRA_ISSUE.equals(step) || STEP_INITIAL_STATUS.equals(step) || step.startsWith(STEP_MAIL_PREFIX) || step.startsWith(STEP_MAIL_ATTACHMENT_PREFIX);
+	}
+
+	private void save(final String incidentId, final String step, final String reference) {
+		syncStepRepository.save(syncStepRepository.findByIncidentIdAndStep(incidentId, step)
+			.orElseGet(() -> SyncStepEntity.create().withIncidentId(incidentId).withStep(step))
+			.withReference(reference));
+	}
+}
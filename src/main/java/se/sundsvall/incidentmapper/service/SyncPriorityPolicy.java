@@ -0,0 +1,70 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import se.sundsvall.incidentmapper.integration.db.model.EventSummary;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.Priority;
+
+import static java.time.OffsetDateTime.now;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * Decides the order in which incidents are synchronized when there is a backlog.
+ * <p>
+ * Every incident gets a score from the municipality, the time the incident has been waiting and the estimated cost
+ * (see {@link Priority}), and incidents with higher score are processed first. The waiting time is counted on a
+ * logarithmic scale, so that old incidents can't outgrow the municipality weights. The incidents are only reordered within
+ * windows of consecutive incidents (see {@link Priority#windowSize()}), so that the incoming (checkpoint) order still
+ * decides which incidents are processed in a run. The sort is stable, so incidents with the same score keep their
+ * incoming order.
+ */
+final class SyncPriorityPolicy {
+
+	private static final double MILLIS_PER_MINUTE = 60_000d;
+
+	private final Priority priority;
+
+	/**
+	 * @param priority the prioritization settings, or null to keep the incoming order.
+	 */
+	SyncPriorityPolicy(final Priority priority) {
+		this.priority = priority;
+	}
+
+	/**
+	 * Returns the incidents ordered by priority (highest first) within each window.
+	 *
+	 * @param  incidents the incidents.
+	 * @return           a new list with the incidents in priority order.
+	 */
+	<T extends EventSummary> List<T> order(final List<T> incidents) {
+		if (priority == null) {
+			return incidents;
+		}
+
+		final var timestamp = now();
+		final var windowSize = Math.max(1, priority.windowSize());
+		final var orderedIncidents = new ArrayList<T>(incidents.size());
+		for (var start = 0; start < incidents.size(); start += windowSize) {
+			incidents.subList(start, Math.min(start + windowSize, incidents.size())).stream()
+				.sorted(comparingDouble((T incident) -> score(incident, timestamp)).reversed())
+				.forEach(orderedIncidents::add);
+		}
+		return orderedIncidents;
+	}
+
+	double score(final EventSummary incident, final OffsetDateTime timestamp) {
+		// The incident has been waiting since its last change (the event that put it in the phase).
+		final var waitingSince = Optional.ofNullable(incident.getModified()).orElse(incident.getCreated());
+		final var waitingMinutes = (waitingSince == null) ? 0d : Math.max(0, Duration.between(waitingSince, timestamp).toMillis()) / MILLIS_PER_MINUTE;
+		final var cost = Optional.ofNullable(incident.getSyncCost()).orElse(0);
+		final var municipalityWeight = Optional.ofNullable(incident.getMunicipalityId())
+			.flatMap(municipalityId -> Optional.ofNullable(priority.municipalityWeights()).map(weights -> weights.get(municipalityId)))
+			.orElse(0d);
+
+		return municipalityWeight + (priority.ageWeight() * Math.log1p(waitingMinutes)) - (priority.costWeight() * cost);
+	}
+}
@@ -0,0 +1,149 @@
+package se.sundsvall.incidentmapper.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentSummary;
+import se.sundsvall.incidentmapper.integration.db.model.MunicipalityBacklog;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.Tenants;
+
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+
+/**
+ * Weighted fair scheduling of synchronization work across municipalities (tenants).
+ * <p>
+ * The incidents of a phase are split in one queue per municipality (keeping the priority order within each queue).
+ * First every municipality gets its minimum progress per cycle, then the queues are served round-robin where each
+ * municipality gets as many incidents per round as its share. A municipality with a huge backlog therefore can't use
+ * up the whole cycle while the others wait.
+ * <p>
+ * The incidents of a phase are scheduled one page at a time, so the fairness applies within each page. The backlog per
+ * phase and municipality (counted in the database when a phase starts) is published as the gauge
+ * "incident.sync.backlog", and the processed incidents as the counter "incident.sync.processed".
+ */
+@Component
+@Profile(SYNCHRONIZATION)
+public class TenantScheduler {
+
+	private static final String METRIC_PREFIX = "incident.sync";
+	private static final String TAG_PHASE = "phase";
+	private static final String TAG_MUNICIPALITY = "municipality";
+	private static final String UNKNOWN_MUNICIPALITY = "unknown";
+
+	private final Tenants tenants;
+	private final MeterRegistry meterRegistry;
+	private final Map<TenantKey, AtomicInteger> backlogs = new ConcurrentHashMap<>();
+
+	public TenantScheduler(final SynchronizationProperties synchronizationProperties, final MeterRegistry meterRegistry) {
+		this.tenants = Optional.ofNullable(synchronizationProperties.tenants()).orElse(new Tenants(1, Map.of(), 1));
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Sets the backlog metrics of a phase, where municipalities that have no pending work left in the phase get a zero
+	 * backlog.
+	 *
+	 * @param phase    the name of the synchronization phase.
+	 * @param backlogs the number of incidents waiting in the phase, per municipality.
+	 */
+	public void updateBacklog(final String phase, final List<MunicipalityBacklog> backlogs) {
+		final var backlogByTenant = new HashMap<String, Long>();
+		backlogs.forEach(backlog -> backlogByTenant.merge(tenantOf(backlog.getMunicipalityId()), Optional.ofNullable(backlog.getIncidents()).orElse(0L), Long::sum));
+
+		this.backlogs.forEach((key, backlog) -> {
+			if (key.phase().equals(phase) && !backlogByTenant.containsKey(key.municipality())) {
+				backlog.set(0);
+			}
+		});
+		backlogByTenant.forEach((tenant, incidents) -> backlog(phase, tenant).set(incidents.intValue()));
+	}
+
+	/**
+	 * Returns the incidents in the order they should be processed.
+	 *
+	 * @param  incidents the incidents of the phase, in priority order.
+	 * @return           a new list with the incidents in fair order.
+	 */
+	public <T extends IncidentSummary> List<T> schedule(final List<T> incidents) {
+		final var queues = new LinkedHashMap<String, Deque<T>>();
+		incidents.forEach(incident -> queues.computeIfAbsent(tenantOf(incident), tenant -> new ArrayDeque<>()).add(incident));
+
+		final var scheduled = new ArrayList<T>(incidents.size());
+
+		// Minimum progress for every municipality (per page of the cycle).
+		queues.values().forEach(queue -> take(queue, tenants.minimumPerCycle(), scheduled));
+
+		// Weighted round-robin over the rest.
+		while (scheduled.size() < incidents.size()) {
+			queues.forEach((tenant, queue) -> take(queue, shareOf(tenant), scheduled));
+		}
+		return scheduled;
+	}
+
+	/**
+	 * Records that an incident has been processed in a phase.
+	 *
+	 * @param phase    the name of the synchronization phase.
+	 * @param incident the processed incident.
+	 */
+	public void processed(final String phase, final IncidentSummary incident) {
+		final var tenant = tenantOf(incident);
+		backlog(phase, tenant).updateAndGet(backlog -> Math.max(0, backlog - 1));
+		Counter.builder(METRIC_PREFIX + ".processed")
+			.description("Number of incidents processed by the synchronization")
+			.tag(TAG_PHASE, phase)
+			.tag(TAG_MUNICIPALITY, tenant)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	int shareOf(final String tenant) {
+		return Math.max(1, Optional.ofNullable(tenants.shares()).map(shares -> shares.get(tenant)).orElse(tenants.defaultShare()));
+	}
+
+	int backlogOf(final String phase, final String tenant) {
+		return backlog(phase, tenant).get();
+	}
+
+	private AtomicInteger backlog(final String phase, final String tenant) {
+		return backlogs.computeIfAbsent(new TenantKey(phase, tenant), key -> {
+			final var backlog = new AtomicInteger();
+			Gauge.builder(METRIC_PREFIX + ".backlog", backlog, AtomicInteger::get)
+				.description("Number of incidents waiting to be processed by the synchronization")
+				.tag(TAG_PHASE, phase)
+				.tag(TAG_MUNICIPALITY, tenant)
+				.register(meterRegistry);
+			return backlog;
+		});
+	}
+
+	private static <T extends IncidentSummary> void take(final Deque<T> queue, final int count, final List<T> scheduled) {
+		for (var taken = 0; (taken < count) && !queue.isEmpty(); taken++) {
+			scheduled.add(queue.poll());
+		}
+	}
+
+	private static String tenantOf(final IncidentSummary incident) {
+		return tenantOf(incident.getMunicipalityId());
+	}
+
+	private static String tenantOf(final String municipalityId) {
+		return Optional.ofNullable(municipalityId).orElse(UNKNOWN_MUNICIPALITY);
+	}
+
+	private record TenantKey(String phase, String municipality) {
+	}
+}
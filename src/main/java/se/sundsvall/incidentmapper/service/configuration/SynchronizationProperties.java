@@ -1,6 +1,107 @@
 package se.sundsvall.incidentmapper.service.configuration;
 
+import java.time.Duration;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+/**
+ * Synchronization settings.
+ *
+ * @param clockSkewInSeconds        clock-skew in seconds between this service, POB and Jira.
+ * @param tempFolder                the folder where files are temporarily stored during execution.
+ * @param responsibleUserGroupInPob the user group that is assigned POB issues when the Jira issue is closed.
+ * @param cycleTimeBudget           the time budget of a synchronization cycle where all phases run in sequence (e.g.
+ *                                  when triggered manually).
+ * @param phaseTimeBudgets          the time budgets of the independently scheduled phases.
+ * @param priority                  the prioritization of synchronization work.
+ * @param polling                   the intervals for polling Jira for updates.
+ * @param tenants                   the fair scheduling of synchronization work across municipalities.
+ * @param municipalityId            the municipality that the scheduled synchronization is limited to, or null for all
+ *                                  municipalities.
+ * @param shutdownGracePeriod       the time in-flight synchronization gets to finish on shutdown, before it's interrupted.
+ * @param cadence                   the adaptive cadence of the scheduled phases that process events.
+ */
 @ConfigurationProperties("application.synchronization")
-public record SynchronizationProperties(int clockSkewInSeconds, String tempFolder, String responsibleUserGroupInPob) {}
+public record SynchronizationProperties(int clockSkewInSeconds, String tempFolder, String responsibleUserGroupInPob, @DefaultValue("PT8M") Duration cycleTimeBudget, @DefaultValue PhaseTimeBudgets phaseTimeBudgets, @DefaultValue Priority priority, @DefaultValue Polling polling, @DefaultValue Tenants tenants, String municipalityId, @DefaultValue("PT30S") Duration shutdownGracePeriod, @DefaultValue Cadence cadence) {
+
+	/**
+	 * Time budgets of the independently scheduled phases. Each budget should be shorter than the maximum execution time
+	 * of the phase's schedule, leaving room for the incident in progress.
+	 *
+	 * @param pollJiraIssues   the time budget for polling Jira for updates.
+	 * @param updatePobIssues  the time budget for synchronizing Jira updates to POB.
+	 * @param updateJiraIssues the time budget for synchronizing POB updates to Jira (and creating Jira issues).
+	 * @param closeIssues      the time budget for the close sweep.
+	 */
+	public record PhaseTimeBudgets(
+		@DefaultValue("PT4M") Duration pollJiraIssues,
+		@DefaultValue("PT4M") Duration updatePobIssues,
+		@DefaultValue("PT4M") Duration updateJiraIssues,
+		@DefaultValue("PT8M") Duration closeIssues) {
+	}
+
+	/**
+	 * Prioritization of the synchronization work in the phases that process events. Incidents with the highest score are
+	 * processed first, where the score is the municipality weight, plus the age weight times the natural logarithm of
+	 * (1 + the minutes since the incident was last changed), minus the cost weight per mail and attachment (from the last
+	 * synchronization). Incidents are only
+	 * prioritized among the incidents in the same window (in checkpoint order), so that the backlog is still worked
+	 * through from the checkpoint.
+	 *
+	 * @param ageWeight           score per natural logarithm of the minutes since the incident was last changed.
+	 * @param costWeight          score deducted per mail and attachment of the incident.
+	 * @param municipalityWeights score per municipality ID.
+	 * @param windowSize          the number of consecutive incidents (in checkpoint order) that are prioritized among each
+	 *                            other.
+	 */
+	public record Priority(
+		@DefaultValue("1.0") double ageWeight,
+		@DefaultValue("0.5") double costWeight,
+		@DefaultValue Map<String, Double> municipalityWeights,
+		@DefaultValue("50") int windowSize) {
+	}
+
+	/**
+	 * Adaptive intervals for polling Jira for updates. The interval of an issue is the time it has been quiet (since the
+	 * last update in Jira or synchronization) multiplied by the activity factor, within the min and max interval. Active
+	 * issues are polled often, and issues nobody has touched in weeks are polled seldom.
+	 *
+	 * @param minInterval    the shortest interval (for active issues).
+	 * @param maxInterval    the longest interval (the cap for quiet issues).
+	 * @param activityFactor the part of the quiet time that is used as interval.
+	 */
+	public record Polling(
+		@DefaultValue("PT30S") Duration minInterval,
+		@DefaultValue("PT1H") Duration maxInterval,
+		@DefaultValue("0.1") double activityFactor) {
+	}
+
+	/**
+	 * Fair scheduling of synchronization work across municipalities. The phases process one incident at a time, so the
+	 * share is the number of incidents a municipality gets in each round of the round-robin.
+	 *
+	 * @param defaultShare    the share of municipalities that are not configured in shares.
+	 * @param shares          the share per municipality ID.
+	 * @param minimumPerCycle the number of incidents every municipality gets processed first in each cycle.
+	 */
+	public record Tenants(
+		@DefaultValue("1") int defaultShare,
+		@DefaultValue Map<String, Integer> shares,
+		@DefaultValue("1") int minimumPerCycle) {
+	}
+
+	/**
+	 * Adaptive cadence of the scheduled phases that process events (POB and Jira initiated). A phase runs again at the
+	 * next tick of its schedule while events are pending. When no events are pending, the interval between checks is
+	 * doubled for every idle check, from the min interval up to the max interval. The schedule should tick at the min
+	 * interval.
+	 *
+	 * @param minInterval the shortest interval (while events are pending, and right after they're processed).
+	 * @param maxInterval the longest interval (when idle).
+	 */
+	public record Cadence(
+		@DefaultValue("PT5S") Duration minInterval,
+		@DefaultValue("PT2M") Duration maxInterval) {
+	}
+}
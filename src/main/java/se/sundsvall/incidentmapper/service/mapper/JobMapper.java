@@ -0,0 +1,82 @@
+package se.sundsvall.incidentmapper.service.mapper;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import se.sundsvall.incidentmapper.api.model.Job;
+import se.sundsvall.incidentmapper.api.model.JobPhase;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobEntity;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobPhaseEmbeddable;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJob;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+
+public final class JobMapper {
+
+	private JobMapper() {
+		// No instantiation allowed.
+	}
+
+	public static Job toJob(final SyncJob syncJob) {
+		return Job.create()
+			.withId(syncJob.getId())
+			.withMunicipalityId(syncJob.getMunicipalityId())
+			.withStatus(syncJob.getStatus().name())
+			.withProgress(syncJob.getProgress())
+			.withQueued(syncJob.getQueued())
+			.withStarted(syncJob.getStarted())
+			.withFinished(syncJob.getFinished())
+			.withPhases(syncJob.getPhases().stream()
+				.map(JobMapper::toJobPhase)
+				.toList());
+	}
+
+	public static Job toJob(final SyncJobEntity syncJobEntity) {
+		return Job.create()
+			.withId(syncJobEntity.getId())
+			.withMunicipalityId(syncJobEntity.getMunicipalityId())
+			.withStatus(syncJobEntity.getStatus())
+			.withProgress(syncJobEntity.getProgress())
+			.withQueued(syncJobEntity.getQueued())
+			.withStarted(syncJobEntity.getStarted())
+			.withFinished(syncJobEntity.getFinished())
+			.withPhases(syncJobEntity.getPhases().stream()
+				.map(phase -> toJobPhase(phase.getName(), phase.getStatus(), phase.getStarted(), phase.getFinished(), phase.getProcessed()))
+				.toList());
+	}
+
+	public static SyncJobEntity toSyncJobEntity(final SyncJob syncJob) {
+		return SyncJobEntity.create()
+			.withId(syncJob.getId())
+			.withMunicipalityId(syncJob.getMunicipalityId())
+			.withStatus(syncJob.getStatus().name())
+			.withProgress(syncJob.getProgress())
+			.withQueued(syncJob.getQueued())
+			.withStarted(syncJob.getStarted())
+			.withFinished(syncJob.getFinished())
+			.withModified(now(systemDefault()))
+			.withPhases(new ArrayList<>(syncJob.getPhases().stream()
+				.map(phase -> SyncJobPhaseEmbeddable.create()
+					.withName(phase.name())
+					.withStatus(phase.status().name())
+					.withStarted(phase.started())
+					.withFinished(phase.finished())
+					.withProcessed(phase.processed()))
+				.toList()));
+	}
+
+	private static JobPhase toJobPhase(final SyncJob.Phase phase) {
+		return toJobPhase(phase.name(), phase.status().name(), phase.started(), phase.finished(), phase.processed());
+	}
+
+	private static JobPhase toJobPhase(final String name, final String status, final OffsetDateTime started, final OffsetDateTime finished, final Integer processed) {
+		return JobPhase.create()
+			.withName(name)
+			.withStatus(status)
+			.withStarted(started)
+			.withFinished(finished)
+			.withDurationInMillis(((started == null) || (finished == null)) ? null : Duration.between(started, finished).toMillis())
+			.withProcessed(processed);
+	}
+}
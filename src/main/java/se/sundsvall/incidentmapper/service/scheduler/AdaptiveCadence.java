@@ -0,0 +1,104 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
+import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+
+/**
+ * Adapts the cadence of the scheduled phases that process events to the backlog of the phase.
+ * <p>
+ * The schedules of the phases tick at the min interval, and every tick asks if the phase is due. A phase with pending
+ * events runs at every tick until the backlog is processed. When no events are pending, the phase backs off: the
+ * interval until the backlog is checked again is doubled for every idle check, up to the max interval.
+ * <p>
+ * The cadence is kept per instance. With several instances, the instance that gets the lock at a tick decides on its
+ * own cadence, so an idle phase is checked somewhat more often than the max interval.
+ */
+@Component
+@Profile(SYNCHRONIZATION)
+public class AdaptiveCadence {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveCadence.class);
+
+	private final IncidentRepository incidentRepository;
+	private final SynchronizationProperties synchronizationProperties;
+	private final Clock clock;
+	private final Map<String, State> states = new ConcurrentHashMap<>();
+
+	@Autowired
+	public AdaptiveCadence(final IncidentRepository incidentRepository, final SynchronizationProperties synchronizationProperties) {
+		this(incidentRepository, synchronizationProperties, Clock.systemDefaultZone());
+	}
+
+	AdaptiveCadence(final IncidentRepository incidentRepository, final SynchronizationProperties synchronizationProperties, final Clock clock) {
+		this.incidentRepository = incidentRepository;
+		this.synchronizationProperties = synchronizationProperties;
+		this.clock = clock;
+	}
+
+	/**
+	 * Tells if a phase should run now, i.e. if its next check is due and it has pending events. A phase without pending
+	 * events backs off.
+	 *
+	 * @param  phase          the phase.
+	 * @param  municipalityId the municipality that the phase is limited to, or null for all municipalities.
+	 * @param  status         the status of the events that the phase processes.
+	 * @return                true if the phase should run.
+	 */
+	public boolean isDue(final String phase, final String municipalityId, final Status status) {
+		final var state = states.get(phase);
+		if ((state != null) && clock.instant().isBefore(state.nextCheck())) {
+			return false;
+		}
+
+		if (countPending(municipalityId, status) > 0) {
+			return true;
+		}
+
+		final var cadence = synchronizationProperties.cadence();
+		final var interval = (state == null) ? cadence.minInterval() : min(state.interval().multipliedBy(2), cadence.maxInterval());
+		LOGGER.debug("No pending events in phase '{}', next check in {}", phase, interval);
+		states.put(phase, new State(interval, clock.instant().plus(interval)));
+		return false;
+	}
+
+	/**
+	 * Update the cadence of a phase that has run. The phase runs again at the next tick if events still are pending,
+	 * otherwise after the min interval.
+	 *
+	 * @param phase          the phase.
+	 * @param municipalityId the municipality that the phase is limited to, or null for all municipalities.
+	 * @param status         the status of the events that the phase processes.
+	 */
+	public void completed(final String phase, final String municipalityId, final Status status) {
+		final var minInterval = synchronizationProperties.cadence().minInterval();
+		final var nextCheck = (countPending(municipalityId, status) > 0) ? clock.instant() : clock.instant().plus(minInterval);
+		states.put(phase, new State(minInterval, nextCheck));
+	}
+
+	private long countPending(final String municipalityId, final Status status) {
+		if (municipalityId == null) {
+			return incidentRepository.countByStatus(status);
+		}
+		return incidentRepository.countByMunicipalityIdAndStatus(municipalityId, status);
+	}
+
+	private static Duration min(final Duration first, final Duration second) {
+		return (first.compareTo(second) <= 0) ? first : second;
+	}
+
+	private record State(Duration interval, Instant nextCheck) {
+	}
+}
@@ -0,0 +1,145 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import se.sundsvall.incidentmapper.service.SyncBudget;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+
+/**
+ * Keeps the lock (lease) of a synchronization phase alive while the phase runs.
+ * <p>
+ * The phase locks are acquired with a short time to live, so that the lock of an instance that dies expires within
+ * seconds and another instance can take over. While the phase runs, the lock is extended by a heartbeat three times per
+ * time to live. The work runs in a separate thread, since a lock can only be extended by the thread that holds it. If
+ * the lock can't be extended, the budget of the phase is cancelled so that the work stops between incidents, instead of
+ * continuing while another instance may take over the phase.
+ * <p>
+ * On shutdown, the running phases are drained: their budgets are cancelled so that no new incidents are started, and
+ * the incidents in progress get the shutdown grace period to finish (with the locks still extended). Incidents that
+ * don't finish in time are interrupted, and are retried from their recorded steps by the next run (see
+ * {@link se.sundsvall.incidentmapper.service.SyncJournal}).
+ */
+@Component
+@Profile(SYNCHRONIZATION)
+public class LeaseHeartbeat implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LeaseHeartbeat.class);
+
+	private static final String THREAD_PREFIX = "sync-phase-";
+	private static final int HEARTBEATS_PER_TIME_TO_LIVE = 3;
+
+	private final ExecutorService executor;
+	private final Duration shutdownGracePeriod;
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	public LeaseHeartbeat(final SynchronizationProperties synchronizationProperties) {
+		this(Executors.newCachedThreadPool(new CustomizableThreadFactory(THREAD_PREFIX)), synchronizationProperties.shutdownGracePeriod());
+	}
+
+	LeaseHeartbeat(final ExecutorService executor, final Duration shutdownGracePeriod) {
+		this.executor = executor;
+		this.shutdownGracePeriod = shutdownGracePeriod;
+	}
+
+	/**
+	 * A lease that can be extended.
+	 */
+	@FunctionalInterface
+	public interface Lease {
+
+		/**
+		 * Extend the lease.
+		 *
+		 * @param  timeToLive the new time to live, from now.
+		 * @return            true if the lease was extended, false if it's lost.
+		 */
+		boolean extend(Duration timeToLive);
+	}
+
+	/**
+	 * Run work while extending the lease, and wait for it to finish.
+	 *
+	 * @param  timeToLive the time to live of the lease.
+	 * @param  budget     the time budget of the work.
+	 * @param  work       the work, which gets a budget that is cancelled if the lease is lost.
+	 * @param  lease      the lease to extend.
+	 * @return            the result of the work (the number of processed incidents).
+	 * @throws            IllegalStateException if the application is shutting down.
+	 */
+	public int run(final Duration timeToLive, final SyncBudget budget, final ToIntFunction<SyncBudget> work, final Lease lease) {
+		if (draining.get()) {
+			throw new IllegalStateException("Shutting down, the phase is not started");
+		}
+
+		final var lost = new AtomicBoolean();
+		final var future = executor.submit(() -> work.applyAsInt(budget.cancelledWhen(() -> lost.get() || draining.get())));
+		final var heartbeatInterval = timeToLive.dividedBy(HEARTBEATS_PER_TIME_TO_LIVE).toMillis();
+
+		while (true) {
+			try {
+				return future.get(heartbeatInterval, MILLISECONDS);
+			} catch (final TimeoutException e) {
+				if (!lost.get() && !extend(lease, timeToLive)) {
+					LOGGER.warn("Unable to extend the lock, the phase stops after the incident in progress");
+					lost.set(true);
+				}
+			} catch (final ExecutionException e) {
+				if (e.getCause() instanceof final RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IllegalStateException(e.getCause());
+			} catch (final InterruptedException e) {
+				lost.set(true);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the phase to finish", e);
+			}
+		}
+	}
+
+	/**
+	 * Drain the running phases on shutdown, before the scheduler and the rest of the application are stopped.
+	 */
+	@EventListener(ContextClosedEvent.class)
+	public void drain() {
+		draining.set(true);
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(shutdownGracePeriod.toMillis(), MILLISECONDS)) {
+				LOGGER.warn("Synchronization in progress not finished within {}, it's interrupted and retried by the next run", shutdownGracePeriod);
+				executor.shutdownNow();
+			}
+		} catch (final InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private static boolean extend(final Lease lease, final Duration timeToLive) {
+		try {
+			return lease.extend(timeToLive);
+		} catch (final RuntimeException e) {
+			LOGGER.warn("Failed to extend the lock: {}", e.getMessage());
+			return false;
+		}
+	}
+}
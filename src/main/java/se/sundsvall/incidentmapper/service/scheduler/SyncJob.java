@@ -0,0 +1,168 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.COMPLETED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.FAILED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.PENDING;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.RUNNING;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.SKIPPED;
+
+/**
+ * A manually triggered synchronization job, and its progress.
+ * <p>
+ * The job is updated by the thread that runs it and read by status requests, so all state is accessed under the lock
+ * of the job. Every change of the job is reported to the listener of the job (under the lock), so that the state can be
+ * stored.
+ */
+public class SyncJob {
+
+	public enum Status {
+		QUEUED,
+		RUNNING,
+		COMPLETED,
+		FAILED
+	}
+
+	public enum PhaseStatus {
+		PENDING,
+		RUNNING,
+		COMPLETED,
+		SKIPPED,
+		FAILED
+	}
+
+	/**
+	 * Snapshot of a phase of the job.
+	 *
+	 * @param name      the phase name.
+	 * @param status    the phase status.
+	 * @param started   when the phase was started, or null if not started.
+	 * @param finished  when the phase was finished, or null if not finished.
+	 * @param processed the number of processed incidents, or null if the phase hasn't completed.
+	 */
+	public record Phase(String name, PhaseStatus status, OffsetDateTime started, OffsetDateTime finished, Integer processed) {
+	}
+
+	private final String id = UUID.randomUUID().toString();
+	private final String municipalityId;
+	private final OffsetDateTime queued = now(systemDefault());
+	private final Map<String, Phase> phases = new LinkedHashMap<>();
+	private final Consumer<SyncJob> listener;
+	private Status status = Status.QUEUED;
+	private OffsetDateTime started;
+	private OffsetDateTime finished;
+
+	SyncJob(final String municipalityId, final List<String> phaseNames) {
+		this(municipalityId, phaseNames, job -> {});
+	}
+
+	SyncJob(final String municipalityId, final List<String> phaseNames, final Consumer<SyncJob> listener) {
+		this.municipalityId = municipalityId;
+		this.listener = listener;
+		phaseNames.forEach(name -> phases.put(name, new Phase(name, PENDING, null, null, null)));
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the municipality that the job is limited to.
+	 *
+	 * @return the municipality ID, or null if the job synchronizes all municipalities.
+	 */
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public OffsetDateTime getQueued() {
+		return queued;
+	}
+
+	public synchronized Status getStatus() {
+		return status;
+	}
+
+	public synchronized OffsetDateTime getStarted() {
+		return started;
+	}
+
+	public synchronized OffsetDateTime getFinished() {
+		return finished;
+	}
+
+	public synchronized List<Phase> getPhases() {
+		return List.copyOf(phases.values());
+	}
+
+	/**
+	 * Returns the progress of the job, as the percentage of phases that are finished (in any way).
+	 *
+	 * @return the progress in percent.
+	 */
+	public synchronized int getProgress() {
+		if (phases.isEmpty()) {
+			return (status == Status.COMPLETED) ? 100 : 0;
+		}
+		final var finishedPhases = phases.values().stream()
+			.filter(phase -> phase.finished() != null)
+			.count();
+		return (int) (finishedPhases * 100 / phases.size());
+	}
+
+	public synchronized boolean isFinished() {
+		return (status == Status.COMPLETED) || (status == Status.FAILED);
+	}
+
+	synchronized void start() {
+		status = Status.RUNNING;
+		started = now(systemDefault());
+		listener.accept(this);
+	}
+
+	synchronized void complete() {
+		status = Status.COMPLETED;
+		finished = now(systemDefault());
+		listener.accept(this);
+	}
+
+	synchronized void fail() {
+		status = Status.FAILED;
+		finished = now(systemDefault());
+		listener.accept(this);
+	}
+
+	synchronized void startPhase(final String name) {
+		phases.put(name, new Phase(name, RUNNING, now(systemDefault()), null, null));
+		listener.accept(this);
+	}
+
+	synchronized void completePhase(final String name, final int processed) {
+		phases.put(name, new Phase(name, COMPLETED, startedOf(name), now(systemDefault()), processed));
+		listener.accept(this);
+	}
+
+	synchronized void skipPhase(final String name) {
+		final var timestamp = now(systemDefault());
+		phases.put(name, new Phase(name, SKIPPED, timestamp, timestamp, null));
+		listener.accept(this);
+	}
+
+	synchronized void failPhase(final String name) {
+		phases.put(name, new Phase(name, FAILED, startedOf(name), now(systemDefault()), null));
+		listener.accept(this);
+	}
+
+	private OffsetDateTime startedOf(final String name) {
+		final var phase = phases.get(name);
+		return (phase == null) ? null : phase.started();
+	}
+}
@@ -0,0 +1,161 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import se.sundsvall.incidentmapper.api.model.Job;
+import se.sundsvall.incidentmapper.integration.db.SyncJobRepository;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+import se.sundsvall.incidentmapper.service.mapper.JobMapper;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+import static se.sundsvall.incidentmapper.service.mapper.JobMapper.toJob;
+import static se.sundsvall.incidentmapper.service.mapper.JobMapper.toSyncJobEntity;
+
+/**
+ * Runs manually triggered synchronization jobs in the background.
+ * <p>
+ * Jobs are limited to one municipality. Only one job per municipality is queued or running at a time, a request for a
+ * new job while one is active returns the active job. The state of the jobs is stored in the database, so that the
+ * status of a job can be requested from any instance, and only the active jobs of this instance are kept in memory.
+ * <p>
+ * A job that is queued or running on another instance is active as long as it keeps changing. A job that hasn't
+ * changed within the time budget of a cycle is regarded as abandoned (e.g. by an instance that was stopped), and doesn't
+ * block a new job. Two instances that start a job for the same municipality at the same time may both run it, but the
+ * phases of the jobs are still never run twice at the same time (see {@link SynchronizerSchedulerService}).
+ * <p>
+ * The latest finished jobs are kept, older finished jobs are removed when a job finishes.
+ */
+@Service
+@Profile(SYNCHRONIZATION)
+public class SyncJobService implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SyncJobService.class);
+
+	private static final String THREAD_PREFIX = "sync-job-";
+	private static final List<String> ACTIVE_STATUSES = List.of(SyncJob.Status.QUEUED.name(), SyncJob.Status.RUNNING.name());
+	private static final List<String> FINISHED_STATUSES = List.of(SyncJob.Status.COMPLETED.name(), SyncJob.Status.FAILED.name());
+	static final int MAX_RETAINED_JOBS = 50;
+
+	private final SynchronizerSchedulerService synchronizerSchedulerService;
+	private final SyncJobRepository syncJobRepository;
+	private final SynchronizationProperties synchronizationProperties;
+	private final ExecutorService executor;
+	private final Map<String, SyncJob> activeJobs = new HashMap<>();
+
+	public SyncJobService(final SynchronizerSchedulerService synchronizerSchedulerService, final SyncJobRepository syncJobRepository, final SynchronizationProperties synchronizationProperties) {
+		this(synchronizerSchedulerService, syncJobRepository, synchronizationProperties, Executors.newSingleThreadExecutor(new CustomizableThreadFactory(THREAD_PREFIX)));
+	}
+
+	SyncJobService(final SynchronizerSchedulerService synchronizerSchedulerService, final SyncJobRepository syncJobRepository, final SynchronizationProperties synchronizationProperties,
+		final ExecutorService executor) {
+		this.synchronizerSchedulerService = synchronizerSchedulerService;
+		this.syncJobRepository = syncJobRepository;
+		this.synchronizationProperties = synchronizationProperties;
+		this.executor = executor;
+	}
+
+	/**
+	 * Queue a synchronization job for a municipality, unless a job for the municipality already is queued or running.
+	 *
+	 * @param  municipalityId the municipality to synchronize.
+	 * @return                the queued (or already active) job.
+	 */
+	public synchronized Job start(final String municipalityId) {
+		final var activeJob = activeJobs.get(municipalityId);
+		if (activeJob != null) {
+			return toJob(activeJob);
+		}
+
+		final var otherActiveJob = syncJobRepository.findFirstByMunicipalityIdAndStatusInAndModifiedAfterOrderByQueuedDesc(municipalityId, ACTIVE_STATUSES,
+			now(systemDefault()).minus(synchronizationProperties.cycleTimeBudget()));
+		if (otherActiveJob.isPresent()) {
+			return toJob(otherActiveJob.get());
+		}
+
+		final var job = new SyncJob(municipalityId, SynchronizerSchedulerService.PHASES, this::save);
+		syncJobRepository.save(toSyncJobEntity(job));
+		activeJobs.put(municipalityId, job);
+
+		executor.execute(() -> run(job));
+		return toJob(job);
+	}
+
+	/**
+	 * Get a job.
+	 *
+	 * @param  municipalityId the municipality of the job.
+	 * @param  jobId          the job ID.
+	 * @return                the job, or empty if the job is unknown (or too old).
+	 */
+	public Optional<Job> getJob(final String municipalityId, final String jobId) {
+		return syncJobRepository.findByIdAndMunicipalityId(jobId, municipalityId)
+			.map(JobMapper::toJob);
+	}
+
+	/**
+	 * Stops the jobs, and marks the active jobs of this instance as failed.
+	 */
+	@Override
+	public void close() {
+		executor.shutdownNow();
+		activeJobs().stream()
+			.filter(job -> !job.isFinished())
+			.forEach(SyncJob::fail);
+	}
+
+	private void run(final SyncJob job) {
+		LOGGER.info("Start synchronization job '{}'", job.getId());
+		try {
+			synchronizerSchedulerService.execute(job);
+			LOGGER.info("End synchronization job '{}'", job.getId());
+		} catch (final RuntimeException e) {
+			LOGGER.error("Synchronization job '{}' failed", job.getId(), e);
+		} finally {
+			if (!job.isFinished()) {
+				job.fail();
+			}
+			finished(job);
+		}
+	}
+
+	private synchronized List<SyncJob> activeJobs() {
+		return List.copyOf(activeJobs.values());
+	}
+
+	private synchronized void finished(final SyncJob job) {
+		activeJobs.remove(job.getMunicipalityId(), job);
+		try {
+			final var expiredJobs = syncJobRepository.findByStatusInOrderByQueuedDesc(FINISHED_STATUSES).stream()
+				.skip(MAX_RETAINED_JOBS)
+				.toList();
+			if (!expiredJobs.isEmpty()) {
+				syncJobRepository.deleteAll(expiredJobs);
+			}
+		} catch (final RuntimeException e) {
+			LOGGER.warn("Old synchronization jobs could not be removed", e);
+		}
+	}
+
+	/**
+	 * Stores the state of a job. A failure to store the state doesn't stop the job, the state is stored again on its next
+	 * change.
+	 */
+	private void save(final SyncJob job) {
+		try {
+			syncJobRepository.save(toSyncJobEntity(job));
+		} catch (final RuntimeException e) {
+			LOGGER.warn("The state of synchronization job '{}' could not be stored", job.getId(), e);
+		}
+	}
+}
@@ -1,43 +1,216 @@
 package se.sundsvall.incidentmapper.service.scheduler;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockExtender;
+import net.javacrumbs.shedlock.core.LockProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import se.sundsvall.dept44.scheduling.Dept44Scheduled;
+import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
 import se.sundsvall.incidentmapper.service.IncidentService;
+import se.sundsvall.incidentmapper.service.SyncBudget;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
 
+import static se.sundsvall.incidentmapper.DeploymentMode.SYNCHRONIZATION;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.service.IncidentService.PHASE_CLOSE_ISSUES;
+import static se.sundsvall.incidentmapper.service.IncidentService.PHASE_POLL_JIRA_ISSUES;
+import static se.sundsvall.incidentmapper.service.IncidentService.PHASE_UPDATE_JIRA_ISSUES;
+import static se.sundsvall.incidentmapper.service.IncidentService.PHASE_UPDATE_POB_ISSUES;
+
+/**
+ * Schedules the synchronization phases.
+ * <p>
+ * Every phase has its own schedule, lock and time budget, so that e.g. a slow close sweep never delays the creation of
+ * new Jira issues. The phases can overlap safely, since each phase only processes incidents with its own status
+ * (polling and closing both sweep synchronized incidents, but only the close phase deletes them).
+ * <p>
+ * Manually triggered jobs run the phases through the same locks as the scheduled runs, so a phase is never run twice
+ * at the same time, on any instance. The locks have a short time to live (the shedlock-lock-at-most-for of the phase),
+ * and are kept alive by a heartbeat while the phase runs (see {@link LeaseHeartbeat}).
+ * <p>
+ * The scheduled phases that process events (POB and Jira initiated) run at an adaptive cadence: at every tick while
+ * events are pending, and less often when idle (see {@link AdaptiveCadence}).
+ */
 @Component
+@Profile(SYNCHRONIZATION)
 public class SynchronizerSchedulerService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SynchronizerSchedulerService.class);
 
+	static final List<String> PHASES = List.of(PHASE_POLL_JIRA_ISSUES, PHASE_UPDATE_POB_ISSUES, PHASE_UPDATE_JIRA_ISSUES, PHASE_CLOSE_ISSUES);
+
+	private static final String SCHEDULER_PROPERTY_TEMPLATE = "scheduler.%s.%s";
+
 	private final IncidentService incidentService;
+	private final SynchronizationProperties synchronizationProperties;
+	private final LockProvider lockProvider;
+	private final Environment environment;
+	private final LeaseHeartbeat leaseHeartbeat;
+	private final AdaptiveCadence adaptiveCadence;
 
-	public SynchronizerSchedulerService(final IncidentService incidentService) {
+	public SynchronizerSchedulerService(final IncidentService incidentService, final SynchronizationProperties synchronizationProperties, final LockProvider lockProvider, final Environment environment,
+		final LeaseHeartbeat leaseHeartbeat, final AdaptiveCadence adaptiveCadence) {
 		this.incidentService = incidentService;
+		this.synchronizationProperties = synchronizationProperties;
+		this.lockProvider = lockProvider;
+		this.environment = environment;
+		this.leaseHeartbeat = leaseHeartbeat;
+		this.adaptiveCadence = adaptiveCadence;
+	}
+
+	/**
+	 * Runs all phases of a job in sequence, sharing the time budget of one cycle.
+	 * <p>
+	 * Each phase is run under the same lock as its scheduled run, and within its own time budget. A phase that is already
+	 * running is skipped, since that run does the same work.
+	 * The job is limited to the municipality of the job, if any.
+	 *
+	 * @param job the job to run.
+	 */
+	public void execute(final SyncJob job) {
+
+		// The time budget of the cycle is shared by all phases. Work that doesn't fit is continued in the next cycle.
+		final var budget = SyncBudget.of(synchronizationProperties.cycleTimeBudget());
+		final var phaseTimeBudgets = synchronizationProperties.phaseTimeBudgets();
+		final var municipalityId = job.getMunicipalityId();
+
+		job.start();
+		try {
+			executePhase(job, PHASE_POLL_JIRA_ISSUES, budget.limitedTo(phaseTimeBudgets.pollJiraIssues()), phaseBudget -> pollJiraIssues(municipalityId, phaseBudget));
+			executePhase(job, PHASE_UPDATE_POB_ISSUES, budget.limitedTo(phaseTimeBudgets.updatePobIssues()), phaseBudget -> updatePobIssues(municipalityId, phaseBudget));
+			executePhase(job, PHASE_UPDATE_JIRA_ISSUES, budget.limitedTo(phaseTimeBudgets.updateJiraIssues()), phaseBudget -> updateJiraIssues(municipalityId, phaseBudget));
+			executePhase(job, PHASE_CLOSE_ISSUES, budget.limitedTo(phaseTimeBudgets.closeIssues()), phaseBudget -> closeIssues(municipalityId, phaseBudget));
+			job.complete();
+		} catch (final RuntimeException e) {
+			job.fail();
+			throw e;
+		}
 	}
 
 	@Dept44Scheduled(
-		cron = "${scheduler.synchronizer.cron:-}",
-		name = "${scheduler.synchronizer.name}",
-		lockAtMostFor = "${scheduler.synchronizer.shedlock-lock-at-most-for}",
-		maximumExecutionTime = "${scheduler.synchronizer.maximum-execution-time}")
-	public void execute() {
+		cron = "${scheduler.poll-jira-issues.cron:-}",
+		name = "${scheduler.poll-jira-issues.name}",
+		lockAtMostFor = "${scheduler.poll-jira-issues.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.poll-jira-issues.maximum-execution-time}")
+	public void pollJiraIssues() {
+		executeScheduledPhase(PHASE_POLL_JIRA_ISSUES, synchronizationProperties.phaseTimeBudgets().pollJiraIssues(), budget -> pollJiraIssues(synchronizationProperties.municipalityId(), budget));
+	}
 
+	@Dept44Scheduled(
+		cron = "${scheduler.update-pob-issues.cron:-}",
+		name = "${scheduler.update-pob-issues.name}",
+		lockAtMostFor = "${scheduler.update-pob-issues.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.update-pob-issues.maximum-execution-time}")
+	public void updatePobIssues() {
+		executeAdaptivePhase(PHASE_UPDATE_POB_ISSUES, JIRA_INITIATED_EVENT, synchronizationProperties.phaseTimeBudgets().updatePobIssues(), budget -> updatePobIssues(synchronizationProperties.municipalityId(), budget));
+	}
+
+	@Dept44Scheduled(
+		cron = "${scheduler.update-jira-issues.cron:-}",
+		name = "${scheduler.update-jira-issues.name}",
+		lockAtMostFor = "${scheduler.update-jira-issues.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.update-jira-issues.maximum-execution-time}")
+	public void updateJiraIssues() {
+		executeAdaptivePhase(PHASE_UPDATE_JIRA_ISSUES, POB_INITIATED_EVENT, synchronizationProperties.phaseTimeBudgets().updateJiraIssues(), budget -> updateJiraIssues(synchronizationProperties.municipalityId(), budget));
+	}
+
+	@Dept44Scheduled(
+		cron = "${scheduler.close-issues.cron:-}",
+		name = "${scheduler.close-issues.name}",
+		lockAtMostFor = "${scheduler.close-issues.shedlock-lock-at-most-for}",
+		maximumExecutionTime = "${scheduler.close-issues.maximum-execution-time}")
+	public void closeIssues() {
+		executeScheduledPhase(PHASE_CLOSE_ISSUES, synchronizationProperties.phaseTimeBudgets().closeIssues(), budget -> closeIssues(synchronizationProperties.municipalityId(), budget));
+	}
+
+	/**
+	 * Runs a scheduled phase that processes events, if it's due according to its adaptive cadence.
+	 */
+	private void executeAdaptivePhase(final String phase, final Status status, final Duration timeBudget, final ToIntFunction<SyncBudget> work) {
+		final var municipalityId = synchronizationProperties.municipalityId();
+		if (!adaptiveCadence.isDue(phase, municipalityId, status)) {
+			return;
+		}
+		executeScheduledPhase(phase, timeBudget, work);
+		adaptiveCadence.completed(phase, municipalityId, status);
+	}
+
+	/**
+	 * Runs a scheduled phase, which already holds the lock of the phase (acquired by the scheduler in this thread).
+	 */
+	private void executeScheduledPhase(final String phase, final Duration timeBudget, final ToIntFunction<SyncBudget> work) {
+		leaseHeartbeat.run(timeToLive(phase), SyncBudget.of(timeBudget), work, timeToLive -> {
+			LockExtender.extendActiveLock(timeToLive, Duration.ZERO);
+			return true;
+		});
+	}
+
+	private void executePhase(final SyncJob job, final String phase, final SyncBudget budget, final ToIntFunction<SyncBudget> work) {
+		final var timeToLive = timeToLive(phase);
+		final var acquiredLock = lockProvider.lock(new LockConfiguration(Instant.now(), environment.getRequiredProperty(SCHEDULER_PROPERTY_TEMPLATE.formatted(phase, "name")), timeToLive, Duration.ZERO));
+		if (acquiredLock.isEmpty()) {
+			LOGGER.info("Phase '{}' is already running, skipped in job '{}'", phase, job.getId());
+			job.skipPhase(phase);
+			return;
+		}
+
+		// An extended lock replaces the previous one.
+		final var lock = new AtomicReference<>(acquiredLock.get());
+		try {
+			job.startPhase(phase);
+			job.completePhase(phase, leaseHeartbeat.run(timeToLive, budget, work, extendedTimeToLive -> lock.get().extend(extendedTimeToLive, Duration.ZERO)
+				.map(extendedLock -> {
+					lock.set(extendedLock);
+					return true;
+				})
+				.orElse(false)));
+		} catch (final RuntimeException e) {
+			job.failPhase(phase);
+			throw e;
+		} finally {
+			lock.get().unlock();
+		}
+	}
+
+	private Duration timeToLive(final String phase) {
+		return Duration.parse(environment.getRequiredProperty(SCHEDULER_PROPERTY_TEMPLATE.formatted(phase, "shedlock-lock-at-most-for")));
+	}
+
+	private int pollJiraIssues(final String municipalityId, final SyncBudget budget) {
 		LOGGER.info("Start polling for Jira modifications");
-		incidentService.pollJiraIssues();
+		final var processed = incidentService.pollJiraIssues(municipalityId, budget);
 		LOGGER.info("End polling for Jira modifications");
+		return processed;
+	}
 
+	private int updatePobIssues(final String municipalityId, final SyncBudget budget) {
 		LOGGER.info("Start POB synchronization");
-		incidentService.updatePobIssues();
+		final var processed = incidentService.updatePobIssues(municipalityId, budget);
 		LOGGER.info("End POB synchronization");
+		return processed;
+	}
 
+	private int updateJiraIssues(final String municipalityId, final SyncBudget budget) {
 		LOGGER.info("Start Jira synchronization");
-		incidentService.updateJiraIssues();
+		final var processed = incidentService.updateJiraIssues(municipalityId, budget);
 		LOGGER.info("End Jira synchronization");
+		return processed;
+	}
 
+	private int closeIssues(final String municipalityId, final SyncBudget budget) {
 		LOGGER.info("Start close issues");
-		incidentService.closeIssues();
+		final var processed = incidentService.closeIssues(municipalityId, budget);
 		LOGGER.info("End close issues");
+		return processed;
 	}
 }
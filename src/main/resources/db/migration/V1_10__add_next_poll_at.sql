@@ -0,0 +1,5 @@
+alter table if exists incident
+   add column next_poll_at datetime(6) AFTER municipality_id;
+
+create index ix_status_next_poll_at
+   on incident (status, next_poll_at);
@@ -0,0 +1,2 @@
+alter table if exists incident
+   add column version bigint default 0 not null AFTER status;
@@ -0,0 +1,30 @@
+create table sync_job (
+    id varchar(255) not null,
+    finished datetime(6),
+    modified datetime(6),
+    municipality_id varchar(255),
+    progress integer,
+    queued datetime(6),
+    started datetime(6),
+    status varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table sync_job_phase (
+    job_id varchar(255) not null,
+    finished datetime(6),
+    name varchar(255),
+    processed integer,
+    started datetime(6),
+    status varchar(255),
+    phase_index integer not null,
+    primary key (job_id, phase_index)
+) engine=InnoDB;
+
+create index ix_sync_job_municipality_id_status
+   on sync_job (municipality_id, status);
+
+alter table if exists sync_job_phase
+   add constraint fk_sync_job_phase_job_id
+   foreign key (job_id)
+   references sync_job (id);
@@ -0,0 +1,5 @@
+alter table if exists incident
+   add column jira_revision datetime(6) AFTER jira_issue_key;
+
+alter table if exists incident
+   add column fingerprint varchar(255) AFTER pob_issue_key;
@@ -0,0 +1,23 @@
+create table incident_mirrored_mail (
+    incident_id varchar(255) not null,
+    jira_comment_id varchar(255),
+    mail_id varchar(255) not null,
+    primary key (incident_id, mail_id)
+) engine=InnoDB;
+
+alter table if exists incident_mirrored_mail
+   add constraint fk_incident_mirrored_mail_incident_id
+   foreign key (incident_id)
+   references incident (id);
+
+create table incident_mirrored_mail_attachment (
+    incident_id varchar(255) not null,
+    mail_id varchar(255),
+    jira_attachment_id varchar(255) not null,
+    primary key (incident_id, jira_attachment_id)
+) engine=InnoDB;
+
+alter table if exists incident_mirrored_mail_attachment
+   add constraint fk_incident_mirrored_mail_attachment_incident_id
+   foreign key (incident_id)
+   references incident (id);
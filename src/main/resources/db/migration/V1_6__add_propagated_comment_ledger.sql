@@ -0,0 +1,10 @@
+create table incident_propagated_comment (
+    incident_id varchar(255) not null,
+    jira_comment_id varchar(255) not null,
+    primary key (incident_id, jira_comment_id)
+) engine=InnoDB;
+
+alter table if exists incident_propagated_comment
+   add constraint fk_incident_propagated_comment_incident_id
+   foreign key (incident_id)
+   references incident (id);
@@ -0,0 +1,10 @@
+create table sync_step (
+    id varchar(255) not null,
+    incident_id varchar(255),
+    reference varchar(255),
+    step varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+alter table if exists sync_step
+   add constraint uq_sync_step_incident_id_step unique (incident_id, step);
@@ -0,0 +1,5 @@
+create table sync_checkpoint (
+    phase varchar(255) not null,
+    incident_id varchar(255),
+    primary key (phase)
+) engine=InnoDB;
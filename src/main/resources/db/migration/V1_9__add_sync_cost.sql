@@ -0,0 +1,2 @@
+alter table if exists incident
+   add column sync_cost integer AFTER status;
@@ -0,0 +1,60 @@
+package se.sundsvall.incidentmapper;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.incidentmapper.integration.jira.JiraIncidentClient;
+import se.sundsvall.incidentmapper.integration.pob.POBClient;
+import se.sundsvall.incidentmapper.service.IncidentIntakeService;
+import se.sundsvall.incidentmapper.service.IncidentService;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJobService;
+import se.sundsvall.incidentmapper.service.scheduler.SynchronizerSchedulerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeploymentModeTest {
+
+	@Nested
+	@SpringBootTest(classes = Application.class)
+	@ActiveProfiles({
+		"junit", DeploymentMode.INGEST
+	})
+	class Ingest {
+
+		@Autowired
+		private ApplicationContext applicationContext;
+
+		@Test
+		void onlyIntakeBeansAreCreated() {
+			assertThat(applicationContext.getBeanNamesForType(IncidentIntakeService.class)).hasSize(1);
+			assertThat(applicationContext.getBeanNamesForType(IncidentService.class)).isEmpty();
+			assertThat(applicationContext.getBeanNamesForType(SynchronizerSchedulerService.class)).isEmpty();
+			assertThat(applicationContext.getBeanNamesForType(SyncJobService.class)).isEmpty();
+			assertThat(applicationContext.getBeanNamesForType(JiraIncidentClient.class)).isEmpty();
+			assertThat(applicationContext.getBeanNamesForType(POBClient.class)).isEmpty();
+		}
+	}
+
+	@Nested
+	@SpringBootTest(classes = Application.class)
+	@ActiveProfiles({
+		"junit", DeploymentMode.WORKER
+	})
+	class Worker {
+
+		@Autowired
+		private ApplicationContext applicationContext;
+
+		@Test
+		void onlySynchronizationBeansAreCreated() {
+			assertThat(applicationContext.getBeanNamesForType(IncidentIntakeService.class)).isEmpty();
+			assertThat(applicationContext.containsBean("incidentResource")).isFalse();
+			assertThat(applicationContext.getBeanNamesForType(IncidentService.class)).hasSize(1);
+			assertThat(applicationContext.getBeanNamesForType(SynchronizerSchedulerService.class)).hasSize(1);
+			assertThat(applicationContext.getBeanNamesForType(JiraIncidentClient.class)).hasSize(1);
+		}
+	}
+}
@@ -12,7 +12,7 @@ import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.dept44.problem.violations.Violation;
 import se.sundsvall.incidentmapper.Application;
 import se.sundsvall.incidentmapper.api.model.IncidentRequest;
-import se.sundsvall.incidentmapper.service.IncidentService;
+import se.sundsvall.incidentmapper.service.IncidentIntakeService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -32,7 +32,7 @@ class IncidentResourceFailuresTest {
 	private WebTestClient webTestClient;
 
 	@MockitoBean
-	private IncidentService incidentServiceMock;
+	private IncidentIntakeService incidentIntakeServiceMock;
 
 	@Test
 	void postIncidentBlankIssueKey() {
@@ -62,7 +62,7 @@ class IncidentResourceFailuresTest {
 			.extracting(Violation::field, Violation::message)
 			.containsExactlyInAnyOrder(tuple("incidentKey", "a valid value must be provided"));
 
-		verifyNoInteractions(incidentServiceMock);
+		verifyNoInteractions(incidentIntakeServiceMock);
 	}
 
 	@Test
@@ -93,6 +93,6 @@ class IncidentResourceFailuresTest {
 			.extracting(Violation::field, Violation::message)
 			.containsExactlyInAnyOrder(tuple("postIncident.municipalityId", "not a valid municipality ID"));
 
-		verifyNoInteractions(incidentServiceMock);
+		verifyNoInteractions(incidentIntakeServiceMock);
 	}
 }
@@ -10,7 +10,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import se.sundsvall.incidentmapper.Application;
 import se.sundsvall.incidentmapper.api.model.IncidentRequest;
-import se.sundsvall.incidentmapper.service.IncidentService;
+import se.sundsvall.incidentmapper.service.IncidentIntakeService;
 
 import static org.mockito.Mockito.verify;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -26,7 +26,7 @@ class IncidentResourceTest {
 	private WebTestClient webTestClient;
 
 	@MockitoBean
-	private IncidentService incidentServiceMock;
+	private IncidentIntakeService incidentIntakeServiceMock;
 
 	@Test
 	void postIncident() {
@@ -46,6 +46,6 @@ class IncidentResourceTest {
 			.expectBody().isEmpty();
 
 		// Assert
-		verify(incidentServiceMock).handleIncidentRequest(municipalityId, body);
+		verify(incidentIntakeServiceMock).handleIncidentRequest(municipalityId, body);
 	}
 }
@@ -11,7 +11,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.dept44.problem.violations.Violation;
 import se.sundsvall.incidentmapper.Application;
-import se.sundsvall.incidentmapper.service.scheduler.SynchronizerSchedulerService;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJobService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -29,7 +29,7 @@ class JobsResourceFailuresTest {
 	private static final String MUNICIPALITY_ID = "invalid-municipality-id";
 
 	@MockitoBean
-	private SynchronizerSchedulerService synchronizerSchedulerServiceMock;
+	private SyncJobService syncJobServiceMock;
 
 	@Autowired
 	private WebTestClient webTestClient;
@@ -54,7 +54,29 @@ class JobsResourceFailuresTest {
 			.extracting(Violation::field, Violation::message)
 			.containsExactlyInAnyOrder(tuple("synchronizer.municipalityId", "not a valid municipality ID"));
 
-		verifyNoInteractions(synchronizerSchedulerServiceMock);
+		verifyNoInteractions(syncJobServiceMock);
 	}
 
+	@Test
+	void getSynchronizerJobInvalidMunicipalityId() {
+		var response = webTestClient.get()
+			.uri(builder -> builder.path(PATH + "/synchronizer/{jobId}")
+				.build(Map.of("municipalityId", MUNICIPALITY_ID, "jobId", "jobId")))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(tuple("getSynchronizerJob.municipalityId", "not a valid municipality ID"));
+
+		verifyNoInteractions(syncJobServiceMock);
+	}
 }
@@ -1,6 +1,8 @@
 package se.sundsvall.incidentmapper.api;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,10 +11,16 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import se.sundsvall.incidentmapper.Application;
-import se.sundsvall.incidentmapper.service.scheduler.SynchronizerSchedulerService;
+import se.sundsvall.incidentmapper.api.model.Job;
+import se.sundsvall.incidentmapper.api.model.JobPhase;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJobService;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 @SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
 @ActiveProfiles("junit")
@@ -21,22 +29,88 @@ class JobsResourceTest {
 
 	private static final String PATH = "/{municipalityId}/jobs";
 	private static final String MUNICIPALITY_ID = "2281";
+	private static final String JOB_ID = "0b7a7f5e-1c2d-4e5f-8a9b-0c1d2e3f4a5b";
 
 	@MockitoBean
-	private SynchronizerSchedulerService synchronizerSchedulerServiceMock;
+	private SyncJobService syncJobServiceMock;
 
 	@Autowired
 	private WebTestClient webTestClient;
 
 	@Test
 	void synchronizer() {
-		webTestClient.post()
+
+		// Arrange
+		final var job = Job.create()
+			.withId(JOB_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus("QUEUED")
+			.withProgress(0);
+		when(syncJobServiceMock.start(MUNICIPALITY_ID)).thenReturn(job);
+
+		// Act
+		final var response = webTestClient.post()
 			.uri(builder -> builder.path(PATH + "/synchronizer")
 				.build(Map.of("municipalityId", MUNICIPALITY_ID)))
 			.exchange()
-			.expectStatus().isNoContent();
+			.expectStatus().isAccepted()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectHeader().location("/" + MUNICIPALITY_ID + "/jobs/synchronizer/" + JOB_ID)
+			.expectBody(Job.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(job);
+		verify(syncJobServiceMock).start(MUNICIPALITY_ID);
+		verifyNoMoreInteractions(syncJobServiceMock);
+	}
+
+	@Test
+	void getSynchronizerJob() {
+
+		// Arrange
+		final var job = Job.create()
+			.withId(JOB_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus("RUNNING")
+			.withProgress(25)
+			.withPhases(List.of(JobPhase.create()
+				.withName("poll-jira-issues")
+				.withStatus("COMPLETED")
+				.withDurationInMillis(1200L)
+				.withProcessed(3)));
+		when(syncJobServiceMock.getJob(MUNICIPALITY_ID, JOB_ID)).thenReturn(Optional.of(job));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(builder -> builder.path(PATH + "/synchronizer/{jobId}")
+				.build(Map.of("municipalityId", MUNICIPALITY_ID, "jobId", JOB_ID)))
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(Job.class)
+			.returnResult()
+			.getResponseBody();
 
-		verify(synchronizerSchedulerServiceMock).execute();
+		// Assert
+		assertThat(response).isEqualTo(job);
+		verify(syncJobServiceMock).getJob(MUNICIPALITY_ID, JOB_ID);
+		verifyNoMoreInteractions(syncJobServiceMock);
 	}
 
+	@Test
+	void getSynchronizerJobNotFound() {
+
+		// Act
+		webTestClient.get()
+			.uri(builder -> builder.path(PATH + "/synchronizer/{jobId}")
+				.build(Map.of("municipalityId", MUNICIPALITY_ID, "jobId", JOB_ID)))
+			.exchange()
+			.expectStatus().isNotFound();
+
+		// Assert
+		verify(syncJobServiceMock).getJob(MUNICIPALITY_ID, JOB_ID);
+		verifyNoMoreInteractions(syncJobServiceMock);
+	}
 }
@@ -0,0 +1,75 @@
+package se.sundsvall.incidentmapper.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class JobTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(Job.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var municipalityId = "municipalityId";
+		final var status = "status";
+		final var progress = 50;
+		final var queued = now().minusMinutes(1);
+		final var started = now().minusSeconds(30);
+		final var finished = now();
+		final var phases = List.of(JobPhase.create());
+
+		final var bean = Job.create()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withStatus(status)
+			.withProgress(progress)
+			.withQueued(queued)
+			.withStarted(started)
+			.withFinished(finished)
+			.withPhases(phases);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getProgress()).isEqualTo(progress);
+		assertThat(bean.getQueued()).isEqualTo(queued);
+		assertThat(bean.getStarted()).isEqualTo(started);
+		assertThat(bean.getFinished()).isEqualTo(finished);
+		assertThat(bean.getPhases()).isEqualTo(phases);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(Job.create()).hasAllNullFieldsOrProperties();
+		assertThat(new Job()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -1,14 +1,20 @@
 package se.sundsvall.incidentmapper.integration.db;
 
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.incidentmapper.integration.db.model.EventSummary;
 import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentSummary;
+import se.sundsvall.incidentmapper.integration.db.model.MunicipalityBacklog;
+import se.sundsvall.incidentmapper.integration.db.model.PollSummary;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.SECONDS;
@@ -16,6 +22,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
 import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.SYNCHRONIZED;
 
 /**
@@ -68,21 +76,209 @@ class IncidentRepositoryTest {
 	}
 
 	@Test
-	void findByStatus() {
+	void findSummariesWithJiraIssueByStatus() {
+
+		// Arrange (incidents without a Jira issue are left out)
+		repository.save(IncidentEntity.create().withMunicipalityId("2281").withPobIssueKey("POB-011").withStatus(SYNCHRONIZED));
+		repository.save(IncidentEntity.create().withMunicipalityId("2281").withJiraIssueKey(" ").withPobIssueKey("POB-012").withStatus(SYNCHRONIZED));
+
+		// Act
+		final var result = repository.findSummariesWithJiraIssueByStatus(SYNCHRONIZED, "", Limit.of(10));
+
+		// Assert (ordered by ID)
+		assertThat(result)
+			.isNotNull()
+			.extracting(IncidentSummary::getId, IncidentSummary::getMunicipalityId)
+			.containsExactly(
+				tuple("08e6d74f-d988-4012-a20d-67795fee8320", "2281"),
+				tuple("22f43da1-536c-45b0-b59a-51b9fe3ecc78", "2281"),
+				tuple("2b609b6c-afc7-45f0-b007-b332cf605275", "2281"),
+				tuple("923acf6f-9432-4645-83e3-6f34ee861bf8", "2281"),
+				tuple("b5df2809-f4b7-48cf-ad18-19a527e8413a", "2281"));
+	}
+
+	@Test
+	void findSummariesWithJiraIssueByStatusInPages() {
+
+		// Act
+		final var firstPage = repository.findSummariesWithJiraIssueByStatus(SYNCHRONIZED, "", Limit.of(2));
+		final var secondPage = repository.findSummariesWithJiraIssueByStatus(SYNCHRONIZED, firstPage.getLast().getId(), Limit.of(2));
+		final var lastPage = repository.findSummariesWithJiraIssueByStatus(SYNCHRONIZED, secondPage.getLast().getId(), Limit.of(2));
+
+		// Assert
+		assertThat(firstPage).extracting(IncidentSummary::getId).containsExactly("08e6d74f-d988-4012-a20d-67795fee8320", "22f43da1-536c-45b0-b59a-51b9fe3ecc78");
+		assertThat(secondPage).extracting(IncidentSummary::getId).containsExactly("2b609b6c-afc7-45f0-b007-b332cf605275", "923acf6f-9432-4645-83e3-6f34ee861bf8");
+		assertThat(lastPage).extracting(IncidentSummary::getId).containsExactly("b5df2809-f4b7-48cf-ad18-19a527e8413a");
+	}
+
+	@Test
+	void findSummariesWithJiraIssueByMunicipalityIdAndStatus() {
 
 		// Act
-		final var result = repository.findByStatus(SYNCHRONIZED);
+		final var result = repository.findSummariesWithJiraIssueByMunicipalityIdAndStatus("2281", SYNCHRONIZED, "22f43da1-536c-45b0-b59a-51b9fe3ecc78", Limit.of(10));
 
 		// Assert
 		assertThat(result)
 			.isNotNull()
-			.extracting(IncidentEntity::getJiraIssueKey, IncidentEntity::getPobIssueKey, IncidentEntity::getStatus)
-			.containsExactlyInAnyOrder(
-				tuple("JIR-001", "POB-001", SYNCHRONIZED),
-				tuple("JIR-004", "POB-004", SYNCHRONIZED),
-				tuple("JIR-005", "POB-005", SYNCHRONIZED),
-				tuple("JIR-008", "POB-008", SYNCHRONIZED),
-				tuple("JIR-009", "POB-009", SYNCHRONIZED));
+			.extracting(IncidentSummary::getId)
+			.containsExactly("2b609b6c-afc7-45f0-b007-b332cf605275", "923acf6f-9432-4645-83e3-6f34ee861bf8", "b5df2809-f4b7-48cf-ad18-19a527e8413a");
+		assertThat(repository.findSummariesWithJiraIssueByMunicipalityIdAndStatus("2260", SYNCHRONIZED, "", Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void findEventSummariesByStatus() {
+
+		// Act
+		final var result = repository.findEventSummariesByStatus(JIRA_INITIATED_EVENT, "", Limit.of(10));
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.extracting(EventSummary::getId, EventSummary::getMunicipalityId, EventSummary::getSyncCost)
+			.containsExactly(
+				tuple("2f36589e-be11-4131-bc78-5c77e5e8ca1d", "2281", null),
+				tuple("a4b0cef2-ba50-41e1-a4d2-28fb57520bf2", "2281", null));
+		assertThat(result).allSatisfy(summary -> {
+			assertThat(summary.getCreated()).isNotNull();
+			assertThat(summary.getModified()).isAfter(summary.getCreated());
+		});
+	}
+
+	@Test
+	void findEventSummariesByMunicipalityIdAndStatus() {
+
+		// Act
+		final var result = repository.findEventSummariesByMunicipalityIdAndStatus("2281", POB_INITIATED_EVENT, "", Limit.of(10));
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.extracting(EventSummary::getId)
+			.containsExactly("09404746-9759-4d10-8097-a2af90ccddc4", "872a8f22-5342-43e0-a6c1-2a39ffe1e478", "e9c9835f-074a-40bc-867d-52d1125bdca7");
+		assertThat(repository.findEventSummariesByMunicipalityIdAndStatus("2260", POB_INITIATED_EVENT, "", Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void findSummariesDueForPolling() {
+
+		// Act
+		final var result = repository.findSummariesDueForPolling(SYNCHRONIZED, now(), "", Limit.of(10));
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.extracting(PollSummary::getId, PollSummary::getJiraIssueKey, PollSummary::getJiraRevision)
+			.containsExactly(
+				tuple("22f43da1-536c-45b0-b59a-51b9fe3ecc78", "JIR-001", null),
+				tuple("2b609b6c-afc7-45f0-b007-b332cf605275", "JIR-009", null),
+				tuple("923acf6f-9432-4645-83e3-6f34ee861bf8", "JIR-008", null),
+				tuple("b5df2809-f4b7-48cf-ad18-19a527e8413a", "JIR-005", null));
+		assertThat(result).allSatisfy(summary -> assertThat(summary.getLastSynchronizedJira()).isNotNull());
+	}
+
+	@Test
+	void findSummariesDueForPollingByMunicipalityId() {
+
+		// Act
+		final var result = repository.findSummariesDueForPollingByMunicipalityId("2281", SYNCHRONIZED, now(), "", Limit.of(10));
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.extracting(IncidentSummary::getId)
+			.containsExactly("22f43da1-536c-45b0-b59a-51b9fe3ecc78", "2b609b6c-afc7-45f0-b007-b332cf605275", "923acf6f-9432-4645-83e3-6f34ee861bf8", "b5df2809-f4b7-48cf-ad18-19a527e8413a");
+		assertThat(repository.findSummariesDueForPollingByMunicipalityId("2260", SYNCHRONIZED, now(), "", Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void countBacklogByStatus() {
+
+		// Arrange
+		repository.save(IncidentEntity.create().withMunicipalityId("2260").withPobIssueKey("POB-011").withStatus(POB_INITIATED_EVENT));
+
+		// Act
+		final var result = repository.countBacklogByStatus(POB_INITIATED_EVENT);
+
+		// Assert
+		assertThat(result)
+			.extracting(MunicipalityBacklog::getMunicipalityId, MunicipalityBacklog::getIncidents)
+			.containsExactlyInAnyOrder(tuple("2281", 3L), tuple("2260", 1L));
+	}
+
+	@Test
+	void countBacklogWithJiraIssueByStatus() {
+
+		// Arrange
+		repository.save(IncidentEntity.create().withMunicipalityId("2281").withPobIssueKey("POB-011").withStatus(SYNCHRONIZED));
+
+		// Act
+		final var result = repository.countBacklogWithJiraIssueByStatus(SYNCHRONIZED);
+
+		// Assert
+		assertThat(result)
+			.extracting(MunicipalityBacklog::getMunicipalityId, MunicipalityBacklog::getIncidents)
+			.containsExactly(tuple("2281", 5L));
+	}
+
+	@Test
+	void countBacklogDueForPolling() {
+
+		// Act
+		final var result = repository.countBacklogDueForPolling(SYNCHRONIZED, now());
+
+		// Assert
+		assertThat(result)
+			.extracting(MunicipalityBacklog::getMunicipalityId, MunicipalityBacklog::getIncidents)
+			.containsExactly(tuple("2281", 4L));
+	}
+
+	@Test
+	void countByStatus() {
+
+		// Act & Assert
+		assertThat(repository.countByStatus(POB_INITIATED_EVENT)).isEqualTo(3);
+		assertThat(repository.countByStatus(JIRA_INITIATED_EVENT)).isEqualTo(2);
+	}
+
+	@Test
+	void countByMunicipalityIdAndStatus() {
+
+		// Act & Assert
+		assertThat(repository.countByMunicipalityIdAndStatus("2281", POB_INITIATED_EVENT)).isEqualTo(3);
+		assertThat(repository.countByMunicipalityIdAndStatus("2260", POB_INITIATED_EVENT)).isZero();
+	}
+
+	@Test
+	void updateNextPollAtByIdInAndStatus() {
+
+		// Arrange
+		final var nextPollAt = now().plusMinutes(10);
+
+		// Act
+		final var updated = repository.updateNextPollAtByIdInAndStatus(List.of("22f43da1-536c-45b0-b59a-51b9fe3ecc78", "2b609b6c-afc7-45f0-b007-b332cf605275", "e9c9835f-074a-40bc-867d-52d1125bdca7"),
+			SYNCHRONIZED, nextPollAt);
+
+		// Assert (an incident with another status is left untouched)
+		assertThat(updated).isEqualTo(2);
+		assertThat(repository.findById("22f43da1-536c-45b0-b59a-51b9fe3ecc78").orElseThrow().getNextPollAt()).isCloseTo(nextPollAt, within(1, SECONDS));
+		assertThat(repository.findById("2b609b6c-afc7-45f0-b007-b332cf605275").orElseThrow().getNextPollAt()).isCloseTo(nextPollAt, within(1, SECONDS));
+		assertThat(repository.findById("e9c9835f-074a-40bc-867d-52d1125bdca7").orElseThrow().getNextPollAt()).isNull();
+	}
+
+	@Test
+	void updateStatusByIdInAndStatus() {
+
+		// Act
+		final var updated = repository.updateStatusByIdInAndStatus(List.of("22f43da1-536c-45b0-b59a-51b9fe3ecc78", "2b609b6c-afc7-45f0-b007-b332cf605275", "e9c9835f-074a-40bc-867d-52d1125bdca7"),
+			SYNCHRONIZED, JIRA_INITIATED_EVENT, now());
+
+		// Assert (an incident with another status is left untouched)
+		assertThat(updated).isEqualTo(2);
+		assertThat(repository.findAllById(List.of("22f43da1-536c-45b0-b59a-51b9fe3ecc78", "2b609b6c-afc7-45f0-b007-b332cf605275"))).allSatisfy(incident -> {
+			assertThat(incident.getStatus()).isEqualTo(JIRA_INITIATED_EVENT);
+			assertThat(incident.getVersion()).isOne();
+		});
+		assertThat(repository.findById("e9c9835f-074a-40bc-867d-52d1125bdca7").orElseThrow().getStatus()).isEqualTo(POB_INITIATED_EVENT);
 	}
 
 	@Test
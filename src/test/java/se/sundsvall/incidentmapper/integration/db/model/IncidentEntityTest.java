@@ -1,15 +1,17 @@
 package se.sundsvall.incidentmapper.integration.db.model;
 
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
 
 import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEqualsExcluding;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCodeExcluding;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToStringExcluding;
 import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
 import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
 import static java.time.OffsetDateTime.now;
@@ -22,6 +24,8 @@ class IncidentEntityTest {
 	@BeforeAll
 	static void setup() {
 		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+		registerValueGenerator(() -> Map.of("mailId", String.valueOf(new Random().nextInt())), Map.class);
+		registerValueGenerator(() -> Set.of(String.valueOf(new Random().nextInt())), Set.class);
 	}
 
 	@Test
@@ -29,9 +33,9 @@ class IncidentEntityTest {
 		assertThat(IncidentEntity.class, allOf(
 			hasValidBeanConstructor(),
 			hasValidGettersAndSetters(),
-			hasValidBeanHashCode(),
-			hasValidBeanEquals(),
-			hasValidBeanToString()));
+			hasValidBeanHashCodeExcluding("mirroredMails", "mirroredMailAttachments", "propagatedComments"),
+			hasValidBeanEqualsExcluding("mirroredMails", "mirroredMailAttachments", "propagatedComments"),
+			hasValidBeanToStringExcluding("mirroredMails", "mirroredMailAttachments", "propagatedComments")));
 	}
 
 	@Test
@@ -46,6 +50,14 @@ class IncidentEntityTest {
 		final var municipalityId = "municipalityId";
 		final var pobIssueKey = "pobIssueKey";
 		final var status = Status.SYNCHRONIZED;
+		final var nextPollAt = now();
+		final var syncCost = 42;
+		final var propagatedComments = Set.of("commentId");
+		final var mirroredMails = Map.of("mailId", "commentId");
+		final var mirroredMailAttachments = Map.of("attachmentId", "mailId");
+		final var fingerprint = "fingerprint";
+		final var jiraRevision = now();
+		final var version = 3L;
 
 		final var bean = IncidentEntity.create()
 			.withCreated(created)
@@ -56,7 +68,15 @@ class IncidentEntityTest {
 			.withModified(modified)
 			.withMunicipalityId(municipalityId)
 			.withPobIssueKey(pobIssueKey)
-			.withStatus(status);
+			.withStatus(status)
+			.withJiraRevision(jiraRevision)
+			.withFingerprint(fingerprint)
+			.withMirroredMails(mirroredMails)
+			.withMirroredMailAttachments(mirroredMailAttachments)
+			.withPropagatedComments(propagatedComments)
+			.withSyncCost(syncCost)
+			.withNextPollAt(nextPollAt)
+			.withVersion(version);
 
 		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(bean.getCreated()).isEqualTo(created);
@@ -68,6 +88,14 @@ class IncidentEntityTest {
 		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
 		assertThat(bean.getPobIssueKey()).isEqualTo(pobIssueKey);
 		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getNextPollAt()).isEqualTo(nextPollAt);
+		assertThat(bean.getSyncCost()).isEqualTo(syncCost);
+		assertThat(bean.getPropagatedComments()).isEqualTo(propagatedComments);
+		assertThat(bean.getMirroredMails()).isEqualTo(mirroredMails);
+		assertThat(bean.getMirroredMailAttachments()).isEqualTo(mirroredMailAttachments);
+		assertThat(bean.getFingerprint()).isEqualTo(fingerprint);
+		assertThat(bean.getJiraRevision()).isEqualTo(jiraRevision);
+		assertThat(bean.getVersion()).isEqualTo(version);
 	}
 
 	@Test
@@ -0,0 +1,46 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SyncCheckpointEntityTest {
+
+	@Test
+	void testBean() {
+		assertThat(SyncCheckpointEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var phase = "phase";
+		final var incidentId = "incidentId";
+
+		final var bean = SyncCheckpointEntity.create()
+			.withPhase(phase)
+			.withIncidentId(incidentId);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getPhase()).isEqualTo(phase);
+		assertThat(bean.getIncidentId()).isEqualTo(incidentId);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(SyncCheckpointEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new SyncCheckpointEntity()).hasAllNullFieldsOrProperties();
+	}
+}
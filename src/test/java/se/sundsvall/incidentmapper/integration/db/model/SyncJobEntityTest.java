@@ -0,0 +1,79 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SyncJobEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+		registerValueGenerator(() -> List.of(SyncJobPhaseEmbeddable.create().withName(String.valueOf(new Random().nextInt()))), List.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(SyncJobEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var municipalityId = "municipalityId";
+		final var status = "RUNNING";
+		final var progress = 50;
+		final var queued = now();
+		final var started = now();
+		final var finished = now();
+		final var modified = now();
+		final var phases = List.of(SyncJobPhaseEmbeddable.create().withName("phase"));
+
+		final var bean = SyncJobEntity.create()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withStatus(status)
+			.withProgress(progress)
+			.withQueued(queued)
+			.withStarted(started)
+			.withFinished(finished)
+			.withModified(modified)
+			.withPhases(phases);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getProgress()).isEqualTo(progress);
+		assertThat(bean.getQueued()).isEqualTo(queued);
+		assertThat(bean.getStarted()).isEqualTo(started);
+		assertThat(bean.getFinished()).isEqualTo(finished);
+		assertThat(bean.getModified()).isEqualTo(modified);
+		assertThat(bean.getPhases()).isEqualTo(phases);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(SyncJobEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new SyncJobEntity()).hasAllNullFieldsOrProperties();
+	}
+}
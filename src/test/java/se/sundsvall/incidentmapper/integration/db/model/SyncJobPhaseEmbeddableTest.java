@@ -0,0 +1,65 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SyncJobPhaseEmbeddableTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(SyncJobPhaseEmbeddable.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var name = "name";
+		final var status = "COMPLETED";
+		final var started = now();
+		final var finished = now();
+		final var processed = 7;
+
+		final var bean = SyncJobPhaseEmbeddable.create()
+			.withName(name)
+			.withStatus(status)
+			.withStarted(started)
+			.withFinished(finished)
+			.withProcessed(processed);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getName()).isEqualTo(name);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getStarted()).isEqualTo(started);
+		assertThat(bean.getFinished()).isEqualTo(finished);
+		assertThat(bean.getProcessed()).isEqualTo(processed);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(SyncJobPhaseEmbeddable.create()).hasAllNullFieldsOrProperties();
+		assertThat(new SyncJobPhaseEmbeddable()).hasAllNullFieldsOrProperties();
+	}
+}
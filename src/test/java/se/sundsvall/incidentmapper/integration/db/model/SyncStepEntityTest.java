@@ -0,0 +1,52 @@
+package se.sundsvall.incidentmapper.integration.db.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SyncStepEntityTest {
+
+	@Test
+	void testBean() {
+		assertThat(SyncStepEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var incidentId = "incidentId";
+		final var step = "step";
+		final var reference = "reference";
+
+		final var bean = SyncStepEntity.create()
+			.withId(id)
+			.withIncidentId(incidentId)
+			.withStep(step)
+			.withReference(reference);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getIncidentId()).isEqualTo(incidentId);
+		assertThat(bean.getStep()).isEqualTo(step);
+		assertThat(bean.getReference()).isEqualTo(reference);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(SyncStepEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new SyncStepEntity()).hasAllNullFieldsOrProperties();
+	}
+}
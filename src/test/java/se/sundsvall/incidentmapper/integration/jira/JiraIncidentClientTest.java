@@ -4,34 +4,45 @@ import com.chavaillaz.client.common.exception.ResponseException;
 import com.chavaillaz.client.jira.JiraClient;
 import com.chavaillaz.client.jira.api.IssueApi;
 import com.chavaillaz.client.jira.api.ProjectApi;
-import com.chavaillaz.client.jira.domain.Attachment;
 import com.chavaillaz.client.jira.domain.Attachments;
 import com.chavaillaz.client.jira.domain.Comment;
 import com.chavaillaz.client.jira.domain.Fields;
-import com.chavaillaz.client.jira.domain.Identity;
 import com.chavaillaz.client.jira.domain.Issue;
 import com.chavaillaz.client.jira.domain.IssueType;
 import com.chavaillaz.client.jira.domain.Project;
+import com.chavaillaz.client.jira.domain.Transition;
 import com.chavaillaz.client.jira.domain.Transitions;
-import java.io.ByteArrayInputStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
-import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.incidentmapper.integration.jira.configuration.JiraProperties;
-
+import se.sundsvall.incidentmapper.integration.jira.model.IssueCommentPage;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueRevisionView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueStatusView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueUpdatedView;
+import se.sundsvall.incidentmapper.integration.limiter.AdaptiveConcurrencyLimiter;
+import se.sundsvall.incidentmapper.integration.limiter.ConcurrencyLimitProperties;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -55,22 +66,11 @@ class JiraIncidentClientTest {
 	private JiraProperties jiraPropertiesMock;
 
 	@Mock
-	private CompletableFuture<Transitions> completableFutureTransitionsMock;
-
-	@Mock
-	private CompletableFuture<Identity> completableFutureIdentityMock;
+	private JiraHttpTransport jiraHttpTransportMock;
 
-	@Mock
-	private CompletableFuture<Issue> completableFutureIssueMock;
-
-	@Mock
-	private CompletableFuture<Attachment> completableFutureAttachmentMock;
-
-	@Mock
-	private CompletableFuture<Attachments> completableFutureAttachmentsMock;
-
-	@Mock
-	private CompletableFuture<InputStream> completableFutureInputStreamMock;
+	@Spy
+	private AdaptiveConcurrencyLimiter concurrencyLimiterSpy = new AdaptiveConcurrencyLimiter("jira",
+		new ConcurrencyLimitProperties(4, 1, 20, 0.5, Duration.ofSeconds(5), Duration.ofSeconds(2), Duration.ofMinutes(1)), new SimpleMeterRegistry());
 
 	@InjectMocks
 	private JiraIncidentClient jiraClient;
@@ -111,8 +111,7 @@ class JiraIncidentClientTest {
 
 		when(issueMock.getKey()).thenReturn(key);
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.addIssue(any())).thenReturn(completableFutureIdentityMock);
-		when(completableFutureIdentityMock.get()).thenReturn(issueMock);
+		when(issueApiMock.addIssue(any())).thenReturn(completedFuture(issueMock));
 
 		// Act
 		final var result = jiraClient.createIssue(projectKey, type, labels, summary, description);
@@ -123,7 +122,6 @@ class JiraIncidentClientTest {
 		verify(jiraClientMock).getIssueApi();
 		verify(issueMock).getKey();
 		verify(issueApiMock).addIssue(any(Issue.class));
-		verify(completableFutureIdentityMock).get();
 	}
 
 	@Test
@@ -137,8 +135,7 @@ class JiraIncidentClientTest {
 
 		when(issueMock.getKey()).thenReturn(key);
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.addIssue(any())).thenReturn(completableFutureIdentityMock);
-		when(completableFutureIdentityMock.get()).thenReturn(issueMock);
+		when(issueApiMock.addIssue(any())).thenReturn(completedFuture(issueMock));
 
 		// Act
 		final var result = jiraClient.createIssue(type, labels, summary, description);
@@ -149,7 +146,6 @@ class JiraIncidentClientTest {
 		verify(jiraClientMock).getIssueApi();
 		verify(issueMock).getKey();
 		verify(issueApiMock).addIssue(any(Issue.class));
-		verify(completableFutureIdentityMock).get();
 	}
 
 	@Test
@@ -177,7 +173,7 @@ class JiraIncidentClientTest {
 	}
 
 	@Test
-	void getIssue() throws InterruptedException, ExecutionException {
+	void getIssue() {
 
 		// Arrange
 		final var projectKey = "TEST";
@@ -193,8 +189,7 @@ class JiraIncidentClientTest {
 		when(issueMock.getKey()).thenReturn(issueKey);
 		when(issueMock.getFields()).thenReturn(fields);
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.getIssue(issueKey)).thenReturn(completableFutureIssueMock);
-		when(completableFutureIssueMock.get()).thenReturn(issueMock);
+		when(issueApiMock.getIssue(issueKey)).thenReturn(completedFuture(issueMock));
 
 		// Act
 		final var result = jiraClient.getIssue(issueKey);
@@ -207,7 +202,6 @@ class JiraIncidentClientTest {
 		verify(jiraClientMock).getIssueApi();
 		verify(issueMock).getKey();
 		verify(issueApiMock).getIssue(issueKey);
-		verify(completableFutureIssueMock).get();
 	}
 
 	@Test
@@ -236,6 +230,7 @@ class JiraIncidentClientTest {
 		final var issue = Issue.from(issueTypeName, projectKey, issueSummary);
 
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.updateIssue(issue)).thenReturn(completedFuture(null));
 
 		// Act
 		jiraClient.updateIssue(issue);
@@ -252,12 +247,17 @@ class JiraIncidentClientTest {
 		final var commentBody = "Test comment";
 		final var issueKey = "TEST-1";
 
+		final var createdComment = Comment.from(commentBody);
+		createdComment.setId("12345");
+
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.addComment(issueKey, Comment.from(commentBody))).thenReturn(completedFuture(createdComment));
 
 		// Act
-		jiraClient.addComment(issueKey, commentBody);
+		final var result = jiraClient.addComment(issueKey, commentBody);
 
 		// Assert
+		assertThat(result.getId()).isEqualTo("12345");
 		verify(jiraClientMock).getIssueApi();
 		verify(issueApiMock).addComment(issueKey, Comment.from(commentBody));
 	}
@@ -270,9 +270,10 @@ class JiraIncidentClientTest {
 		final var issueKey = "TEST-1";
 
 		// Act
-		jiraClient.addComment(issueKey, commentBody);
+		final var result = jiraClient.addComment(issueKey, commentBody);
 
 		// Assert
+		assertThat(result).isNull();
 		verifyNoInteractions(jiraClientMock, issueApiMock);
 	}
 
@@ -284,6 +285,7 @@ class JiraIncidentClientTest {
 		final var issueKey = "TEST-1";
 
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.deleteComment(issueKey, commentId)).thenReturn(completedFuture(null));
 
 		// Act
 		jiraClient.deleteComment(issueKey, commentId);
@@ -300,7 +302,7 @@ class JiraIncidentClientTest {
 		final var issueKey = "TEST-1";
 
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.addAttachment(any(), any())).thenReturn(completableFutureAttachmentsMock);
+		when(issueApiMock.addAttachment(any(), any())).thenReturn(completedFuture(new Attachments()));
 
 		// Act
 		jiraClient.addAttachment(issueKey, file);
@@ -308,7 +310,6 @@ class JiraIncidentClientTest {
 		// Assert
 		verify(jiraClientMock).getIssueApi();
 		verify(issueApiMock).addAttachment(issueKey, file);
-		verify(completableFutureAttachmentsMock).get();
 	}
 
 	@Test
@@ -339,6 +340,7 @@ class JiraIncidentClientTest {
 		final var attachmentId = "id";
 
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.deleteAttachment(attachmentId)).thenReturn(completedFuture(null));
 
 		// Act
 		jiraClient.deleteAttachment(attachmentId);
@@ -354,11 +356,8 @@ class JiraIncidentClientTest {
 		// Arrange
 		final var contentUrl = "contentUrl";
 		final var attachmentContent = "This is a test attachment";
-		final var byteArrayInputStream = new ByteArrayInputStream(attachmentContent.getBytes());
 
-		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.getAttachmentContent(any())).thenReturn(completableFutureInputStreamMock);
-		when(completableFutureInputStreamMock.get()).thenReturn(byteArrayInputStream);
+		when(jiraHttpTransportMock.get(URI.create(contentUrl))).thenReturn(completedFuture(attachmentContent.getBytes()));
 
 		// Act
 		final var result = jiraClient.getAttachment(contentUrl);
@@ -366,9 +365,8 @@ class JiraIncidentClientTest {
 		// Assert
 		assertThat(result).isEqualTo(Base64.getEncoder().encodeToString(attachmentContent.getBytes()));
 
-		verify(jiraClientMock).getIssueApi();
-		verify(issueApiMock).getAttachmentContent(contentUrl);
-		verify(completableFutureInputStreamMock).get();
+		verify(jiraHttpTransportMock).get(URI.create(contentUrl));
+		verifyNoInteractions(jiraClientMock);
 	}
 
 	@Test
@@ -377,8 +375,7 @@ class JiraIncidentClientTest {
 		// Arrange
 		final var contentUrl = "contentUrl";
 
-		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.getAttachmentContent(any())).thenThrow(new RuntimeException("Error"));
+		when(jiraHttpTransportMock.get(any())).thenThrow(new RuntimeException("Error"));
 
 		// Act
 		final var exception = assertThrows(JiraIntegrationException.class, () -> jiraClient.getAttachment(contentUrl));
@@ -387,8 +384,7 @@ class JiraIncidentClientTest {
 		assertThat(exception).isNotNull();
 		assertThat(exception.getMessage()).isEqualTo("java.lang.RuntimeException: Error");
 
-		verify(jiraClientMock).getIssueApi();
-		verify(issueApiMock).getAttachmentContent(contentUrl);
+		verify(jiraHttpTransportMock).get(URI.create(contentUrl));
 	}
 
 	@Test
@@ -399,8 +395,7 @@ class JiraIncidentClientTest {
 		final var transitions = new Transitions();
 
 		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
-		when(issueApiMock.getTransitions(issueKey)).thenReturn(completableFutureTransitionsMock);
-		when(completableFutureTransitionsMock.get()).thenReturn(transitions);
+		when(issueApiMock.getTransitions(issueKey)).thenReturn(completedFuture(transitions));
 
 		// Act
 		jiraClient.getTransitions(issueKey);
@@ -408,7 +403,6 @@ class JiraIncidentClientTest {
 		// Assert
 		verify(jiraClientMock).getIssueApi();
 		verify(issueApiMock).getTransitions(issueKey);
-		verify(completableFutureTransitionsMock).get();
 	}
 
 	@Test
@@ -430,4 +424,322 @@ class JiraIncidentClientTest {
 		verify(jiraClientMock).getIssueApi();
 		verify(issueApiMock).getTransitions(issueKey);
 	}
+
+	@Test
+	void getIssueAsyncWhenNotFound() {
+
+		// Arrange
+		final var issueKey = "TEST-1";
+
+		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.getIssue(issueKey)).thenReturn(failedFuture(new ResponseException(404, "Not found")));
+
+		// Act
+		final var result = jiraClient.getIssueAsync(issueKey).join();
+
+		// Assert
+		assertThat(result).isEmpty();
+		verify(jiraClientMock).getIssueApi();
+		verify(issueApiMock).getIssue(issueKey);
+	}
+
+	@Test
+	void getIssueAsyncThrowsException() {
+
+		// Arrange
+		final var issueKey = "TEST-1";
+
+		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.getIssue(issueKey)).thenReturn(failedFuture(new ResponseException(500, "Error")));
+
+		// Act
+		final var future = jiraClient.getIssueAsync(issueKey);
+
+		// Assert
+		assertThat(future).isCompletedExceptionally();
+		final var exception = assertThrows(CompletionException.class, future::join);
+		assertThat(exception.getCause()).isInstanceOf(JiraIntegrationException.class);
+		assertThat(exception.getCause().getCause()).isInstanceOf(ResponseException.class);
+	}
+
+	@Test
+	void updateIssueThrowsException() {
+
+		// Arrange
+		final var issue = Issue.fromKey("TEST-1");
+
+		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.updateIssue(issue)).thenReturn(failedFuture(new RuntimeException("Error")));
+
+		// Act
+		final var exception = assertThrows(JiraIntegrationException.class, () -> jiraClient.updateIssue(issue));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("java.lang.RuntimeException: Error");
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		verify(issueApiMock).updateIssue(issue);
+	}
+
+	@Test
+	void performTransitionAsync() {
+
+		// Arrange
+		final var issueKey = "TEST-1";
+		final var transition = Transition.fromName("To Do");
+
+		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.doTransition(any(), any())).thenReturn(completedFuture(null));
+
+		// Act
+		final var result = jiraClient.performTransitionAsync(issueKey, transition);
+
+		// Assert
+		assertThat(result).isCompleted();
+		verify(issueApiMock).doTransition(eq(issueKey), any());
+	}
+
+	@Test
+	void getIssueReleasesPermit() throws Exception {
+
+		// Arrange
+		final var issueKey = "TEST-1";
+
+		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.getIssue(issueKey)).thenReturn(completedFuture(issueMock));
+
+		// Act
+		final var result = jiraClient.getIssue(issueKey);
+
+		// Assert
+		assertThat(result).isPresent();
+		assertThat(concurrencyLimiterSpy.getInFlight()).isZero();
+		assertThat(concurrencyLimiterSpy.getLimit()).isEqualTo(4);
+		verify(concurrencyLimiterSpy).acquire();
+	}
+
+	@Test
+	void getIssueWhenThrottled() {
+
+		// Arrange
+		final var issueKey = "TEST-1";
+
+		when(jiraClientMock.getIssueApi()).thenReturn(issueApiMock);
+		when(issueApiMock.getIssue(issueKey)).thenReturn(failedFuture(new ResponseException(429, "Too many requests")));
+
+		// Act
+		assertThrows(JiraIntegrationException.class, () -> jiraClient.getIssue(issueKey));
+
+		// Assert
+		assertThat(concurrencyLimiterSpy.getInFlight()).isZero();
+		assertThat(concurrencyLimiterSpy.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void findLatestIssue() {
+
+		// Arrange
+		final var body = "{\"issues\":[{\"key\":\"TEST-1\",\"fields\":{\"status\":{\"name\":\"Open\"}}}]}";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.findLatestIssue("project = \"TEST\"");
+
+		// Assert
+		assertThat(result).contains(new IssueStatusView("TEST-1", "Open"));
+		verify(jiraHttpTransportMock).get(URI.create("http://jira.url/rest/api/2/search?jql=project+%3D+%22TEST%22+ORDER+BY+created+DESC&maxResults=1&fields=status"));
+	}
+
+	@Test
+	void findLatestIssueWhenNoMatch() {
+
+		// Arrange
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture("{\"issues\":[]}".getBytes()));
+
+		// Act
+		final var result = jiraClient.findLatestIssue("project = \"TEST\"");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void getIssueUpdated() {
+
+		// Arrange
+		final var body = "{\"id\":\"10001\",\"key\":\"TEST-1\",\"fields\":{\"updated\":\"2024-05-28T09:06:01.156+0200\"}}";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.getIssueUpdated("TEST-1");
+
+		// Assert
+		assertThat(result).contains(new IssueUpdatedView("TEST-1", OffsetDateTime.parse("2024-05-28T09:06:01.156+02:00")));
+		verify(jiraHttpTransportMock).get(URI.create("http://jira.url/rest/api/2/issue/TEST-1?fields=updated"));
+	}
+
+	@Test
+	void getIssueUpdatedWhenNotFound() {
+
+		// Arrange
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(failedFuture(new ResponseException(404, "Not found")));
+
+		// Act
+		final var result = jiraClient.getIssueUpdated("TEST-1");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void getIssueStatus() {
+
+		// Arrange
+		final var body = "{\"id\":\"10001\",\"key\":\"TEST-1\",\"fields\":{\"status\":{\"id\":\"1\",\"name\":\"Done\"}}}";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.getIssueStatus("TEST-1");
+
+		// Assert
+		assertThat(result).contains(new IssueStatusView("TEST-1", "Done"));
+		verify(jiraHttpTransportMock).get(URI.create("http://jira.url/rest/api/2/issue/TEST-1?fields=status"));
+	}
+
+	@Test
+	void getIssueStatusThrowsException() {
+
+		// Arrange
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(failedFuture(new ResponseException(500, "Error")));
+
+		// Act & Assert
+		assertThrows(JiraIntegrationException.class, () -> jiraClient.getIssueStatus("TEST-1"));
+	}
+
+	@Test
+	void getIssueStatusWhenThrottledWithRetryAfter() {
+
+		// Arrange
+		final var body = "{\"id\":\"10001\",\"key\":\"TEST-1\",\"fields\":{\"status\":{\"id\":\"1\",\"name\":\"Done\"}}}";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any()))
+			.thenReturn(failedFuture(new JiraThrottledException(429, "Too many requests", Duration.ZERO)))
+			.thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		assertThrows(JiraIntegrationException.class, () -> jiraClient.getIssueStatus("TEST-1"));
+
+		// Assert (the Retry-After of Jira is honoured instead of the default pause of two seconds)
+		assertThat(concurrencyLimiterSpy.getLimit()).isEqualTo(2);
+		assertThat(assertTimeoutPreemptively(Duration.ofSeconds(1), () -> jiraClient.getIssueStatus("TEST-1"))).contains(new IssueStatusView("TEST-1", "Done"));
+	}
+
+	@Test
+	void getIssueChangelog() {
+
+		// Arrange
+		final var body = """
+			{"key":"TEST-1","fields":{"updated":"2024-05-29T10:23:02.760+0200"},"changelog":{"histories":[
+				{"created":"2024-05-28T09:06:01.156+0200","author":{"name":"someone"},"items":[{"field":"description"}]},
+				{"created":"2024-05-29T10:23:01.760+0200","author":{"name":"integration"},"items":[{"field":"summary"}]},
+				{"created":"2024-05-29T10:23:02.760+0200","author":{"name":"someone"},"items":[{"field":"labels"},{"field":"Attachment"}]}]}}
+			""";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.getIssueChangelog("TEST-1");
+
+		// Assert
+		assertThat(result).isPresent();
+		assertThat(result.get().updated()).isEqualTo(OffsetDateTime.parse("2024-05-29T10:23:02.760+02:00"));
+		assertThat(result.get().changes()).hasSize(3);
+		assertThat(result.get().changedFieldsSince(OffsetDateTime.parse("2024-05-29T00:00:00+02:00"), "integration")).containsExactlyInAnyOrder("labels", "attachment");
+		assertThat(result.get().changedFieldsSince(OffsetDateTime.parse("2024-05-29T00:00:00+02:00"), null)).containsExactlyInAnyOrder("summary", "labels", "attachment");
+		verify(jiraHttpTransportMock).get(URI.create("http://jira.url/rest/api/2/issue/TEST-1?fields=updated&expand=changelog"));
+	}
+
+	@Test
+	void getIssueRevision() {
+
+		// Arrange (the last update is a comment, which isn't recorded in the changelog)
+		final var body = """
+			{"key":"TEST-1","fields":{"updated":"2024-05-29T10:23:03.760+0200","comment":{"comments":[
+				{"id":"10003","created":"2024-05-28T09:06:01.156+0200","updated":"2024-05-28T09:06:01.156+0200","author":{"name":"someone"},"updateAuthor":{"name":"someone"}},
+				{"id":"10004","created":"2024-05-29T10:23:03.760+0200","updated":"2024-05-29T10:23:03.760+0200","author":{"name":"integration"},"updateAuthor":{"name":"integration"}}]}},
+				"changelog":{"histories":[
+				{"created":"2024-05-29T10:23:02.760+0200","author":{"name":"someone"},"items":[{"field":"labels"}]}]}}
+			""";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.getIssueRevision("TEST-1");
+
+		// Assert
+		assertThat(result).contains(new IssueRevisionView("TEST-1", OffsetDateTime.parse("2024-05-29T10:23:03.760+02:00"), "integration"));
+		verify(jiraHttpTransportMock).get(URI.create("http://jira.url/rest/api/2/issue/TEST-1?fields=updated,comment&expand=changelog"));
+	}
+
+	@Test
+	void getIssueRevisionWhenLastUpdateIsNotAttributed() {
+
+		// Arrange (the issue was updated after the latest change, e.g. by removing a comment)
+		final var body = """
+			{"key":"TEST-1","fields":{"updated":"2024-05-29T10:23:04.760+0200","comment":{"comments":[]}},"changelog":{"histories":[
+				{"created":"2024-05-29T10:23:02.760+0200","author":{"name":"integration"},"items":[{"field":"description"}]}]}}
+			""";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.getIssueRevision("TEST-1");
+
+		// Assert
+		assertThat(result).contains(new IssueRevisionView("TEST-1", OffsetDateTime.parse("2024-05-29T10:23:04.760+02:00"), null));
+	}
+
+	@Test
+	void getComments() {
+
+		// Arrange
+		final var body = """
+			{"startAt":2,"maxResults":50,"total":3,"comments":[
+				{"id":"10003","created":"2024-05-29T10:23:02.760+0200","author":{"name":"someone","displayName":"Some One"},"body":"A comment"}]}
+			""";
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(completedFuture(body.getBytes()));
+
+		// Act
+		final var result = jiraClient.getComments("TEST-1", 2);
+
+		// Assert
+		assertThat(result).isPresent();
+		assertThat(result.get().startAt()).isEqualTo(2);
+		assertThat(result.get().total()).isEqualTo(3);
+		assertThat(result.get().nextStartAt()).isEqualTo(3);
+		assertThat(result.get().isLast()).isTrue();
+		assertThat(result.get().comments()).containsExactly(
+			new IssueCommentPage.Comment("10003", OffsetDateTime.parse("2024-05-29T10:23:02.760+02:00"), "someone", "Some One", "A comment"));
+		verify(jiraHttpTransportMock).get(URI.create("http://jira.url/rest/api/2/issue/TEST-1/comment?startAt=2&maxResults=50&orderBy=created"));
+	}
+
+	@Test
+	void getCommentsWhenNotFound() {
+
+		// Arrange
+		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
+		when(jiraHttpTransportMock.get(any())).thenReturn(failedFuture(new ResponseException(404, "Not found")));
+
+		// Act
+		final var result = jiraClient.getComments("TEST-1", 0);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
 }
@@ -0,0 +1,149 @@
+package se.sundsvall.incidentmapper.integration.jira;
+
+import com.chavaillaz.client.jira.domain.Transition;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.integration.jira.configuration.JiraProperties;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueStatusView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JiraTransitionCacheTest {
+
+	private static final String PROJECT_KEY = "PROJECT-KEY";
+	private static final String ISSUE_TYPE = "Bug";
+	private static final String STATUS = "Open";
+	private static final Transition TRANSITION = Transition.fromName("To Do");
+
+	@Mock
+	private JiraIncidentClient jiraIncidentClientMock;
+
+	@InjectMocks
+	private JiraTransitionCache jiraTransitionCache;
+
+	@Test
+	void getTransitionsIsCached() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getProperties()).thenReturn(properties(Duration.ofHours(1), true));
+		when(jiraIncidentClientMock.getTransitions("KEY-1")).thenReturn(Map.of(TRANSITION.getName(), TRANSITION));
+
+		// Act
+		final var first = jiraTransitionCache.getTransitions("KEY-1", ISSUE_TYPE, STATUS);
+		final var second = jiraTransitionCache.getTransitions("KEY-2", ISSUE_TYPE, STATUS);
+
+		// Assert
+		assertThat(first).containsEntry("To Do", TRANSITION);
+		assertThat(second).isEqualTo(first);
+		verify(jiraIncidentClientMock).getTransitions("KEY-1");
+		verify(jiraIncidentClientMock, never()).getTransitions("KEY-2");
+	}
+
+	@Test
+	void getTransitionsWhenExpired() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getProperties()).thenReturn(properties(Duration.ZERO, true));
+		when(jiraIncidentClientMock.getTransitions(any())).thenReturn(Map.of(TRANSITION.getName(), TRANSITION));
+
+		// Act
+		jiraTransitionCache.getTransitions("KEY-1", ISSUE_TYPE, STATUS);
+		jiraTransitionCache.getTransitions("KEY-2", ISSUE_TYPE, STATUS);
+
+		// Assert
+		verify(jiraIncidentClientMock).getTransitions("KEY-1");
+		verify(jiraIncidentClientMock).getTransitions("KEY-2");
+	}
+
+	@Test
+	void getTransitionsWhenInvalidated() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getProperties()).thenReturn(properties(Duration.ofHours(1), true));
+		when(jiraIncidentClientMock.getTransitions("KEY-1")).thenReturn(Map.of(TRANSITION.getName(), TRANSITION));
+
+		// Act
+		jiraTransitionCache.getTransitions("KEY-1", ISSUE_TYPE, STATUS);
+		jiraTransitionCache.invalidate(ISSUE_TYPE, STATUS);
+		jiraTransitionCache.getTransitions("KEY-1", ISSUE_TYPE, STATUS);
+
+		// Assert
+		verify(jiraIncidentClientMock, times(2)).getTransitions("KEY-1");
+	}
+
+	@Test
+	void getTransitionsWithoutStatus() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getTransitions("KEY-1")).thenReturn(Map.of(TRANSITION.getName(), TRANSITION));
+
+		// Act
+		jiraTransitionCache.getTransitions("KEY-1", ISSUE_TYPE, null);
+		jiraTransitionCache.getTransitions("KEY-1", ISSUE_TYPE, null);
+
+		// Assert
+		verify(jiraIncidentClientMock, times(2)).getTransitions("KEY-1");
+	}
+
+	@Test
+	void prewarm() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getProperties()).thenReturn(properties(Duration.ofHours(1), true));
+		when(jiraIncidentClientMock.findLatestIssue("project = \"PROJECT-KEY\" AND issuetype = \"Bug\" AND statusCategory = new AND status != \"To Do\""))
+			.thenReturn(Optional.of(new IssueStatusView("KEY-1", STATUS)));
+		when(jiraIncidentClientMock.getTransitions("KEY-1")).thenReturn(Map.of(TRANSITION.getName(), TRANSITION));
+
+		// Act
+		jiraTransitionCache.prewarm(ISSUE_TYPE, "To Do");
+		final var result = jiraTransitionCache.getTransitions("KEY-2", ISSUE_TYPE, STATUS);
+
+		// Assert
+		assertThat(result).containsEntry("To Do", TRANSITION);
+		verify(jiraIncidentClientMock).getTransitions("KEY-1");
+		verify(jiraIncidentClientMock, never()).getTransitions("KEY-2");
+	}
+
+	@Test
+	void prewarmWhenJiraFails() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getProperties()).thenReturn(properties(Duration.ofHours(1), true));
+		when(jiraIncidentClientMock.findLatestIssue(any())).thenThrow(new JiraIntegrationException(new RuntimeException("error")));
+
+		// Act
+		jiraTransitionCache.prewarm(ISSUE_TYPE, "To Do");
+
+		// Assert
+		verify(jiraIncidentClientMock, never()).getTransitions(any());
+	}
+
+	@Test
+	void prewarmWhenDisabled() {
+
+		// Arrange
+		when(jiraIncidentClientMock.getProperties()).thenReturn(properties(Duration.ofHours(1), false));
+
+		// Act
+		jiraTransitionCache.prewarm(ISSUE_TYPE, "To Do");
+
+		// Assert
+		verify(jiraIncidentClientMock, never()).findLatestIssue(any());
+	}
+
+	private static JiraProperties properties(final Duration timeToLive, final boolean prewarm) {
+		return new JiraProperties("user", "pass", "http://jira.url", PROJECT_KEY, null, null, new JiraProperties.TransitionCache(timeToLive, prewarm));
+	}
+}
@@ -1,10 +1,16 @@
 package se.sundsvall.incidentmapper.integration.jira.configuration;
 
+import com.chavaillaz.client.jira.java.JavaHttpJiraClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.integration.jira.JiraHttpTransport;
+import se.sundsvall.incidentmapper.integration.limiter.ConcurrencyLimitProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -19,15 +25,46 @@ class JiraConfigurationTest {
 	private JiraConfiguration jiraConfiguration;
 
 	@Test
-	void testJiraRestClient() {
+	void testJiraRestClient(@Mock final JiraHttpTransport jiraHttpTransportMock) {
 		// Arrange
+		final var httpClient = HttpClient.newHttpClient();
 		when(jiraPropertiesMock.url()).thenReturn("http://jira.url");
 		when(jiraPropertiesMock.username()).thenReturn("some-username");
 		when(jiraPropertiesMock.password()).thenReturn("some-password");
+		when(jiraHttpTransportMock.getHttpClient()).thenReturn(httpClient);
 		// Act
-		final var jiraRestClient = jiraConfiguration.jiraRestClient();
+		final var jiraRestClient = jiraConfiguration.jiraRestClient(jiraHttpTransportMock);
 		// Assert
-		assertThat(jiraRestClient).isNotNull();
+		assertThat(jiraRestClient).isInstanceOf(JavaHttpJiraClient.class);
+		assertThat(((JavaHttpJiraClient<?>) jiraRestClient).newHttpClient()).isSameAs(httpClient);
 	}
 
+	@Test
+	void testJiraConcurrencyLimiter() {
+		// Arrange
+		final var meterRegistry = new SimpleMeterRegistry();
+		when(jiraPropertiesMock.limiter()).thenReturn(new ConcurrencyLimitProperties(3, 1, 10, 0.5, Duration.ofSeconds(5), Duration.ofSeconds(2), Duration.ofMinutes(1)));
+		// Act
+		final var limiter = jiraConfiguration.jiraConcurrencyLimiter(meterRegistry);
+		// Assert
+		assertThat(limiter.getName()).isEqualTo("jira");
+		assertThat(limiter.getLimit()).isEqualTo(3);
+		assertThat(meterRegistry.get("concurrency.limiter.limit").tag("backend", "jira").gauge().value()).isEqualTo(3);
+	}
+
+	@Test
+	void testJiraHttpTransport() {
+		// Arrange
+		final var meterRegistry = new SimpleMeterRegistry();
+		when(jiraPropertiesMock.username()).thenReturn("some-username");
+		when(jiraPropertiesMock.password()).thenReturn("some-password");
+		when(jiraPropertiesMock.transport()).thenReturn(new JiraProperties.Transport(Duration.ofSeconds(1), Duration.ofSeconds(2), 3, 2, true, true));
+		// Act
+		try (final var transport = jiraConfiguration.jiraHttpTransport(meterRegistry)) {
+			// Assert
+			assertThat(transport).isNotNull();
+			assertThat(meterRegistry.get("jira.transport.requests.available").gauge().value()).isEqualTo(3);
+			assertThat(meterRegistry.get("jira.transport.requests.active").gauge().value()).isZero();
+		}
+	}
 }
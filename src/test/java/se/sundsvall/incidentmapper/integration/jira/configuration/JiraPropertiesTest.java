@@ -1,5 +1,6 @@
 package se.sundsvall.incidentmapper.integration.jira.configuration;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +22,21 @@ class JiraPropertiesTest {
 		assertThat(properties.username()).isEqualTo("some-username");
 		assertThat(properties.url()).isEqualTo("http://jira.url");
 		assertThat(properties.projectKey()).isEqualTo("PROJECT-KEY");
+		assertThat(properties.transport().connectTimeout()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(properties.transport().readTimeout()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.transport().maxConnections()).isEqualTo(20);
+		assertThat(properties.transport().executorThreads()).isEqualTo(4);
+		assertThat(properties.transport().http2()).isTrue();
+		assertThat(properties.transport().compression()).isTrue();
+		assertThat(properties.limiter().initialLimit()).isEqualTo(4);
+		assertThat(properties.limiter().minLimit()).isEqualTo(1);
+		assertThat(properties.limiter().maxLimit()).isEqualTo(20);
+		assertThat(properties.limiter().backoffRatio()).isEqualTo(0.5);
+		assertThat(properties.limiter().latencyThreshold()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(properties.limiter().defaultRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(properties.limiter().maxRetryAfter()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(properties.transitionCache().timeToLive()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.transitionCache().prewarm()).isFalse();
 	}
 
 }
@@ -0,0 +1,119 @@
+package se.sundsvall.incidentmapper.integration.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final ConcurrencyLimitProperties SETTINGS = new ConcurrencyLimitProperties(4, 1, 5, 0.5, Duration.ofSeconds(5), Duration.ZERO, Duration.ofMinutes(1));
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("backend", SETTINGS, meterRegistry);
+
+	@Test
+	void acquireAndRelease() throws Exception {
+
+		// Act
+		final var permit = limiter.acquire();
+
+		// Assert
+		assertThat(limiter.getInFlight()).isOne();
+		assertThat(meterRegistry.get("concurrency.limiter.inflight").tag("backend", "backend").gauge().value()).isOne();
+
+		permit.onSuccess();
+		permit.onSuccess();
+
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void limitIncreasesWhenUtilized() throws Exception {
+
+		// Arrange
+		final var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+
+		// Act
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < limiter.getLimit(); i++) {
+				permits.add(limiter.acquire());
+			}
+			permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+			permits.clear();
+		}
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(5);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void limitDecreasesWhenThrottled() throws Exception {
+
+		// Act
+		limiter.acquire().onThrottled(null);
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(2);
+		assertThat(meterRegistry.get("concurrency.limiter.limit").tag("backend", "backend").gauge().value()).isEqualTo(2);
+	}
+
+	@Test
+	void limitDecreasesWhenDropped() throws Exception {
+
+		// Act
+		limiter.acquire().onDropped();
+		limiter.acquire().onDropped();
+		limiter.acquire().onDropped();
+
+		// Assert
+		assertThat(limiter.getLimit()).isOne();
+	}
+
+	@Test
+	void limitUnchangedWhenIgnored() throws Exception {
+
+		// Act
+		limiter.acquire().onIgnore();
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(4);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void throttlingPausesNewRequests() throws Exception {
+
+		// Arrange
+		final var pause = Duration.ofMillis(200);
+		limiter.acquire().onThrottled(pause);
+
+		// Act
+		final var start = System.nanoTime();
+		limiter.acquire().onSuccess();
+
+		// Assert
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(pause.minusMillis(10));
+	}
+
+	@Test
+	void parseRetryAfter() {
+		assertThat(AdaptiveConcurrencyLimiter.parseRetryAfter("120")).isEqualTo(Duration.ofMinutes(2));
+		assertThat(AdaptiveConcurrencyLimiter.parseRetryAfter(" 3 ")).isEqualTo(Duration.ofSeconds(3));
+		assertThat(AdaptiveConcurrencyLimiter.parseRetryAfter("-1")).isEqualTo(Duration.ZERO);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = "Wed, 21 Oct 2015 07:28:00 GMT")
+	void parseRetryAfterWhenNotSeconds(final String value) {
+		assertThat(AdaptiveConcurrencyLimiter.parseRetryAfter(value)).isNull();
+	}
+}
@@ -1,5 +1,10 @@
 package se.sundsvall.incidentmapper.integration.pob.configuration;
 
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +18,13 @@ import org.springframework.security.oauth2.client.registration.ClientRegistratio
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
 import se.sundsvall.dept44.configuration.feign.decoder.JsonPathErrorDecoder;
+import se.sundsvall.incidentmapper.integration.limiter.ConcurrencyLimitProperties;
+import se.sundsvall.incidentmapper.integration.limiter.LimitingFeignClient;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static se.sundsvall.incidentmapper.integration.pob.configuration.POBConfiguration.CLIENT_ID;
@@ -42,6 +53,7 @@ class POBConfigurationTest {
 
 		when(propertiesMock.connectTimeout()).thenReturn(1);
 		when(propertiesMock.readTimeout()).thenReturn(2);
+		when(propertiesMock.compression()).thenReturn(new POBProperties.Compression(true, 1024, true));
 		when(feignMultiCustomizerSpy.composeCustomizersToOne()).thenReturn(feignBuilderCustomizerMock);
 
 		try (final var feignMultiCustomizerMock = Mockito.mockStatic(FeignMultiCustomizer.class)) {
@@ -52,6 +64,7 @@ class POBConfigurationTest {
 			final var errorDecoderCaptor = ArgumentCaptor.forClass(JsonPathErrorDecoder.class);
 
 			verify(feignMultiCustomizerSpy).withErrorDecoder(errorDecoderCaptor.capture());
+			verify(feignMultiCustomizerSpy, times(2)).withRequestInterceptor(any());
 			verify(propertiesMock).connectTimeout();
 			verify(propertiesMock).readTimeout();
 			verify(feignMultiCustomizerSpy).withRequestTimeoutsInSeconds(1, 2);
@@ -61,4 +74,63 @@ class POBConfigurationTest {
 			AssertionsForClassTypes.assertThat(customizer).isSameAs(feignBuilderCustomizerMock);
 		}
 	}
+
+	@Test
+	void testFeignBuilderCustomizerWithoutRequestCompression() {
+		final var configuration = new POBConfiguration();
+
+		when(propertiesMock.compression()).thenReturn(new POBProperties.Compression(false, 1024, true));
+		when(feignMultiCustomizerSpy.composeCustomizersToOne()).thenReturn(feignBuilderCustomizerMock);
+
+		try (final var feignMultiCustomizerMock = Mockito.mockStatic(FeignMultiCustomizer.class)) {
+			feignMultiCustomizerMock.when(FeignMultiCustomizer::create).thenReturn(feignMultiCustomizerSpy);
+
+			configuration.feignBuilderCustomizer(propertiesMock);
+
+			// Only the API key interceptor is added.
+			verify(feignMultiCustomizerSpy).withRequestInterceptor(any());
+		}
+	}
+
+	@Test
+	void testFeignClient() {
+		final var configuration = new POBConfiguration();
+
+		when(propertiesMock.connectTimeout()).thenReturn(1);
+		when(propertiesMock.readTimeout()).thenReturn(2);
+		when(propertiesMock.pool()).thenReturn(new POBProperties.Pool(10, 5, Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(10)));
+		when(propertiesMock.compression()).thenReturn(new POBProperties.Compression(true, 1024, true));
+		when(propertiesMock.limiter()).thenReturn(new ConcurrencyLimitProperties(4, 1, 10, 0.5, Duration.ofSeconds(10), Duration.ofSeconds(2), Duration.ofMinutes(1)));
+
+		final var meterRegistry = new SimpleMeterRegistry();
+		final var client = configuration.pobFeignClient(propertiesMock, meterRegistry);
+
+		assertThat(client).isInstanceOf(LimitingFeignClient.class);
+		assertThat(meterRegistry.get("concurrency.limiter.limit").tag("backend", "pob").gauge().value()).isEqualTo(4);
+	}
+
+	@Test
+	void testGzipRequestInterceptor() throws Exception {
+		final var body = "{\"Memo\":\"%s\"}".formatted("x".repeat(2000));
+		final var requestTemplate = new RequestTemplate().body(body);
+
+		POBConfiguration.gzipRequestInterceptor(1024).apply(requestTemplate);
+
+		assertThat(requestTemplate.headers().get("Content-Encoding")).containsExactly("gzip");
+		assertThat(requestTemplate.body()).hasSizeLessThan(body.length());
+		try (final var inputStream = new GZIPInputStream(new ByteArrayInputStream(requestTemplate.body()))) {
+			assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo(body);
+		}
+	}
+
+	@Test
+	void testGzipRequestInterceptorWhenBodyIsSmall() {
+		final var body = "{\"Memo\":\"small\"}";
+		final var requestTemplate = new RequestTemplate().body(body);
+
+		POBConfiguration.gzipRequestInterceptor(1024).apply(requestTemplate);
+
+		assertThat(requestTemplate.headers()).doesNotContainKey("Content-Encoding");
+		assertThat(new String(requestTemplate.body(), UTF_8)).isEqualTo(body);
+	}
 }
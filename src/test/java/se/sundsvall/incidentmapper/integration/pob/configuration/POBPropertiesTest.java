@@ -1,5 +1,6 @@
 package se.sundsvall.incidentmapper.integration.pob.configuration;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,5 +21,16 @@ class POBPropertiesTest {
 		assertThat(properties.connectTimeout()).isEqualTo(5);
 		assertThat(properties.readTimeout()).isEqualTo(30);
 		assertThat(properties.apiKey()).isEqualTo("some-key");
+		assertThat(properties.pool().maxConnections()).isEqualTo(50);
+		assertThat(properties.pool().maxConnectionsPerRoute()).isEqualTo(20);
+		assertThat(properties.pool().keepAlive()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.pool().idleEviction()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(properties.pool().timeToLive()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(properties.compression().requestEnabled()).isFalse();
+		assertThat(properties.compression().requestMinSize()).isEqualTo(1024);
+		assertThat(properties.compression().responseEnabled()).isTrue();
+		assertThat(properties.limiter().initialLimit()).isEqualTo(4);
+		assertThat(properties.limiter().maxLimit()).isEqualTo(10);
+		assertThat(properties.limiter().latencyThreshold()).isEqualTo(Duration.ofSeconds(10));
 	}
 }
@@ -0,0 +1,117 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.api.model.IncidentRequest;
+import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+
+import static java.util.Optional.empty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.SYNCHRONIZED;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentIntakeServiceTest {
+
+	@Mock
+	private IncidentRepository incidentRepositoryMock;
+
+	@InjectMocks
+	private IncidentIntakeService incidentIntakeService;
+
+	@Captor
+	private ArgumentCaptor<IncidentEntity> incidentEntityCaptor;
+
+	@Test
+	void handleIncidentRequestNew() {
+
+		// Arrange
+		final var municipalityId = "2281";
+		final var pobIssueKey = "POB-12345";
+		final var incidentRequest = IncidentRequest.create()
+			.withIncidentKey(pobIssueKey);
+
+		when(incidentRepositoryMock.findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey)).thenReturn(empty());
+
+		// Act
+		incidentIntakeService.handleIncidentRequest(municipalityId, incidentRequest);
+
+		// Assert
+		verify(incidentRepositoryMock).findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey);
+		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+
+		final var capturedValue = incidentEntityCaptor.getValue();
+		assertThat(capturedValue.getPobIssueKey()).isEqualTo(pobIssueKey);
+		assertThat(capturedValue.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(capturedValue.getStatus()).isEqualTo(POB_INITIATED_EVENT);
+	}
+
+	@Test
+	void handleIncidentRequestExisting() {
+
+		// Arrange
+		final var municipalityId = "2281";
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var incidentRequest = IncidentRequest.create()
+			.withIncidentKey(pobIssueKey);
+		final var existingEntity = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey(jiraIssueKey)
+			.withPobIssueKey(pobIssueKey)
+			.withStatus(SYNCHRONIZED);
+
+		when(incidentRepositoryMock.findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey)).thenReturn(Optional.of(existingEntity));
+
+		// Act
+		incidentIntakeService.handleIncidentRequest(municipalityId, incidentRequest);
+
+		// Assert
+		verify(incidentRepositoryMock).findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey);
+		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+
+		final var capturedValue = incidentEntityCaptor.getValue();
+		assertThat(capturedValue.getPobIssueKey()).isEqualTo(pobIssueKey);
+		assertThat(capturedValue.getStatus()).isEqualTo(POB_INITIATED_EVENT);
+	}
+
+	@Test
+	void handleIncidentRequestStatusIsNotModifiable() {
+
+		// Arrange
+		final var municipalityId = "2281";
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var incidentRequest = IncidentRequest.create()
+			.withIncidentKey(pobIssueKey);
+		final var existingEntity = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey(jiraIssueKey)
+			.withPobIssueKey(pobIssueKey)
+			.withStatus(JIRA_INITIATED_EVENT);
+
+		when(incidentRepositoryMock.findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey)).thenReturn(Optional.of(existingEntity));
+
+		// Act
+		incidentIntakeService.handleIncidentRequest(municipalityId, incidentRequest);
+
+		// Assert
+		verify(incidentRepositoryMock).findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey);
+		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity).isNotNull();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(JIRA_INITIATED_EVENT);
+	}
+}
@@ -10,13 +10,25 @@ import com.chavaillaz.client.jira.domain.Transition;
 import com.chavaillaz.client.jira.domain.User;
 import generated.se.sundsvall.pob.PobMemo;
 import generated.se.sundsvall.pob.PobPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.FileInputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,38 +39,70 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 import se.sundsvall.dept44.test.annotation.resource.Load;
 import se.sundsvall.dept44.test.extension.ResourceLoaderExtension;
-import se.sundsvall.incidentmapper.api.model.IncidentRequest;
 import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
+import se.sundsvall.incidentmapper.integration.db.SyncCheckpointRepository;
 import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentSummary;
+import se.sundsvall.incidentmapper.integration.db.model.SyncCheckpointEntity;
+import se.sundsvall.incidentmapper.integration.db.model.enums.Status;
 import se.sundsvall.incidentmapper.integration.jira.JiraIncidentClient;
+import se.sundsvall.incidentmapper.integration.jira.JiraIntegrationException;
+import se.sundsvall.incidentmapper.integration.jira.JiraTransitionCache;
 import se.sundsvall.incidentmapper.integration.jira.configuration.JiraProperties;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueChangelogView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueCommentPage;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueRevisionView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueStatusView;
+import se.sundsvall.incidentmapper.integration.jira.model.IssueUpdatedView;
 import se.sundsvall.incidentmapper.integration.pob.POBClient;
 import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.Priority;
 import se.sundsvall.incidentmapper.service.mapper.PobMapper;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static se.sundsvall.dept44.test.annotation.resource.Load.ResourceType.JSON;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
 import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.SYNCHRONIZED;
 import static se.sundsvall.incidentmapper.service.IncidentService.JIRA_ISSUE_CREATED;
+import static se.sundsvall.incidentmapper.service.IncidentService.PAGE_SIZE;
+import static se.sundsvall.incidentmapper.service.IncidentService.POLL_BATCH_SIZE;
+import static se.sundsvall.incidentmapper.service.SyncJournal.attachmentStep;
 
 @ExtendWith({
 	MockitoExtension.class, ResourceLoaderExtension.class
@@ -70,9 +114,15 @@ class IncidentServiceTest {
 	@Mock
 	private IncidentRepository incidentRepositoryMock;
 
+	@Mock
+	private SyncCheckpointRepository syncCheckpointRepositoryMock;
+
 	@Mock
 	private JiraIncidentClient jiraClientMock;
 
+	@Mock
+	private JiraTransitionCache jiraTransitionCacheMock;
+
 	@Mock
 	private POBClient pobClientMock;
 
@@ -82,6 +132,15 @@ class IncidentServiceTest {
 	@Mock
 	private SynchronizationProperties synchronizationPropertiesMock;
 
+	@Mock
+	private SyncJournal syncJournalMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Spy
+	private TenantScheduler tenantScheduler = new TenantScheduler(new SynchronizationProperties(0, null, null, null, null, null, null, null, null, null, null), new SimpleMeterRegistry());
+
 	@Mock
 	private InputStreamResource inputStreamResourceMock;
 
@@ -97,6 +156,9 @@ class IncidentServiceTest {
 	@Captor
 	private ArgumentCaptor<OffsetDateTime> offsetDateTimeCaptor;
 
+	@Captor
+	private ArgumentCaptor<List<String>> idsCaptor;
+
 	@Captor
 	private ArgumentCaptor<Issue> jiraIssueCaptor;
 
@@ -116,143 +178,139 @@ class IncidentServiceTest {
 	}
 
 	@Test
-	void handleIncidentRequestNew() {
+	void pollJiraIssuesWhenUpdatesFound() {
 
 		// Arrange
-		final var municipalityId = "2281";
-		final var pobIssueKey = "POB-12345";
-		final var incidentRequest = IncidentRequest.create()
-			.withIncidentKey(pobIssueKey);
+		final var jiraIssueKey = "JIR-12345";
+		final var lastSynchronizedPob = now().minusDays(1);
+		final var existingIncident = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey(jiraIssueKey)
+			.withLastSynchronizedPob(lastSynchronizedPob)
+			.withStatus(SYNCHRONIZED);
+
+		final var jiraIssue = new IssueUpdatedView(jiraIssueKey, now());
 
-		when(incidentRepositoryMock.findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey)).thenReturn(empty());
+		mockFindDueForPolling(List.of(existingIncident));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
 
 		// Act
-		incidentService.handleIncidentRequest(municipalityId, incidentRequest);
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey);
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
-
-		final var capturedValue = incidentEntityCaptor.getValue();
-		assertThat(capturedValue.getPobIssueKey()).isEqualTo(pobIssueKey);
-		assertThat(capturedValue.getMunicipalityId()).isEqualTo(municipalityId);
-		assertThat(capturedValue.getStatus()).isEqualTo(POB_INITIATED_EVENT);
+		verify(jiraClientMock).getIssueUpdated(jiraIssueKey);
+		verify(incidentRepositoryMock).findSummariesDueForPolling(eq(SYNCHRONIZED), any(), eq(""), any());
+		verify(incidentRepositoryMock).updateStatusByIdInAndStatus(eq(List.of(existingIncident.getId())), eq(SYNCHRONIZED), eq(JIRA_INITIATED_EVENT), offsetDateTimeCaptor.capture());
+		verify(incidentRepositoryMock, never()).save(any());
+		assertThat(offsetDateTimeCaptor.getValue()).isCloseTo(now(), within(2, SECONDS));
 	}
 
 	@Test
-	void handleIncidentRequestExisting() {
+	void pollJiraIssuesWhenUpdatesNotFound() {
 
 		// Arrange
-		final var municipalityId = "2281";
-		final var pobIssueKey = "POB-12345";
 		final var jiraIssueKey = "JIR-12345";
-		final var incidentRequest = IncidentRequest.create()
-			.withIncidentKey(pobIssueKey);
-		final var existingEntity = IncidentEntity.create()
+		final var lastSynchronizedJira = now().plusMinutes(1);
+		final var existingIncident = IncidentEntity.create()
 			.withId(UUID.randomUUID().toString())
 			.withJiraIssueKey(jiraIssueKey)
-			.withPobIssueKey(pobIssueKey)
+			.withLastSynchronizedJira(lastSynchronizedJira)
 			.withStatus(SYNCHRONIZED);
 
-		when(incidentRepositoryMock.findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey)).thenReturn(Optional.of(existingEntity));
+		final var jiraIssue = new IssueUpdatedView(jiraIssueKey, now());
+
+		mockFindDueForPolling(List.of(existingIncident));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
 
 		// Act
-		incidentService.handleIncidentRequest(municipalityId, incidentRequest);
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey);
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+		verify(jiraClientMock).getIssueUpdated(jiraIssueKey);
+		verify(incidentRepositoryMock).findSummariesDueForPolling(eq(SYNCHRONIZED), any(), eq(""), any());
+		verify(incidentRepositoryMock).updateNextPollAtByIdInAndStatus(eq(List.of(existingIncident.getId())), eq(SYNCHRONIZED), offsetDateTimeCaptor.capture());
+		verify(incidentRepositoryMock, never()).save(any());
 
-		final var capturedValue = incidentEntityCaptor.getValue();
-		assertThat(capturedValue.getPobIssueKey()).isEqualTo(pobIssueKey);
-		assertThat(capturedValue.getStatus()).isEqualTo(POB_INITIATED_EVENT);
+		// Last synchronized in the future (quiet for no time), polled again after the min interval (rounded down to whole min intervals).
+		assertThat(offsetDateTimeCaptor.getValue()).isBetween(now().minusSeconds(2), now().plusSeconds(30));
 	}
 
 	@Test
-	void handleIncidentRequestStatusIsNotModifiable() {
+	void pollJiraIssuesWhenUpdatedByThisService() {
 
 		// Arrange
-		final var municipalityId = "2281";
-		final var pobIssueKey = "POB-12345";
 		final var jiraIssueKey = "JIR-12345";
-		final var incidentRequest = IncidentRequest.create()
-			.withIncidentKey(pobIssueKey);
-		final var existingEntity = IncidentEntity.create()
+		final var jiraRevision = now();
+		final var existingIncident = IncidentEntity.create()
 			.withId(UUID.randomUUID().toString())
 			.withJiraIssueKey(jiraIssueKey)
-			.withPobIssueKey(pobIssueKey)
-			.withStatus(JIRA_INITIATED_EVENT);
+			.withLastSynchronizedJira(jiraRevision.minusMinutes(1))
+			.withJiraRevision(jiraRevision)
+			.withStatus(SYNCHRONIZED);
 
-		when(incidentRepositoryMock.findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey)).thenReturn(Optional.of(existingEntity));
+		mockFindDueForPolling(List.of(existingIncident));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.of(new IssueUpdatedView(jiraIssueKey, jiraRevision)));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
 
 		// Act
-		incidentService.handleIncidentRequest(municipalityId, incidentRequest);
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).findByMunicipalityIdAndPobIssueKey(municipalityId, pobIssueKey);
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
-
-		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
-		assertThat(capturedIncidentEntity).isNotNull();
-		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(JIRA_INITIATED_EVENT);
+		verify(jiraClientMock).getIssueUpdated(jiraIssueKey);
+		verify(incidentRepositoryMock).updateNextPollAtByIdInAndStatus(eq(List.of(existingIncident.getId())), eq(SYNCHRONIZED), any());
+		verify(incidentRepositoryMock, never()).updateStatusByIdInAndStatus(any(), any(), any(), any());
+		verify(incidentRepositoryMock, never()).save(any());
 	}
 
 	@Test
-	void pollJiraIssuesWhenUpdatesFound() {
+	void pollJiraIssuesWhenIssueIsQuiet() {
 
 		// Arrange
 		final var jiraIssueKey = "JIR-12345";
-		final var lastSynchronizedPob = now().minusDays(1);
 		final var existingIncident = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
 			.withJiraIssueKey(jiraIssueKey)
-			.withLastSynchronizedPob(lastSynchronizedPob)
+			.withLastSynchronizedJira(now().minusMinutes(100))
 			.withStatus(SYNCHRONIZED);
 
-		final var jiraIssue = Issue.fromKey(jiraIssueKey);
-		jiraIssue.getFields().setUpdated(now());
-
-		when(incidentRepositoryMock.findByStatus(SYNCHRONIZED)).thenReturn(List.of(existingIncident));
-		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		mockFindDueForPolling(List.of(existingIncident));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.of(new IssueUpdatedView(jiraIssueKey, now().minusDays(30))));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
 
 		// Act
-		incidentService.pollJiraIssues();
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(jiraClientMock).getIssue(jiraIssueKey);
-		verify(incidentRepositoryMock).findByStatus(SYNCHRONIZED);
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+		verify(incidentRepositoryMock).updateNextPollAtByIdInAndStatus(eq(List.of(existingIncident.getId())), eq(SYNCHRONIZED), offsetDateTimeCaptor.capture());
 
-		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
-		assertThat(capturedIncidentEntity).isNotNull();
-		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(JIRA_INITIATED_EVENT);
+		// Quiet for 100 minutes (since the last synchronization), polled again after 10 minutes (rounded down to whole min intervals).
+		assertThat(offsetDateTimeCaptor.getValue()).isBetween(now().plusMinutes(10).minusSeconds(32), now().plusMinutes(10));
 	}
 
 	@Test
-	void pollJiraIssuesWhenUpdatesNotFound() {
+	void pollJiraIssuesWhenIssueHasBeenQuietForLong() {
 
 		// Arrange
 		final var jiraIssueKey = "JIR-12345";
-		final var lastSynchronizedJira = now().plusMinutes(1);
 		final var existingIncident = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
 			.withJiraIssueKey(jiraIssueKey)
-			.withLastSynchronizedJira(lastSynchronizedJira)
+			.withLastSynchronizedJira(now().minusDays(30))
 			.withStatus(SYNCHRONIZED);
 
-		final var fields = new Fields();
-		fields.setUpdated(now());
-		final var jiraIssue = new Issue();
-		jiraIssue.setFields(fields);
-
-		when(incidentRepositoryMock.findByStatus(SYNCHRONIZED)).thenReturn(List.of(existingIncident));
-		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		mockFindDueForPolling(List.of(existingIncident));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.of(new IssueUpdatedView(jiraIssueKey, now().minusDays(30))));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
 
 		// Act
-		incidentService.pollJiraIssues();
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(jiraClientMock).getIssue(jiraIssueKey);
-		verify(incidentRepositoryMock).findByStatus(SYNCHRONIZED);
-		verify(incidentRepositoryMock, never()).saveAndFlush(any());
+		verify(incidentRepositoryMock).updateNextPollAtByIdInAndStatus(eq(List.of(existingIncident.getId())), eq(SYNCHRONIZED), offsetDateTimeCaptor.capture());
+
+		// Capped by the max interval (rounded down to whole min intervals).
+		assertThat(offsetDateTimeCaptor.getValue()).isBetween(now().plusHours(1).minusSeconds(32), now().plusHours(1));
 	}
 
 	@Test
@@ -268,16 +326,16 @@ class IncidentServiceTest {
 			.withLastSynchronizedJira(lastSynchronizedJira)
 			.withStatus(SYNCHRONIZED);
 
-		when(incidentRepositoryMock.findByStatus(SYNCHRONIZED)).thenReturn(List.of(existingIncident));
-		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.empty());
+		mockFindDueForPolling(List.of(existingIncident));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.empty());
 
 		// Act
-		incidentService.pollJiraIssues();
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).findByStatus(SYNCHRONIZED);
-		verify(jiraClientMock).getIssue(jiraIssueKey);
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+		verify(incidentRepositoryMock).findSummariesDueForPolling(eq(SYNCHRONIZED), any(), eq(""), any());
+		verify(jiraClientMock).getIssueUpdated(jiraIssueKey);
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
 
 		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
 		assertThat(capturedIncidentEntity).isNotNull();
@@ -290,15 +348,210 @@ class IncidentServiceTest {
 	@Test
 	void pollJiraIssuesWhenIncidentMappingsNotFound() {
 
-		when(incidentRepositoryMock.findByStatus(SYNCHRONIZED)).thenReturn(emptyList());
+		mockFindDueForPolling(emptyList());
 
 		// Act
-		incidentService.pollJiraIssues();
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
 		verifyNoInteractions(jiraClientMock);
-		verify(incidentRepositoryMock).findByStatus(SYNCHRONIZED);
-		verify(incidentRepositoryMock, never()).saveAndFlush(any());
+		verify(incidentRepositoryMock).findSummariesDueForPolling(eq(SYNCHRONIZED), any(), eq(""), any());
+		verify(incidentRepositoryMock, never()).save(any());
+	}
+
+	@Test
+	void pollJiraIssuesWhenBudgetIsExhausted() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+
+		mockFindDueForPolling(List.of(second, first));
+
+		// Act
+		final var processed = incidentService.pollJiraIssues(null, new SyncBudget(Instant.now().minusSeconds(1)));
+
+		// Assert (nothing is processed, so the next run starts from the beginning)
+		assertThat(processed).isZero();
+		verifyNoInteractions(jiraClientMock);
+		verify(syncCheckpointRepositoryMock).findById("poll-jira-issues");
+		verifyNoMoreInteractions(syncCheckpointRepositoryMock);
+	}
+
+	@Test
+	void pollJiraIssuesKeepsProcessedIncidentsOnFailure() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+		final var failure = new IllegalStateException("Interrupted");
+
+		mockFindDueForPolling(List.of(first, second));
+		when(jiraClientMock.getIssueUpdated("JIR-1")).thenReturn(Optional.of(new IssueUpdatedView("JIR-1", now().minusDays(30))));
+		when(jiraClientMock.getIssueUpdated("JIR-2")).thenThrow(failure);
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
+
+		// Act
+		assertThatThrownBy(() -> incidentService.pollJiraIssues(null, SyncBudget.unlimited())).isSameAs(failure);
+
+		// Assert (the result of the first incident, gathered before the failure, is written)
+		verify(incidentRepositoryMock).updateNextPollAtByIdInAndStatus(eq(List.of("1")), eq(SYNCHRONIZED), any());
+		verify(transactionManagerMock).getTransaction(any());
+		verify(transactionManagerMock).commit(any());
+		verify(transactionManagerMock, never()).rollback(any());
+	}
+
+	@Test
+	void pollJiraIssuesWhenWriteFailsOnConcurrentChange() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+
+		mockFindDueForPolling(List.of(first, second));
+		when(jiraClientMock.getIssueUpdated(any())).thenAnswer(invocation -> Optional.of(new IssueUpdatedView(invocation.getArgument(0), now().minusDays(30))));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
+		doThrow(new CannotAcquireLockException("Lock wait timeout exceeded")).when(transactionManagerMock).commit(any());
+
+		// Act
+		final var processed = incidentService.pollJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (the incidents are left to be polled again in the next run, and the phase doesn't fail)
+		assertThat(processed).isEqualTo(2);
+		verify(transactionManagerMock).commit(any());
+		verify(syncCheckpointRepositoryMock, never()).save(any());
+	}
+
+	@Test
+	void pollJiraIssuesWritesInBatches() {
+
+		// Arrange
+		final var incidents = IntStream.range(0, POLL_BATCH_SIZE + 1)
+			.mapToObj(index -> IncidentEntity.create().withId("%04d".formatted(index)).withJiraIssueKey("JIR-%04d".formatted(index)).withStatus(SYNCHRONIZED))
+			.toList();
+		final var lastSynchronizedJira = now().minusDays(1);
+		incidents.forEach(incident -> incident.setLastSynchronizedJira(lastSynchronizedJira));
+
+		mockFindDueForPolling(incidents);
+		when(jiraClientMock.getIssueUpdated(any())).thenAnswer(invocation -> Optional.of(new IssueUpdatedView(invocation.getArgument(0), now().minusDays(30))));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
+
+		// Act
+		final var processed = incidentService.pollJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (one transaction per batch, with one update per time of the next poll)
+		assertThat(processed).isEqualTo(POLL_BATCH_SIZE + 1);
+		verify(transactionManagerMock, times(2)).getTransaction(any());
+		verify(transactionManagerMock, times(2)).commit(any());
+		verify(incidentRepositoryMock, atLeast(2)).updateNextPollAtByIdInAndStatus(idsCaptor.capture(), eq(SYNCHRONIZED), any());
+		assertThat(idsCaptor.getAllValues().stream().flatMap(Collection::stream)).containsExactlyElementsOf(incidents.stream().map(IncidentEntity::getId).toList());
+		verify(incidentRepositoryMock, never()).findById(any());
+	}
+
+	@Test
+	void pollJiraIssuesContinuesFromCheckpoint() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+		final var third = IncidentEntity.create().withId("3").withJiraIssueKey("JIR-3").withStatus(SYNCHRONIZED);
+
+		mockFindDueForPolling(List.of(first, second, third));
+		when(incidentRepositoryMock.findSummariesDueForPolling(eq(SYNCHRONIZED), any(), eq("2"), any())).thenReturn(List.of(third));
+		when(syncCheckpointRepositoryMock.findById("poll-jira-issues")).thenReturn(Optional.of(SyncCheckpointEntity.create().withPhase("poll-jira-issues").withIncidentId("2")));
+
+		// Act
+		final var processed = incidentService.pollJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (the incidents after the checkpoint, then the incidents up to and including the checkpoint)
+		assertThat(processed).isEqualTo(3);
+		final var inOrder = inOrder(jiraClientMock);
+		inOrder.verify(jiraClientMock).getIssueUpdated("JIR-3");
+		inOrder.verify(jiraClientMock).getIssueUpdated("JIR-1");
+		inOrder.verify(jiraClientMock).getIssueUpdated("JIR-2");
+		verify(syncCheckpointRepositoryMock).deleteById("poll-jira-issues");
+		verify(syncCheckpointRepositoryMock, never()).save(any());
+		verify(synchronizationPropertiesMock, never()).priority();
+	}
+
+	@Test
+	void pollJiraIssuesForMunicipality() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("1").withMunicipalityId("2281").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withMunicipalityId("2281").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+
+		when(incidentRepositoryMock.findSummariesDueForPollingByMunicipalityId(eq("2281"), eq(SYNCHRONIZED), any(), eq(""), any())).thenReturn(List.of(second, first));
+
+		// Act
+		final var processed = incidentService.pollJiraIssues("2281", new SyncBudget(Instant.now().minusSeconds(1)));
+
+		// Assert
+		assertThat(processed).isZero();
+		verify(incidentRepositoryMock).findSummariesDueForPollingByMunicipalityId(eq("2281"), eq(SYNCHRONIZED), any(), eq(""), any());
+		verify(incidentRepositoryMock, never()).findSummariesDueForPolling(any(), any(), any(), any());
+		verify(incidentRepositoryMock, never()).countBacklogDueForPolling(any(), any());
+		verify(syncCheckpointRepositoryMock).findById("poll-jira-issues:2281");
+		verifyNoMoreInteractions(syncCheckpointRepositoryMock);
+		verify(tenantScheduler, never()).schedule(any());
+		verify(tenantScheduler, never()).updateBacklog(any(), any());
+		verifyNoInteractions(jiraClientMock);
+	}
+
+	@Test
+	void updatePobIssuesForMunicipality() {
+
+		// Act
+		final var processed = incidentService.updatePobIssues("2281", SyncBudget.unlimited());
+
+		// Assert
+		assertThat(processed).isZero();
+		verify(incidentRepositoryMock).findEventSummariesByMunicipalityIdAndStatus(eq("2281"), eq(JIRA_INITIATED_EVENT), eq(""), any());
+		verify(incidentRepositoryMock, never()).findEventSummariesByStatus(any(), any(), any());
+		verify(syncCheckpointRepositoryMock).findById("update-pob-issues:2281");
+		verifyNoMoreInteractions(syncCheckpointRepositoryMock);
+	}
+
+	@Test
+	void updatePobIssuesWhenBudgetIsExhaustedWithPriority() {
+
+		// Arrange (the cheapest incidents are processed first, the budget is exhausted after two incidents)
+		final var first = IncidentEntity.create().withId("1").withMunicipalityId("2281").withJiraIssueKey("JIR-1").withSyncCost(0).withStatus(JIRA_INITIATED_EVENT);
+		final var second = IncidentEntity.create().withId("2").withMunicipalityId("2281").withJiraIssueKey("JIR-2").withSyncCost(10).withStatus(JIRA_INITIATED_EVENT);
+		final var third = IncidentEntity.create().withId("3").withMunicipalityId("2281").withJiraIssueKey("JIR-3").withSyncCost(0).withStatus(JIRA_INITIATED_EVENT);
+		final var fourth = IncidentEntity.create().withId("4").withMunicipalityId("2281").withJiraIssueKey("JIR-4").withSyncCost(5).withStatus(JIRA_INITIATED_EVENT);
+		final var budgetChecks = new AtomicInteger();
+
+		when(synchronizationPropertiesMock.priority()).thenReturn(new Priority(0.0, 1.0, Map.of(), 50));
+		when(incidentRepositoryMock.findEventSummariesByMunicipalityIdAndStatus(eq("2281"), eq(JIRA_INITIATED_EVENT), eq(""), any())).thenReturn(List.of(first, second, third, fourth));
+		mockFindById(List.of(first, second, third, fourth));
+
+		// Act
+		final var processed = incidentService.updatePobIssues("2281", new SyncBudget(null, () -> budgetChecks.getAndIncrement() > 1));
+
+		// Assert (the next run continues after the last incident before the first unprocessed one in ID order, not after the processed ones)
+		assertThat(processed).isEqualTo(2);
+		verify(jiraClientMock).getIssueChangelog("JIR-1");
+		verify(jiraClientMock).getIssueChangelog("JIR-3");
+		verify(jiraClientMock, never()).getIssueChangelog("JIR-2");
+		verify(jiraClientMock, never()).getIssueChangelog("JIR-4");
+		verify(syncCheckpointRepositoryMock).save(SyncCheckpointEntity.create().withPhase("update-pob-issues:2281").withIncidentId("1"));
+	}
+
+	@Test
+	void lastBefore() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("a");
+		final var second = IncidentEntity.create().withId("b");
+		final var third = IncidentEntity.create().withId("c");
+		final var page = List.of(first, second, third);
+
+		// Act & Assert
+		assertThat(IncidentService.lastBefore(List.of(third, second), page, "0")).isEqualTo("a");
+		assertThat(IncidentService.lastBefore(List.of(third), page, "0")).isEqualTo("b");
+		assertThat(IncidentService.lastBefore(List.of(second, first), page, "0")).isEqualTo("0");
+		assertThat(IncidentService.lastBefore(List.of(first), page, "")).isEmpty();
 	}
 
 	@Test
@@ -345,23 +598,186 @@ class IncidentServiceTest {
 		jiraIssue.setFields(fields);
 
 		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
-		when(incidentRepositoryMock.findByStatus(JIRA_INITIATED_EVENT)).thenReturn(List.of(incidentEntity));
+		mockFindEventsByStatus(JIRA_INITIATED_EVENT, List.of(incidentEntity));
+		when(jiraClientMock.getIssueChangelog(incidentEntity.getJiraIssueKey())).thenReturn(Optional.of(new IssueChangelogView(incidentEntity.getJiraIssueKey(), now(), List.of(
+			new IssueChangelogView.Change(now(), "someUser", List.of("description", "Attachment"))))));
 		when(jiraClientMock.getIssue(incidentEntity.getJiraIssueKey())).thenReturn(Optional.of(jiraIssue));
-		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getComments(incidentEntity.getJiraIssueKey(), 0)).thenReturn(Optional.of(new IssueCommentPage(incidentEntity.getJiraIssueKey(), 0, 1, List.of(
+			new IssueCommentPage.Comment("commentId", now(), "someUser", "Some User", "testComment")))));
 		when(pobClientMock.getAttachments(incidentEntity.getPobIssueKey())).thenReturn(Optional.of(pobAttachments));
 		when(pobClientMock.getProblemMemo(incidentEntity.getPobIssueKey())).thenReturn(Optional.of(memoPayload));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteCommentAsync(any(), any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteAttachmentAsync(any())).thenReturn(completedFuture(null));
 
 		// Act
-		incidentService.updatePobIssues();
+		incidentService.updatePobIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).findByStatus(JIRA_INITIATED_EVENT);
+		verify(incidentRepositoryMock).findEventSummariesByStatus(eq(JIRA_INITIATED_EVENT), eq(""), any());
 		verify(jiraClientMock, times(2)).getIssue(incidentEntity.getJiraIssueKey());
+		verify(jiraClientMock).getComments(incidentEntity.getJiraIssueKey(), 0);
 		verify(pobClientMock, times(2)).getAttachments(incidentEntity.getPobIssueKey());
 		verify(pobClientMock, times(2)).getProblemMemo(incidentEntity.getPobIssueKey());
 		verify(pobClientMock, times(2)).updateCase(any());
 		verify(pobClientMock).createAttachment(any(), any());
-		verify(incidentRepositoryMock, times(2)).saveAndFlush(incidentEntity);
+		verify(jiraClientMock).updateIssueAsync(any());
+		verify(jiraClientMock).deleteCommentAsync(eq(incidentEntity.getJiraIssueKey()), any());
+		verify(jiraClientMock).deleteAttachmentAsync(any());
+		verify(incidentRepositoryMock, times(2)).save(incidentEntity);
+
+		// The propagated comment has been replaced by the rewrite of the Jira issue.
+		assertThat(incidentEntity.getPropagatedComments()).isEmpty();
+	}
+
+	@Test
+	void updatePobIssuesWhenOnlyUnmirroredFieldsChanged() {
+
+		// Arrange
+		final var lastSynchronizedPob = now().minusDays(1);
+		final var incidentEntity = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey("JIR-12345")
+			.withPobIssueKey("POB-12345")
+			.withLastSynchronizedPob(lastSynchronizedPob)
+			.withPropagatedComments(new HashSet<>(Set.of("commentId")))
+			.withStatus(JIRA_INITIATED_EVENT);
+
+		final var changelog = new IssueChangelogView("JIR-12345", now(), List.of(
+			new IssueChangelogView.Change(lastSynchronizedPob.minusHours(1), "someUser", List.of("description")),
+			new IssueChangelogView.Change(now(), "user", List.of("description")),
+			new IssueChangelogView.Change(now(), "someUser", List.of("labels", "assignee"))));
+
+		mockFindEventsByStatus(JIRA_INITIATED_EVENT, List.of(incidentEntity));
+		when(jiraClientMock.getIssueChangelog(incidentEntity.getJiraIssueKey())).thenReturn(Optional.of(changelog));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getComments(incidentEntity.getJiraIssueKey(), 0)).thenReturn(Optional.of(new IssueCommentPage(incidentEntity.getJiraIssueKey(), 0, 1, List.of(
+			new IssueCommentPage.Comment("commentId", lastSynchronizedPob.minusDays(1), "someUser", "Some User", "oldComment")))));
+
+		// Act
+		incidentService.updatePobIssues(null, SyncBudget.unlimited());
+
+		// Assert (the full Jira issue is not read, since no mirrored field has changed)
+		verify(jiraClientMock, never()).getIssue(any());
+		verify(jiraClientMock).getIssueChangelog(incidentEntity.getJiraIssueKey());
+		verify(jiraClientMock).getComments(incidentEntity.getJiraIssueKey(), 0);
+		verify(jiraClientMock, never()).updateIssueAsync(any());
+		verifyNoInteractions(pobClientMock);
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		assertThat(incidentEntityCaptor.getValue().getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(incidentEntityCaptor.getValue().getLastSynchronizedPob()).isCloseTo(now(), within(2, SECONDS));
+	}
+
+	@Test
+	void updatePobIssuesWhenNothingIsWrittenToPobThenPolled() {
+
+		// Arrange
+		final var jiraIssueKey = "JIR-12345";
+		final var jiraUpdated = now().minusMinutes(5);
+		final var incidentEntity = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey(jiraIssueKey)
+			.withPobIssueKey("POB-12345")
+			.withLastSynchronizedJira(now().minusDays(1))
+			.withLastSynchronizedPob(now().minusDays(1))
+			.withJiraRevision(now().minusDays(1))
+			.withStatus(JIRA_INITIATED_EVENT);
+
+		mockFindEventsByStatus(JIRA_INITIATED_EVENT, List.of(incidentEntity));
+		mockFindDueForPolling(List.of(incidentEntity));
+		when(jiraClientMock.getIssueChangelog(jiraIssueKey)).thenReturn(Optional.of(new IssueChangelogView(jiraIssueKey, jiraUpdated, List.of(
+			new IssueChangelogView.Change(jiraUpdated, "someUser", List.of("labels"))))));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getComments(jiraIssueKey, 0)).thenReturn(Optional.of(new IssueCommentPage(jiraIssueKey, 0, 0, emptyList())));
+		when(jiraClientMock.getIssueUpdated(jiraIssueKey)).thenReturn(Optional.of(new IssueUpdatedView(jiraIssueKey, jiraUpdated)));
+		when(synchronizationPropertiesMock.polling()).thenReturn(new SynchronizationProperties.Polling(Duration.ofSeconds(30), Duration.ofHours(1), 0.1));
+
+		// Act
+		incidentService.updatePobIssues(null, SyncBudget.unlimited());
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
+		incidentService.pollJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (the synchronized Jira revision is recorded, so the polls don't turn the change into a new event)
+		assertThat(incidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(incidentEntity.getJiraRevision()).isEqualTo(jiraUpdated);
+		verify(jiraClientMock, never()).updateIssueAsync(any());
+		verify(incidentRepositoryMock, never()).updateStatusByIdInAndStatus(any(), any(), any(), any());
+		verify(incidentRepositoryMock, times(2)).updateNextPollAtByIdInAndStatus(eq(List.of(incidentEntity.getId())), eq(SYNCHRONIZED), any());
+		verifyNoInteractions(pobClientMock);
+	}
+
+	@Test
+	void updatePobIssuesReadsAllComments() {
+
+		// Arrange (earlier comments have been removed in Jira, so the new comment is first)
+		final var jiraIssueKey = "JIR-12345";
+		final var incidentEntity = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey(jiraIssueKey)
+			.withPobIssueKey("POB-12345")
+			.withLastSynchronizedPob(now().minusDays(1))
+			.withPropagatedComments(new HashSet<>(Set.of("propagatedCommentId")))
+			.withStatus(JIRA_INITIATED_EVENT);
+
+		final var fields = new Fields();
+		fields.setComments(new Comments());
+		fields.setAttachments(new Attachments());
+
+		final var jiraIssue = new Issue();
+		jiraIssue.setFields(fields);
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		mockFindEventsByStatus(JIRA_INITIATED_EVENT, List.of(incidentEntity));
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getIssueChangelog(jiraIssueKey)).thenReturn(Optional.of(new IssueChangelogView(jiraIssueKey, now(), emptyList())));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getComments(jiraIssueKey, 0)).thenReturn(Optional.of(new IssueCommentPage(jiraIssueKey, 0, 3, List.of(
+			new IssueCommentPage.Comment("newCommentId", now(), "someUser", "Some User", "newComment"),
+			new IssueCommentPage.Comment("ownCommentId", now(), "user", "Integration", "ownComment")))));
+		when(jiraClientMock.getComments(jiraIssueKey, 2)).thenReturn(Optional.of(new IssueCommentPage(jiraIssueKey, 2, 3, List.of(
+			new IssueCommentPage.Comment("propagatedCommentId", now(), "someUser", "Some User", "propagatedComment")))));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+
+		// Act
+		incidentService.updatePobIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(jiraClientMock).getComments(jiraIssueKey, 0);
+		verify(jiraClientMock).getComments(jiraIssueKey, 2);
+		verify(pobClientMock).updateCase(PobMapper.toCaseInternalNotesCustomMemoPayload(incidentEntity, "Some User:\n newComment"));
+		verify(pobClientMock, never()).updateCase(PobMapper.toCaseInternalNotesCustomMemoPayload(incidentEntity, "Some User:\n propagatedComment"));
+		verify(jiraClientMock).updateIssueAsync(any());
+	}
+
+	@Test
+	void updatePobIssuesWhenJiraIssueNotFound() {
+
+		// Arrange (the POB content is unchanged since the last synchronization)
+		final var jiraIssueKey = "JIR-12345";
+		final var incidentEntity = IncidentEntity.create()
+			.withId(UUID.randomUUID().toString())
+			.withJiraIssueKey(jiraIssueKey)
+			.withPobIssueKey("POB-12345")
+			.withFingerprint("fingerprint")
+			.withLastSynchronizedJira(now().minusDays(1))
+			.withStatus(JIRA_INITIATED_EVENT);
+
+		mockFindEventsByStatus(JIRA_INITIATED_EVENT, List.of(incidentEntity));
+		when(jiraClientMock.getIssueChangelog(jiraIssueKey)).thenReturn(Optional.empty());
+
+		// Act
+		incidentService.updatePobIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(jiraClientMock, never()).getIssue(any());
+		verifyNoInteractions(pobClientMock);
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(syncJournalMock).clear(incidentEntity.getId());
+		assertThat(incidentEntityCaptor.getValue().getStatus()).isEqualTo(POB_INITIATED_EVENT);
+		assertThat(incidentEntityCaptor.getValue().getJiraIssueKey()).isNull();
+		assertThat(incidentEntityCaptor.getValue().getLastSynchronizedJira()).isNull();
+		assertThat(incidentEntityCaptor.getValue().getFingerprint()).isNull();
 	}
 
 	@ParameterizedTest
@@ -383,82 +799,190 @@ class IncidentServiceTest {
 
 		final var pobPayload = PobMapper.toResponsibleGroupPayload(pobIssueKey, pobFirstLineUserGroup);
 
-		final var status = new com.chavaillaz.client.jira.domain.Status();
-		status.setName(statusName);
-
-		final var fields = new Fields();
-		fields.setStatus(status);
-
-		final var jiraIssue = new Issue();
-		jiraIssue.setFields(fields);
+		final var jiraIssue = new IssueStatusView(jiraIssueKey, statusName);
 
 		when(synchronizationPropertiesMock.responsibleUserGroupInPob()).thenReturn(pobFirstLineUserGroup);
-		when(incidentRepositoryMock.findAll()).thenReturn(List.of(incidentEntity));
-		when(jiraClientMock.getIssue(incidentEntity.getJiraIssueKey())).thenReturn(Optional.of(jiraIssue));
+		mockFindWithJiraIssue(List.of(incidentEntity));
+		when(jiraClientMock.getIssueStatus(incidentEntity.getJiraIssueKey())).thenReturn(Optional.of(jiraIssue));
 
 		// Act
-		incidentService.closeIssues();
+		incidentService.closeIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).findAll();
-		verify(jiraClientMock).getIssue(incidentEntity.getJiraIssueKey());
+		verify(incidentRepositoryMock).findSummariesWithJiraIssueByStatus(eq(SYNCHRONIZED), eq(""), any());
+		verify(jiraClientMock).getIssueStatus(incidentEntity.getJiraIssueKey());
 		verify(pobClientMock).updateCase(pobPayload);
 		verify(incidentRepositoryMock).delete(incidentEntity);
 	}
 
 	@Test
-	void updateJiraIssue(
-		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
-		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
-		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
-		@Load(value = "/IncidentServiceTest/pobPayloadAttachments.json", as = JSON) final PobPayload pobPayloadAttachments,
-		@Load(value = "/IncidentServiceTest/pobPayloadMail.json", as = JSON) final PobPayload pobPayloadMail,
-		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId,
-		@Load(value = "/IncidentServiceTest/pobPayloadMailAttachments.json", as = JSON) final PobPayload pobPayloadMailAttachments) throws Exception {
+	void closeIssuesReadsAllPages() {
 
 		// Arrange
-		final var pobIssueKey = "POB-12345";
-		final var jiraIssueKey = "JIR-12345";
-		final var jiraIssue = Issue.fromKey(jiraIssueKey);
-		final var attachmentId = "attachmentId";
-		final var attachment = new Attachment();
-		final var mailId = "mailId";
-		attachment.setId(attachmentId);
-		attachment.setFilename("test.jpg");
-		jiraIssue.getFields().setComments(new Comments());
-		jiraIssue.getFields().setAttachments(Attachments.from(attachment));
-		jiraIssue.getFields().setStatus(com.chavaillaz.client.jira.domain.Status.fromName("Closed"));
+		final var firstPage = IntStream.range(0, PAGE_SIZE)
+			.mapToObj(index -> (IncidentSummary) IncidentEntity.create().withId("%04d".formatted(index)).withJiraIssueKey("JIR-%04d".formatted(index)).withStatus(SYNCHRONIZED))
+			.toList();
+		final var lastIncident = IncidentEntity.create().withId("9999").withJiraIssueKey("JIR-9999").withStatus(SYNCHRONIZED);
 
-		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
-		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
-		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
-		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
-		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
-		when(pobClientMock.getAttachments(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayloadAttachments));
-		when(pobClientMock.getAttachment(pobIssueKey, "1628120")).thenReturn(responseEntityMock);
-		when(responseEntityMock.getBody()).thenReturn(inputStreamResourceMock);
-		when(responseEntityMock.getHeaders()).thenReturn(new HttpHeaders());
-		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
-		when(pobClientMock.getMail(mailId)).thenReturn(Optional.of(pobPayloadMail));
-		when(inputStreamResourceMock.getInputStream()).thenReturn(new FileInputStream(file));
-		when(incidentRepositoryMock.findByStatus(POB_INITIATED_EVENT)).thenReturn(List.of(
-			IncidentEntity.create()
-				.withId(UUID.randomUUID().toString())
-				.withPobIssueKey(pobIssueKey)
-				.withJiraIssueKey(jiraIssueKey)
-				.withStatus(POB_INITIATED_EVENT)));
+		when(incidentRepositoryMock.findSummariesWithJiraIssueByStatus(eq(SYNCHRONIZED), eq(""), any())).thenReturn(firstPage);
+		when(incidentRepositoryMock.findSummariesWithJiraIssueByStatus(eq(SYNCHRONIZED), eq("0499"), any())).thenReturn(List.of(lastIncident));
+		mockFindById(List.of(lastIncident));
 
 		// Act
-		incidentService.updateJiraIssues();
+		final var processed = incidentService.closeIssues(null, SyncBudget.unlimited());
+
+		// Assert (the incidents of the first page are gone when loaded)
+		assertThat(processed).isEqualTo(PAGE_SIZE + 1);
+		verify(incidentRepositoryMock).countBacklogWithJiraIssueByStatus(SYNCHRONIZED);
+		verify(incidentRepositoryMock).findSummariesWithJiraIssueByStatus(SYNCHRONIZED, "", Limit.of(PAGE_SIZE));
+		verify(incidentRepositoryMock).findSummariesWithJiraIssueByStatus(SYNCHRONIZED, "0499", Limit.of(PAGE_SIZE));
+		verify(jiraClientMock).getIssueStatus("JIR-9999");
+		verifyNoMoreInteractions(jiraClientMock);
+	}
 
-		// Assert
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
-		verify(jiraClientMock, never()).createIssue(any(), any(), any(), any());
-		verify(jiraClientMock).updateIssue(jiraIssueCaptor.capture());
-		verify(jiraClientMock).getIssue(jiraIssueKey);
+	@Test
+	void closeIssuesReadsNoMorePagesWhenBudgetIsExhausted() {
+
+		// Arrange
+		final var firstPage = IntStream.range(0, PAGE_SIZE)
+			.mapToObj(index -> (IncidentSummary) IncidentEntity.create().withId("%04d".formatted(index)).withJiraIssueKey("JIR-%04d".formatted(index)).withStatus(SYNCHRONIZED))
+			.toList();
+		final var budgetChecks = new AtomicInteger();
+
+		when(incidentRepositoryMock.findSummariesWithJiraIssueByStatus(eq(SYNCHRONIZED), eq(""), any())).thenReturn(firstPage);
+
+		// Act
+		final var processed = incidentService.closeIssues(null, new SyncBudget(null, () -> budgetChecks.getAndIncrement() > 0));
+
+		// Assert
+		assertThat(processed).isOne();
+		verify(incidentRepositoryMock).findSummariesWithJiraIssueByStatus(SYNCHRONIZED, "", Limit.of(PAGE_SIZE));
+		verify(incidentRepositoryMock, never()).findSummariesWithJiraIssueByStatus(SYNCHRONIZED, "0499", Limit.of(PAGE_SIZE));
+		verify(syncCheckpointRepositoryMock).save(SyncCheckpointEntity.create().withPhase("close-issues").withIncidentId("0000"));
+	}
+
+	@Test
+	void closeIssuesWhenBudgetIsExhaustedWithTenantScheduling() {
+
+		// Arrange (the tenant scheduling processes the incidents in the order 1, 3, 2, the budget is exhausted after one incident)
+		final var first = IncidentEntity.create().withId("1").withMunicipalityId("2281").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withMunicipalityId("2281").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+		final var third = IncidentEntity.create().withId("3").withMunicipalityId("2260").withJiraIssueKey("JIR-3").withStatus(SYNCHRONIZED);
+		final var budgetChecks = new AtomicInteger();
+
+		mockFindWithJiraIssue(List.of(first, second, third));
+
+		// Act
+		final var processed = incidentService.closeIssues(null, new SyncBudget(null, () -> budgetChecks.getAndIncrement() > 0));
+
+		// Assert (the next run continues after incident 1, so that incident 2 isn't skipped by the scheduled order)
+		assertThat(processed).isOne();
+		verify(jiraClientMock).getIssueStatus("JIR-1");
+		verify(syncCheckpointRepositoryMock).save(SyncCheckpointEntity.create().withPhase("close-issues").withIncidentId("1"));
+	}
+
+	@Test
+	void closeIssuesWhenIncidentIsChangedConcurrently() {
+
+		// Arrange
+		final var first = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var second = IncidentEntity.create().withId("2").withJiraIssueKey("JIR-2").withStatus(SYNCHRONIZED);
+
+		mockFindWithJiraIssue(List.of(first, second));
+		doThrow(new ObjectOptimisticLockingFailureException(IncidentEntity.class, "1")).doNothing().when(transactionManagerMock).commit(any());
+
+		// Act
+		final var processed = incidentService.closeIssues(null, SyncBudget.unlimited());
+
+		// Assert (the failed incident is left for the next run, and the phase continues)
+		assertThat(processed).isEqualTo(2);
+		verify(jiraClientMock).getIssueStatus("JIR-1");
+		verify(jiraClientMock).getIssueStatus("JIR-2");
+		verify(transactionManagerMock, times(2)).commit(any());
+		verify(syncCheckpointRepositoryMock, never()).save(any());
+	}
+
+	@Test
+	void closeIssuesWhenStatusHasChanged() {
+
+		// Arrange
+		final var summary = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(SYNCHRONIZED);
+		final var incidentEntity = IncidentEntity.create().withId("1").withJiraIssueKey("JIR-1").withStatus(JIRA_INITIATED_EVENT);
+
+		when(incidentRepositoryMock.findSummariesWithJiraIssueByStatus(eq(SYNCHRONIZED), eq(""), any())).thenReturn(List.of(summary));
+		when(incidentRepositoryMock.findById("1")).thenReturn(Optional.of(incidentEntity));
+
+		// Act
+		final var processed = incidentService.closeIssues(null, SyncBudget.unlimited());
+
+		// Assert (an event registered since the incident was listed is left to the other phases)
+		assertThat(processed).isOne();
+		verify(incidentRepositoryMock).findById("1");
+		verify(incidentRepositoryMock, never()).delete(any());
+		verifyNoInteractions(jiraClientMock, pobClientMock);
+	}
+
+	@Test
+	void updateJiraIssue(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadAttachments.json", as = JSON) final PobPayload pobPayloadAttachments,
+		@Load(value = "/IncidentServiceTest/pobPayloadMail.json", as = JSON) final PobPayload pobPayloadMail,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId,
+		@Load(value = "/IncidentServiceTest/pobPayloadMailAttachments.json", as = JSON) final PobPayload pobPayloadMailAttachments) throws Exception {
+
+		// Arrange
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		final var attachmentId = "attachmentId";
+		final var attachment = new Attachment();
+		final var mailId = "mailId";
+		final var mailComment = new Comment();
+		mailComment.setId("mailCommentId");
+		attachment.setId(attachmentId);
+		attachment.setFilename("test.jpg");
+		jiraIssue.getFields().setComments(new Comments());
+		jiraIssue.getFields().setAttachments(Attachments.from(attachment));
+		jiraIssue.getFields().setStatus(com.chavaillaz.client.jira.domain.Status.fromName("Closed"));
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getAttachments(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayloadAttachments));
+		when(pobClientMock.getAttachment(pobIssueKey, "1628120")).thenReturn(responseEntityMock);
+		when(responseEntityMock.getBody()).thenReturn(inputStreamResourceMock);
+		when(responseEntityMock.getHeaders()).thenReturn(new HttpHeaders());
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(pobClientMock.getMail(mailId)).thenReturn(Optional.of(pobPayloadMail));
+		when(inputStreamResourceMock.getInputStream()).thenReturn(new FileInputStream(file));
+		when(jiraClientMock.addComment(eq(jiraIssueKey), any())).thenReturn(mailComment);
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteAttachmentAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.addAttachmentAsync(any(), any())).thenReturn(completedFuture(null));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(UUID.randomUUID().toString())
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock, never()).createIssue(any(), any(), any(), any());
+		verify(jiraClientMock).updateIssueAsync(jiraIssueCaptor.capture());
+		verify(jiraClientMock).getIssue(jiraIssueKey);
 		verify(jiraClientMock).addComment(jiraIssueKey, "2024-05-08 14:09 Kommentar");
-		verify(jiraClientMock).deleteAttachment(attachmentId);
-		verify(jiraClientMock).addAttachment(jiraIssueKey, new File(TEMP_DIR + "/" + pobIssueKey + "/jatteglad_hund.png"));
+		verify(jiraClientMock).deleteAttachmentAsync(attachmentId);
+		verify(jiraClientMock).addAttachmentAsync(jiraIssueKey, new File(TEMP_DIR + "/" + pobIssueKey + "/jatteglad_hund.png"));
 		verify(pobClientMock).getCase(pobIssueKey);
 		verify(pobClientMock).getCaseInternalNotesCustom(pobIssueKey);
 		verify(pobClientMock).getProblemMemo(pobIssueKey);
@@ -467,12 +991,24 @@ class IncidentServiceTest {
 		verify(pobClientMock).getReceivedMailIds(pobIssueKey);
 		verify(pobClientMock).getMail(mailId);
 
+		// Only the temp folder of the incident is removed (other phases use the shared temp folder concurrently).
+		assertThat(new File(TEMP_DIR + "/" + pobIssueKey)).doesNotExist();
+		assertThat(file).exists();
+
 		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
 		assertThat(capturedIncidentEntity).isNotNull();
 		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
 		assertThat(capturedIncidentEntity.getPobIssueKey()).isEqualTo(pobIssueKey);
 		assertThat(capturedIncidentEntity.getJiraIssueKey()).isEqualTo(jiraIssueKey);
 		assertThat(capturedIncidentEntity.getLastSynchronizedJira()).isCloseTo(now(), within(2, SECONDS));
+		assertThat(capturedIncidentEntity.getMirroredMails()).containsExactly(entry(mailId, "mailCommentId"));
+
+		verify(syncJournalMock).resume(eq(capturedIncidentEntity.getId()), any());
+		verify(syncJournalMock).record(capturedIncidentEntity.getId(), "cleanup", null);
+		verify(syncJournalMock).record(capturedIncidentEntity.getId(), "mail:" + mailId, "mailCommentId");
+		verify(syncJournalMock).record(capturedIncidentEntity.getId(), attachmentStep("pobg6/api/v20/case/1022960/attachments/1628120"), null);
+		verify(syncJournalMock).record(capturedIncidentEntity.getId(), "comments", null);
+		verify(syncJournalMock).clear(capturedIncidentEntity.getId());
 
 		final var capturedJiraIssuey = jiraIssueCaptor.getValue();
 		assertThat(capturedJiraIssuey).isNotNull();
@@ -481,6 +1017,183 @@ class IncidentServiceTest {
 		assertThat(capturedJiraIssuey.getFields().getSummary()).isEqualTo("Supportärende POB-12345 (This works!)");
 	}
 
+	@Test
+	void updateJiraIssueWithAlreadyMirroredMail(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var mailId = "mailId";
+		final var mailComment = new Comment();
+		mailComment.setId("mailCommentId");
+		final var notesComment = new Comment();
+		notesComment.setId("notesCommentId");
+		final var comments = new Comments();
+		comments.add(mailComment);
+		comments.add(notesComment);
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		jiraIssue.getFields().setComments(comments);
+		jiraIssue.getFields().setAttachments(new Attachments());
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteCommentAsync(jiraIssueKey, "notesCommentId")).thenReturn(completedFuture(null));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(UUID.randomUUID().toString())
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withMirroredMails(new HashMap<>(Map.of(mailId, "mailCommentId")))
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock).deleteCommentAsync(jiraIssueKey, "notesCommentId");
+		verify(jiraClientMock, never()).deleteCommentAsync(jiraIssueKey, "mailCommentId");
+		verify(jiraClientMock).addComment(jiraIssueKey, "2024-05-08 14:09 Kommentar");
+		verify(jiraClientMock, times(1)).addComment(eq(jiraIssueKey), any());
+		verify(pobClientMock).getReceivedMailIds(pobIssueKey);
+		verify(pobClientMock, never()).getMail(any());
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(capturedIncidentEntity.getMirroredMails()).containsExactly(entry(mailId, "mailCommentId"));
+	}
+
+	@Test
+	void updateJiraIssueKeepsAttachmentsOfAlreadyMirroredMail(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var mailId = "mailId";
+		final var mailComment = new Comment();
+		mailComment.setId("mailCommentId");
+		final var comments = new Comments();
+		comments.add(mailComment);
+		final var mailAttachment = new Attachment();
+		mailAttachment.setId("mailAttachmentId");
+		final var caseAttachment = new Attachment();
+		caseAttachment.setId("caseAttachmentId");
+		final var attachments = new Attachments();
+		attachments.add(mailAttachment);
+		attachments.add(caseAttachment);
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		jiraIssue.getFields().setComments(comments);
+		jiraIssue.getFields().setAttachments(attachments);
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteAttachmentAsync("caseAttachmentId")).thenReturn(completedFuture(null));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(UUID.randomUUID().toString())
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withMirroredMails(new HashMap<>(Map.of(mailId, "mailCommentId")))
+				.withMirroredMailAttachments(new HashMap<>(Map.of("mailAttachmentId", mailId)))
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock).deleteAttachmentAsync("caseAttachmentId");
+		verify(jiraClientMock, never()).deleteAttachmentAsync("mailAttachmentId");
+		verify(jiraClientMock, never()).deleteCommentAsync(any(), any());
+		verify(jiraClientMock, never()).addAttachmentAsync(any(), any());
+		verify(pobClientMock, never()).getMail(any());
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(capturedIncidentEntity.getMirroredMails()).containsExactly(entry(mailId, "mailCommentId"));
+		assertThat(capturedIncidentEntity.getMirroredMailAttachments()).containsExactly(entry("mailAttachmentId", mailId));
+	}
+
+	@Test
+	void updateJiraIssueWhenAttachmentOfMirroredMailIsMissing(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadMail.json", as = JSON) final PobPayload pobPayloadMail,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var mailId = "mailId";
+		final var mailComment = new Comment();
+		mailComment.setId("mailCommentId");
+		final var comments = new Comments();
+		comments.add(mailComment);
+		final var newMailComment = new Comment();
+		newMailComment.setId("newMailCommentId");
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		jiraIssue.getFields().setComments(comments);
+		jiraIssue.getFields().setAttachments(new Attachments());
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(pobClientMock.getMail(mailId)).thenReturn(Optional.of(pobPayloadMail));
+		when(jiraClientMock.addComment(eq(jiraIssueKey), any())).thenReturn(newMailComment);
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteCommentAsync(jiraIssueKey, "mailCommentId")).thenReturn(completedFuture(null));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(UUID.randomUUID().toString())
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withMirroredMails(new HashMap<>(Map.of(mailId, "mailCommentId")))
+				.withMirroredMailAttachments(new HashMap<>(Map.of("mailAttachmentId", mailId)))
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock).deleteCommentAsync(jiraIssueKey, "mailCommentId");
+		verify(pobClientMock).getMail(mailId);
+		verify(jiraClientMock, times(2)).addComment(eq(jiraIssueKey), any());
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(capturedIncidentEntity.getMirroredMails()).containsExactly(entry(mailId, "newMailCommentId"));
+		assertThat(capturedIncidentEntity.getMirroredMailAttachments()).isEmpty();
+	}
+
 	@Test
 	void updateJiraIssueWhenIssueNotFoundInJira(
 		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
@@ -495,7 +1208,7 @@ class IncidentServiceTest {
 		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
 		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
 		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
-		when(incidentRepositoryMock.findByStatus(POB_INITIATED_EVENT)).thenReturn(List.of(
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
 			IncidentEntity.create()
 				.withId(UUID.randomUUID().toString())
 				.withPobIssueKey(pobIssueKey)
@@ -503,10 +1216,10 @@ class IncidentServiceTest {
 				.withStatus(POB_INITIATED_EVENT)));
 
 		// Act
-		incidentService.updateJiraIssues();
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
 		verify(jiraClientMock, never()).createIssue(any(), any(), any(), any());
 		verify(jiraClientMock).getIssue(jiraIssueKey);
 
@@ -522,6 +1235,65 @@ class IncidentServiceTest {
 		assertThat(capturedIncidentEntity.getLastSynchronizedJira()).isNull();
 	}
 
+	@Test
+	void updateJiraIssueWhenContentIsUnchanged(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadAttachments.json", as = JSON) final PobPayload pobPayloadAttachments,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var fingerprint = new IncidentService.PobContent(
+			PobMapper.toDescription(pobPayload),
+			PobMapper.toProblemMemo(pobPayloadProblemMemo),
+			PobMapper.toCaseInternalNotesCustomMemo(pobPayloadCaseInternalNotesCustomMemo),
+			List.of(pobPayloadReceivedMailId),
+			pobPayloadAttachments).fingerprint();
+
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getAttachments(pobIssueKey)).thenReturn(Optional.of(pobPayloadAttachments));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(UUID.randomUUID().toString())
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withFingerprint(fingerprint)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(pobClientMock, never()).getAttachment(any(), any());
+		verify(pobClientMock, never()).getMail(any());
+		verifyNoInteractions(jiraClientMock);
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(capturedIncidentEntity.getFingerprint()).isEqualTo(fingerprint);
+	}
+
+	@Test
+	void pobContentFingerprint(
+		@Load(value = "/IncidentServiceTest/pobPayloadAttachments.json", as = JSON) final PobPayload pobPayloadAttachments,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		final var fingerprint = new IncidentService.PobContent("summary", "description", "comments", List.of(pobPayloadReceivedMailId), pobPayloadAttachments).fingerprint();
+
+		assertThat(fingerprint).hasSize(64)
+			.isEqualTo(new IncidentService.PobContent("summary", "description", "comments", List.of(pobPayloadReceivedMailId), pobPayloadAttachments).fingerprint())
+			.isNotEqualTo(new IncidentService.PobContent("summary", "description", "comments", emptyList(), pobPayloadAttachments).fingerprint())
+			.isNotEqualTo(new IncidentService.PobContent("summary", "description", "comments", List.of(pobPayloadReceivedMailId), null).fingerprint())
+			.isNotEqualTo(new IncidentService.PobContent("summary", "other description", "comments", List.of(pobPayloadReceivedMailId), pobPayloadAttachments).fingerprint());
+	}
+
 	@Test
 	void createJiraIssue(
 		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
@@ -543,8 +1315,9 @@ class IncidentServiceTest {
 		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
 		when(jiraClientMock.createIssue(any(), any(), any(), any())).thenReturn(jiraIssueKey);
 		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
-		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", "pass", "http:://jira-test.com", "XX"));
-		when(jiraClientMock.getTransitions(jiraIssueKey)).thenReturn(Map.of(initialTransition.getName(), initialTransition));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", "pass", "http:://jira-test.com", "XX", null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(jiraTransitionCacheMock.getTransitions(jiraIssueKey, "Bug", null)).thenReturn(Map.of(initialTransition.getName(), initialTransition));
 		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
 		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
 		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
@@ -555,7 +1328,14 @@ class IncidentServiceTest {
 		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
 		when(pobClientMock.getMail(mailId)).thenReturn(Optional.of(pobPayloadMail));
 		when(inputStreamResourceMock.getInputStream()).thenReturn(new FileInputStream(file));
-		when(incidentRepositoryMock.findByStatus(POB_INITIATED_EVENT)).thenReturn(List.of(
+		// The upload completes on another thread, while the steps are recorded by the synchronizing thread.
+		when(jiraClientMock.addAttachmentAsync(any(), any())).thenReturn(CompletableFuture.<Attachments>supplyAsync(() -> null, delayedExecutor(100, MILLISECONDS)));
+		final var recordingThreads = ConcurrentHashMap.<Thread>newKeySet();
+		doAnswer(invocation -> {
+			recordingThreads.add(Thread.currentThread());
+			return null;
+		}).when(syncJournalMock).record(any(), any(), any());
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
 			IncidentEntity.create()
 				.withId(UUID.randomUUID().toString())
 				.withPobIssueKey(pobIssueKey)
@@ -563,16 +1343,16 @@ class IncidentServiceTest {
 				.withStatus(POB_INITIATED_EVENT)));
 
 		// Act
-		incidentService.updateJiraIssues();
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
 
 		// Assert
-		verify(incidentRepositoryMock).saveAndFlush(incidentEntityCaptor.capture());
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
 		verify(jiraClientMock).createIssue("Bug", List.of("support-ticket"), "Supportärende POB-12345 (This works!)", "This is a description");
-		verify(jiraClientMock).getTransitions(jiraIssueKey);
+		verify(jiraTransitionCacheMock).getTransitions(jiraIssueKey, "Bug", null);
 		verify(jiraClientMock).performTransition(jiraIssueKey, initialTransition);
 		verify(jiraClientMock).getIssue(jiraIssueKey);
 		verify(jiraClientMock).addComment(jiraIssueKey, "2024-05-08 14:09 Kommentar");
-		verify(jiraClientMock).addAttachment(jiraIssueKey, new File(TEMP_DIR + "/" + pobIssueKey + "/jatteglad_hund.png"));
+		verify(jiraClientMock).addAttachmentAsync(jiraIssueKey, new File(TEMP_DIR + "/" + pobIssueKey + "/jatteglad_hund.png"));
 		verify(pobClientMock).getCase(pobIssueKey);
 		verify(pobClientMock).getCaseInternalNotesCustom(pobIssueKey);
 		verify(pobClientMock).getProblemMemo(pobIssueKey);
@@ -588,5 +1368,362 @@ class IncidentServiceTest {
 		assertThat(capturedIncidentEntity.getPobIssueKey()).isEqualTo(pobIssueKey);
 		assertThat(capturedIncidentEntity.getJiraIssueKey()).isEqualTo(jiraIssueKey);
 		assertThat(capturedIncidentEntity.getLastSynchronizedJira()).isCloseTo(now(), within(2, SECONDS));
+		assertThat(capturedIncidentEntity.getSyncCost()).isEqualTo(2);
+
+		verify(syncJournalMock).record(capturedIncidentEntity.getId(), attachmentStep("pobg6/api/v20/case/1022960/attachments/1628120"), null);
+		assertThat(recordingThreads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void createJiraIssueWhenResumingInterruptedSynchronization(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadAttachments.json", as = JSON) final PobPayload pobPayloadAttachments,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var incidentId = UUID.randomUUID().toString();
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var mailId = "mailId";
+		final var municipalityId = "2281";
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(Issue.fromKey(jiraIssueKey)));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", "pass", "http:://jira-test.com", "XX", null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getAttachments(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayloadAttachments));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(syncJournalMock.resume(eq(incidentId), any())).thenReturn(Map.of(
+			"jira-issue", jiraIssueKey,
+			"initial-status", "",
+			"mail:" + mailId, "mailCommentId",
+			attachmentStep("pobg6/api/v20/case/1022960/attachments/1628120"), "",
+			"comments", ""));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(incidentId)
+				.withPobIssueKey(pobIssueKey)
+				.withMunicipalityId(municipalityId)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock, never()).createIssue(any(), any(), any(), any());
+		verify(jiraClientMock, never()).performTransition(any(), any());
+		verify(jiraClientMock, never()).addComment(any(), any());
+		verify(jiraClientMock, never()).addAttachmentAsync(any(), any());
+		verify(pobClientMock, never()).getAttachment(any(), any());
+		verify(pobClientMock).getMail(mailId);
+		verify(syncJournalMock, never()).record(any(), any(), any());
+		verify(syncJournalMock).clear(incidentId);
+		verifyNoInteractions(jiraTransitionCacheMock);
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(capturedIncidentEntity.getJiraIssueKey()).isEqualTo(jiraIssueKey);
+		assertThat(capturedIncidentEntity.getMirroredMails()).containsExactly(entry(mailId, "mailCommentId"));
+	}
+
+	@Test
+	void createJiraIssueWhenCachedTransitionIsStale(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadAttachments.json", as = JSON) final PobPayload pobPayloadAttachments,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var incidentId = UUID.randomUUID().toString();
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var mailId = "mailId";
+		final var staleTransition = Transition.fromName("Stale");
+		final var freshTransition = Transition.fromName("Fresh");
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(Issue.fromKey(jiraIssueKey)));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", "pass", "http:://jira-test.com", "XX", null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(jiraTransitionCacheMock.getTransitions(jiraIssueKey, "Bug", null))
+			.thenReturn(Map.of("To Do", staleTransition))
+			.thenReturn(Map.of("To Do", freshTransition));
+		doThrow(new JiraIntegrationException(new RuntimeException("error"))).when(jiraClientMock).performTransition(jiraIssueKey, staleTransition);
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getAttachments(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayloadAttachments));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(syncJournalMock.resume(eq(incidentId), any())).thenReturn(Map.of(
+			"jira-issue", jiraIssueKey,
+			"mail:" + mailId, "mailCommentId",
+			attachmentStep("pobg6/api/v20/case/1022960/attachments/1628120"), "",
+			"comments", ""));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(incidentId)
+				.withPobIssueKey(pobIssueKey)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (the transition is retried with the transition fetched from Jira)
+		final var inOrder = inOrder(jiraClientMock, jiraTransitionCacheMock);
+		inOrder.verify(jiraClientMock).performTransition(jiraIssueKey, staleTransition);
+		inOrder.verify(jiraTransitionCacheMock).invalidate("Bug", null);
+		inOrder.verify(jiraClientMock).performTransition(jiraIssueKey, freshTransition);
+		verify(syncJournalMock).record(incidentId, "initial-status", null);
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		assertThat(incidentEntityCaptor.getValue().getStatus()).isEqualTo(SYNCHRONIZED);
+	}
+
+	@Test
+	void createJiraIssueWhenResumingWithChangedContent(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadMail.json", as = JSON) final PobPayload pobPayloadMail,
+		@Load(value = "/IncidentServiceTest/pobPayloadReceivedMailIds.json", as = JSON) final PobPayload pobPayloadReceivedMailId) {
+
+		// Arrange
+		final var incidentId = UUID.randomUUID().toString();
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var mailId = "mailId";
+		final var mailComment = new Comment();
+		mailComment.setId("mailCommentId");
+		final var staleComment = new Comment();
+		staleComment.setId("staleCommentId");
+		final var comments = new Comments();
+		comments.add(mailComment);
+		comments.add(staleComment);
+		final var staleAttachment = new Attachment();
+		staleAttachment.setId("staleAttachmentId");
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		jiraIssue.getFields().setComments(comments);
+		jiraIssue.getFields().setAttachments(Attachments.from(staleAttachment));
+		final var steps = new HashMap<String, String>();
+		steps.put("jira-issue", jiraIssueKey);
+		steps.put("initial-status", null);
+		steps.put("mail:" + mailId, "mailCommentId");
+		steps.put("stale-content", null);
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", "pass", "http:://jira-test.com", "XX", null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteCommentAsync(jiraIssueKey, "staleCommentId")).thenReturn(completedFuture(null));
+		when(jiraClientMock.deleteAttachmentAsync("staleAttachmentId")).thenReturn(completedFuture(null));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(pobClientMock.getReceivedMailIds(pobIssueKey)).thenReturn(List.of(pobPayloadReceivedMailId));
+		when(pobClientMock.getMail(mailId)).thenReturn(Optional.of(pobPayloadMail));
+		when(syncJournalMock.resume(eq(incidentId), any())).thenReturn(steps);
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(incidentId)
+				.withPobIssueKey(pobIssueKey)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (the stale content is replaced, while the journaled mail is kept)
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock, never()).createIssue(any(), any(), any(), any());
+		verify(jiraClientMock).updateIssueAsync(jiraIssueCaptor.capture());
+		verify(jiraClientMock).deleteCommentAsync(jiraIssueKey, "staleCommentId");
+		verify(jiraClientMock, never()).deleteCommentAsync(jiraIssueKey, "mailCommentId");
+		verify(jiraClientMock).deleteAttachmentAsync("staleAttachmentId");
+		verify(jiraClientMock).addComment(jiraIssueKey, "2024-05-08 14:09 Kommentar");
+		verify(jiraClientMock, times(1)).addComment(eq(jiraIssueKey), any());
+		verify(syncJournalMock).record(incidentId, "cleanup", null);
+		verify(syncJournalMock).record(incidentId, "comments", null);
+		verify(syncJournalMock).clear(incidentId);
+
+		assertThat(jiraIssueCaptor.getValue().getFields().getSummary()).isEqualTo("Supportärende POB-12345 (This works!)");
+		assertThat(jiraIssueCaptor.getValue().getFields().getDescription()).isEqualTo("This is a description");
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+		assertThat(capturedIncidentEntity.getJiraIssueKey()).isEqualTo(jiraIssueKey);
+		assertThat(capturedIncidentEntity.getMirroredMails()).containsExactly(entry(mailId, "mailCommentId"));
+	}
+
+	@Test
+	void createJiraIssueWhenJournaledIssueIsGone(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo) {
+
+		// Arrange
+		final var incidentId = UUID.randomUUID().toString();
+		final var pobIssueKey = "POB-12345";
+		final var removedJiraIssueKey = "JIR-11111";
+		final var jiraIssueKey = "JIR-12345";
+
+		when(jiraClientMock.createIssue(any(), any(), any(), any())).thenReturn(jiraIssueKey);
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(syncJournalMock.resume(eq(incidentId), any())).thenReturn(Map.of("jira-issue", removedJiraIssueKey, "initial-status", ""));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(incidentId)
+				.withPobIssueKey(pobIssueKey)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(jiraClientMock).getIssue(removedJiraIssueKey);
+		verify(jiraClientMock).createIssue("Bug", List.of("support-ticket"), "Supportärende POB-12345 (This works!)", "This is a description");
+		verify(jiraClientMock).getIssue(jiraIssueKey);
+		verify(syncJournalMock).discard(incidentId);
+		verify(syncJournalMock).record(eq(incidentId), eq("fingerprint"), any());
+		verify(syncJournalMock).record(incidentId, "jira-issue", jiraIssueKey);
+	}
+
+	@Test
+	void updateJiraIssueWhenResumingAfterCleanup(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo) {
+
+		// Arrange
+		final var incidentId = UUID.randomUUID().toString();
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var keptComment = new Comment();
+		keptComment.setId("keptCommentId");
+		final var addedComment = new Comment();
+		addedComment.setId("addedCommentId");
+		final var comments = new Comments();
+		comments.add(keptComment);
+		comments.add(addedComment);
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		jiraIssue.getFields().setComments(comments);
+		jiraIssue.getFields().setAttachments(new Attachments());
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "user")));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(syncJournalMock.resume(eq(incidentId), any())).thenReturn(singletonMap("cleanup", null));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(incidentId)
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock).updateIssueAsync(any());
+		verify(jiraClientMock, never()).deleteCommentAsync(any(), any());
+		verify(jiraClientMock, never()).deleteAttachmentAsync(any());
+		verify(jiraClientMock).addComment(jiraIssueKey, "2024-05-08 14:09 Kommentar");
+		verify(syncJournalMock, never()).record(eq(incidentId), eq("cleanup"), any());
+		verify(syncJournalMock).record(incidentId, "comments", null);
+		verify(syncJournalMock).clear(incidentId);
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(SYNCHRONIZED);
+	}
+
+	@Test
+	void updateJiraIssueWhenChangedInJiraDuringWrite(
+		@Load(value = "/IncidentServiceTest/pobPayloadCase.json", as = JSON) final PobPayload pobPayload,
+		@Load(value = "/IncidentServiceTest/pobPayloadCaseInternalNotesCustomMemo.json", as = JSON) final PobPayload pobPayloadCaseInternalNotesCustomMemo,
+		@Load(value = "/IncidentServiceTest/pobPayloadProblemMemo.json", as = JSON) final PobPayload pobPayloadProblemMemo) {
+
+		// Arrange
+		final var incidentId = UUID.randomUUID().toString();
+		final var pobIssueKey = "POB-12345";
+		final var jiraIssueKey = "JIR-12345";
+		final var jiraRevision = now().minusDays(1);
+		final var jiraIssue = Issue.fromKey(jiraIssueKey);
+		jiraIssue.getFields().setComments(new Comments());
+		jiraIssue.getFields().setAttachments(new Attachments());
+
+		when(synchronizationPropertiesMock.tempFolder()).thenReturn(TEMP_DIR);
+		when(jiraClientMock.getIssue(jiraIssueKey)).thenReturn(Optional.of(jiraIssue));
+		when(jiraClientMock.getProperties()).thenReturn(new JiraProperties("user", null, null, null, null, null, null));
+		when(jiraClientMock.getIssueRevision(jiraIssueKey)).thenReturn(Optional.of(new IssueRevisionView(jiraIssueKey, now(), "someUser")));
+		when(jiraClientMock.updateIssueAsync(any())).thenReturn(completedFuture(null));
+		when(pobClientMock.getCase(pobIssueKey)).thenReturn(Optional.ofNullable(pobPayload));
+		when(pobClientMock.getCaseInternalNotesCustom(pobIssueKey)).thenReturn(Optional.of(pobPayloadCaseInternalNotesCustomMemo));
+		when(pobClientMock.getProblemMemo(pobIssueKey)).thenReturn(Optional.of(pobPayloadProblemMemo));
+		when(syncJournalMock.resume(eq(incidentId), any())).thenReturn(singletonMap("cleanup", null));
+		mockFindEventsByStatus(POB_INITIATED_EVENT, List.of(
+			IncidentEntity.create()
+				.withId(incidentId)
+				.withPobIssueKey(pobIssueKey)
+				.withJiraIssueKey(jiraIssueKey)
+				.withJiraRevision(jiraRevision)
+				.withStatus(POB_INITIATED_EVENT)));
+
+		// Act
+		incidentService.updateJiraIssues(null, SyncBudget.unlimited());
+
+		// Assert (the change made by someone else isn't masked, but synchronized towards POB)
+		verify(incidentRepositoryMock).save(incidentEntityCaptor.capture());
+		verify(jiraClientMock).getIssueRevision(jiraIssueKey);
+		verify(jiraClientMock, never()).getIssueUpdated(any());
+
+		final var capturedIncidentEntity = incidentEntityCaptor.getValue();
+		assertThat(capturedIncidentEntity.getStatus()).isEqualTo(JIRA_INITIATED_EVENT);
+		assertThat(capturedIncidentEntity.getJiraRevision()).isEqualTo(jiraRevision);
+		assertThat(capturedIncidentEntity.getLastSynchronizedJira()).isCloseTo(now(), within(2, SECONDS));
+	}
+
+	@Test
+	void prewarmTransitionCache() {
+
+		// Act
+		incidentService.prewarmTransitionCache();
+
+		// Assert
+		verify(jiraTransitionCacheMock).prewarm("Bug", "To Do");
+		verifyNoInteractions(jiraClientMock, pobClientMock, incidentRepositoryMock);
+	}
+
+	private void mockFindEventsByStatus(final Status status, final List<IncidentEntity> incidents) {
+		when(incidentRepositoryMock.findEventSummariesByStatus(eq(status), eq(""), any())).thenReturn(List.copyOf(incidents));
+		mockFindById(incidents);
+	}
+
+	private void mockFindWithJiraIssue(final List<IncidentEntity> incidents) {
+		when(incidentRepositoryMock.findSummariesWithJiraIssueByStatus(eq(SYNCHRONIZED), eq(""), any())).thenReturn(List.copyOf(incidents));
+		mockFindById(incidents);
+	}
+
+	private void mockFindDueForPolling(final List<IncidentEntity> incidents) {
+		when(incidentRepositoryMock.findSummariesDueForPolling(eq(SYNCHRONIZED), any(), eq(""), any())).thenReturn(List.copyOf(incidents));
+		mockFindById(incidents);
+	}
+
+	private void mockFindById(final List<IncidentEntity> incidents) {
+		lenient().when(incidentRepositoryMock.findById(any())).thenAnswer(invocation -> incidents.stream()
+			.filter(incident -> Objects.equals(incident.getId(), invocation.getArgument(0)))
+			.findFirst());
 	}
 }
@@ -0,0 +1,58 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PollBatchTest {
+
+	@Test
+	void groupsByNextPollAt() {
+
+		// Arrange
+		final var pollBatch = new PollBatch();
+		final var soon = now().truncatedTo(MINUTES).plusMinutes(5);
+		final var later = soon.plusMinutes(10);
+
+		// Act
+		pollBatch.pollAgainAt("1", later);
+		pollBatch.changed("2");
+		pollBatch.pollAgainAt("3", soon);
+		pollBatch.pollAgainAt("4", later);
+		pollBatch.changed("5");
+
+		// Assert
+		assertThat(pollBatch.size()).isEqualTo(5);
+		assertThat(pollBatch.isEmpty()).isFalse();
+		assertThat(pollBatch.changedIds()).containsExactly("2", "5");
+		assertThat(pollBatch.idsByNextPollAt()).containsExactly(
+			entry(soon, List.of("3")),
+			entry(later, List.of("1", "4")));
+	}
+
+	@Test
+	void clear() {
+
+		// Arrange
+		final var pollBatch = new PollBatch();
+		pollBatch.changed("1");
+		pollBatch.pollAgainAt("2", now());
+		final var changedIds = pollBatch.changedIds();
+		final var idsByNextPollAt = pollBatch.idsByNextPollAt();
+
+		// Act
+		pollBatch.clear();
+
+		// Assert (what was read before is left untouched)
+		assertThat(pollBatch.size()).isZero();
+		assertThat(pollBatch.isEmpty()).isTrue();
+		assertThat(pollBatch.changedIds()).isEmpty();
+		assertThat(pollBatch.idsByNextPollAt()).isEmpty();
+		assertThat(changedIds).containsExactly("1");
+		assertThat(idsByNextPollAt).hasSize(1);
+	}
+}
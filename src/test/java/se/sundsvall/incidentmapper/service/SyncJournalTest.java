@@ -0,0 +1,198 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.integration.db.SyncStepRepository;
+import se.sundsvall.incidentmapper.integration.db.model.SyncStepEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncJournalTest {
+
+	private static final String INCIDENT_ID = "incidentId";
+
+	@Mock
+	private SyncStepRepository syncStepRepositoryMock;
+
+	@InjectMocks
+	private SyncJournal syncJournal;
+
+	@Captor
+	private ArgumentCaptor<SyncStepEntity> syncStepEntityCaptor;
+
+	@Test
+	void resume() {
+
+		// Arrange
+		when(syncStepRepositoryMock.findByIncidentId(INCIDENT_ID)).thenReturn(List.of(
+			step("fingerprint", "abc"),
+			step("jira-issue", "JIR-12345"),
+			step("comments", null)));
+
+		// Act
+		final var result = syncJournal.resume(INCIDENT_ID, "abc");
+
+		// Assert
+		assertThat(result).containsOnly(entry("fingerprint", "abc"), entry("jira-issue", "JIR-12345"), entry("comments", null));
+		verify(syncStepRepositoryMock).findByIncidentId(INCIDENT_ID);
+		verifyNoMoreInteractions(syncStepRepositoryMock);
+	}
+
+	@Test
+	void resumeWhenFingerprintHasChanged() {
+
+		// Arrange
+		final var fingerprint = step("fingerprint", "abc");
+		final var cleanup = step("cleanup", null);
+		final var attachment = step("attachment:href", null);
+		final var comments = step("comments", null);
+		when(syncStepRepositoryMock.findByIncidentId(INCIDENT_ID)).thenReturn(List.of(
+			fingerprint,
+			step("jira-issue", "JIR-12345"),
+			step("initial-status", null),
+			cleanup,
+			step("mail:1", "commentId"),
+			step("mail-attachment:1/0", "attachmentId"),
+			attachment,
+			comments));
+		when(syncStepRepositoryMock.findByIncidentIdAndStep(INCIDENT_ID, "fingerprint")).thenReturn(Optional.empty());
+		when(syncStepRepositoryMock.findByIncidentIdAndStep(INCIDENT_ID, "stale-content")).thenReturn(Optional.empty());
+
+		// Act
+		final var result = syncJournal.resume(INCIDENT_ID, "def");
+
+		// Assert (the Jira issue and the mirrored mails are kept, and the Jira issue is marked as stale)
+		assertThat(result).containsOnly(
+			entry("fingerprint", "def"),
+			entry("jira-issue", "JIR-12345"),
+			entry("initial-status", null),
+			entry("mail:1", "commentId"),
+			entry("mail-attachment:1/0", "attachmentId"),
+			entry("stale-content", null));
+		verify(syncStepRepositoryMock).deleteAll(List.of(fingerprint, cleanup, attachment, comments));
+		verify(syncStepRepositoryMock, times(2)).save(syncStepEntityCaptor.capture());
+		assertThat(syncStepEntityCaptor.getAllValues()).containsExactly(step("fingerprint", "def"), step("stale-content", null));
+	}
+
+	@Test
+	void resumeWhenFingerprintHasChangedWithoutJiraIssue() {
+
+		// Arrange
+		final var fingerprint = step("fingerprint", "abc");
+		final var cleanup = step("cleanup", null);
+		when(syncStepRepositoryMock.findByIncidentId(INCIDENT_ID)).thenReturn(List.of(
+			fingerprint,
+			cleanup,
+			step("mail:1", "commentId")));
+		when(syncStepRepositoryMock.findByIncidentIdAndStep(INCIDENT_ID, "fingerprint")).thenReturn(Optional.empty());
+
+		// Act
+		final var result = syncJournal.resume(INCIDENT_ID, "def");
+
+		// Assert
+		assertThat(result).containsOnly(entry("fingerprint", "def"), entry("mail:1", "commentId"));
+		verify(syncStepRepositoryMock).deleteAll(List.of(fingerprint, cleanup));
+		verify(syncStepRepositoryMock).save(syncStepEntityCaptor.capture());
+		assertThat(syncStepEntityCaptor.getValue()).isEqualTo(step("fingerprint", "def"));
+	}
+
+	@Test
+	void recordNewStep() {
+
+		// Arrange
+		when(syncStepRepositoryMock.findByIncidentIdAndStep(INCIDENT_ID, "mail:1")).thenReturn(Optional.empty());
+
+		// Act
+		syncJournal.record(INCIDENT_ID, "mail:1", "commentId");
+
+		// Assert
+		verify(syncStepRepositoryMock).save(syncStepEntityCaptor.capture());
+		assertThat(syncStepEntityCaptor.getValue()).isEqualTo(step("mail:1", "commentId"));
+	}
+
+	@Test
+	void recordExistingStep() {
+
+		// Arrange
+		final var existing = step("cleanup", "1").withId("id");
+		when(syncStepRepositoryMock.findByIncidentIdAndStep(INCIDENT_ID, "cleanup")).thenReturn(Optional.of(existing));
+
+		// Act
+		syncJournal.record(INCIDENT_ID, "cleanup", "2");
+
+		// Assert
+		verify(syncStepRepositoryMock).save(syncStepEntityCaptor.capture());
+		assertThat(syncStepEntityCaptor.getValue()).isSameAs(existing);
+		assertThat(existing.getReference()).isEqualTo("2");
+	}
+
+	@Test
+	void discard() {
+
+		// Act
+		syncJournal.discard(INCIDENT_ID);
+
+		// Assert
+		verify(syncStepRepositoryMock).deleteByIncidentId(INCIDENT_ID);
+		verify(syncStepRepositoryMock, never()).save(any());
+	}
+
+	@Test
+	void clear() {
+
+		// Act
+		syncJournal.clear(INCIDENT_ID);
+
+		// Assert
+		verify(syncStepRepositoryMock).deleteByIncidentId(INCIDENT_ID);
+		verifyNoMoreInteractions(syncStepRepositoryMock);
+	}
+
+	private static SyncStepEntity step(final String step, final String reference) {
+		return SyncStepEntity.create()
+			.withIncidentId(INCIDENT_ID)
+			.withStep(step)
+			.withReference(reference);
+	}
+
+	@Test
+	void mailAttachmentStep() {
+
+		// Act
+		final var step = SyncJournal.mailAttachmentStep("mail/1", 2);
+
+		// Assert (the mail ID is parsed from the step, also if it contains a slash)
+		assertThat(step).isEqualTo("mail-attachment:mail/1/2");
+		assertThat(SyncJournal.mailIdOf(step)).isEqualTo("mail/1");
+	}
+
+	@Test
+	void attachmentStep() {
+
+		// Arrange
+		final var href = "pobg6/api/v20/case/1022960/attachments/" + "1628120".repeat(50);
+
+		// Act
+		final var step = SyncJournal.attachmentStep(href);
+
+		// Assert (the step has a fixed length, and is stable)
+		assertThat(step).startsWith("attachment:").hasSize("attachment:".length() + 64);
+		assertThat(SyncJournal.attachmentStep(href)).isEqualTo(step);
+		assertThat(SyncJournal.attachmentStep(href + "1")).isNotEqualTo(step);
+	}
+}
@@ -0,0 +1,124 @@
+package se.sundsvall.incidentmapper.service;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.Priority;
+
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SyncPriorityPolicyTest {
+
+	@Test
+	void orderByAge() {
+
+		// Arrange
+		final var policy = new SyncPriorityPolicy(new Priority(1.0, 0.0, Map.of(), 50));
+		final var fresh = IncidentEntity.create().withId("fresh").withCreated(now().minusMinutes(1));
+		final var old = IncidentEntity.create().withId("old").withCreated(now().minusHours(1));
+		final var touched = IncidentEntity.create().withId("touched").withCreated(now().minusDays(2)).withModified(now().minusMinutes(30));
+
+		// Act
+		final var result = policy.order(List.of(fresh, old, touched));
+
+		// Assert (the waiting time is counted from the last change)
+		assertThat(result).containsExactly(old, touched, fresh);
+	}
+
+	@Test
+	void orderByCost() {
+
+		// Arrange
+		final var policy = new SyncPriorityPolicy(new Priority(0.0, 0.5, Map.of(), 50));
+		final var expensive = IncidentEntity.create().withId("expensive").withSyncCost(200);
+		final var cheap = IncidentEntity.create().withId("cheap").withSyncCost(1);
+		final var unknown = IncidentEntity.create().withId("unknown");
+
+		// Act
+		final var result = policy.order(List.of(expensive, cheap, unknown));
+
+		// Assert
+		assertThat(result).containsExactly(unknown, cheap, expensive);
+	}
+
+	@Test
+	void orderByMunicipality() {
+
+		// Arrange
+		final var policy = new SyncPriorityPolicy(new Priority(0.0, 0.0, Map.of("2260", 10.0), 50));
+		final var first = IncidentEntity.create().withId("1").withMunicipalityId("2281");
+		final var second = IncidentEntity.create().withId("2").withMunicipalityId("2260");
+		final var third = IncidentEntity.create().withId("3").withMunicipalityId("2281");
+
+		// Act
+		final var result = policy.order(List.of(first, second, third));
+
+		// Assert
+		assertThat(result).containsExactly(second, first, third);
+	}
+
+	@Test
+	void orderByMunicipalityBeforeAge() {
+
+		// Arrange
+		final var policy = new SyncPriorityPolicy(new Priority(1.0, 0.5, Map.of("2260", 10.0), 50));
+		final var old = IncidentEntity.create().withId("old").withMunicipalityId("2281").withModified(now().minusDays(3));
+		final var heavy = IncidentEntity.create().withId("heavy").withMunicipalityId("2260").withModified(now().minusMinutes(1));
+
+		// Act
+		final var result = policy.order(List.of(old, heavy));
+
+		// Assert (the age term grows logarithmically, so three days of waiting doesn't outweigh the municipality)
+		assertThat(result).containsExactly(heavy, old);
+	}
+
+	@Test
+	void orderWithinWindows() {
+
+		// Arrange
+		final var policy = new SyncPriorityPolicy(new Priority(0.0, 1.0, Map.of(), 2));
+		final var first = IncidentEntity.create().withId("1").withSyncCost(10);
+		final var second = IncidentEntity.create().withId("2").withSyncCost(5);
+		final var third = IncidentEntity.create().withId("3").withSyncCost(20);
+		final var fourth = IncidentEntity.create().withId("4").withSyncCost(1);
+		final var fifth = IncidentEntity.create().withId("5").withSyncCost(0);
+
+		// Act
+		final var result = policy.order(List.of(first, second, third, fourth, fifth));
+
+		// Assert (incidents are only reordered within each window of two)
+		assertThat(result).containsExactly(second, first, fourth, third, fifth);
+	}
+
+	@Test
+	void score() {
+
+		// Arrange
+		final var timestamp = now();
+		final var policy = new SyncPriorityPolicy(new Priority(1.0, 0.5, Map.of("2281", 5.0), 50));
+		final var incident = IncidentEntity.create()
+			.withMunicipalityId("2281")
+			.withCreated(timestamp.minusDays(1))
+			.withModified(timestamp.minusMinutes(10))
+			.withSyncCost(4);
+
+		// Act & Assert (5 + ln(1 + 10) - 0.5 * 4)
+		assertThat(policy.score(incident, timestamp)).isCloseTo(3.0 + Math.log(11), within(0.001));
+		assertThat(policy.score(IncidentEntity.create(), timestamp)).isZero();
+	}
+
+	@Test
+	void orderWithoutPriority() {
+
+		// Arrange
+		final var policy = new SyncPriorityPolicy(null);
+		final var first = IncidentEntity.create().withId("1").withSyncCost(200);
+		final var second = IncidentEntity.create().withId("2");
+
+		// Act & Assert
+		assertThat(policy.order(List.of(first, second))).containsExactly(first, second);
+	}
+}
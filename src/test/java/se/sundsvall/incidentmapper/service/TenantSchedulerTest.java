@@ -0,0 +1,130 @@
+package se.sundsvall.incidentmapper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.incidentmapper.integration.db.model.IncidentEntity;
+import se.sundsvall.incidentmapper.integration.db.model.MunicipalityBacklog;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.Tenants;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantSchedulerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void scheduleWithEqualShares() {
+
+		// Arrange
+		final var tenantScheduler = tenantScheduler(new Tenants(1, Map.of(), 0));
+		final var a1 = incident("a1", "2281");
+		final var a2 = incident("a2", "2281");
+		final var a3 = incident("a3", "2281");
+		final var b1 = incident("b1", "2260");
+
+		// Act
+		final var result = tenantScheduler.schedule(List.of(a1, a2, a3, b1));
+
+		// Assert
+		assertThat(result).containsExactly(a1, b1, a2, a3);
+	}
+
+	@Test
+	void scheduleWithWeightedShares() {
+
+		// Arrange
+		final var tenantScheduler = tenantScheduler(new Tenants(1, Map.of("2281", 2), 0));
+		final var a1 = incident("a1", "2281");
+		final var a2 = incident("a2", "2281");
+		final var a3 = incident("a3", "2281");
+		final var b1 = incident("b1", "2260");
+		final var b2 = incident("b2", "2260");
+
+		// Act
+		final var result = tenantScheduler.schedule(List.of(a1, a2, a3, b1, b2));
+
+		// Assert
+		assertThat(result).containsExactly(a1, a2, b1, a3, b2);
+	}
+
+	@Test
+	void scheduleWithMinimumPerCycle() {
+
+		// Arrange
+		final var tenantScheduler = tenantScheduler(new Tenants(1, Map.of("2281", 3), 1));
+		final var a1 = incident("a1", "2281");
+		final var a2 = incident("a2", "2281");
+		final var b1 = incident("b1", "2260");
+		final var c1 = incident("c1", null);
+
+		// Act
+		final var result = tenantScheduler.schedule(List.of(a1, a2, b1, c1));
+
+		// Assert
+		assertThat(result).containsExactly(a1, b1, c1, a2);
+	}
+
+	@Test
+	void backlogMetrics() {
+
+		// Arrange
+		final var tenantScheduler = tenantScheduler(null);
+		final var a1 = incident("a1", "2281");
+
+		// Act
+		tenantScheduler.updateBacklog("phase", List.of(backlog("2281", 2L), backlog("2260", 1L)));
+		tenantScheduler.processed("phase", a1);
+
+		// Assert
+		assertThat(tenantScheduler.backlogOf("phase", "2281")).isOne();
+		assertThat(tenantScheduler.backlogOf("phase", "2260")).isOne();
+		assertThat(meterRegistry.get("incident.sync.backlog").tag("phase", "phase").tag("municipality", "2281").gauge().value()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("incident.sync.processed").tag("phase", "phase").tag("municipality", "2281").counter().count()).isEqualTo(1.0);
+
+		// Act (next cycle, nothing left for 2260)
+		tenantScheduler.updateBacklog("phase", List.of(backlog("2281", 1L), backlog(null, 3L)));
+
+		// Assert
+		assertThat(tenantScheduler.backlogOf("phase", "2281")).isOne();
+		assertThat(tenantScheduler.backlogOf("phase", "2260")).isZero();
+		assertThat(tenantScheduler.backlogOf("phase", "unknown")).isEqualTo(3);
+	}
+
+	@Test
+	void shareOf() {
+
+		// Arrange
+		final var tenantScheduler = tenantScheduler(new Tenants(2, Map.of("2281", 5, "2260", 0), 1));
+
+		// Act & Assert
+		assertThat(tenantScheduler.shareOf("2281")).isEqualTo(5);
+		assertThat(tenantScheduler.shareOf("2260")).isOne();
+		assertThat(tenantScheduler.shareOf("other")).isEqualTo(2);
+	}
+
+	private TenantScheduler tenantScheduler(final Tenants tenants) {
+		return new TenantScheduler(new SynchronizationProperties(0, null, null, null, null, null, null, tenants, null, null, null), meterRegistry);
+	}
+
+	private static IncidentEntity incident(final String id, final String municipalityId) {
+		return IncidentEntity.create().withId(id).withMunicipalityId(municipalityId);
+	}
+
+	private static MunicipalityBacklog backlog(final String municipalityId, final Long incidents) {
+		return new MunicipalityBacklog() {
+
+			@Override
+			public String getMunicipalityId() {
+				return municipalityId;
+			}
+
+			@Override
+			public Long getIncidents() {
+				return incidents;
+			}
+		};
+	}
+}
@@ -1,6 +1,7 @@
 package se.sundsvall.incidentmapper.service.configuration;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,6 +21,25 @@ class SynchronizationPropertiesTest {
 	void testProperties() {
 		assertThat(properties.clockSkewInSeconds()).isEqualTo(15);
 		assertThat(properties.responsibleUserGroupInPob()).isEqualTo("IT Support");
+		assertThat(properties.cycleTimeBudget()).isEqualTo(Duration.ofMinutes(8));
+		assertThat(properties.phaseTimeBudgets().pollJiraIssues()).isEqualTo(Duration.ofMinutes(4));
+		assertThat(properties.phaseTimeBudgets().updatePobIssues()).isEqualTo(Duration.ofMinutes(4));
+		assertThat(properties.phaseTimeBudgets().updateJiraIssues()).isEqualTo(Duration.ofMinutes(4));
+		assertThat(properties.phaseTimeBudgets().closeIssues()).isEqualTo(Duration.ofMinutes(8));
+		assertThat(properties.priority().ageWeight()).isEqualTo(1.0);
+		assertThat(properties.priority().costWeight()).isEqualTo(0.5);
+		assertThat(properties.priority().municipalityWeights()).isEmpty();
+		assertThat(properties.priority().windowSize()).isEqualTo(50);
+		assertThat(properties.polling().minInterval()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.polling().maxInterval()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.polling().activityFactor()).isEqualTo(0.1);
+		assertThat(properties.tenants().defaultShare()).isEqualTo(1);
+		assertThat(properties.tenants().shares()).isEmpty();
+		assertThat(properties.tenants().minimumPerCycle()).isEqualTo(1);
+		assertThat(properties.municipalityId()).isNull();
+		assertThat(properties.shutdownGracePeriod()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.cadence().minInterval()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(properties.cadence().maxInterval()).isEqualTo(Duration.ofMinutes(2));
 		assertThat(Path.of(properties.tempFolder()).endsWith(Path.of("target/tmp")));
 	}
 }
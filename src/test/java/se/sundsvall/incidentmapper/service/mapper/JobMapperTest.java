@@ -0,0 +1,156 @@
+package se.sundsvall.incidentmapper.service.mapper;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.api.model.JobPhase;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobEntity;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobPhaseEmbeddable;
+import se.sundsvall.incidentmapper.service.scheduler.SyncJob;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.COMPLETED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.PENDING;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.Status.RUNNING;
+
+@ExtendWith(MockitoExtension.class)
+class JobMapperTest {
+
+	@Mock
+	private SyncJob syncJobMock;
+
+	@Test
+	void toJob() {
+
+		// Arrange
+		final var queued = now().minusMinutes(1);
+		final var started = now().minusSeconds(30);
+		final var phaseFinished = started.plusSeconds(12);
+
+		when(syncJobMock.getId()).thenReturn("jobId");
+		when(syncJobMock.getMunicipalityId()).thenReturn("2281");
+		when(syncJobMock.getStatus()).thenReturn(RUNNING);
+		when(syncJobMock.getProgress()).thenReturn(50);
+		when(syncJobMock.getQueued()).thenReturn(queued);
+		when(syncJobMock.getStarted()).thenReturn(started);
+		when(syncJobMock.getPhases()).thenReturn(List.of(
+			new SyncJob.Phase("poll-jira-issues", COMPLETED, started, phaseFinished, 7),
+			new SyncJob.Phase("close-issues", PENDING, null, null, null)));
+
+		// Act
+		final var result = JobMapper.toJob(syncJobMock);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo("jobId");
+		assertThat(result.getMunicipalityId()).isEqualTo("2281");
+		assertThat(result.getStatus()).isEqualTo("RUNNING");
+		assertThat(result.getProgress()).isEqualTo(50);
+		assertThat(result.getQueued()).isEqualTo(queued);
+		assertThat(result.getStarted()).isEqualTo(started);
+		assertThat(result.getFinished()).isNull();
+		assertThat(result.getPhases()).containsExactly(
+			JobPhase.create()
+				.withName("poll-jira-issues")
+				.withStatus("COMPLETED")
+				.withStarted(started)
+				.withFinished(phaseFinished)
+				.withDurationInMillis(12000L)
+				.withProcessed(7),
+			JobPhase.create()
+				.withName("close-issues")
+				.withStatus("PENDING"));
+	}
+
+	@Test
+	void toJobFromEntity() {
+
+		// Arrange
+		final var queued = now().minusMinutes(1);
+		final var started = now().minusSeconds(30);
+		final var finished = now();
+		final var phaseFinished = started.plusSeconds(12);
+		final var syncJobEntity = SyncJobEntity.create()
+			.withId("jobId")
+			.withMunicipalityId("2281")
+			.withStatus("COMPLETED")
+			.withProgress(100)
+			.withQueued(queued)
+			.withStarted(started)
+			.withFinished(finished)
+			.withModified(finished)
+			.withPhases(List.of(SyncJobPhaseEmbeddable.create()
+				.withName("poll-jira-issues")
+				.withStatus("COMPLETED")
+				.withStarted(started)
+				.withFinished(phaseFinished)
+				.withProcessed(7)));
+
+		// Act
+		final var result = JobMapper.toJob(syncJobEntity);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo("jobId");
+		assertThat(result.getMunicipalityId()).isEqualTo("2281");
+		assertThat(result.getStatus()).isEqualTo("COMPLETED");
+		assertThat(result.getProgress()).isEqualTo(100);
+		assertThat(result.getQueued()).isEqualTo(queued);
+		assertThat(result.getStarted()).isEqualTo(started);
+		assertThat(result.getFinished()).isEqualTo(finished);
+		assertThat(result.getPhases()).containsExactly(
+			JobPhase.create()
+				.withName("poll-jira-issues")
+				.withStatus("COMPLETED")
+				.withStarted(started)
+				.withFinished(phaseFinished)
+				.withDurationInMillis(12000L)
+				.withProcessed(7));
+	}
+
+	@Test
+	void toSyncJobEntity() {
+
+		// Arrange
+		final var queued = now().minusMinutes(1);
+		final var started = now().minusSeconds(30);
+		final var phaseFinished = started.plusSeconds(12);
+
+		when(syncJobMock.getId()).thenReturn("jobId");
+		when(syncJobMock.getMunicipalityId()).thenReturn("2281");
+		when(syncJobMock.getStatus()).thenReturn(RUNNING);
+		when(syncJobMock.getProgress()).thenReturn(50);
+		when(syncJobMock.getQueued()).thenReturn(queued);
+		when(syncJobMock.getStarted()).thenReturn(started);
+		when(syncJobMock.getPhases()).thenReturn(List.of(
+			new SyncJob.Phase("poll-jira-issues", COMPLETED, started, phaseFinished, 7),
+			new SyncJob.Phase("close-issues", PENDING, null, null, null)));
+
+		// Act
+		final var result = JobMapper.toSyncJobEntity(syncJobMock);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo("jobId");
+		assertThat(result.getMunicipalityId()).isEqualTo("2281");
+		assertThat(result.getStatus()).isEqualTo("RUNNING");
+		assertThat(result.getProgress()).isEqualTo(50);
+		assertThat(result.getQueued()).isEqualTo(queued);
+		assertThat(result.getStarted()).isEqualTo(started);
+		assertThat(result.getFinished()).isNull();
+		assertThat(result.getModified()).isCloseTo(now(), within(5, SECONDS));
+		assertThat(result.getPhases()).containsExactly(
+			SyncJobPhaseEmbeddable.create()
+				.withName("poll-jira-issues")
+				.withStatus("COMPLETED")
+				.withStarted(started)
+				.withFinished(phaseFinished)
+				.withProcessed(7),
+			SyncJobPhaseEmbeddable.create()
+				.withName("close-issues")
+				.withStatus("PENDING"));
+	}
+}
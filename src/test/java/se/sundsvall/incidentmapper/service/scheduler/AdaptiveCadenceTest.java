@@ -0,0 +1,142 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.integration.db.IncidentRepository;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.Cadence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveCadenceTest {
+
+	private static final String PHASE = "phase";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final Cadence CADENCE = new Cadence(Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+	@Mock
+	private IncidentRepository incidentRepositoryMock;
+
+	@Mock
+	private SynchronizationProperties synchronizationPropertiesMock;
+
+	@Mock
+	private Clock clockMock;
+
+	private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-01-01T12:00:00Z"));
+
+	private AdaptiveCadence adaptiveCadence;
+
+	@BeforeEach
+	void setup() {
+		lenient().when(clockMock.instant()).thenAnswer(invocation -> now.get());
+		lenient().when(synchronizationPropertiesMock.cadence()).thenReturn(CADENCE);
+		adaptiveCadence = new AdaptiveCadence(incidentRepositoryMock, synchronizationPropertiesMock, clockMock);
+	}
+
+	@Test
+	void isDueWithPendingEvents() {
+
+		// Arrange
+		when(incidentRepositoryMock.countByStatus(POB_INITIATED_EVENT)).thenReturn(3L);
+
+		// Act & Assert
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isTrue();
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isTrue();
+		verify(incidentRepositoryMock, times(2)).countByStatus(POB_INITIATED_EVENT);
+	}
+
+	@Test
+	void isDueForMunicipality() {
+
+		// Arrange
+		when(incidentRepositoryMock.countByMunicipalityIdAndStatus(MUNICIPALITY_ID, POB_INITIATED_EVENT)).thenReturn(1L);
+
+		// Act & Assert
+		assertThat(adaptiveCadence.isDue(PHASE, MUNICIPALITY_ID, POB_INITIATED_EVENT)).isTrue();
+		verify(incidentRepositoryMock).countByMunicipalityIdAndStatus(MUNICIPALITY_ID, POB_INITIATED_EVENT);
+		verifyNoMoreInteractions(incidentRepositoryMock);
+	}
+
+	@Test
+	void isDueBacksOffWhenIdle() {
+
+		// Arrange
+		when(incidentRepositoryMock.countByStatus(POB_INITIATED_EVENT)).thenReturn(0L);
+
+		// Act & Assert (checked after 5, 10 and then 15 seconds, the max interval)
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(4));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(1));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(9));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(1));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(15));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(15));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+
+		verify(incidentRepositoryMock, times(5)).countByStatus(POB_INITIATED_EVENT);
+	}
+
+	@Test
+	void isDueWhenEventsArriveWhileBackingOff() {
+
+		// Arrange
+		when(incidentRepositoryMock.countByStatus(POB_INITIATED_EVENT)).thenReturn(0L, 2L);
+
+		// Act & Assert
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(5));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isTrue();
+	}
+
+	@Test
+	void completedWithBacklogLeft() {
+
+		// Arrange
+		when(incidentRepositoryMock.countByStatus(POB_INITIATED_EVENT)).thenReturn(5L);
+
+		// Act
+		adaptiveCadence.completed(PHASE, null, POB_INITIATED_EVENT);
+
+		// Assert
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isTrue();
+	}
+
+	@Test
+	void completedWithoutBacklogLeft() {
+
+		// Arrange
+		when(incidentRepositoryMock.countByStatus(POB_INITIATED_EVENT)).thenReturn(0L, 1L);
+
+		// Act
+		adaptiveCadence.completed(PHASE, null, POB_INITIATED_EVENT);
+
+		// Assert (the next check is after the min interval)
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isFalse();
+		advance(Duration.ofSeconds(5));
+		assertThat(adaptiveCadence.isDue(PHASE, null, POB_INITIATED_EVENT)).isTrue();
+	}
+
+	private void advance(final Duration duration) {
+		now.updateAndGet(instant -> instant.plus(duration));
+	}
+}
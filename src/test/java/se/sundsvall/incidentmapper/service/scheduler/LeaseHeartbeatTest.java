@@ -0,0 +1,215 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.service.SyncBudget;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaseHeartbeatTest {
+
+	private static final Duration TIME_TO_LIVE = Duration.ofMillis(300);
+
+	@Mock
+	private LeaseHeartbeat.Lease leaseMock;
+
+	private LeaseHeartbeat leaseHeartbeat;
+
+	@BeforeEach
+	void setup() {
+		leaseHeartbeat = new LeaseHeartbeat(Executors.newCachedThreadPool(), Duration.ofSeconds(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		leaseHeartbeat.close();
+	}
+
+	@Test
+	void run() {
+
+		// Act
+		final var result = leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> 42, leaseMock);
+
+		// Assert
+		assertThat(result).isEqualTo(42);
+		verify(leaseMock, never()).extend(any());
+	}
+
+	@Test
+	void runExtendsLeaseOfSlowWork() {
+
+		// Arrange
+		final var exhausted = new AtomicBoolean(true);
+		when(leaseMock.extend(TIME_TO_LIVE)).thenReturn(true);
+
+		// Act
+		final var result = leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> {
+			sleep(350);
+			exhausted.set(budget.isExhausted());
+			return 1;
+		}, leaseMock);
+
+		// Assert
+		assertThat(result).isEqualTo(1);
+		assertThat(exhausted).isFalse();
+		verify(leaseMock, atLeastOnce()).extend(TIME_TO_LIVE);
+	}
+
+	@Test
+	void runWhenLeaseIsLost() {
+
+		// Arrange
+		final var exhausted = new AtomicBoolean();
+		when(leaseMock.extend(TIME_TO_LIVE)).thenReturn(false);
+
+		// Act
+		leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> {
+			sleep(350);
+			exhausted.set(budget.isExhausted());
+			return 1;
+		}, leaseMock);
+
+		// Assert
+		assertThat(exhausted).isTrue();
+		verify(leaseMock, times(1)).extend(TIME_TO_LIVE);
+	}
+
+	@Test
+	void runWhenLeaseExtensionFails() {
+
+		// Arrange
+		final var exhausted = new AtomicBoolean();
+		when(leaseMock.extend(TIME_TO_LIVE)).thenThrow(new IllegalStateException("No active lock"));
+
+		// Act
+		leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> {
+			sleep(350);
+			exhausted.set(budget.isExhausted());
+			return 1;
+		}, leaseMock);
+
+		// Assert
+		assertThat(exhausted).isTrue();
+		verify(leaseMock, times(1)).extend(TIME_TO_LIVE);
+	}
+
+	@Test
+	void runWhenWorkFails() {
+
+		// Arrange
+		final var exception = new IllegalStateException("Failure");
+
+		// Act & Assert
+		assertThatThrownBy(() -> leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> {
+			throw exception;
+		}, leaseMock)).isSameAs(exception);
+	}
+
+	@Test
+	void runWhenDraining() {
+
+		// Arrange
+		leaseHeartbeat.drain();
+
+		// Act & Assert
+		assertThatThrownBy(() -> leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> 1, leaseMock))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Shutting down, the phase is not started");
+	}
+
+	@Test
+	void drain() {
+
+		// Arrange
+		final var started = new CountDownLatch(1);
+		final var running = CompletableFuture.supplyAsync(() -> leaseHeartbeat.run(TIME_TO_LIVE, SyncBudget.unlimited(), budget -> {
+			started.countDown();
+			while (!budget.isExhausted() && !Thread.currentThread().isInterrupted()) {
+				sleep(10);
+			}
+			// The budget is cancelled by the drain, before the grace period has passed.
+			return budget.isExhausted() ? 1 : 0;
+		}, leaseMock));
+		await(started);
+
+		// Act
+		leaseHeartbeat.drain();
+
+		// Assert
+		assertThat(running.join()).isEqualTo(1);
+	}
+
+	@Test
+	void drainWhenGracePeriodIsExceeded(@Mock final ExecutorService executorMock) throws Exception {
+
+		// Arrange
+		when(executorMock.awaitTermination(1000, MILLISECONDS)).thenReturn(false);
+
+		// Act
+		new LeaseHeartbeat(executorMock, Duration.ofSeconds(1)).drain();
+
+		// Assert
+		verify(executorMock).shutdown();
+		verify(executorMock).shutdownNow();
+	}
+
+	@Test
+	void drainWithinGracePeriod(@Mock final ExecutorService executorMock) throws Exception {
+
+		// Arrange
+		when(executorMock.awaitTermination(1000, MILLISECONDS)).thenReturn(true);
+
+		// Act
+		new LeaseHeartbeat(executorMock, Duration.ofSeconds(1)).drain();
+
+		// Assert
+		verify(executorMock).shutdown();
+		verify(executorMock, never()).shutdownNow();
+	}
+
+	@Test
+	void close(@Mock final ExecutorService executorMock) {
+
+		// Act
+		new LeaseHeartbeat(executorMock, Duration.ofSeconds(1)).close();
+
+		// Assert
+		verify(executorMock).shutdownNow();
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
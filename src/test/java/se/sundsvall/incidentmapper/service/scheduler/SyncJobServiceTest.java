@@ -0,0 +1,291 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.incidentmapper.integration.db.SyncJobRepository;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobEntity;
+import se.sundsvall.incidentmapper.integration.db.model.SyncJobPhaseEmbeddable;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJobService.MAX_RETAINED_JOBS;
+
+@ExtendWith(MockitoExtension.class)
+class SyncJobServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final Duration CYCLE_TIME_BUDGET = Duration.ofMinutes(8);
+
+	@Mock
+	private SynchronizerSchedulerService synchronizerSchedulerServiceMock;
+
+	@Mock
+	private SyncJobRepository syncJobRepositoryMock;
+
+	@Mock
+	private ExecutorService executorMock;
+
+	@Captor
+	private ArgumentCaptor<Runnable> runnableCaptor;
+
+	@Captor
+	private ArgumentCaptor<SyncJob> jobCaptor;
+
+	@Captor
+	private ArgumentCaptor<SyncJobEntity> jobEntityCaptor;
+
+	private SyncJobService syncJobService;
+
+	@BeforeEach
+	void setup() {
+		final var synchronizationProperties = new SynchronizationProperties(0, null, null, CYCLE_TIME_BUDGET, null, null, null, null, null, null, null);
+		syncJobService = new SyncJobService(synchronizerSchedulerServiceMock, syncJobRepositoryMock, synchronizationProperties, executorMock);
+	}
+
+	@Test
+	void start() {
+
+		// Act
+		final var result = syncJobService.start(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isNotBlank();
+		assertThat(result.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(result.getStatus()).isEqualTo("QUEUED");
+		assertThat(result.getProgress()).isZero();
+		assertThat(result.getPhases()).extracting("name").containsExactlyElementsOf(SynchronizerSchedulerService.PHASES);
+
+		verify(syncJobRepositoryMock).findFirstByMunicipalityIdAndStatusInAndModifiedAfterOrderByQueuedDesc(eq(MUNICIPALITY_ID), eq(List.of("QUEUED", "RUNNING")),
+			any());
+		verify(syncJobRepositoryMock).save(jobEntityCaptor.capture());
+		assertThat(jobEntityCaptor.getValue().getId()).isEqualTo(result.getId());
+		assertThat(jobEntityCaptor.getValue().getStatus()).isEqualTo("QUEUED");
+		assertThat(jobEntityCaptor.getValue().getModified()).isCloseTo(now(), within(Duration.ofSeconds(5)));
+		verify(executorMock).execute(any());
+		verifyNoInteractions(synchronizerSchedulerServiceMock);
+	}
+
+	@Test
+	void startWhenJobIsActive() {
+
+		// Arrange
+		final var activeJob = syncJobService.start(MUNICIPALITY_ID);
+
+		// Act
+		final var result = syncJobService.start(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo(activeJob.getId());
+		verify(syncJobRepositoryMock).findFirstByMunicipalityIdAndStatusInAndModifiedAfterOrderByQueuedDesc(any(), anyList(), any());
+		verify(executorMock).execute(any());
+	}
+
+	@Test
+	void startWhenJobIsActiveOnOtherInstance() {
+
+		// Arrange
+		final var modifiedAfterCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+		when(syncJobRepositoryMock.findFirstByMunicipalityIdAndStatusInAndModifiedAfterOrderByQueuedDesc(eq(MUNICIPALITY_ID), eq(List.of("QUEUED", "RUNNING")), modifiedAfterCaptor.capture()))
+			.thenReturn(Optional.of(SyncJobEntity.create()
+				.withId("otherJobId")
+				.withMunicipalityId(MUNICIPALITY_ID)
+				.withStatus("RUNNING")
+				.withProgress(25)
+				.withPhases(List.of(SyncJobPhaseEmbeddable.create().withName("poll-jira-issues").withStatus("COMPLETED")))));
+
+		// Act
+		final var result = syncJobService.start(MUNICIPALITY_ID);
+
+		// Assert (a job that has changed within the cycle time budget is active)
+		assertThat(result.getId()).isEqualTo("otherJobId");
+		assertThat(result.getStatus()).isEqualTo("RUNNING");
+		assertThat(modifiedAfterCaptor.getValue()).isCloseTo(now().minus(CYCLE_TIME_BUDGET), within(Duration.ofSeconds(5)));
+		verify(syncJobRepositoryMock, never()).save(any());
+		verifyNoInteractions(executorMock);
+	}
+
+	@Test
+	void startWhenJobIsActiveForOtherMunicipality() {
+
+		// Arrange
+		final var activeJob = syncJobService.start("2260");
+
+		// Act
+		final var result = syncJobService.start(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isNotEqualTo(activeJob.getId());
+		assertThat(result.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		verify(executorMock, times(2)).execute(any());
+	}
+
+	@Test
+	void startWhenJobIsFinished() {
+
+		// Arrange
+		doAnswer(invocation -> {
+			final var job = invocation.<SyncJob>getArgument(0);
+			job.start();
+			job.complete();
+			return null;
+		}).when(synchronizerSchedulerServiceMock).execute(any(SyncJob.class));
+
+		final var finishedJob = syncJobService.start(MUNICIPALITY_ID);
+		verify(executorMock).execute(runnableCaptor.capture());
+		runnableCaptor.getValue().run();
+
+		// Act
+		final var result = syncJobService.start(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isNotEqualTo(finishedJob.getId());
+		verify(syncJobRepositoryMock, times(4)).save(jobEntityCaptor.capture());
+		assertThat(jobEntityCaptor.getAllValues()).extracting(SyncJobEntity::getStatus).containsExactly("QUEUED", "RUNNING", "COMPLETED", "QUEUED");
+	}
+
+	@Test
+	void run() {
+
+		// Arrange
+		final var job = syncJobService.start(MUNICIPALITY_ID);
+		verify(executorMock).execute(runnableCaptor.capture());
+
+		// Act
+		runnableCaptor.getValue().run();
+
+		// Assert
+		verify(synchronizerSchedulerServiceMock).execute(jobCaptor.capture());
+		verifyNoMoreInteractions(synchronizerSchedulerServiceMock);
+		assertThat(jobCaptor.getValue().getId()).isEqualTo(job.getId());
+		verify(syncJobRepositoryMock).findByStatusInOrderByQueuedDesc(List.of("COMPLETED", "FAILED"));
+		verify(syncJobRepositoryMock, never()).deleteAll(any());
+	}
+
+	@Test
+	void runWhenFailing() {
+
+		// Arrange
+		doThrow(new IllegalStateException("Failure")).when(synchronizerSchedulerServiceMock).execute(any(SyncJob.class));
+
+		syncJobService.start(MUNICIPALITY_ID);
+		verify(executorMock).execute(runnableCaptor.capture());
+
+		// Act (the failure must not leak to the executor)
+		runnableCaptor.getValue().run();
+
+		// Assert (the job is stored as failed, also when the failure occurred before the job was started)
+		verify(synchronizerSchedulerServiceMock).execute(any(SyncJob.class));
+		verify(syncJobRepositoryMock, times(2)).save(jobEntityCaptor.capture());
+		assertThat(jobEntityCaptor.getValue().getStatus()).isEqualTo("FAILED");
+	}
+
+	@Test
+	void runWhenStateCannotBeStored() {
+
+		// Arrange
+		doAnswer(invocation -> {
+			final var job = invocation.<SyncJob>getArgument(0);
+			job.start();
+			job.complete();
+			return null;
+		}).when(synchronizerSchedulerServiceMock).execute(any(SyncJob.class));
+
+		final var job = syncJobService.start(MUNICIPALITY_ID);
+		verify(executorMock).execute(runnableCaptor.capture());
+		when(syncJobRepositoryMock.save(any())).thenThrow(new IllegalStateException("Failure"));
+
+		// Act
+		runnableCaptor.getValue().run();
+
+		// Assert (the job is run to its end)
+		verify(synchronizerSchedulerServiceMock).execute(jobCaptor.capture());
+		assertThat(jobCaptor.getValue().getId()).isEqualTo(job.getId());
+		assertThat(jobCaptor.getValue().getStatus()).isEqualTo(SyncJob.Status.COMPLETED);
+	}
+
+	@Test
+	void removeExpiredJobs() {
+
+		// Arrange
+		final var finishedJobs = IntStream.rangeClosed(0, MAX_RETAINED_JOBS)
+			.mapToObj(index -> SyncJobEntity.create().withId("job-" + index).withStatus("COMPLETED"))
+			.toList();
+		when(syncJobRepositoryMock.findByStatusInOrderByQueuedDesc(List.of("COMPLETED", "FAILED"))).thenReturn(finishedJobs);
+
+		syncJobService.start(MUNICIPALITY_ID);
+		verify(executorMock).execute(runnableCaptor.capture());
+
+		// Act
+		runnableCaptor.getValue().run();
+
+		// Assert (only the oldest finished job is removed)
+		verify(syncJobRepositoryMock).deleteAll(List.of(finishedJobs.getLast()));
+	}
+
+	@Test
+	void getJob() {
+
+		// Arrange
+		when(syncJobRepositoryMock.findByIdAndMunicipalityId("jobId", MUNICIPALITY_ID)).thenReturn(Optional.of(SyncJobEntity.create()
+			.withId("jobId")
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus("COMPLETED")
+			.withProgress(100)
+			.withPhases(List.of(SyncJobPhaseEmbeddable.create().withName("poll-jira-issues").withStatus("COMPLETED").withProcessed(3)))));
+
+		// Act
+		final var result = syncJobService.getJob(MUNICIPALITY_ID, "jobId");
+
+		// Assert
+		assertThat(result).hasValueSatisfying(job -> {
+			assertThat(job.getId()).isEqualTo("jobId");
+			assertThat(job.getStatus()).isEqualTo("COMPLETED");
+			assertThat(job.getProgress()).isEqualTo(100);
+			assertThat(job.getPhases()).singleElement().satisfies(phase -> assertThat(phase.getProcessed()).isEqualTo(3));
+		});
+	}
+
+	@Test
+	void getUnknownJob() {
+		assertThat(syncJobService.getJob(MUNICIPALITY_ID, "unknown")).isEmpty();
+	}
+
+	@Test
+	void close() {
+
+		// Arrange
+		syncJobService.start(MUNICIPALITY_ID);
+
+		// Act
+		syncJobService.close();
+
+		// Assert (the active job is stored as failed)
+		verify(executorMock).shutdownNow();
+		verify(syncJobRepositoryMock, times(2)).save(jobEntityCaptor.capture());
+		assertThat(jobEntityCaptor.getValue().getStatus()).isEqualTo("FAILED");
+	}
+}
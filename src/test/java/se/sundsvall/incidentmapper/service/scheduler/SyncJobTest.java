@@ -0,0 +1,129 @@
+package se.sundsvall.incidentmapper.service.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.COMPLETED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.FAILED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.PENDING;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.RUNNING;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.SKIPPED;
+
+class SyncJobTest {
+
+	@Test
+	void create() {
+
+		// Act
+		final var job = new SyncJob("2281", List.of("phase1", "phase2"));
+
+		// Assert
+		assertThat(job.getId()).isNotBlank();
+		assertThat(job.getMunicipalityId()).isEqualTo("2281");
+		assertThat(job.getQueued()).isNotNull();
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.QUEUED);
+		assertThat(job.getStarted()).isNull();
+		assertThat(job.getFinished()).isNull();
+		assertThat(job.getProgress()).isZero();
+		assertThat(job.isFinished()).isFalse();
+		assertThat(job.getPhases())
+			.extracting(SyncJob.Phase::name, SyncJob.Phase::status)
+			.containsExactly(
+				tuple("phase1", PENDING),
+				tuple("phase2", PENDING));
+	}
+
+	@Test
+	void progress() {
+
+		// Arrange
+		final var job = new SyncJob("2281", List.of("phase1", "phase2", "phase3", "phase4"));
+
+		// Act
+		job.start();
+		job.startPhase("phase1");
+		job.completePhase("phase1", 5);
+		job.skipPhase("phase2");
+		job.startPhase("phase3");
+
+		// Assert
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.RUNNING);
+		assertThat(job.getStarted()).isNotNull();
+		assertThat(job.getProgress()).isEqualTo(50);
+		assertThat(job.isFinished()).isFalse();
+		assertThat(job.getPhases()).satisfiesExactly(
+			phase -> {
+				assertThat(phase.status()).isEqualTo(COMPLETED);
+				assertThat(phase.started()).isNotNull();
+				assertThat(phase.finished()).isNotNull();
+				assertThat(phase.processed()).isEqualTo(5);
+			},
+			phase -> assertThat(phase.status()).isEqualTo(SKIPPED),
+			phase -> {
+				assertThat(phase.status()).isEqualTo(RUNNING);
+				assertThat(phase.finished()).isNull();
+			},
+			phase -> assertThat(phase.status()).isEqualTo(PENDING));
+	}
+
+	@Test
+	void complete() {
+
+		// Arrange
+		final var job = new SyncJob("2281", List.of("phase1"));
+		job.start();
+		job.startPhase("phase1");
+		job.completePhase("phase1", 0);
+
+		// Act
+		job.complete();
+
+		// Assert
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.COMPLETED);
+		assertThat(job.getFinished()).isNotNull();
+		assertThat(job.getProgress()).isEqualTo(100);
+		assertThat(job.isFinished()).isTrue();
+	}
+
+	@Test
+	void fail() {
+
+		// Arrange
+		final var job = new SyncJob("2281", List.of("phase1", "phase2"));
+		job.start();
+		job.startPhase("phase1");
+
+		// Act
+		job.failPhase("phase1");
+		job.fail();
+
+		// Assert
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.FAILED);
+		assertThat(job.getFinished()).isNotNull();
+		assertThat(job.isFinished()).isTrue();
+		assertThat(job.getPhases()).extracting(SyncJob.Phase::status).containsExactly(FAILED, PENDING);
+		assertThat(job.getPhases().getFirst().started()).isNotNull();
+		assertThat(job.getPhases().getFirst().processed()).isNull();
+	}
+
+	@Test
+	void listener() {
+
+		// Arrange
+		final var statuses = new ArrayList<SyncJob.Status>();
+		final var job = new SyncJob("2281", List.of("phase1", "phase2"), changedJob -> statuses.add(changedJob.getStatus()));
+
+		// Act
+		job.start();
+		job.startPhase("phase1");
+		job.completePhase("phase1", 1);
+		job.skipPhase("phase2");
+		job.complete();
+
+		// Assert (every change is reported)
+		assertThat(statuses).containsExactly(SyncJob.Status.RUNNING, SyncJob.Status.RUNNING, SyncJob.Status.RUNNING, SyncJob.Status.RUNNING, SyncJob.Status.COMPLETED);
+	}
+}
@@ -1,35 +1,310 @@
 package se.sundsvall.incidentmapper.service.scheduler;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
 import se.sundsvall.incidentmapper.service.IncidentService;
+import se.sundsvall.incidentmapper.service.SyncBudget;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties;
+import se.sundsvall.incidentmapper.service.configuration.SynchronizationProperties.PhaseTimeBudgets;
 
+import static java.time.Instant.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.JIRA_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.integration.db.model.enums.Status.POB_INITIATED_EVENT;
+import static se.sundsvall.incidentmapper.service.IncidentService.PHASE_UPDATE_JIRA_ISSUES;
+import static se.sundsvall.incidentmapper.service.IncidentService.PHASE_UPDATE_POB_ISSUES;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.COMPLETED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.FAILED;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.PENDING;
+import static se.sundsvall.incidentmapper.service.scheduler.SyncJob.PhaseStatus.SKIPPED;
 
 @ExtendWith(MockitoExtension.class)
 class SynchronizerSchedulerServiceTest {
 
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final PhaseTimeBudgets PHASE_TIME_BUDGETS = new PhaseTimeBudgets(Duration.ofMinutes(1), Duration.ofMinutes(2), Duration.ofMinutes(3), Duration.ofMinutes(4));
+
 	@Mock
 	private IncidentService incidentService;
 
-	@InjectMocks
+	@Mock
+	private SynchronizationProperties synchronizationProperties;
+
+	@Mock
+	private LockProvider lockProvider;
+
+	@Mock
+	private Environment environment;
+
+	@Mock
+	private SimpleLock lock;
+
+	@Mock
+	private AdaptiveCadence adaptiveCadence;
+
+	private LeaseHeartbeat leaseHeartbeat;
+
 	private SynchronizerSchedulerService synchronizerSchedulerService;
 
+	@Captor
+	private ArgumentCaptor<SyncBudget> budgetCaptor;
+
+	@Captor
+	private ArgumentCaptor<LockConfiguration> lockConfigurationCaptor;
+
+	@BeforeEach
+	void setUp() {
+		leaseHeartbeat = new LeaseHeartbeat(Executors.newCachedThreadPool(), Duration.ofSeconds(1));
+		synchronizerSchedulerService = new SynchronizerSchedulerService(incidentService, synchronizationProperties, lockProvider, environment, leaseHeartbeat, adaptiveCadence);
+	}
+
+	@AfterEach
+	void tearDown() {
+		leaseHeartbeat.close();
+	}
+
 	@Test
 	void execute() {
 
+		// Arrange
+		final var job = new SyncJob(MUNICIPALITY_ID, SynchronizerSchedulerService.PHASES);
+		when(synchronizationProperties.cycleTimeBudget()).thenReturn(Duration.ofMinutes(8));
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+		when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+		when(incidentService.pollJiraIssues(any(), any())).thenReturn(1);
+		when(incidentService.updatePobIssues(any(), any())).thenReturn(2);
+		when(incidentService.updateJiraIssues(any(), any())).thenReturn(3);
+		when(incidentService.closeIssues(any(), any())).thenReturn(4);
+
+		// Act
+		synchronizerSchedulerService.execute(job);
+
+		// Assert
+		verify(incidentService).pollJiraIssues(eq(MUNICIPALITY_ID), budgetCaptor.capture());
+		verify(incidentService).updatePobIssues(eq(MUNICIPALITY_ID), budgetCaptor.capture());
+		verify(incidentService).updateJiraIssues(eq(MUNICIPALITY_ID), budgetCaptor.capture());
+		verify(incidentService).closeIssues(eq(MUNICIPALITY_ID), budgetCaptor.capture());
+		verifyNoMoreInteractions(incidentService);
+
+		// Every phase is limited by its own budget, within the budget of the cycle.
+		assertThat(budgetCaptor.getAllValues()).extracting(SyncBudget::deadline).satisfiesExactly(
+			deadline -> assertThat(deadline).isCloseTo(now().plus(Duration.ofMinutes(1)), within(2, SECONDS)),
+			deadline -> assertThat(deadline).isCloseTo(now().plus(Duration.ofMinutes(2)), within(2, SECONDS)),
+			deadline -> assertThat(deadline).isCloseTo(now().plus(Duration.ofMinutes(3)), within(2, SECONDS)),
+			deadline -> assertThat(deadline).isCloseTo(now().plus(Duration.ofMinutes(4)), within(2, SECONDS)));
+
+		verify(lockProvider, times(4)).lock(lockConfigurationCaptor.capture());
+		verify(lock, times(4)).unlock();
+		assertThat(lockConfigurationCaptor.getAllValues())
+			.extracting(LockConfiguration::getName, LockConfiguration::getLockAtMostFor)
+			.containsExactly(
+				tuple("lock-poll-jira-issues", Duration.ofMinutes(5)),
+				tuple("lock-update-pob-issues", Duration.ofMinutes(5)),
+				tuple("lock-update-jira-issues", Duration.ofMinutes(5)),
+				tuple("lock-close-issues", Duration.ofMinutes(5)));
+
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.COMPLETED);
+		assertThat(job.getProgress()).isEqualTo(100);
+		assertThat(job.getPhases())
+			.extracting(SyncJob.Phase::name, SyncJob.Phase::status, SyncJob.Phase::processed)
+			.containsExactly(
+				tuple("poll-jira-issues", COMPLETED, 1),
+				tuple("update-pob-issues", COMPLETED, 2),
+				tuple("update-jira-issues", COMPLETED, 3),
+				tuple("close-issues", COMPLETED, 4));
+	}
+
+	@Test
+	void executeWhenPhaseIsLocked() {
+
+		// Arrange
+		final var job = new SyncJob(MUNICIPALITY_ID, SynchronizerSchedulerService.PHASES);
+		when(synchronizationProperties.cycleTimeBudget()).thenReturn(Duration.ofMinutes(8));
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+		when(lockProvider.lock(any())).thenAnswer(invocation -> "lock-poll-jira-issues".equals(invocation.<LockConfiguration>getArgument(0).getName()) ? Optional.empty() : Optional.of(lock));
+
+		// Act
+		synchronizerSchedulerService.execute(job);
+
+		// Assert
+		verify(incidentService).updatePobIssues(eq(MUNICIPALITY_ID), any());
+		verify(incidentService).updateJiraIssues(eq(MUNICIPALITY_ID), any());
+		verify(incidentService).closeIssues(eq(MUNICIPALITY_ID), any());
+		verifyNoMoreInteractions(incidentService);
+		verify(lock, times(3)).unlock();
+
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.COMPLETED);
+		assertThat(job.getPhases()).extracting(SyncJob.Phase::status).containsExactly(SKIPPED, COMPLETED, COMPLETED, COMPLETED);
+	}
+
+	@Test
+	void executeWhenPhaseFails() {
+
+		// Arrange
+		final var job = new SyncJob(MUNICIPALITY_ID, SynchronizerSchedulerService.PHASES);
+		final var exception = new IllegalStateException("Failure");
+		when(synchronizationProperties.cycleTimeBudget()).thenReturn(Duration.ofMinutes(8));
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+		when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+		when(incidentService.updatePobIssues(any(), any())).thenThrow(exception);
+
+		// Act
+		assertThatThrownBy(() -> synchronizerSchedulerService.execute(job)).isSameAs(exception);
+
+		// Assert
+		verify(incidentService).pollJiraIssues(eq(MUNICIPALITY_ID), any());
+		verify(incidentService).updatePobIssues(eq(MUNICIPALITY_ID), any());
+		verifyNoMoreInteractions(incidentService);
+		verify(lock, times(2)).unlock();
+
+		assertThat(job.getStatus()).isEqualTo(SyncJob.Status.FAILED);
+		assertThat(job.getFinished()).isNotNull();
+		assertThat(job.getPhases()).extracting(SyncJob.Phase::status).containsExactly(COMPLETED, FAILED, PENDING, PENDING);
+	}
+
+	@Test
+	void executeExtendsLockOfSlowPhase() {
+
+		// Arrange
+		final var job = new SyncJob(MUNICIPALITY_ID, SynchronizerSchedulerService.PHASES);
+		final var extendedLock = mock(SimpleLock.class);
+		when(synchronizationProperties.cycleTimeBudget()).thenReturn(Duration.ofMinutes(8));
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).endsWith(".name") ? "lock" : "PT0.3S");
+		when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+		when(lock.extend(Duration.ofMillis(300), Duration.ZERO)).thenReturn(Optional.of(extendedLock));
+		when(incidentService.pollJiraIssues(any(), any())).thenAnswer(invocation -> {
+			Thread.sleep(250);
+			return 1;
+		});
+
+		// Act
+		synchronizerSchedulerService.execute(job);
+
+		// Assert
+		verify(lock).extend(Duration.ofMillis(300), Duration.ZERO);
+		verify(extendedLock).unlock();
+		verify(lock, times(3)).unlock();
+		assertThat(job.getPhases()).extracting(SyncJob.Phase::status).containsExactly(COMPLETED, COMPLETED, COMPLETED, COMPLETED);
+	}
+
+	@Test
+	void pollJiraIssues() {
+
+		// Arrange
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+		when(synchronizationProperties.municipalityId()).thenReturn(MUNICIPALITY_ID);
+
+		// Act
+		synchronizerSchedulerService.pollJiraIssues();
+
+		// Assert
+		verify(incidentService).pollJiraIssues(eq(MUNICIPALITY_ID), budgetCaptor.capture());
+		verifyNoMoreInteractions(incidentService);
+		assertThat(budgetCaptor.getValue().deadline()).isCloseTo(now().plus(Duration.ofMinutes(1)), within(2, SECONDS));
+	}
+
+	@Test
+	void updatePobIssues() {
+
+		// Arrange
+		when(adaptiveCadence.isDue(PHASE_UPDATE_POB_ISSUES, null, JIRA_INITIATED_EVENT)).thenReturn(true);
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+
+		// Act
+		synchronizerSchedulerService.updatePobIssues();
+
+		// Assert
+		verify(incidentService).updatePobIssues(isNull(), budgetCaptor.capture());
+		verify(adaptiveCadence).completed(PHASE_UPDATE_POB_ISSUES, null, JIRA_INITIATED_EVENT);
+		verifyNoMoreInteractions(incidentService);
+		assertThat(budgetCaptor.getValue().deadline()).isCloseTo(now().plus(Duration.ofMinutes(2)), within(2, SECONDS));
+	}
+
+	@Test
+	void updateJiraIssues() {
+
+		// Arrange
+		when(adaptiveCadence.isDue(PHASE_UPDATE_JIRA_ISSUES, null, POB_INITIATED_EVENT)).thenReturn(true);
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+
+		// Act
+		synchronizerSchedulerService.updateJiraIssues();
+
+		// Assert
+		verify(incidentService).updateJiraIssues(isNull(), budgetCaptor.capture());
+		verify(adaptiveCadence).completed(PHASE_UPDATE_JIRA_ISSUES, null, POB_INITIATED_EVENT);
+		verifyNoMoreInteractions(incidentService);
+		assertThat(budgetCaptor.getValue().deadline()).isCloseTo(now().plus(Duration.ofMinutes(3)), within(2, SECONDS));
+	}
+
+	@Test
+	void closeIssues() {
+
+		// Arrange
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(environment.getRequiredProperty(anyString())).thenAnswer(invocation -> schedulerProperty(invocation.getArgument(0)));
+
 		// Act
-		synchronizerSchedulerService.execute();
+		synchronizerSchedulerService.closeIssues();
 
 		// Assert
-		verify(incidentService).pollJiraIssues();
-		verify(incidentService).updatePobIssues();
-		verify(incidentService).updateJiraIssues();
-		verify(incidentService).closeIssues();
+		verify(incidentService).closeIssues(isNull(), budgetCaptor.capture());
 		verifyNoMoreInteractions(incidentService);
+		assertThat(budgetCaptor.getValue().deadline()).isCloseTo(now().plus(Duration.ofMinutes(4)), within(2, SECONDS));
+	}
+
+	@Test
+	void updateJiraIssuesWhenNotDue() {
+
+		// Arrange
+		when(synchronizationProperties.phaseTimeBudgets()).thenReturn(PHASE_TIME_BUDGETS);
+		when(synchronizationProperties.municipalityId()).thenReturn(MUNICIPALITY_ID);
+
+		// Act
+		synchronizerSchedulerService.updateJiraIssues();
+
+		// Assert
+		verify(adaptiveCadence).isDue(PHASE_UPDATE_JIRA_ISSUES, MUNICIPALITY_ID, POB_INITIATED_EVENT);
+		verifyNoMoreInteractions(adaptiveCadence);
+		verifyNoInteractions(incidentService);
+	}
+
+	private static String schedulerProperty(final String key) {
+		final var phase = key.split("\\.")[1];
+		return key.endsWith(".name") ? "lock-" + phase : "PT5M";
 	}
 }
@@ -2,13 +2,75 @@
     create table incident (
         id varchar(255) not null,
         created datetime(6),
+        fingerprint varchar(255),
         jira_issue_key varchar(255),
+        jira_revision datetime(6),
         last_synchronized_jira datetime(6),
         last_synchronized_pob datetime(6),
         modified datetime(6),
         municipality_id varchar(255),
+        next_poll_at datetime(6),
         pob_issue_key varchar(255),
+        sync_cost integer,
         status varchar(255) check ((status in ('SYNCHRONIZED','JIRA_INITIATED_EVENT','POB_INITIATED_EVENT'))),
+        version bigint default 0 not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table incident_mirrored_mail (
+        incident_id varchar(255) not null,
+        jira_comment_id varchar(255),
+        mail_id varchar(255) not null,
+        primary key (incident_id, mail_id)
+    ) engine=InnoDB;
+
+    create table incident_mirrored_mail_attachment (
+        incident_id varchar(255) not null,
+        jira_attachment_id varchar(255) not null,
+        mail_id varchar(255),
+        primary key (incident_id, jira_attachment_id)
+    ) engine=InnoDB;
+
+    create table incident_propagated_comment (
+        incident_id varchar(255) not null,
+        jira_comment_id varchar(255) not null,
+        primary key (incident_id, jira_comment_id)
+    ) engine=InnoDB;
+
+    create table sync_checkpoint (
+        phase varchar(255) not null,
+        incident_id varchar(255),
+        primary key (phase)
+    ) engine=InnoDB;
+
+    create table sync_job (
+        id varchar(255) not null,
+        finished datetime(6),
+        modified datetime(6),
+        municipality_id varchar(255),
+        progress integer,
+        queued datetime(6),
+        started datetime(6),
+        status varchar(255),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table sync_job_phase (
+        job_id varchar(255) not null,
+        finished datetime(6),
+        name varchar(255),
+        processed integer,
+        started datetime(6),
+        status varchar(255),
+        phase_index integer not null,
+        primary key (job_id, phase_index)
+    ) engine=InnoDB;
+
+    create table sync_step (
+        id varchar(255) not null,
+        incident_id varchar(255),
+        reference varchar(255),
+        step varchar(255),
         primary key (id)
     ) engine=InnoDB;
 
@@ -24,8 +86,37 @@
     create index ix_status 
        on incident (status);
 
+    create index ix_status_next_poll_at 
+       on incident (status, next_poll_at);
+
+    create index ix_sync_job_municipality_id_status 
+       on sync_job (municipality_id, status);
+
     alter table if exists incident 
        add constraint uq_pob_issue_key unique (pob_issue_key);
 
     alter table if exists incident 
        add constraint uq_jira_issue_key unique (jira_issue_key);
+
+    alter table if exists sync_step 
+       add constraint uq_sync_step_incident_id_step unique (incident_id, step);
+
+    alter table if exists incident_mirrored_mail 
+       add constraint fk_incident_mirrored_mail_incident_id 
+       foreign key (incident_id) 
+       references incident (id);
+
+    alter table if exists incident_mirrored_mail_attachment 
+       add constraint fk_incident_mirrored_mail_attachment_incident_id 
+       foreign key (incident_id) 
+       references incident (id);
+
+    alter table if exists incident_propagated_comment 
+       add constraint fk_incident_propagated_comment_incident_id 
+       foreign key (incident_id) 
+       references incident (id);
+
+    alter table if exists sync_job_phase 
+       add constraint fk_sync_job_phase_job_id 
+       foreign key (job_id) 
+       references sync_job (id);
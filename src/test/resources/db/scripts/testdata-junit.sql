@@ -1,11 +1,11 @@
-INSERT INTO incident (id, municipality_id, jira_issue_key, pob_issue_key, status, created, last_synchronized_jira, modified, last_synchronized_pob) VALUES
-('22f43da1-536c-45b0-b59a-51b9fe3ecc78', '2281', 'JIR-001', 'POB-001', 'SYNCHRONIZED', '2024-05-03 08:30:00.000000', '2024-05-03 10:45:00.000000', '2024-05-03 09:20:00.000000', '2024-05-03 11:00:00.000000'),
-('e9c9835f-074a-40bc-867d-52d1125bdca7', '2281', 'JIR-002', 'POB-002', 'POB_INITIATED_EVENT', '2024-05-02 10:00:00.000000', '2024-05-02 12:15:00.000000', '2024-05-02 11:30:00.000000', '2024-05-02 12:30:00.000000'),
-('a4b0cef2-ba50-41e1-a4d2-28fb57520bf2', '2281', 'JIR-003', 'POB-003', 'JIRA_INITIATED_EVENT', '2024-05-01 09:45:00.000000', '2024-05-01 11:30:00.000000', '2024-05-01 10:20:00.000000', '2024-05-01 11:45:00.000000'),
-('08e6d74f-d988-4012-a20d-67795fee8320', '2281', 'JIR-004', 'POB-004', 'SYNCHRONIZED', '2024-04-30 11:20:00.000000', '2024-04-30 13:40:00.000000', '2024-04-30 12:15:00.000000', '2024-04-30 13:50:00.000000'),
-('b5df2809-f4b7-48cf-ad18-19a527e8413a', '2281', 'JIR-005', 'POB-005', 'SYNCHRONIZED', '2024-04-29 12:10:00.000000', '2024-04-29 14:25:00.000000', '2024-04-29 13:30:00.000000', '2024-04-29 14:45:00.000000'),
-('09404746-9759-4d10-8097-a2af90ccddc4', '2281', 'JIR-006', 'POB-006', 'POB_INITIATED_EVENT', '2024-04-28 08:15:00.000000', '2024-04-28 10:30:00.000000', '2024-04-28 09:45:00.000000', '2024-04-28 10:50:00.000000'),
-('2f36589e-be11-4131-bc78-5c77e5e8ca1d', '2281', 'JIR-007', 'POB-007', 'JIRA_INITIATED_EVENT', '2024-04-27 09:20:00.000000', '2024-04-27 11:45:00.000000', '2024-04-27 10:40:00.000000', '2024-04-27 12:00:00.000000'),
-('923acf6f-9432-4645-83e3-6f34ee861bf8', '2281', 'JIR-008', 'POB-008', 'SYNCHRONIZED', '2024-04-26 11:30:00.000000', '2024-04-26 13:55:00.000000', '2024-04-26 12:50:00.000000', '2024-04-26 14:15:00.000000'),
-('2b609b6c-afc7-45f0-b007-b332cf605275', '2281', 'JIR-009', 'POB-009', 'SYNCHRONIZED', '2024-04-25 12:40:00.000000', '2024-04-25 15:10:00.000000', '2024-04-25 13:55:00.000000', '2024-04-25 15:30:00.000000'),
-('872a8f22-5342-43e0-a6c1-2a39ffe1e478', '2281', 'JIR-010', 'POB-010', 'POB_INITIATED_EVENT', '2024-04-24 09:50:00.000000', '2024-04-24 11:35:00.000000', '2024-04-24 10:40:00.000000', '2024-04-24 11:55:00.000000');
+INSERT INTO incident (id, municipality_id, jira_issue_key, pob_issue_key, status, created, last_synchronized_jira, modified, last_synchronized_pob, next_poll_at) VALUES
+('22f43da1-536c-45b0-b59a-51b9fe3ecc78', '2281', 'JIR-001', 'POB-001', 'SYNCHRONIZED', '2024-05-03 08:30:00.000000', '2024-05-03 10:45:00.000000', '2024-05-03 09:20:00.000000', '2024-05-03 11:00:00.000000', NULL),
+('e9c9835f-074a-40bc-867d-52d1125bdca7', '2281', 'JIR-002', 'POB-002', 'POB_INITIATED_EVENT', '2024-05-02 10:00:00.000000', '2024-05-02 12:15:00.000000', '2024-05-02 11:30:00.000000', '2024-05-02 12:30:00.000000', NULL),
+('a4b0cef2-ba50-41e1-a4d2-28fb57520bf2', '2281', 'JIR-003', 'POB-003', 'JIRA_INITIATED_EVENT', '2024-05-01 09:45:00.000000', '2024-05-01 11:30:00.000000', '2024-05-01 10:20:00.000000', '2024-05-01 11:45:00.000000', NULL),
+('08e6d74f-d988-4012-a20d-67795fee8320', '2281', 'JIR-004', 'POB-004', 'SYNCHRONIZED', '2024-04-30 11:20:00.000000', '2024-04-30 13:40:00.000000', '2024-04-30 12:15:00.000000', '2024-04-30 13:50:00.000000', '2999-01-01 00:00:00.000000'),
+('b5df2809-f4b7-48cf-ad18-19a527e8413a', '2281', 'JIR-005', 'POB-005', 'SYNCHRONIZED', '2024-04-29 12:10:00.000000', '2024-04-29 14:25:00.000000', '2024-04-29 13:30:00.000000', '2024-04-29 14:45:00.000000', '2024-05-01 00:00:00.000000'),
+('09404746-9759-4d10-8097-a2af90ccddc4', '2281', 'JIR-006', 'POB-006', 'POB_INITIATED_EVENT', '2024-04-28 08:15:00.000000', '2024-04-28 10:30:00.000000', '2024-04-28 09:45:00.000000', '2024-04-28 10:50:00.000000', NULL),
+('2f36589e-be11-4131-bc78-5c77e5e8ca1d', '2281', 'JIR-007', 'POB-007', 'JIRA_INITIATED_EVENT', '2024-04-27 09:20:00.000000', '2024-04-27 11:45:00.000000', '2024-04-27 10:40:00.000000', '2024-04-27 12:00:00.000000', NULL),
+('923acf6f-9432-4645-83e3-6f34ee861bf8', '2281', 'JIR-008', 'POB-008', 'SYNCHRONIZED', '2024-04-26 11:30:00.000000', '2024-04-26 13:55:00.000000', '2024-04-26 12:50:00.000000', '2024-04-26 14:15:00.000000', NULL),
+('2b609b6c-afc7-45f0-b007-b332cf605275', '2281', 'JIR-009', 'POB-009', 'SYNCHRONIZED', '2024-04-25 12:40:00.000000', '2024-04-25 15:10:00.000000', '2024-04-25 13:55:00.000000', '2024-04-25 15:30:00.000000', NULL),
+('872a8f22-5342-43e0-a6c1-2a39ffe1e478', '2281', 'JIR-010', 'POB-010', 'POB_INITIATED_EVENT', '2024-04-24 09:50:00.000000', '2024-04-24 11:35:00.000000', '2024-04-24 10:40:00.000000', '2024-04-24 11:55:00.000000', NULL);
@@ -1,3 +1,10 @@
 SET FOREIGN_KEY_CHECKS = 0;
+TRUNCATE table incident_mirrored_mail;
+TRUNCATE table incident_mirrored_mail_attachment;
+TRUNCATE table incident_propagated_comment;
+TRUNCATE table sync_checkpoint;
+TRUNCATE table sync_job_phase;
+TRUNCATE table sync_job;
+TRUNCATE table sync_step;
 TRUNCATE table incident;
 SET FOREIGN_KEY_CHECKS = 1;